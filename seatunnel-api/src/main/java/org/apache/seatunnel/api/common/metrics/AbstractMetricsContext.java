@@ -49,7 +49,7 @@ public abstract class AbstractMetricsContext implements MetricsContext, Serializ
         if (metrics.containsKey(name)) {
             return (Meter) metrics.get(name);
         }
-        return this.meter(name, new ThreadSafeQPSMeter(name));
+        return this.meter(name, new SlidingWindowMeter(name));
     }
 
     @Override
@@ -58,6 +58,20 @@ public abstract class AbstractMetricsContext implements MetricsContext, Serializ
         return meter;
     }
 
+    @Override
+    public Histogram histogram(String name) {
+        if (metrics.containsKey(name)) {
+            return (Histogram) metrics.get(name);
+        }
+        return this.histogram(name, new ThreadSafeHistogram(name));
+    }
+
+    @Override
+    public <H extends Histogram> H histogram(String name, H histogram) {
+        this.addMetric(name, histogram);
+        return histogram;
+    }
+
     protected void addMetric(String name, Metric metric) {
         if (metric == null) {
             log.warn("Ignoring attempted add of a metric due to being null for name {}.", name);
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Meter} reporting an exponentially weighted moving average of the rate, recent events
+ * weigh more than old ones. The average is updated every {@link #TICK_INTERVAL_SECONDS} seconds by
+ * the thread which marks or reads the meter first after the interval passed.
+ */
+public class ExponentiallyDecayingMeter implements Meter, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int TICK_INTERVAL_SECONDS = 5;
+
+    private static final long TICK_INTERVAL = TimeUnit.SECONDS.toMillis(TICK_INTERVAL_SECONDS);
+
+    private final String name;
+
+    private final double alpha;
+
+    private final LongAdder uncounted = new LongAdder();
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong lastTick;
+
+    private volatile boolean initialized;
+
+    /** Events per millisecond. */
+    private volatile double rate;
+
+    /** A meter averaging over about one minute. */
+    public ExponentiallyDecayingMeter(String name) {
+        this(name, 60);
+    }
+
+    public ExponentiallyDecayingMeter(String name, int averageSeconds) {
+        if (averageSeconds <= 0) {
+            throw new IllegalArgumentException("The average must cover at least one second");
+        }
+        this.name = name;
+        this.alpha = 1 - Math.exp(-(double) TICK_INTERVAL_SECONDS / averageSeconds);
+        this.lastTick = new AtomicLong(System.currentTimeMillis());
+    }
+
+    @Override
+    public void markEvent() {
+        markEvent(1);
+    }
+
+    @Override
+    public void markEvent(long n) {
+        tickIfNecessary();
+        uncounted.add(n);
+        count.addAndGet(n);
+    }
+
+    @Override
+    public double getRate() {
+        tickIfNecessary();
+        return rate * 1000;
+    }
+
+    @Override
+    public long getCount() {
+        return count.get();
+    }
+
+    private void tickIfNecessary() {
+        long last = lastTick.get();
+        long now = System.currentTimeMillis();
+        long age = now - last;
+        if (age < TICK_INTERVAL) {
+            return;
+        }
+        long next = now - age % TICK_INTERVAL;
+        if (lastTick.compareAndSet(last, next)) {
+            long ticks = age / TICK_INTERVAL;
+            for (long i = 0; i < ticks; i++) {
+                tick();
+            }
+        }
+    }
+
+    private void tick() {
+        double instantRate = (double) uncounted.sumThenReset() / TICK_INTERVAL;
+        if (initialized) {
+            rate += alpha * (instantRate - rate);
+        } else {
+            rate = instantRate;
+            initialized = true;
+        }
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return Unit.COUNT;
+    }
+
+    @Override
+    public String toString() {
+        return "ExponentiallyDecayingMeter{"
+                + "name='"
+                + name
+                + '\''
+                + ", count="
+                + count
+                + ", rate="
+                + getRate()
+                + '}';
+    }
+}
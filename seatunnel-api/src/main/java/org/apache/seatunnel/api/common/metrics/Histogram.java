@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+public interface Histogram extends Metric {
+
+    /**
+     * Record a value, negative values are recorded as 0.
+     *
+     * @param value the value, e.g. a latency in milliseconds
+     */
+    void update(long value);
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return number of recorded values
+     */
+    long getCount();
+
+    /**
+     * Get the value below which the given fraction of the recorded values falls.
+     *
+     * @param quantile the fraction, between 0 and 1
+     * @return the value at the quantile, 0 when nothing was recorded
+     */
+    long getQuantile(double quantile);
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return the largest recorded value, 0 when nothing was recorded
+     */
+    long getMax();
+
+    /**
+     * Get the mean of the recorded values.
+     *
+     * @return the mean of the recorded values, 0 when nothing was recorded
+     */
+    double getMean();
+}
@@ -29,8 +29,11 @@ public final class MetricNames {
     public static final String SOURCE_RECEIVED_BYTES = "SourceReceivedBytes";
     public static final String SOURCE_RECEIVED_QPS = "SourceReceivedQPS";
     public static final String SOURCE_RECEIVED_BYTES_PER_SECONDS = "SourceReceivedBytesPerSeconds";
+    public static final String SOURCE_FETCH_QUEUE_BYTES = "SourceFetchQueueBytes";
     public static final String SINK_WRITE_COUNT = "SinkWriteCount";
     public static final String SINK_WRITE_BYTES = "SinkWriteBytes";
     public static final String SINK_WRITE_QPS = "SinkWriteQPS";
     public static final String SINK_WRITE_BYTES_PER_SECONDS = "SinkWriteBytesPerSeconds";
+    public static final String SINK_FLUSH_LATENCY = "SinkFlushLatency";
+    public static final String CHECKPOINT_DURATION = "CheckpointDuration";
 }
@@ -40,4 +40,6 @@ public final class MetricTags {
     public static final String SERVICE = "service";
 
     public static final String TASK_GROUP_LOCATION = "taskGroupLocation";
+
+    public static final String QUANTILE = "quantile";
 }
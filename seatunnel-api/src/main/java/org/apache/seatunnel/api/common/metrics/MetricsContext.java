@@ -38,7 +38,7 @@ public interface MetricsContext {
     <C extends Counter> C counter(String name, C counter);
 
     /**
-     * Registers a {@link ThreadSafeQPSMeter} with SeaTunnel.
+     * Registers a {@link SlidingWindowMeter} with SeaTunnel.
      *
      * @param name name of the meter
      * @return the registered meter
@@ -54,4 +54,22 @@ public interface MetricsContext {
      * @return the registered meter
      */
     <M extends Meter> M meter(String name, M meter);
+
+    /**
+     * Registers a {@link ThreadSafeHistogram} with SeaTunnel.
+     *
+     * @param name name of the histogram
+     * @return the registered histogram
+     */
+    Histogram histogram(String name);
+
+    /**
+     * Registers a new {@link Histogram} with SeaTunnel.
+     *
+     * @param name name of the histogram
+     * @param histogram histogram to register
+     * @param <H> histogram type
+     * @return the registered histogram
+     */
+    <H extends Histogram> H histogram(String name, H histogram);
 }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A {@link Meter} reporting the rate of the last seconds, a slowdown or a stall shows up in the
+ * rate after at most one window instead of being averaged over the whole lifetime.
+ *
+ * <p>Every second of the window has a bucket holding the second and the events marked in it, both
+ * packed into one long so that marking an event is a single CAS.
+ */
+public class SlidingWindowMeter implements Meter, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_WINDOW_SECONDS = 60;
+
+    private static final int COUNT_BITS = 40;
+
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private static final long SECOND_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1;
+
+    private static final AtomicLongFieldUpdater<SlidingWindowMeter> COUNT_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(SlidingWindowMeter.class, "count");
+
+    private final String name;
+
+    private final AtomicLongArray buckets;
+
+    private final long createTime;
+
+    private volatile long count;
+
+    public SlidingWindowMeter(String name) {
+        this(name, DEFAULT_WINDOW_SECONDS);
+    }
+
+    public SlidingWindowMeter(String name, int windowSeconds) {
+        if (windowSeconds <= 0) {
+            throw new IllegalArgumentException("The window must be at least one second");
+        }
+        this.name = name;
+        this.buckets = new AtomicLongArray(windowSeconds);
+        this.createTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void markEvent() {
+        markEvent(1);
+    }
+
+    @Override
+    public void markEvent(long n) {
+        COUNT_UPDATER.addAndGet(this, n);
+        long second = System.currentTimeMillis() / 1000;
+        int index = (int) (second % buckets.length());
+        long tag = second & SECOND_MASK;
+        while (true) {
+            long bucket = buckets.get(index);
+            long next =
+                    bucket >>> COUNT_BITS == tag
+                            ? bucket + n
+                            : (tag << COUNT_BITS) | (n & COUNT_MASK);
+            if (buckets.compareAndSet(index, bucket, next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public double getRate() {
+        long now = System.currentTimeMillis();
+        long second = now / 1000;
+        int window = buckets.length();
+        long events = 0;
+        for (int i = 0; i < window; i++) {
+            long bucket = buckets.get((int) ((second - i) % window));
+            if (bucket >>> COUNT_BITS == ((second - i) & SECOND_MASK)) {
+                events += bucket & COUNT_MASK;
+            }
+        }
+        // the current second is only partly over, a young meter has not seen a whole window yet,
+        // at least one second is assumed so that the first events do not report a huge rate
+        long span = Math.min((window - 1) * 1000L + now % 1000, now - createTime);
+        return (double) events * 1000 / Math.max(span, 1000);
+    }
+
+    @Override
+    public long getCount() {
+        return COUNT_UPDATER.get(this);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return Unit.COUNT;
+    }
+
+    @Override
+    public String toString() {
+        return "SlidingWindowMeter{"
+                + "name='"
+                + name
+                + '\''
+                + ", window="
+                + buckets.length()
+                + ", count="
+                + count
+                + '}';
+    }
+}
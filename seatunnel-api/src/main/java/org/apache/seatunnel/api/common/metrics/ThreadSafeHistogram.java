@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A {@link Histogram} with log-linear buckets in the style of HdrHistogram. Values below 32 are
+ * counted exactly, every larger power of two range is split into 16 buckets, so a quantile is
+ * reported with a relative error of at most 1/16 while the histogram has a fixed size of 960
+ * counters. Recording a value is a few arithmetic operations and one atomic increment, it never
+ * allocates.
+ */
+public class ThreadSafeHistogram implements Histogram, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final AtomicLongFieldUpdater<ThreadSafeHistogram> COUNT_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(ThreadSafeHistogram.class, "count");
+
+    private static final AtomicLongFieldUpdater<ThreadSafeHistogram> SUM_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(ThreadSafeHistogram.class, "sum");
+
+    private static final AtomicLongFieldUpdater<ThreadSafeHistogram> MAX_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(ThreadSafeHistogram.class, "max");
+
+    private final String name;
+
+    private final Unit unit;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    private volatile long count;
+
+    private volatile long sum;
+
+    private volatile long max;
+
+    public ThreadSafeHistogram(String name) {
+        this(name, Unit.MS);
+    }
+
+    public ThreadSafeHistogram(String name, Unit unit) {
+        this.name = name;
+        this.unit = unit;
+    }
+
+    @Override
+    public void update(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(value));
+        COUNT_UPDATER.incrementAndGet(this);
+        SUM_UPDATER.addAndGet(this, value);
+        long currentMax;
+        while (value > (currentMax = max)) {
+            if (MAX_UPDATER.compareAndSet(this, currentMax, value)) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public long getCount() {
+        return COUNT_UPDATER.get(this);
+    }
+
+    @Override
+    public long getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("The quantile must be between 0 and 1");
+        }
+        long total = 0;
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public double getMean() {
+        long currentCount = count;
+        return currentCount == 0 ? 0 : (double) sum / currentCount;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return unit;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadSafeHistogram{"
+                + "name='"
+                + name
+                + '\''
+                + ", count="
+                + count
+                + ", max="
+                + max
+                + '}';
+    }
+}
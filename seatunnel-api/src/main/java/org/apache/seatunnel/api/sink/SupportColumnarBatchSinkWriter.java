@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink;
+
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
+
+import java.io.IOException;
+
+/**
+ * The Sink Connector Writer which can write a {@link ColumnarBatch} as a whole should implement
+ * this interface, the engine then passes the batches to it without converting them to rows.
+ */
+public interface SupportColumnarBatchSinkWriter {
+
+    /**
+     * Write all rows of the batch. The batch may be reused by the caller after this method
+     * returned, so the writer must copy the data it keeps.
+     *
+     * @param batch the data need be written.
+     * @throws IOException throw IOException when write data failed.
+     */
+    void writeBatch(ColumnarBatch batch) throws IOException;
+}
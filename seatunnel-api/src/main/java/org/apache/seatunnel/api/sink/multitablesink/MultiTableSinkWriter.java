@@ -19,44 +19,72 @@ package org.apache.seatunnel.api.sink.multitablesink;
 
 import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchSinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.sink.event.WriterCloseEvent;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
 import org.apache.seatunnel.api.tracing.MDCTracer;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Routes the rows of all tables to {@code queueSize} writer threads, each of them owns one
+ * sub-writer of every table and reads its own single-producer single-consumer queue.
+ *
+ * <p>The rows of a table with primary key are routed by the hash of the key to keep their order.
+ * The other tables are spread over all threads at first, then every {@link
+ * #REBALANCE_INTERVAL_ROWS} rows they are re-assigned by the rows seen since the last time: a table
+ * sticks to the least loaded thread, so its rows are batched by one sub-writer, unless it alone has
+ * more rows than a thread should take, then it stays spread.
+ *
+ * <p>Before the sub-writers are called from outside the writer threads, e.g. to prepare commit, the
+ * queues are drained by waiting for the drain futures of the threads.
+ *
+ * <p>A {@link ColumnarBatch} of a table whose rows go to one thread at a time is written as a whole
+ * by the calling thread, once the thread owning the sub-writer drained its queue. The batch is
+ * split into rows if the sub-writer does not support batches, or if the table has a primary key and
+ * its rows are spread over several threads.
+ */
 @Slf4j
 public class MultiTableSinkWriter
-        implements SinkWriter<SeaTunnelRow, MultiTableCommitInfo, MultiTableState> {
+        implements SinkWriter<SeaTunnelRow, MultiTableCommitInfo, MultiTableState>,
+                SupportColumnarBatchSinkWriter {
+
+    static final int REBALANCE_INTERVAL_ROWS = 1 << 16;
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final int OFFER_SPINS = 64;
+    private static final long OFFER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
 
     private final Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters;
     private final Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext;
-    private final Map<String, Optional<Integer>> sinkPrimaryKeys = new HashMap<>();
+    private final Map<String, TableRoute> tableRoutes = new HashMap<>();
     private final List<ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>>
             sinkWritersWithIndex;
     private final List<MultiTableWriterRunnable> runnable = new ArrayList<>();
-    private final Random random = new Random();
-    private final List<BlockingQueue<SeaTunnelRow>> blockingQueues = new ArrayList<>();
+    private final List<SpscRingBuffer<SeaTunnelRow>> queues = new ArrayList<>();
     private final ExecutorService executorService;
+    private int spreadIndex;
+    private long rowsSinceRebalance;
     private MultiTableResourceManager resourceManager;
     private volatile boolean submitted = false;
 
@@ -85,7 +113,7 @@ public class MultiTableSinkWriter
                                 }));
         sinkWritersWithIndex = new ArrayList<>();
         for (int i = 0; i < queueSize; i++) {
-            BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>(1024);
+            SpscRingBuffer<SeaTunnelRow> queue = new SpscRingBuffer<>(QUEUE_CAPACITY);
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap = new HashMap<>();
             ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierMap =
                     new ConcurrentHashMap<>();
@@ -100,7 +128,7 @@ public class MultiTableSinkWriter
                             });
 
             sinkWritersWithIndex.add(sinkIdentifierMap);
-            blockingQueues.add(queue);
+            queues.add(queue);
             MultiTableWriterRunnable r = new MultiTableWriterRunnable(tableIdWriterMap, queue);
             runnable.add(r);
         }
@@ -125,7 +153,8 @@ public class MultiTableSinkWriter
                 SupportMultiTableSinkWriter<?> sink =
                         ((SupportMultiTableSinkWriter<?>) entry.getValue());
                 sink.setMultiTableResourceManager(resourceManager, i);
-                sinkPrimaryKeys.put(entry.getKey().getTableIdentifier(), sink.primaryKey());
+                tableRoutes.put(
+                        entry.getKey().getTableIdentifier(), new TableRoute(sink.primaryKey()));
             }
         }
     }
@@ -140,6 +169,8 @@ public class MultiTableSinkWriter
 
     @Override
     public void applySchemaChange(SchemaChangeEvent event) throws IOException {
+        // the rows before the event must be written with the old schema
+        drainQueues();
         subSinkErrorCheck();
         for (int i = 0; i < sinkWritersWithIndex.size(); i++) {
             for (Map.Entry<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriterEntry :
@@ -152,9 +183,7 @@ public class MultiTableSinkWriter
                             "Start apply schema change for table {} sub-writer {}",
                             sinkWriterEntry.getKey().getTableIdentifier(),
                             sinkWriterEntry.getKey().getIndex());
-                    synchronized (runnable.get(i)) {
-                        sinkWriterEntry.getValue().applySchemaChange(event);
-                    }
+                    sinkWriterEntry.getValue().applySchemaChange(event);
                     log.info(
                             "Finish apply schema change for table {} sub-writer {}",
                             sinkWriterEntry.getKey().getTableIdentifier(),
@@ -166,52 +195,154 @@ public class MultiTableSinkWriter
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
+        startWriters();
+        subSinkErrorCheck();
+        TableRoute route = getRoute(element.getTableId());
+        int index;
+        if (route.primaryKey.isPresent()) {
+            Object object = element.getField(route.primaryKey.get());
+            index = object == null ? 0 : Math.abs(object.hashCode() % queues.size());
+        } else if (route.queueIndex >= 0) {
+            index = route.queueIndex;
+        } else {
+            index = spreadIndex;
+            spreadIndex = spreadIndex + 1 == queues.size() ? 0 : spreadIndex + 1;
+        }
+        offer(index, element);
+        route.rows++;
+        if (++rowsSinceRebalance >= REBALANCE_INTERVAL_ROWS) {
+            rebalance();
+        }
+    }
+
+    @Override
+    public void writeBatch(ColumnarBatch batch) throws IOException {
+        startWriters();
+        subSinkErrorCheck();
+        TableRoute route = getRoute(batch.getTableId());
+        int index;
+        if (route.primaryKey.isPresent()) {
+            if (queues.size() > 1) {
+                writeRows(batch);
+                return;
+            }
+            index = 0;
+        } else {
+            index = route.queueIndex >= 0 ? route.queueIndex : spreadIndex;
+        }
+        MultiTableWriterRunnable writerRunnable = runnable.get(index);
+        SinkWriter<SeaTunnelRow, ?, ?> writer = writerRunnable.getWriter(batch.getTableId());
+        if (!(writer instanceof SupportColumnarBatchSinkWriter)) {
+            writeRows(batch);
+            return;
+        }
+        if (!route.primaryKey.isPresent() && route.queueIndex < 0) {
+            spreadIndex = spreadIndex + 1 == queues.size() ? 0 : spreadIndex + 1;
+        }
+        // the thread owning the sub-writer must be idle, the rows before the batch come first
+        drain(Collections.singletonList(writerRunnable));
+        ((SupportColumnarBatchSinkWriter) writer).writeBatch(batch);
+        route.rows += batch.getNumRows();
+        rowsSinceRebalance += batch.getNumRows();
+        if (rowsSinceRebalance >= REBALANCE_INTERVAL_ROWS) {
+            rebalance();
+        }
+    }
+
+    private void writeRows(ColumnarBatch batch) throws IOException {
+        for (int i = 0; i < batch.getNumRows(); i++) {
+            write(batch.getRow(i));
+        }
+    }
+
+    private void startWriters() {
         if (!submitted) {
             submitted = true;
             runnable.forEach(executorService::submit);
         }
-        subSinkErrorCheck();
-        Optional<Integer> primaryKey = sinkPrimaryKeys.get(element.getTableId());
-        try {
-            if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
-                    || (primaryKey != null && !primaryKey.isPresent())) {
-                int index = random.nextInt(blockingQueues.size());
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
+    }
+
+    private TableRoute getRoute(String tableId) {
+        TableRoute route = tableRoutes.get(tableId);
+        if (route == null) {
+            if (tableRoutes.size() != 1) {
+                throw new RuntimeException("multi table sink can not write table: " + tableId);
+            }
+            route = tableRoutes.values().iterator().next();
+        }
+        return route;
+    }
+
+    private void offer(int index, SeaTunnelRow element) throws IOException {
+        SpscRingBuffer<SeaTunnelRow> queue = queues.get(index);
+        int spins = 0;
+        while (!queue.offer(element)) {
+            if (++spins < OFFER_SPINS) {
+                Thread.yield();
+                continue;
+            }
+            subSinkErrorCheck();
+            LockSupport.parkNanos(this, OFFER_PARK_NANOS);
+            if (Thread.interrupted()) {
+                throw new IOException(new InterruptedException());
+            }
+        }
+        runnable.get(index).wakeUp();
+    }
+
+    /**
+     * Re-assign the tables without primary key by the rows seen since the last rebalance. The rows
+     * of a table with primary key are spread by the key, so they load every thread equally.
+     */
+    private void rebalance() {
+        int queueCount = queues.size();
+        double[] loads = new double[queueCount];
+        List<TableRoute> movable = new ArrayList<>();
+        for (TableRoute route : tableRoutes.values()) {
+            if (route.primaryKey.isPresent()) {
+                for (int i = 0; i < queueCount; i++) {
+                    loads[i] += (double) route.rows / queueCount;
                 }
-            } else if (primaryKey == null) {
-                throw new RuntimeException(
-                        "multi table sink can not write table: " + element.getTableId());
-            } else {
-                Object object = element.getField(primaryKey.get());
-                int index = 0;
-                if (object != null) {
-                    index = Math.abs(object.hashCode()) % blockingQueues.size();
+            } else if (route.rows > 0) {
+                movable.add(route);
+            }
+        }
+        movable.sort((left, right) -> Long.compare(right.rows, left.rows));
+        for (TableRoute route : movable) {
+            if (route.rows * queueCount > rowsSinceRebalance) {
+                // a table with more rows than one thread should take is spread over all of them
+                route.queueIndex = -1;
+                for (int i = 0; i < queueCount; i++) {
+                    loads[i] += (double) route.rows / queueCount;
                 }
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
+            } else {
+                int leastLoaded = 0;
+                for (int i = 1; i < queueCount; i++) {
+                    if (loads[i] < loads[leastLoaded]) {
+                        leastLoaded = i;
+                    }
                 }
+                route.queueIndex = leastLoaded;
+                loads[leastLoaded] += route.rows;
             }
-        } catch (InterruptedException e) {
-            throw new IOException(e);
         }
+        for (TableRoute route : tableRoutes.values()) {
+            route.rows = 0;
+        }
+        rowsSinceRebalance = 0;
     }
 
     @Override
     public List<MultiTableState> snapshotState(long checkpointId) throws IOException {
-        checkQueueRemain();
+        drainQueues();
         subSinkErrorCheck();
         List<MultiTableState> multiTableStates = new ArrayList<>();
         MultiTableState multiTableState = new MultiTableState(new HashMap<>());
         for (int i = 0; i < sinkWritersWithIndex.size(); i++) {
             for (Map.Entry<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriterEntry :
                     sinkWritersWithIndex.get(i).entrySet()) {
-                synchronized (runnable.get(i)) {
-                    List states = sinkWriterEntry.getValue().snapshotState(checkpointId);
-                    multiTableState.getStates().put(sinkWriterEntry.getKey(), states);
-                }
+                List states = sinkWriterEntry.getValue().snapshotState(checkpointId);
+                multiTableState.getStates().put(sinkWriterEntry.getKey(), states);
             }
         }
         multiTableStates.add(multiTableState);
@@ -225,7 +356,7 @@ public class MultiTableSinkWriter
 
     @Override
     public Optional<MultiTableCommitInfo> prepareCommit(long checkpointId) throws IOException {
-        checkQueueRemain();
+        drainQueues();
         subSinkErrorCheck();
         MultiTableCommitInfo multiTableCommitInfo =
                 new MultiTableCommitInfo(new ConcurrentHashMap<>());
@@ -235,26 +366,24 @@ public class MultiTableSinkWriter
             futures.add(
                     executorService.submit(
                             () -> {
-                                synchronized (runnable.get(subWriterIndex)) {
-                                    for (Map.Entry<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>
-                                            sinkWriterEntry :
-                                                    sinkWritersWithIndex
-                                                            .get(subWriterIndex)
-                                                            .entrySet()) {
-                                        Optional<?> commit;
-                                        try {
-                                            SinkWriter<SeaTunnelRow, ?, ?> sinkWriter =
-                                                    sinkWriterEntry.getValue();
-                                            commit = sinkWriter.prepareCommit(checkpointId);
-                                        } catch (IOException e) {
-                                            throw new RuntimeException(e);
-                                        }
-                                        commit.ifPresent(
-                                                o ->
-                                                        multiTableCommitInfo
-                                                                .getCommitInfo()
-                                                                .put(sinkWriterEntry.getKey(), o));
+                                for (Map.Entry<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>
+                                        sinkWriterEntry :
+                                                sinkWritersWithIndex
+                                                        .get(subWriterIndex)
+                                                        .entrySet()) {
+                                    Optional<?> commit;
+                                    try {
+                                        SinkWriter<SeaTunnelRow, ?, ?> sinkWriter =
+                                                sinkWriterEntry.getValue();
+                                        commit = sinkWriter.prepareCommit(checkpointId);
+                                    } catch (IOException e) {
+                                        throw new RuntimeException(e);
                                     }
+                                    commit.ifPresent(
+                                            o ->
+                                                    multiTableCommitInfo
+                                                            .getCommitInfo()
+                                                            .put(sinkWriterEntry.getKey(), o));
                                 }
                             }));
         }
@@ -275,22 +404,19 @@ public class MultiTableSinkWriter
     public void abortPrepare() {
         Throwable firstE = null;
         try {
-            checkQueueRemain();
+            drainQueues();
         } catch (Exception e) {
             firstE = e;
         }
         for (int i = 0; i < sinkWritersWithIndex.size(); i++) {
-            synchronized (runnable.get(i)) {
-                for (SinkWriter<SeaTunnelRow, ?, ?> sinkWriter :
-                        sinkWritersWithIndex.get(i).values()) {
-                    try {
-                        sinkWriter.abortPrepare();
-                    } catch (Throwable e) {
-                        if (firstE == null) {
-                            firstE = e;
-                        }
-                        log.error("abortPrepare error", e);
+            for (SinkWriter<SeaTunnelRow, ?, ?> sinkWriter : sinkWritersWithIndex.get(i).values()) {
+                try {
+                    sinkWriter.abortPrepare();
+                } catch (Throwable e) {
+                    if (firstE == null) {
+                        firstE = e;
                     }
+                    log.error("abortPrepare error", e);
                 }
             }
         }
@@ -305,31 +431,29 @@ public class MultiTableSinkWriter
         // modified to arrays
         final Throwable[] firstE = {null};
         try {
-            checkQueueRemain();
+            drainQueues();
         } catch (Exception e) {
             firstE[0] = e;
         }
         executorService.shutdownNow();
         for (int i = 0; i < sinkWritersWithIndex.size(); i++) {
-            synchronized (runnable.get(i)) {
-                Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierSinkWriterMap =
-                        sinkWritersWithIndex.get(i);
-                sinkIdentifierSinkWriterMap.forEach(
-                        (identifier, sinkWriter) -> {
-                            try {
-                                sinkWriter.close();
-                                sinkWritersContext
-                                        .get(identifier)
-                                        .getEventListener()
-                                        .onEvent(new WriterCloseEvent());
-                            } catch (Throwable e) {
-                                if (firstE[0] == null) {
-                                    firstE[0] = e;
-                                }
-                                log.error("close error", e);
+            Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierSinkWriterMap =
+                    sinkWritersWithIndex.get(i);
+            sinkIdentifierSinkWriterMap.forEach(
+                    (identifier, sinkWriter) -> {
+                        try {
+                            sinkWriter.close();
+                            sinkWritersContext
+                                    .get(identifier)
+                                    .getEventListener()
+                                    .onEvent(new WriterCloseEvent());
+                        } catch (Throwable e) {
+                            if (firstE[0] == null) {
+                                firstE[0] = e;
                             }
-                        });
-            }
+                            log.error("close error", e);
+                        }
+                    });
         }
         try {
             if (resourceManager != null) {
@@ -343,16 +467,35 @@ public class MultiTableSinkWriter
         }
     }
 
-    private void checkQueueRemain() {
+    /** Wait until the writer threads wrote every row offered so far. */
+    private void drainQueues() {
+        drain(runnable);
+    }
+
+    private void drain(List<MultiTableWriterRunnable> writerRunnables) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(writerRunnables.size());
+        for (MultiTableWriterRunnable writerRunnable : writerRunnables) {
+            futures.add(writerRunnable.drain());
+        }
         try {
-            for (BlockingQueue<SeaTunnelRow> blockingQueue : blockingQueues) {
-                while (!blockingQueue.isEmpty()) {
-                    Thread.sleep(100);
-                    subSinkErrorCheck();
-                }
-            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static class TableRoute {
+        private final Optional<Integer> primaryKey;
+        /** The index of the queue the table sticks to, or -1 if it is spread over all queues. */
+        private int queueIndex = -1;
+        /** The rows since the last rebalance. */
+        private long rows;
+
+        private TableRoute(Optional<Integer> primaryKey) {
+            this.primaryKey = primaryKey;
         }
     }
 }
@@ -14,7 +14,6 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.seatunnel.api.sink.multitablesink;
 
 import org.apache.seatunnel.api.sink.SinkWriter;
@@ -23,58 +22,143 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Writes the rows of one {@link SpscRingBuffer} to the sub-writers of its index. The sub-writers
+ * are only called by this thread, or by others after {@link #drain()} completed and before the next
+ * row is offered.
+ */
 @Slf4j
 public class MultiTableWriterRunnable implements Runnable {
 
+    private static final int IDLE_SPINS = 64;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final CompletableFuture<Void> DRAINED = CompletableFuture.completedFuture(null);
+
     private final Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap;
-    private final BlockingQueue<SeaTunnelRow> queue;
+    private final SpscRingBuffer<SeaTunnelRow> queue;
+    /** The number of rows written to the sub-writers. */
+    private final AtomicLong written = new AtomicLong();
+
+    private volatile Thread thread;
+    private volatile boolean parked;
+    private volatile DrainRequest drainRequest;
     private volatile Throwable throwable;
 
-    public MultiTableWriterRunnable(
+    MultiTableWriterRunnable(
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap,
-            BlockingQueue<SeaTunnelRow> queue) {
+            SpscRingBuffer<SeaTunnelRow> queue) {
         this.tableIdWriterMap = tableIdWriterMap;
         this.queue = queue;
     }
 
     @Override
     public void run() {
-        while (true) {
-            try {
-                SeaTunnelRow row = queue.poll(100, TimeUnit.MILLISECONDS);
+        thread = Thread.currentThread();
+        try {
+            while (!thread.isInterrupted()) {
+                SeaTunnelRow row = queue.poll();
                 if (row == null) {
+                    completeDrain();
+                    idle();
                     continue;
                 }
-                SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
-                if (writer == null) {
-                    if (tableIdWriterMap.size() == 1) {
-                        writer = tableIdWriterMap.values().stream().findFirst().get();
-                    } else {
-                        throw new RuntimeException(
-                                "MultiTableWriterRunnable can't find writer for tableId: "
-                                        + row.getTableId());
-                    }
-                }
-                synchronized (this) {
-                    writer.write(row);
-                }
-            } catch (InterruptedException e) {
-                // When the job finished, the thread will be interrupted, so we ignore this
-                // exception.
-                throwable = e;
-                break;
-            } catch (Throwable e) {
-                log.error("MultiTableWriterRunnable error", e);
-                throwable = e;
-                break;
+                getWriter(row.getTableId()).write(row);
+                written.lazySet(written.get() + 1);
+                completeDrain();
+            }
+            // When the job finished, the thread will be interrupted, so we ignore it.
+            throwable = new InterruptedException("MultiTableWriterRunnable is interrupted");
+        } catch (Throwable e) {
+            log.error("MultiTableWriterRunnable error", e);
+            throwable = e;
+        } finally {
+            DrainRequest request = drainRequest;
+            if (request != null) {
+                request.future.completeExceptionally(throwable);
+            }
+        }
+    }
+
+    /** The sub-writer of the table, it must only be called by this thread or once drained. */
+    SinkWriter<SeaTunnelRow, ?, ?> getWriter(String tableId) {
+        SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(tableId);
+        if (writer == null) {
+            if (tableIdWriterMap.size() == 1) {
+                writer = tableIdWriterMap.values().stream().findFirst().get();
+            } else {
+                throw new RuntimeException(
+                        "MultiTableWriterRunnable can't find writer for tableId: " + tableId);
+            }
+        }
+        return writer;
+    }
+
+    /** Wake up the thread if it is parked, called by the producer after offering a row. */
+    void wakeUp() {
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Called by the producer, the future completes when every row offered so far is written, or
+     * completes exceptionally if the thread fails.
+     */
+    CompletableFuture<Void> drain() {
+        long target = queue.offeredCount();
+        if (written.get() >= target) {
+            return DRAINED;
+        }
+        DrainRequest request = new DrainRequest(target);
+        drainRequest = request;
+        Throwable error = throwable;
+        if (error != null) {
+            request.future.completeExceptionally(error);
+        } else if (written.get() >= target) {
+            request.future.complete(null);
+        }
+        LockSupport.unpark(thread);
+        return request.future;
+    }
+
+    private void completeDrain() {
+        DrainRequest request = drainRequest;
+        if (request != null && written.get() >= request.target) {
+            drainRequest = null;
+            request.future.complete(null);
+        }
+    }
+
+    private void idle() {
+        for (int i = 0; i < IDLE_SPINS; i++) {
+            if (!queue.isEmpty() || drainRequest != null) {
+                return;
             }
+            Thread.yield();
         }
+        parked = true;
+        // check again after publishing the flag, the producer checks the flag after offering
+        if (queue.isEmpty() && drainRequest == null) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        parked = false;
     }
 
     public Throwable getThrowable() {
         return throwable;
     }
+
+    private static class DrainRequest {
+        private final long target;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private DrainRequest(long target) {
+            this.target = target;
+        }
+    }
 }
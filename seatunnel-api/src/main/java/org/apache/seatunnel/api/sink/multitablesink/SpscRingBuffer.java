@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded lock-free ring buffer for exactly one producer thread and one consumer thread. The
+ * positions only grow, so the number of offered elements is also the position to drain to.
+ */
+class SpscRingBuffer<E> {
+
+    private final Object[] buffer;
+    private final int mask;
+    /** The position of the next element to poll, only written by the consumer. */
+    private final AtomicLong head = new AtomicLong();
+    /** The position of the next element to offer, only written by the producer. */
+    private final AtomicLong tail = new AtomicLong();
+    /** The last head seen by the producer, to avoid reading the consumer's position per offer. */
+    private long cachedHead;
+    /** The last tail seen by the consumer, to avoid reading the producer's position per poll. */
+    private long cachedTail;
+
+    SpscRingBuffer(int capacity) {
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /** Called by the producer, returns false if the buffer is full. */
+    boolean offer(E element) {
+        long currentTail = tail.get();
+        if (currentTail - cachedHead >= buffer.length) {
+            cachedHead = head.get();
+            if (currentTail - cachedHead >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) (currentTail & mask)] = element;
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /** Called by the consumer, returns null if the buffer is empty. */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long currentHead = head.get();
+        if (currentHead >= cachedTail) {
+            cachedTail = tail.get();
+            if (currentHead >= cachedTail) {
+                return null;
+            }
+        }
+        int index = (int) (currentHead & mask);
+        E element = (E) buffer[index];
+        buffer[index] = null;
+        head.lazySet(currentHead + 1);
+        return element;
+    }
+
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    /** The number of elements offered so far. */
+    long offeredCount() {
+        return tail.get();
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.api.source;
 
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
 
 /**
  * A {@link Collector} is used to collect data from {@link SourceReader}.
@@ -28,6 +29,20 @@ public interface Collector<T> {
 
     void collect(T record);
 
+    /**
+     * Collect a whole batch of rows. Source readers of columnar formats should use it, engines that
+     * support {@link ColumnarBatch} pass it downstream as it is, the others receive the rows one by
+     * one. The batch must not be modified by the reader after this method returned.
+     *
+     * @param batch the rows read from the source.
+     */
+    @SuppressWarnings("unchecked")
+    default void collectBatch(ColumnarBatch batch) {
+        for (int i = 0; i < batch.getNumRows(); i++) {
+            collect((T) batch.getRow(i));
+        }
+    }
+
     default void markSchemaChangeBeforeCheckpoint() {}
 
     default void collect(SchemaChangeEvent event) {}
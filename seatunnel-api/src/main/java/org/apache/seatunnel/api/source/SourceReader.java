@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.state.CheckpointListener;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@link SourceReader} is used to generate source record, and it will be running at worker.
@@ -51,6 +52,21 @@ public interface SourceReader<T, SplitT extends SourceSplit>
      */
     void pollNext(Collector<T> output) throws Exception;
 
+    /**
+     * Returns a future that completes when the reader may have records again, the engine waits on
+     * it after a {@link #pollNext(Collector)} which did not collect any record. The engine waits at
+     * most its poll interval, so the future does not have to complete when there is nothing new.
+     *
+     * <p>The future must not be completed while nothing is available, or the engine polls the
+     * reader without pause. The default future never completes, the reader is polled in the poll
+     * interval of the engine.
+     *
+     * @return the availability future.
+     */
+    default CompletableFuture<Void> isAvailable() {
+        return new CompletableFuture<>();
+    }
+
     /**
      * Get the current split checkpoint state by checkpointId.
      *
@@ -19,6 +19,8 @@ package org.apache.seatunnel.api.table.type;
 
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -243,10 +245,37 @@ public final class SeaTunnelRow implements Serializable {
         return size;
     }
 
+    /**
+     * Set the size of this row in bytes, for connectors that already know the raw size of the
+     * record they read. It is used by {@link #getBytesSize()} instead of estimating the size of
+     * every field.
+     */
+    public void setBytesSize(int size) {
+        this.size = size;
+    }
+
     private int getBytesForValue(Object v) {
         if (v == null) {
             return 0;
         }
+        // the common scalar types are final classes, check them before the class name lookup
+        if (v instanceof String) {
+            return ((String) v).length();
+        } else if (v instanceof Integer || v instanceof Float) {
+            return 4;
+        } else if (v instanceof Long || v instanceof Double) {
+            return 8;
+        } else if (v instanceof Boolean || v instanceof Byte) {
+            return 1;
+        } else if (v instanceof Short) {
+            return 2;
+        } else if (v instanceof byte[]) {
+            return ((byte[]) v).length;
+        } else if (v instanceof LocalDateTime) {
+            return 48;
+        } else if (v instanceof LocalDate) {
+            return 24;
+        }
         String clazz = v.getClass().getSimpleName();
         switch (clazz) {
             case "String":
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type.columnar;
+
+public class ByteColumnVector extends ColumnVector {
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] values;
+
+    public ByteColumnVector(int capacity) {
+        super(capacity);
+        this.values = new byte[capacity];
+    }
+
+    public byte getByte(int rowId) {
+        return values[rowId];
+    }
+
+    public void setByte(int rowId, byte value) {
+        values[rowId] = value;
+        setNotNull(rowId);
+    }
+
+    /** The backing array, values of null rows are undefined. */
+    public byte[] getBytes() {
+        return values;
+    }
+
+    @Override
+    public long getBytesSize(int numRows) {
+        long nonNullRows = numRows;
+        if (hasNull()) {
+            for (int i = 0; i < numRows; i++) {
+                if (isNullAt(i)) {
+                    nonNullRows--;
+                }
+            }
+        }
+        return nonNullRows * 1;
+    }
+
+    @Override
+    protected int getValueBytesSize(int rowId) {
+        return 1;
+    }
+
+    @Override
+    protected Object getValue(int rowId) {
+        return values[rowId];
+    }
+
+    @Override
+    protected void setValue(int rowId, Object value) {
+        values[rowId] = (Byte) value;
+    }
+}
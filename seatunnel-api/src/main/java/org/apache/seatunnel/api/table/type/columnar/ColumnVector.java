@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type.columnar;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * One column of a {@link ColumnarBatch}. The values of the primitive sql types are kept in
+ * primitive arrays by the subclasses, nulls are tracked by a separate null mask.
+ */
+public abstract class ColumnVector implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    protected final int capacity;
+    private final boolean[] nulls;
+    private boolean hasNull;
+
+    protected ColumnVector(int capacity) {
+        this.capacity = capacity;
+        this.nulls = new boolean[capacity];
+    }
+
+    /** Create the vector that fits the given data type best. */
+    public static ColumnVector create(SeaTunnelDataType<?> dataType, int capacity) {
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return new BooleanColumnVector(capacity);
+            case TINYINT:
+                return new ByteColumnVector(capacity);
+            case SMALLINT:
+                return new ShortColumnVector(capacity);
+            case INT:
+                return new IntColumnVector(capacity);
+            case BIGINT:
+                return new LongColumnVector(capacity);
+            case FLOAT:
+                return new FloatColumnVector(capacity);
+            case DOUBLE:
+                return new DoubleColumnVector(capacity);
+            default:
+                return new ObjectColumnVector(capacity);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isNullAt(int rowId) {
+        return nulls[rowId];
+    }
+
+    public void setNull(int rowId) {
+        nulls[rowId] = true;
+        hasNull = true;
+    }
+
+    public void setNotNull(int rowId) {
+        nulls[rowId] = false;
+    }
+
+    public boolean hasNull() {
+        return hasNull;
+    }
+
+    /** Get the value at the given row as object, returns null if the value is null. */
+    public Object getObject(int rowId) {
+        return isNullAt(rowId) ? null : getValue(rowId);
+    }
+
+    /** Set the value at the given row from an object, the value may be null. */
+    public void setObject(int rowId, Object value) {
+        if (value == null) {
+            setNull(rowId);
+        } else {
+            setNotNull(rowId);
+            setValue(rowId, value);
+        }
+    }
+
+    /** Estimated size in bytes of the first {@code numRows} values, nulls are not counted. */
+    public long getBytesSize(int numRows) {
+        long size = 0;
+        for (int i = 0; i < numRows; i++) {
+            if (!nulls[i]) {
+                size += getValueBytesSize(i);
+            }
+        }
+        return size;
+    }
+
+    public void reset() {
+        if (hasNull) {
+            Arrays.fill(nulls, false);
+            hasNull = false;
+        }
+    }
+
+    protected abstract int getValueBytesSize(int rowId);
+
+    protected abstract Object getValue(int rowId);
+
+    protected abstract void setValue(int rowId, Object value);
+}
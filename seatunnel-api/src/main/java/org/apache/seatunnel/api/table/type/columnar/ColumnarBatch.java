@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type.columnar;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A batch of rows of one table stored column by column. It is an optional alternative to {@link
+ * SeaTunnelRow} for connectors that read or write columnar formats, the engine passes it between
+ * the source, transforms and sink without converting it to rows as long as every step supports it.
+ */
+public final class ColumnarBatch implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final SeaTunnelRowType rowType;
+    private final ColumnVector[] columns;
+    private final byte[] rowKinds;
+    private final int capacity;
+    private int numRows;
+    /** Table identifier. */
+    private String tableId = "";
+
+    public ColumnarBatch(SeaTunnelRowType rowType, ColumnVector[] columns, int capacity) {
+        if (rowType.getTotalFields() != columns.length) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The row type has %s fields but %s columns are given",
+                            rowType.getTotalFields(), columns.length));
+        }
+        this.rowType = rowType;
+        this.columns = columns;
+        this.capacity = capacity;
+        this.rowKinds = new byte[capacity];
+        Arrays.fill(rowKinds, RowKind.INSERT.toByteValue());
+    }
+
+    /** Allocate an empty batch with a vector per field of the row type. */
+    public static ColumnarBatch allocate(SeaTunnelRowType rowType, int capacity) {
+        ColumnVector[] columns = new ColumnVector[rowType.getTotalFields()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = ColumnVector.create(rowType.getFieldType(i), capacity);
+        }
+        return new ColumnarBatch(rowType, columns, capacity);
+    }
+
+    public SeaTunnelRowType getRowType() {
+        return rowType;
+    }
+
+    public int getNumColumns() {
+        return columns.length;
+    }
+
+    public ColumnVector getColumn(int ordinal) {
+        return columns[ordinal];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public void setNumRows(int numRows) {
+        if (numRows < 0 || numRows > capacity) {
+            throw new IndexOutOfBoundsException(
+                    String.format("numRows %s is out of capacity %s", numRows, capacity));
+        }
+        this.numRows = numRows;
+    }
+
+    public boolean isFull() {
+        return numRows == capacity;
+    }
+
+    public String getTableId() {
+        return tableId;
+    }
+
+    public void setTableId(String tableId) {
+        this.tableId = tableId;
+    }
+
+    public RowKind getRowKind(int rowId) {
+        return RowKind.fromByteValue(rowKinds[rowId]);
+    }
+
+    public void setRowKind(int rowId, RowKind rowKind) {
+        rowKinds[rowId] = rowKind.toByteValue();
+    }
+
+    /** Append a row at the end of the batch, returns the row id of it. */
+    public int appendRow(SeaTunnelRow row) {
+        if (isFull()) {
+            throw new IndexOutOfBoundsException("The batch is full, capacity: " + capacity);
+        }
+        int rowId = numRows++;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].setObject(rowId, row.getField(i));
+        }
+        rowKinds[rowId] = row.getRowKind().toByteValue();
+        return rowId;
+    }
+
+    /** Materialize the row at the given position. */
+    public SeaTunnelRow getRow(int rowId) {
+        Object[] fields = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            fields[i] = columns[i].getObject(rowId);
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(tableId);
+        row.setRowKind(getRowKind(rowId));
+        return row;
+    }
+
+    /** Estimated size in bytes of all rows of the batch. */
+    public long getBytesSize() {
+        long size = 0;
+        for (ColumnVector column : columns) {
+            size += column.getBytesSize(numRows);
+        }
+        return size;
+    }
+
+    /** Clear the batch so that it can be filled again. */
+    public void reset() {
+        for (ColumnVector column : columns) {
+            column.reset();
+        }
+        Arrays.fill(rowKinds, 0, numRows, RowKind.INSERT.toByteValue());
+        numRows = 0;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type.columnar;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Column vector for the non primitive sql types, e.g. STRING, DECIMAL, DATE or the nested types.
+ * The estimated sizes follow {@link
+ * org.apache.seatunnel.api.table.type.SeaTunnelRow#getBytesSize()}.
+ */
+public class ObjectColumnVector extends ColumnVector {
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] values;
+
+    public ObjectColumnVector(int capacity) {
+        super(capacity);
+        this.values = new Object[capacity];
+    }
+
+    @Override
+    public void setNull(int rowId) {
+        super.setNull(rowId);
+        values[rowId] = null;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(values, null);
+    }
+
+    @Override
+    protected int getValueBytesSize(int rowId) {
+        Object value = values[rowId];
+        if (value instanceof String) {
+            return ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        } else if (value instanceof BigDecimal) {
+            return 36;
+        } else if (value instanceof LocalDate) {
+            return 24;
+        } else if (value instanceof LocalTime) {
+            return 12;
+        } else if (value instanceof LocalDateTime) {
+            return 48;
+        }
+        return 0;
+    }
+
+    @Override
+    protected Object getValue(int rowId) {
+        return values[rowId];
+    }
+
+    @Override
+    protected void setValue(int rowId, Object value) {
+        values[rowId] = value;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
+
+/**
+ * The Transform which can transform a {@link ColumnarBatch} as a whole should implement this
+ * interface, the engine then passes the batches to it without converting them to rows.
+ */
+public interface SupportColumnarBatchTransform {
+
+    /**
+     * Transform input batch to {@link SeaTunnelTransform#getProducedCatalogTable()} types batch.
+     *
+     * @param batch the data need be transformed.
+     * @return transformed batch, or null if all rows are filtered out.
+     */
+    ColumnarBatch mapBatch(ColumnarBatch batch);
+}
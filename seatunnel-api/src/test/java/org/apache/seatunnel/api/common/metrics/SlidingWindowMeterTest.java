@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SlidingWindowMeterTest {
+
+    @Test
+    public void testRateOnlyCoversTheWindow() throws InterruptedException {
+        SlidingWindowMeter meter = new SlidingWindowMeter("qps", 1);
+        meter.markEvent(1000);
+        Assertions.assertEquals(1000, meter.getCount());
+        Assertions.assertTrue(meter.getRate() > 0);
+        // the second holding the events left the window
+        Thread.sleep(2100);
+        Assertions.assertEquals(0, meter.getRate());
+        Assertions.assertEquals(1000, meter.getCount());
+    }
+
+    @Test
+    public void testExponentiallyDecayingMeterCount() {
+        ExponentiallyDecayingMeter meter = new ExponentiallyDecayingMeter("qps");
+        meter.markEvent();
+        meter.markEvent(9);
+        Assertions.assertEquals(10, meter.getCount());
+        Assertions.assertEquals(0, meter.getRate());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ThreadSafeHistogramTest {
+
+    @Test
+    public void testQuantiles() {
+        ThreadSafeHistogram histogram = new ThreadSafeHistogram("latency");
+        Assertions.assertEquals(0, histogram.getQuantile(0.99));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.update(i);
+        }
+        Assertions.assertEquals(1000, histogram.getCount());
+        Assertions.assertEquals(1000, histogram.getMax());
+        Assertions.assertEquals(500.5, histogram.getMean(), 0.001);
+        assertWithinBucket(500, histogram.getQuantile(0.5));
+        assertWithinBucket(990, histogram.getQuantile(0.99));
+        Assertions.assertEquals(1000, histogram.getQuantile(1));
+        Assertions.assertEquals(1, histogram.getQuantile(0));
+    }
+
+    @Test
+    public void testBuckets() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = ThreadSafeHistogram.bucketIndex(value);
+            Assertions.assertTrue(ThreadSafeHistogram.bucketUpperBound(index) >= value);
+            if (index > 0) {
+                Assertions.assertTrue(ThreadSafeHistogram.bucketUpperBound(index - 1) < value);
+            }
+        }
+        Assertions.assertEquals(
+                Long.MAX_VALUE,
+                ThreadSafeHistogram.bucketUpperBound(
+                        ThreadSafeHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    private static void assertWithinBucket(long expected, long actual) {
+        Assertions.assertTrue(
+                actual >= expected && actual <= expected + expected / 16, "" + actual);
+    }
+}
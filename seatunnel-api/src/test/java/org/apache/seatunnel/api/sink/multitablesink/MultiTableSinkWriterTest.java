@@ -22,10 +22,16 @@ import org.apache.seatunnel.api.event.DefaultEventProcessor;
 import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.serialization.DefaultSerializer;
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchSinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import lombok.AllArgsConstructor;
@@ -37,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class MultiTableSinkWriterTest {
 
@@ -62,11 +69,168 @@ public class MultiTableSinkWriterTest {
         }
     }
 
+    @Test
+    public void testStickyRoutingAndDrain() throws IOException {
+        int threads = 4;
+        int tables = 10;
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        TestSinkWriter[][] writers = new TestSinkWriter[tables][threads];
+        for (int table = 0; table < tables; table++) {
+            for (int i = 0; i < threads; i++) {
+                SinkIdentifier identifier = SinkIdentifier.of("table_" + table, i);
+                writers[table][i] = new TestSinkWriter();
+                sinkWriters.put(identifier, writers[table][i]);
+                sinkWritersContext.put(identifier, new TestSinkWriterContext());
+            }
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        // table_0 takes 60% of the rows, the others share the rest
+        int total = MultiTableSinkWriter.REBALANCE_INTERVAL_ROWS * 3;
+        for (int i = 0; i < total; i++) {
+            int table = i % 10 < 6 ? 0 : 1 + i % (tables - 1);
+            multiTableSinkWriter.write(row("table_" + table));
+        }
+        multiTableSinkWriter.prepareCommit(1);
+        Assertions.assertEquals(total, sumRows(writers));
+
+        // a small table sticks to one thread
+        long[] before = rows(writers[1]);
+        for (int i = 0; i < 1000; i++) {
+            multiTableSinkWriter.write(row("table_1"));
+        }
+        multiTableSinkWriter.prepareCommit(2);
+        long[] after = rows(writers[1]);
+        int changed = 0;
+        for (int i = 0; i < threads; i++) {
+            if (after[i] != before[i]) {
+                changed++;
+                Assertions.assertEquals(1000, after[i] - before[i]);
+            }
+        }
+        Assertions.assertEquals(1, changed);
+
+        // the hot table stays spread over all threads
+        before = rows(writers[0]);
+        for (int i = 0; i < 1000; i++) {
+            multiTableSinkWriter.write(row("table_0"));
+        }
+        multiTableSinkWriter.snapshotState(3);
+        after = rows(writers[0]);
+        for (int i = 0; i < threads; i++) {
+            Assertions.assertEquals(250, after[i] - before[i]);
+        }
+        Assertions.assertEquals(total + 2000, sumRows(writers));
+        multiTableSinkWriter.close();
+    }
+
+    @Test
+    public void testWriteBatchForwardsToBatchWriters() throws IOException {
+        int threads = 2;
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        TestBatchSinkWriter[] writers = new TestBatchSinkWriter[threads];
+        for (int i = 0; i < threads; i++) {
+            SinkIdentifier identifier = SinkIdentifier.of("table", i);
+            writers[i] = new TestBatchSinkWriter(Optional.empty());
+            sinkWriters.put(identifier, writers[i]);
+            sinkWritersContext.put(identifier, new TestSinkWriterContext());
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        multiTableSinkWriter.write(row("table"));
+        multiTableSinkWriter.writeBatch(batch("table", 3));
+        multiTableSinkWriter.writeBatch(batch("table", 5));
+        multiTableSinkWriter.prepareCommit(1);
+
+        // the batches of a table without primary key are spread like its rows
+        Assertions.assertEquals(1, writers[0].batches.get());
+        Assertions.assertEquals(1, writers[1].batches.get());
+        Assertions.assertEquals(9, writers[0].rows.get() + writers[1].rows.get());
+        multiTableSinkWriter.close();
+    }
+
+    @Test
+    public void testWriteBatchFallsBackToRows() throws IOException {
+        int threads = 2;
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        TestSinkWriter[] rowWriters = new TestSinkWriter[threads];
+        TestBatchSinkWriter[] keyedWriters = new TestBatchSinkWriter[threads];
+        for (int i = 0; i < threads; i++) {
+            rowWriters[i] = new TestSinkWriter();
+            keyedWriters[i] = new TestBatchSinkWriter(Optional.of(0));
+            sinkWriters.put(SinkIdentifier.of("row_table", i), rowWriters[i]);
+            sinkWriters.put(SinkIdentifier.of("keyed_table", i), keyedWriters[i]);
+            sinkWritersContext.put(SinkIdentifier.of("row_table", i), new TestSinkWriterContext());
+            sinkWritersContext.put(
+                    SinkIdentifier.of("keyed_table", i), new TestSinkWriterContext());
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        // the sub-writers do not support batches
+        multiTableSinkWriter.writeBatch(batch("row_table", 4));
+        // the rows of a table with primary key are spread over the threads by the key
+        multiTableSinkWriter.writeBatch(batch("keyed_table", 6));
+        multiTableSinkWriter.prepareCommit(1);
+
+        Assertions.assertEquals(4, rowWriters[0].rows.get() + rowWriters[1].rows.get());
+        Assertions.assertEquals(6, keyedWriters[0].rows.get() + keyedWriters[1].rows.get());
+        Assertions.assertEquals(0, keyedWriters[0].batches.get() + keyedWriters[1].batches.get());
+        Assertions.assertTrue(keyedWriters[0].rows.get() > 0 && keyedWriters[1].rows.get() > 0);
+        multiTableSinkWriter.close();
+    }
+
+    private static ColumnarBatch batch(String tableId, int rows) {
+        ColumnarBatch batch =
+                ColumnarBatch.allocate(
+                        new SeaTunnelRowType(
+                                new String[] {"id"}, new SeaTunnelDataType[] {BasicType.INT_TYPE}),
+                        rows);
+        for (int i = 0; i < rows; i++) {
+            batch.appendRow(new SeaTunnelRow(new Object[] {i}));
+        }
+        batch.setTableId(tableId);
+        return batch;
+    }
+
+    private static SeaTunnelRow row(String tableId) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1});
+        row.setTableId(tableId);
+        return row;
+    }
+
+    private static long[] rows(TestSinkWriter[] writers) {
+        long[] rows = new long[writers.length];
+        for (int i = 0; i < writers.length; i++) {
+            rows[i] = writers[i].rows.get();
+        }
+        return rows;
+    }
+
+    private static long sumRows(TestSinkWriter[][] writers) {
+        long sum = 0;
+        for (TestSinkWriter[] tableWriters : writers) {
+            for (long rows : rows(tableWriters)) {
+                sum += rows;
+            }
+        }
+        return sum;
+    }
+
     static class TestSinkWriter
             implements SinkWriter<SeaTunnelRow, TestSinkState, Object>,
                     SupportMultiTableSinkWriter {
+        protected final AtomicLong rows = new AtomicLong();
+
         @Override
-        public void write(SeaTunnelRow seaTunnelRow) {}
+        public void write(SeaTunnelRow seaTunnelRow) {
+            rows.incrementAndGet();
+        }
 
         @Override
         public Optional<TestSinkState> prepareCommit() throws IOException {
@@ -85,6 +249,27 @@ public class MultiTableSinkWriterTest {
         public void close() throws IOException {}
     }
 
+    static class TestBatchSinkWriter extends TestSinkWriter
+            implements SupportColumnarBatchSinkWriter {
+        private final Optional<Integer> primaryKey;
+        private final AtomicLong batches = new AtomicLong();
+
+        TestBatchSinkWriter(Optional<Integer> primaryKey) {
+            this.primaryKey = primaryKey;
+        }
+
+        @Override
+        public void writeBatch(ColumnarBatch batch) {
+            batches.incrementAndGet();
+            rows.addAndGet(batch.getNumRows());
+        }
+
+        @Override
+        public Optional<Integer> primaryKey() {
+            return primaryKey;
+        }
+    }
+
     static class TestSinkWriterContext implements SinkWriter.Context {
 
         @Override
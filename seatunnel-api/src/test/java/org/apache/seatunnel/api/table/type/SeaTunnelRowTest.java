@@ -131,4 +131,11 @@ public class SeaTunnelRowTest {
         SeaTunnelRow row = new SeaTunnelRow(new Object[] {map});
         Assertions.assertEquals(8, row.getBytesSize());
     }
+
+    @Test
+    void testWithReportedBytesSize() {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {"value", 1L});
+        row.setBytesSize(128);
+        Assertions.assertEquals(128, row.getBytesSize());
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.api.table.type.columnar;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+public class ColumnarBatchTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "price", "flag"},
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        BasicType.BOOLEAN_TYPE
+                    });
+
+    @Test
+    void testAppendAndGetRow() {
+        ColumnarBatch batch = ColumnarBatch.allocate(ROW_TYPE, 4);
+        Assertions.assertInstanceOf(LongColumnVector.class, batch.getColumn(0));
+        Assertions.assertInstanceOf(ObjectColumnVector.class, batch.getColumn(1));
+        Assertions.assertInstanceOf(BooleanColumnVector.class, batch.getColumn(3));
+
+        SeaTunnelRow first = new SeaTunnelRow(new Object[] {1L, "a", new BigDecimal("1.10"), true});
+        SeaTunnelRow second = new SeaTunnelRow(new Object[] {2L, null, null, false});
+        second.setRowKind(RowKind.DELETE);
+        batch.setTableId("db.table");
+        batch.appendRow(first);
+        batch.appendRow(second);
+
+        Assertions.assertEquals(2, batch.getNumRows());
+        Assertions.assertEquals(2L, ((LongColumnVector) batch.getColumn(0)).getLong(1));
+        Assertions.assertTrue(batch.getColumn(1).isNullAt(1));
+
+        SeaTunnelRow row = batch.getRow(1);
+        Assertions.assertArrayEquals(second.getFields(), row.getFields());
+        Assertions.assertEquals(RowKind.DELETE, row.getRowKind());
+        Assertions.assertEquals("db.table", row.getTableId());
+        Assertions.assertArrayEquals(first.getFields(), batch.getRow(0).getFields());
+    }
+
+    @Test
+    void testBytesSize() {
+        ColumnarBatch batch = ColumnarBatch.allocate(ROW_TYPE, 4);
+        SeaTunnelRow first =
+                new SeaTunnelRow(new Object[] {1L, "abc", new BigDecimal("1.10"), true});
+        SeaTunnelRow second = new SeaTunnelRow(new Object[] {2L, null, null, null});
+        batch.appendRow(first);
+        batch.appendRow(second);
+
+        Assertions.assertEquals(
+                first.getBytesSize(ROW_TYPE) + second.getBytesSize(ROW_TYPE), batch.getBytesSize());
+    }
+
+    @Test
+    void testResetAndCapacity() {
+        ColumnarBatch batch = ColumnarBatch.allocate(ROW_TYPE, 1);
+        batch.appendRow(new SeaTunnelRow(new Object[] {1L, "a", null, true}));
+        Assertions.assertTrue(batch.isFull());
+        Assertions.assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> batch.appendRow(new SeaTunnelRow(new Object[] {2L, "b", null, false})));
+
+        batch.reset();
+        Assertions.assertEquals(0, batch.getNumRows());
+        Assertions.assertFalse(batch.getColumn(2).hasNull());
+        batch.appendRow(new SeaTunnelRow(new Object[] {3L, "c", BigDecimal.ONE, false}));
+        Assertions.assertEquals(3L, batch.getRow(0).getField(0));
+        Assertions.assertEquals(RowKind.INSERT, batch.getRowKind(0));
+    }
+}
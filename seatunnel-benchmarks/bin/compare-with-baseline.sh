@@ -0,0 +1,68 @@
+#!/bin/bash
+#
+# Licensed to the Apache Software Foundation (ASF) under one or more
+# contributor license agreements.  See the NOTICE file distributed with
+# this work for additional information regarding copyright ownership.
+# The ASF licenses this file to You under the Apache License, Version 2.0
+# (the "License"); you may not use this file except in compliance with
+# the License.  You may obtain a copy of the License at
+#
+#    http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+# Runs the JMH benchmarks of a baseline git revision and of the working tree and compares them.
+#
+# Usage: compare-with-baseline.sh <baseline git ref> [JMH options]
+# Example: compare-with-baseline.sh origin/dev RecordSerializerBenchmark -f 1 -wi 3 -i 5
+#
+# The baseline has to contain the seatunnel-benchmarks module. The result files are kept in
+# seatunnel-benchmarks/target/baseline-comparison, set THRESHOLD to change the regression
+# threshold in percent (default 5).
+
+set -eu
+
+if [ $# -lt 1 ]; then
+  echo "Usage: $0 <baseline git ref> [JMH options]"
+  exit 2
+fi
+
+BASELINE_REF=$1
+shift
+
+ROOT_DIR=$(cd "$(dirname "$0")/../.." && pwd)
+OUTPUT_DIR="${ROOT_DIR}/seatunnel-benchmarks/target/baseline-comparison"
+BASELINE_DIR=$(mktemp -d)
+THRESHOLD=${THRESHOLD:-5}
+
+cleanup() {
+  git -C "${ROOT_DIR}" worktree remove --force "${BASELINE_DIR}" > /dev/null 2>&1 || true
+  rm -rf "${BASELINE_DIR}"
+}
+trap cleanup EXIT
+
+build() {
+  (cd "$1" && ./mvnw -B -q package -DskipTests -Dskip.spotless=true -pl seatunnel-benchmarks -am)
+}
+
+mkdir -p "${OUTPUT_DIR}"
+
+echo "Building baseline ${BASELINE_REF}"
+git -C "${ROOT_DIR}" worktree add --detach "${BASELINE_DIR}" "${BASELINE_REF}" > /dev/null
+build "${BASELINE_DIR}"
+java -jar "${BASELINE_DIR}/seatunnel-benchmarks/target/benchmarks.jar" "$@" \
+  -rf json -rff "${OUTPUT_DIR}/baseline.json"
+
+echo "Building working tree"
+build "${ROOT_DIR}"
+java -jar "${ROOT_DIR}/seatunnel-benchmarks/target/benchmarks.jar" "$@" \
+  -rf json -rff "${OUTPUT_DIR}/current.json"
+
+java -cp "${ROOT_DIR}/seatunnel-benchmarks/target/benchmarks.jar" \
+  org.apache.seatunnel.benchmarks.BenchmarkComparison \
+  "${OUTPUT_DIR}/baseline.json" "${OUTPUT_DIR}/current.json" "${THRESHOLD}"
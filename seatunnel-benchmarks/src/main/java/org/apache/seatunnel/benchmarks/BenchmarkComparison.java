@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH result files written with {@code -rf json}. Every benchmark of the current run
+ * is printed next to its baseline, a benchmark regressed if it got slower by more than the
+ * threshold and the difference is larger than the score errors of both runs.
+ *
+ * <p>Usage: {@code BenchmarkComparison <baseline.json> <current.json> [threshold percent]}, the
+ * process exits with 1 if any benchmark regressed.
+ */
+public class BenchmarkComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5.0d;
+    private static final String PACKAGE_PREFIX =
+            BenchmarkComparison.class.getPackage().getName() + ".";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println(
+                    "Usage: BenchmarkComparison <baseline.json> <current.json> [threshold percent]");
+            System.exit(2);
+        }
+        double threshold =
+                args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf(
+                "%-70s %6s %22s %22s %9s%n", "Benchmark", "Mode", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(
+                        "%-70s %6s %22s %22s %9s%n", entry.getKey(), now.mode, "-", now, "new");
+                continue;
+            }
+            double change = (now.score - before.score) / before.score * 100;
+            // positive values are improvements for throughput and regressions for times
+            double improvement = now.higherIsBetter() ? change : -change;
+            boolean regressed =
+                    improvement < -threshold
+                            && Math.abs(now.score - before.score) > now.error + before.error;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(
+                    "%-70s %6s %22s %22s %+8.1f%%%s%n",
+                    entry.getKey(), now.mode, before, now, change, regressed ? "  REGRESSION" : "");
+        }
+        System.out.printf(
+                "%d benchmarks compared, %d regressed by more than %.1f%%%n",
+                current.size(), regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode node : new ObjectMapper().readTree(file)) {
+            StringBuilder key =
+                    new StringBuilder(node.get("benchmark").asText().replace(PACKAGE_PREFIX, ""));
+            JsonNode params = node.get("params");
+            if (params != null) {
+                Map<String, String> sorted = new TreeMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    sorted.put(field.getKey(), field.getValue().asText());
+                }
+                key.append(sorted);
+            }
+            JsonNode metric = node.get("primaryMetric");
+            results.put(
+                    key.toString(),
+                    new Result(
+                            node.get("mode").asText(),
+                            metric.get("score").asDouble(),
+                            metric.path("scoreError").asDouble(0),
+                            metric.get("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    private static class Result {
+        private final String mode;
+        private final double score;
+        private final double error;
+        private final String unit;
+
+        private Result(String mode, double score, double error, String unit) {
+            this.mode = mode;
+            this.score = score;
+            // NaN is written when a single iteration was measured
+            this.error = Double.isNaN(error) ? 0 : error;
+            this.unit = unit;
+        }
+
+        private boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.3f +- %.3f %s", score, error, unit);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The in-memory fake source of all benchmarks. It generates a fixed set of rows up front, so the
+ * benchmarks measure the code under test and not the row generation.
+ */
+public final class BenchmarkRows {
+
+    public static final String TABLE_ID = "benchmark.fake";
+
+    /** The number of generated rows, a power of two so callers can mask the row index. */
+    public static final int ROW_COUNT = 1024;
+
+    public static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "ratio", "active", "payload"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        PrimitiveByteArrayType.INSTANCE
+                    });
+
+    private BenchmarkRows() {}
+
+    public static CatalogTable catalogTable() {
+        return CatalogTableUtil.getCatalogTable(TABLE_ID, ROW_TYPE);
+    }
+
+    public static SeaTunnelRow[] rows() {
+        SeaTunnelRow[] rows = new SeaTunnelRow[ROW_COUNT];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows[i] = row(i);
+        }
+        return rows;
+    }
+
+    public static SeaTunnelRow row(int i) {
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            (long) i,
+                            "name_" + i,
+                            i % 90,
+                            i * 0.25d,
+                            i / 1024f,
+                            i % 2 == 0,
+                            ("payload_" + i).getBytes(StandardCharsets.UTF_8)
+                        });
+        row.setTableId(TABLE_ID);
+        return row;
+    }
+}
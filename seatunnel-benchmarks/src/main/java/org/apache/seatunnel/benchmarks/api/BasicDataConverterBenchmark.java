@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.api;
+
+import org.apache.seatunnel.api.table.converter.BasicDataConverter;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts the fields of a row to their SeaTunnel types with {@link BasicDataConverter}, once from
+ * the string values a text source reads and once from values that already have the right type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BasicDataConverterBenchmark {
+
+    private static final SeaTunnelDataType<?>[] TYPES = {
+        BasicType.LONG_TYPE,
+        BasicType.INT_TYPE,
+        BasicType.DOUBLE_TYPE,
+        BasicType.BOOLEAN_TYPE,
+        BasicType.STRING_TYPE,
+        new DecimalType(20, 4),
+        LocalTimeType.LOCAL_DATE_TYPE,
+        LocalTimeType.LOCAL_DATE_TIME_TYPE
+    };
+
+    private final BasicDataConverter<Object> converter = () -> "benchmark";
+
+    private Object[][] stringFields;
+    private Object[][] typedFields;
+    private int index;
+
+    @Setup
+    public void setup() {
+        stringFields = new Object[BenchmarkRows.ROW_COUNT][];
+        typedFields = new Object[BenchmarkRows.ROW_COUNT][];
+        for (int i = 0; i < BenchmarkRows.ROW_COUNT; i++) {
+            LocalDateTime time = LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i * 97L);
+            typedFields[i] =
+                    new Object[] {
+                        (long) i,
+                        i % 90,
+                        i * 0.25d,
+                        i % 2 == 0,
+                        "name_" + i,
+                        new BigDecimal(i).movePointLeft(2),
+                        time.toLocalDate(),
+                        time
+                    };
+            stringFields[i] = new Object[TYPES.length];
+            for (int j = 0; j < TYPES.length; j++) {
+                stringFields[i][j] = String.valueOf(typedFields[i][j]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void convertStrings(Blackhole blackhole) {
+        convert(stringFields[index++ & (BenchmarkRows.ROW_COUNT - 1)], blackhole);
+    }
+
+    @Benchmark
+    public void convertTyped(Blackhole blackhole) {
+        convert(typedFields[index++ & (BenchmarkRows.ROW_COUNT - 1)], blackhole);
+    }
+
+    private void convert(Object[] fields, Blackhole blackhole) {
+        for (int i = 0; i < TYPES.length; i++) {
+            blackhole.consume(converter.convert(TYPES[i], fields[i]));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.connector;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds rows to the named insert statement of the jdbc sink. The statement belongs to an in-memory
+ * sqlite database, which plays the fake sink, and is never executed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldNamedPreparedStatementBenchmark {
+
+    private static final String URL = "jdbc:sqlite::memory:";
+
+    private Connection connection;
+    private FieldNamedPreparedStatement statement;
+    private JdbcRowConverter rowConverter;
+    private TableSchema tableSchema;
+    private SeaTunnelRow[] rows;
+    private int index;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(URL);
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute(
+                    "CREATE TABLE fake (id BIGINT, name TEXT, age INT, score DOUBLE, "
+                            + "ratio FLOAT, active BOOLEAN, payload BLOB)");
+        }
+        JdbcDialect dialect = JdbcDialectLoader.load(URL, null);
+        String[] fieldNames = BenchmarkRows.ROW_TYPE.getFieldNames();
+        statement =
+                FieldNamedPreparedStatement.prepareStatement(
+                        connection,
+                        dialect.getInsertIntoStatement("main", "fake", fieldNames),
+                        fieldNames);
+        rowConverter = dialect.getRowConverter();
+        tableSchema = BenchmarkRows.catalogTable().getTableSchema();
+        rows = BenchmarkRows.rows();
+    }
+
+    @Benchmark
+    public PreparedStatement bind() throws SQLException {
+        return rowConverter.toExternal(
+                tableSchema, rows[index++ & (BenchmarkRows.ROW_COUNT - 1)], statement);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        statement.close();
+        connection.close();
+    }
+}
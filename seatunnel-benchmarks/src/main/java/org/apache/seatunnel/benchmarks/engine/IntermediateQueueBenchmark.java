@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.engine;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEvent;
+import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands rows from one task to the next through the intermediate queue of a task group. The
+ * benchmark thread is the upstream task and a background thread the downstream task, an operation
+ * is one row that arrived downstream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntermediateQueueBenchmark {
+
+    private static final int BATCH_SIZE = 1024;
+
+    @Param({"blocking_queue", "disruptor"})
+    private String queueType;
+
+    private final AtomicLong consumed = new AtomicLong();
+    private Record<?>[] records;
+    private long produced;
+    private IntermediateQueueFlowLifeCycle<?> flowLifeCycle;
+    private volatile boolean running;
+    private Thread consumer;
+
+    @Setup
+    public void setup() throws Exception {
+        records = new Record<?>[BenchmarkRows.ROW_COUNT];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new Record<>(BenchmarkRows.row(i));
+        }
+        Collector<Record<?>> collector =
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        // only the downstream thread writes the counter
+                        consumed.lazySet(consumed.get() + 1);
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        running = true;
+        AbstractIntermediateQueue<?> queue;
+        if ("disruptor".equals(queueType)) {
+            queue =
+                    new IntermediateDisruptor(
+                            new Disruptor<RecordEvent>(
+                                    new RecordEventFactory(),
+                                    TaskGroupWithIntermediateDisruptor.RING_BUFFER_SIZE,
+                                    DaemonThreadFactory.INSTANCE,
+                                    ProducerType.SINGLE,
+                                    new YieldingWaitStrategy()));
+            flowLifeCycle =
+                    new IntermediateQueueFlowLifeCycle<>(null, new CompletableFuture<>(), queue);
+            // the first collect starts the event handler thread of the disruptor
+            flowLifeCycle.collect(collector);
+        } else {
+            queue =
+                    new IntermediateBlockingQueue(
+                            new ArrayBlockingQueue<>(
+                                    TaskGroupWithIntermediateBlockingQueue.QUEUE_SIZE));
+            flowLifeCycle =
+                    new IntermediateQueueFlowLifeCycle<>(null, new CompletableFuture<>(), queue);
+            consumer =
+                    new Thread(
+                            () -> {
+                                try {
+                                    while (running) {
+                                        flowLifeCycle.collect(collector);
+                                    }
+                                } catch (Exception e) {
+                                    throw new RuntimeException(e);
+                                }
+                            },
+                            "intermediate-queue-consumer");
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long transfer() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            flowLifeCycle.received(records[i & (BenchmarkRows.ROW_COUNT - 1)]);
+        }
+        produced += BATCH_SIZE;
+        long arrived;
+        while ((arrived = consumed.get()) < produced) {
+            // wait until the downstream task saw the whole batch
+        }
+        return arrived;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        running = false;
+        if (consumer != null) {
+            consumer.join();
+        }
+        flowLifeCycle.close();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.engine;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.engine.server.serializable.RecordFrameCodec;
+import org.apache.seatunnel.engine.server.serializable.RecordSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes the rows shuffled between task groups, once row by row with {@link RecordSerializer}
+ * and once as a frame of {@value #FRAME_SIZE} rows with {@link RecordFrameCodec}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordSerializerBenchmark {
+
+    private static final int FRAME_SIZE = 256;
+
+    private final InternalSerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+    private final RecordSerializer recordSerializer = new RecordSerializer();
+
+    private SeaTunnelRow[] rows;
+    private byte[][] serializedRows;
+    private RecordFrameCodec frameCodec;
+    private List<Record<?>> frame;
+    private byte[] encodedFrame;
+    private int index;
+
+    @Setup
+    public void setup() throws IOException {
+        rows = BenchmarkRows.rows();
+        serializedRows = new byte[rows.length][];
+        for (int i = 0; i < rows.length; i++) {
+            serializedRows[i] = write(new Record<>(rows[i]));
+        }
+        frameCodec =
+                new RecordFrameCodec(
+                        Collections.singletonMap(BenchmarkRows.TABLE_ID, BenchmarkRows.ROW_TYPE),
+                        serializationService);
+        frame = new ArrayList<>(FRAME_SIZE);
+        for (int i = 0; i < FRAME_SIZE; i++) {
+            frame.add(new Record<>(rows[i]));
+        }
+        encodedFrame = frameCodec.encode(frame);
+    }
+
+    @Benchmark
+    public byte[] writeRecord() throws IOException {
+        return write(new Record<>(rows[index++ & (BenchmarkRows.ROW_COUNT - 1)]));
+    }
+
+    @Benchmark
+    public Record<?> readRecord() throws IOException {
+        return recordSerializer.read(
+                serializationService.createObjectDataInput(
+                        serializedRows[index++ & (BenchmarkRows.ROW_COUNT - 1)]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAME_SIZE)
+    public byte[] encodeFrame() throws IOException {
+        return frameCodec.encode(frame);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAME_SIZE)
+    public void decodeFrame(Blackhole blackhole) throws IOException {
+        blackhole.consume(frameCodec.decode(encodedFrame));
+    }
+
+    private byte[] write(Record<?> record) throws IOException {
+        try (BufferObjectDataOutput out = serializationService.createObjectDataOutput()) {
+            recordSerializer.write(out, record);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.format;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.serialization.SerializationSchema;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.format.avro.AvroDeserializationSchema;
+import org.apache.seatunnel.format.avro.AvroSerializationSchema;
+import org.apache.seatunnel.format.json.JsonDeserializationSchema;
+import org.apache.seatunnel.format.json.JsonSerializationSchema;
+import org.apache.seatunnel.format.protobuf.ProtobufDeserializationSchema;
+import org.apache.seatunnel.format.protobuf.ProtobufSerializationSchema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** Serializes and deserializes rows with the json, avro and protobuf formats. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatBenchmark {
+
+    private static final String PROTOBUF_MESSAGE_NAME = "Fake";
+
+    private static final String PROTOBUF_SCHEMA =
+            "syntax = \"proto3\";\n"
+                    + "package org.apache.seatunnel.benchmarks;\n"
+                    + "message Fake {\n"
+                    + "  int64 id = 1;\n"
+                    + "  string name = 2;\n"
+                    + "  int32 age = 3;\n"
+                    + "  double score = 4;\n"
+                    + "  float ratio = 5;\n"
+                    + "  bool active = 6;\n"
+                    + "  bytes payload = 7;\n"
+                    + "}";
+
+    @Param({"json", "avro", "protobuf"})
+    private String format;
+
+    private SerializationSchema serializationSchema;
+    private DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private SeaTunnelRow[] rows;
+    private byte[][] messages;
+    private int index;
+
+    @Setup
+    public void setup() throws IOException {
+        CatalogTable catalogTable = BenchmarkRows.catalogTable();
+        switch (format) {
+            case "json":
+                serializationSchema = new JsonSerializationSchema(BenchmarkRows.ROW_TYPE);
+                deserializationSchema = new JsonDeserializationSchema(catalogTable, false, false);
+                break;
+            case "avro":
+                serializationSchema = new AvroSerializationSchema(BenchmarkRows.ROW_TYPE);
+                deserializationSchema = new AvroDeserializationSchema(catalogTable);
+                break;
+            case "protobuf":
+                serializationSchema =
+                        new ProtobufSerializationSchema(
+                                BenchmarkRows.ROW_TYPE, PROTOBUF_MESSAGE_NAME, PROTOBUF_SCHEMA);
+                Map<String, String> options = new HashMap<>(catalogTable.getOptions());
+                options.put("protobuf_message_name", PROTOBUF_MESSAGE_NAME);
+                options.put("protobuf_schema", PROTOBUF_SCHEMA);
+                deserializationSchema =
+                        new ProtobufDeserializationSchema(
+                                CatalogTable.of(
+                                        catalogTable.getTableId(),
+                                        catalogTable.getTableSchema(),
+                                        options,
+                                        catalogTable.getPartitionKeys(),
+                                        catalogTable.getComment()));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported format " + format);
+        }
+        rows = BenchmarkRows.rows();
+        messages = new byte[rows.length][];
+        for (int i = 0; i < rows.length; i++) {
+            messages[i] = serializationSchema.serialize(rows[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializationSchema.serialize(rows[index++ & (BenchmarkRows.ROW_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public SeaTunnelRow deserialize() throws IOException {
+        return deserializationSchema.deserialize(messages[index++ & (BenchmarkRows.ROW_COUNT - 1)]);
+    }
+}
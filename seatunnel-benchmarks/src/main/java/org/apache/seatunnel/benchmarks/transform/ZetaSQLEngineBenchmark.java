@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.transform;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Evaluates a SQL transform query per row, with the interpreted and the compiled expressions. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZetaSQLEngineBenchmark {
+
+    private static final String PROJECTION_QUERY =
+            "select id, age * 2 + 1 as a, score / (1 + 1) as b, "
+                    + "case when age > 30 then 'old' else 'young' end as c, id - 1 as d "
+                    + "from fake where id > 0 and (score >= 10.0 or name is not null)";
+
+    private static final String FUNCTION_QUERY =
+            "select upper(name) as name, concat(name, '_', age) as tag, abs(ratio - 0.5) as r "
+                    + "from fake where name like 'name_1%' or age > 80";
+
+    @Param({"true", "false"})
+    private boolean compileExpression;
+
+    @Param({"projection", "function"})
+    private String query;
+
+    private ZetaSQLEngine engine;
+    private SeaTunnelRow[] rows;
+    private int index;
+
+    @Setup
+    public void setup() {
+        engine = new ZetaSQLEngine(compileExpression);
+        engine.init(
+                "fake",
+                null,
+                BenchmarkRows.ROW_TYPE,
+                "projection".equals(query) ? PROJECTION_QUERY : FUNCTION_QUERY);
+        rows = BenchmarkRows.rows();
+    }
+
+    @Benchmark
+    public SeaTunnelRow transformBySQL() {
+        return engine.transformBySQL(rows[index++ & (BenchmarkRows.ROW_COUNT - 1)]);
+    }
+}
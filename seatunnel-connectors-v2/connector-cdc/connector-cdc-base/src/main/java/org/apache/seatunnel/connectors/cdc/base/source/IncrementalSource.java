@@ -54,6 +54,7 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 import org.apache.seatunnel.connectors.cdc.base.source.split.state.SourceSplitStateBase;
 import org.apache.seatunnel.connectors.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.seatunnel.connectors.cdc.debezium.DeserializeFormat;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.MemoryBoundedElementsQueue;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmitter;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
@@ -71,7 +72,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -165,8 +165,10 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
             throws Exception {
         // create source config for the given subtask (e.g. unique server id)
         C sourceConfig = configFactory.create(readerContext.getIndexOfSubtask());
+        SourceReaderOptions sourceReaderOptions = new SourceReaderOptions(readonlyConfig);
+        // the reader waits on the availability of this queue instead of polling it
         BlockingQueue<RecordsWithSplitIds<SourceRecords>> elementsQueue =
-                new LinkedBlockingQueue<>(2);
+                new MemoryBoundedElementsQueue<>(2, sourceReaderOptions.getElementQueueMaxBytes());
 
         SchemaChangeResolver schemaChangeResolver = deserializationSchema.getSchemaChangeResolver();
         Supplier<IncrementalSourceSplitReader<C>> splitReaderSupplier =
@@ -181,7 +183,7 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                 elementsQueue,
                 splitReaderSupplier,
                 createRecordEmitter(sourceConfig, readerContext),
-                new SourceReaderOptions(readonlyConfig),
+                sourceReaderOptions,
                 readerContext,
                 sourceConfig,
                 deserializationSchema);
@@ -22,11 +22,14 @@ import org.apache.seatunnel.connectors.seatunnel.clickhouse.tool.IntHolder;
 
 import com.clickhouse.jdbc.internal.ClickHouseConnectionImpl;
 
+import java.util.concurrent.Future;
+
 public class ClickhouseBatchStatement {
 
     private final ClickHouseConnectionImpl clickHouseConnection;
     private final JdbcBatchStatementExecutor jdbcBatchStatementExecutor;
     private final IntHolder intHolder;
+    private Future<?> pendingFlush;
 
     public ClickhouseBatchStatement(
             ClickHouseConnectionImpl clickHouseConnection,
@@ -48,4 +51,12 @@ public class ClickhouseBatchStatement {
     public IntHolder getIntHolder() {
         return intHolder;
     }
+
+    public Future<?> getPendingFlush() {
+        return pendingFlush;
+    }
+
+    public void setPendingFlush(Future<?> pendingFlush) {
+        this.pendingFlush = pendingFlush;
+    }
 }
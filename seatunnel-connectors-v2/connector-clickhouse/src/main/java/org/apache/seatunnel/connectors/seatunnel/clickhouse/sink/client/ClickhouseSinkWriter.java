@@ -33,7 +33,9 @@ import org.apache.seatunnel.connectors.seatunnel.clickhouse.tool.IntHolder;
 import org.apache.commons.lang3.StringUtils;
 
 import com.clickhouse.jdbc.internal.ClickHouseConnectionImpl;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -43,6 +45,10 @@ import java.sql.Statement;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -54,50 +60,73 @@ public class ClickhouseSinkWriter
     private final ShardRouter shardRouter;
     private final transient ClickhouseProxy proxy;
     private final Map<Shard, ClickhouseBatchStatement> statementMap;
+    private final int shardKeyIndex;
+    /** Flushes the batches of different shards concurrently, null when there is one shard. */
+    private final ExecutorService flushExecutor;
 
     ClickhouseSinkWriter(ReaderOption option, Context context) {
+        this(
+                option,
+                context,
+                new ClickhouseProxy(option.getShardMetadata().getDefaultShard().getNode()));
+    }
+
+    private ClickhouseSinkWriter(ReaderOption option, Context context, ClickhouseProxy proxy) {
+        this(option, context, proxy, new ShardRouter(proxy, option.getShardMetadata()));
+    }
+
+    private ClickhouseSinkWriter(
+            ReaderOption option, Context context, ClickhouseProxy proxy, ShardRouter shardRouter) {
+        this(option, context, proxy, shardRouter, initStatementMap(option, shardRouter));
+    }
+
+    @VisibleForTesting
+    ClickhouseSinkWriter(
+            ReaderOption option,
+            Context context,
+            ClickhouseProxy proxy,
+            ShardRouter shardRouter,
+            Map<Shard, ClickhouseBatchStatement> statementMap) {
         this.option = option;
         this.context = context;
-
-        this.proxy = new ClickhouseProxy(option.getShardMetadata().getDefaultShard().getNode());
-        this.shardRouter = new ShardRouter(proxy, option.getShardMetadata());
-        this.statementMap = initStatementMap();
+        this.proxy = proxy;
+        this.shardRouter = shardRouter;
+        this.statementMap = statementMap;
+        String shardKey = option.getShardMetadata().getShardKey();
+        this.shardKeyIndex =
+                StringUtils.isNotEmpty(shardKey)
+                        ? option.getSeaTunnelRowType().indexOf(shardKey)
+                        : -1;
+        this.flushExecutor =
+                statementMap.size() > 1
+                        ? Executors.newFixedThreadPool(
+                                statementMap.size(),
+                                new ThreadFactoryBuilder()
+                                        .setNameFormat("clickhouse-shard-flush-%d")
+                                        .setDaemon(true)
+                                        .build())
+                        : null;
     }
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
-
-        Object shardKey = null;
-        if (StringUtils.isNotEmpty(this.option.getShardMetadata().getShardKey())) {
-            int i =
-                    this.option
-                            .getSeaTunnelRowType()
-                            .indexOf(this.option.getShardMetadata().getShardKey());
-            shardKey = element.getField(i);
-        }
+        Object shardKey = shardKeyIndex >= 0 ? element.getField(shardKeyIndex) : null;
         ClickhouseBatchStatement statement = statementMap.get(shardRouter.getShard(shardKey));
-        JdbcBatchStatementExecutor clickHouseStatement = statement.getJdbcBatchStatementExecutor();
+        // the statement can not take new rows while its previous batch is being executed
+        awaitFlush(statement);
         IntHolder sizeHolder = statement.getIntHolder();
         // add into batch
-        addIntoBatch(element, clickHouseStatement);
+        addIntoBatch(element, statement.getJdbcBatchStatementExecutor());
         sizeHolder.setValue(sizeHolder.getValue() + 1);
         // flush batch
         if (sizeHolder.getValue() >= option.getBulkSize()) {
-            flush(clickHouseStatement);
-            sizeHolder.setValue(0);
+            flushAsync(statement);
         }
     }
 
     @Override
     public Optional<CKCommitInfo> prepareCommit() throws IOException {
-        for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
-            JdbcBatchStatementExecutor statement = batchStatement.getJdbcBatchStatementExecutor();
-            IntHolder intHolder = batchStatement.getIntHolder();
-            if (intHolder.getValue() > 0) {
-                flush(statement);
-                intHolder.setValue(0);
-            }
-        }
+        flushAll();
         return Optional.empty();
     }
 
@@ -107,7 +136,14 @@ public class ClickhouseSinkWriter
     @Override
     public void close() throws IOException {
         this.proxy.close();
-        flush();
+        try {
+            flushAll();
+        } finally {
+            if (flushExecutor != null) {
+                flushExecutor.shutdownNow();
+            }
+        }
+        closeStatements();
     }
 
     private void addIntoBatch(SeaTunnelRow row, JdbcBatchStatementExecutor clickHouseStatement) {
@@ -132,17 +168,62 @@ public class ClickhouseSinkWriter
         }
     }
 
-    private void flush() {
+    /** Starts the flush of the buffered rows of the statement, on its own thread if possible. */
+    private void flushAsync(ClickhouseBatchStatement batchStatement) {
+        JdbcBatchStatementExecutor statement = batchStatement.getJdbcBatchStatementExecutor();
+        batchStatement.getIntHolder().setValue(0);
+        if (flushExecutor == null) {
+            flush(statement);
+        } else {
+            batchStatement.setPendingFlush(flushExecutor.submit(() -> flush(statement)));
+        }
+    }
+
+    private void awaitFlush(ClickhouseBatchStatement batchStatement) {
+        Future<?> pendingFlush = batchStatement.getPendingFlush();
+        if (pendingFlush == null) {
+            return;
+        }
+        batchStatement.setPendingFlush(null);
+        try {
+            pendingFlush.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Interrupted while waiting for the clickhouse batch statement",
+                    e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ClickhouseConnectorException) {
+                throw (ClickhouseConnectorException) e.getCause();
+            }
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Clickhouse execute batch statement error",
+                    e.getCause());
+        }
+    }
+
+    /** Flushes the buffered rows of all shards concurrently and waits for them. */
+    private void flushAll() {
+        for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
+            if (batchStatement.getIntHolder().getValue() > 0) {
+                awaitFlush(batchStatement);
+                flushAsync(batchStatement);
+            }
+        }
+        for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
+            awaitFlush(batchStatement);
+        }
+    }
+
+    private void closeStatements() {
         for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
             try (ClickHouseConnectionImpl needClosedConnection =
                             batchStatement.getClickHouseConnection();
                     JdbcBatchStatementExecutor needClosedStatement =
                             batchStatement.getJdbcBatchStatementExecutor()) {
-                IntHolder intHolder = batchStatement.getIntHolder();
-                if (intHolder.getValue() > 0) {
-                    flush(needClosedStatement);
-                    intHolder.setValue(0);
-                }
+                // closed by try-with-resources
             } catch (SQLException e) {
                 throw new ClickhouseConnectorException(
                         CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
@@ -152,7 +233,8 @@ public class ClickhouseSinkWriter
         }
     }
 
-    private Map<Shard, ClickhouseBatchStatement> initStatementMap() {
+    private static Map<Shard, ClickhouseBatchStatement> initStatementMap(
+            ReaderOption option, ShardRouter shardRouter) {
         Map<Shard, ClickhouseBatchStatement> result = new HashMap<>(Common.COLLECTION_SIZE);
         shardRouter
                 .getShards()
@@ -161,7 +243,7 @@ public class ClickhouseSinkWriter
                             try {
                                 ClickHouseConnectionImpl clickhouseConnection =
                                         new ClickHouseConnectionImpl(
-                                                s.getJdbcUrl(), this.option.getProperties());
+                                                s.getJdbcUrl(), option.getProperties());
 
                                 String[] orderByKeys = null;
                                 if (!Strings.isNullOrEmpty(shardRouter.getSortingKey())) {
@@ -183,7 +265,7 @@ public class ClickhouseSinkWriter
                                                                 .isAllowExperimentalLightweightDelete())
                                                 .setClickhouseServerEnableExperimentalLightweightDelete(
                                                         clickhouseServerEnableExperimentalLightweightDelete(
-                                                                clickhouseConnection))
+                                                                option, clickhouseConnection))
                                                 .setSupportUpsert(option.isSupportUpsert())
                                                 .build();
                                 jdbcBatchStatementExecutor.prepareStatements(clickhouseConnection);
@@ -204,8 +286,8 @@ public class ClickhouseSinkWriter
         return result;
     }
 
-    private boolean clickhouseServerEnableExperimentalLightweightDelete(
-            ClickHouseConnectionImpl clickhouseConnection) {
+    private static boolean clickhouseServerEnableExperimentalLightweightDelete(
+            ReaderOption option, ClickHouseConnectionImpl clickhouseConnection) {
         if (!option.isAllowExperimentalLightweightDelete()) {
             return false;
         }
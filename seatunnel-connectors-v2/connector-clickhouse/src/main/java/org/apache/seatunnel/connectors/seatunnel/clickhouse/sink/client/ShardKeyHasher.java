@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import net.jpountz.xxhash.XXHash64;
+import net.jpountz.xxhash.XXHashFactory;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Hashes shard key values with xxHash64 over the UTF-8 bytes of their string form. Strings and
+ * integral numbers are encoded into a reused buffer instead of a new byte array per row, other
+ * types fall back to {@code toString()}. Instances are not thread safe.
+ */
+class ShardKeyHasher implements Serializable {
+
+    private static final long serialVersionUID = -1L;
+
+    private static final XXHash64 HASH_INSTANCE = XXHashFactory.fastestInstance().hash64();
+
+    private static final byte[] LONG_MIN_VALUE_BYTES =
+            Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.UTF_8);
+
+    /** The longest decimal form of a long, {@code -9223372036854775807}. */
+    private static final int MAX_LONG_DIGITS = 20;
+
+    private transient byte[] buffer;
+
+    long hash(Object value) {
+        if (value instanceof String) {
+            String str = (String) value;
+            // a char takes at most three bytes, surrogate pairs take four for two chars
+            ensureCapacity(str.length() * 3);
+            return hash(buffer, 0, encodeUtf8(str));
+        }
+        if (value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte) {
+            long number = ((Number) value).longValue();
+            if (number == Long.MIN_VALUE) {
+                return hash(LONG_MIN_VALUE_BYTES, 0, LONG_MIN_VALUE_BYTES.length);
+            }
+            int start = encodeDecimal(number);
+            return hash(buffer, start, MAX_LONG_DIGITS - start);
+        }
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        return hash(bytes, 0, bytes.length);
+    }
+
+    private static long hash(byte[] bytes, int offset, int length) {
+        return HASH_INSTANCE.hash(bytes, offset, length, 0);
+    }
+
+    private byte[] ensureCapacity(int capacity) {
+        if (buffer == null || buffer.length < capacity) {
+            buffer = new byte[Math.max(capacity, Math.max(MAX_LONG_DIGITS, 64))];
+        }
+        return buffer;
+    }
+
+    /** Encodes like {@link String#getBytes}, replacing unpaired surrogates with {@code '?'}. */
+    private int encodeUtf8(String str) {
+        byte[] bytes = buffer;
+        int length = str.length();
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                bytes[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[pos++] = (byte) (0xC0 | (c >> 6));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c)
+                        && i + 1 < length
+                        && Character.isLowSurrogate(str.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, str.charAt(++i));
+                    bytes[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    bytes[pos++] = '?';
+                }
+            } else {
+                bytes[pos++] = (byte) (0xE0 | (c >> 12));
+                bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Writes the decimal form of the number right aligned into the first {@link #MAX_LONG_DIGITS}
+     * bytes of the buffer and returns its start.
+     */
+    private int encodeDecimal(long number) {
+        byte[] bytes = ensureCapacity(MAX_LONG_DIGITS);
+        int pos = MAX_LONG_DIGITS;
+        long remaining = Math.abs(number);
+        do {
+            bytes[--pos] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (number < 0) {
+            bytes[--pos] = '-';
+        }
+        return pos;
+    }
+}
@@ -27,12 +27,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.clickhouse.client.ClickHouseRequest;
 import lombok.Getter;
-import net.jpountz.xxhash.XXHash64;
-import net.jpountz.xxhash.XXHashFactory;
 
 import java.io.Serializable;
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.TreeMap;
 import java.util.concurrent.ThreadLocalRandom;
@@ -52,7 +48,12 @@ public class ShardRouter implements Serializable {
     @Getter private final String sortingKey;
     private final boolean splitMode;
 
-    private static final XXHash64 HASH_INSTANCE = XXHashFactory.fastestInstance().hash64();
+    /** The start weights of {@link #shardArray}, ascending. */
+    private final int[] shardOffsets;
+
+    private final Shard[] shardArray;
+    private final long hashMask;
+    private final ShardKeyHasher shardKeyHasher = new ShardKeyHasher();
     private final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
 
     public ShardRouter(ClickhouseProxy proxy, ShardMetadata shardMetadata) {
@@ -92,6 +93,10 @@ public class ShardRouter implements Serializable {
         } else {
             shards.put(0, shardMetadata.getDefaultShard());
         }
+        this.shardOffsets = shards.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.shardArray = shards.values().toArray(new Shard[0]);
+        // keeps the offsets of the previous TreeMap based routing, so keys stay on their shards
+        this.hashMask = shardWeightCount == 0 ? 0 : Long.MAX_VALUE % shardWeightCount;
     }
 
     public String getShardTable() {
@@ -104,21 +109,27 @@ public class ShardRouter implements Serializable {
 
     public Shard getShard(Object shardValue) {
         if (!splitMode) {
-            return shards.firstEntry().getValue();
+            return shardArray[0];
         }
         if (StringUtils.isEmpty(shardKey) || shardValue == null) {
-            return shards.lowerEntry(threadLocalRandom.nextInt(shardWeightCount) + 1).getValue();
+            return shardAt(threadLocalRandom.nextInt(shardWeightCount));
+        }
+        return shardAt((int) (shardKeyHasher.hash(shardValue) & hashMask));
+    }
+
+    /** Finds the last shard whose start weight is not greater than the offset. */
+    private Shard shardAt(int offset) {
+        int low = 0;
+        int high = shardOffsets.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (shardOffsets[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
         }
-        int offset =
-                (int)
-                        (HASH_INSTANCE.hash(
-                                        ByteBuffer.wrap(
-                                                shardValue
-                                                        .toString()
-                                                        .getBytes(StandardCharsets.UTF_8)),
-                                        0)
-                                & Long.MAX_VALUE % shardWeightCount);
-        return shards.lowerEntry(offset + 1).getValue();
+        return shardArray[low];
     }
 
     public TreeMap<Integer, Shard> getShards() {
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.tool.IntHolder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.clickhouse.jdbc.internal.ClickHouseConnectionImpl;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClickhouseSinkWriterTest {
+
+    private final Shard firstShard = mock(Shard.class);
+    private final Shard secondShard = mock(Shard.class);
+    private final JdbcBatchStatementExecutor firstExecutor = mock(JdbcBatchStatementExecutor.class);
+    private final JdbcBatchStatementExecutor secondExecutor =
+            mock(JdbcBatchStatementExecutor.class);
+    private final ClickhouseProxy proxy = mock(ClickhouseProxy.class);
+
+    private ReaderOption option;
+    private ShardRouter shardRouter;
+
+    @BeforeEach
+    public void setUp() {
+        ShardMetadata shardMetadata = mock(ShardMetadata.class);
+        when(shardMetadata.getShardKey()).thenReturn("id");
+        option = mock(ReaderOption.class);
+        when(option.getShardMetadata()).thenReturn(shardMetadata);
+        when(option.getSeaTunnelRowType())
+                .thenReturn(
+                        new SeaTunnelRowType(
+                                new String[] {"id"}, new SeaTunnelDataType[] {BasicType.INT_TYPE}));
+        shardRouter = mock(ShardRouter.class);
+        when(shardRouter.getShard(any()))
+                .thenAnswer(invocation -> shardOf(invocation.getArgument(0)));
+    }
+
+    @Test
+    public void testFlushErrorSurfacesOnNextWrite() throws Exception {
+        when(option.getBulkSize()).thenReturn(1);
+        doThrow(new SQLException("too many parts")).when(firstExecutor).executeBatch();
+        ClickhouseSinkWriter writer = createWriter();
+
+        writer.write(rowOf(1));
+        Assertions.assertThrows(ClickhouseConnectorException.class, () -> writer.write(rowOf(1)));
+        // the failed flush is reported once
+        writer.write(rowOf(1));
+    }
+
+    @Test
+    public void testFlushErrorSurfacesOnPrepareCommit() throws Exception {
+        when(option.getBulkSize()).thenReturn(1);
+        doThrow(new SQLException("too many parts")).when(secondExecutor).executeBatch();
+        ClickhouseSinkWriter writer = createWriter();
+
+        writer.write(rowOf(2));
+        Assertions.assertThrows(ClickhouseConnectorException.class, writer::prepareCommit);
+    }
+
+    @Test
+    public void testPrepareCommitWaitsForEveryShard() throws Exception {
+        when(option.getBulkSize()).thenReturn(1);
+        CountDownLatch flushing = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        for (JdbcBatchStatementExecutor executor :
+                new JdbcBatchStatementExecutor[] {firstExecutor, secondExecutor}) {
+            doAnswer(
+                            invocation -> {
+                                flushing.countDown();
+                                release.await();
+                                return null;
+                            })
+                    .when(executor)
+                    .executeBatch();
+        }
+        ClickhouseSinkWriter writer = createWriter();
+
+        writer.write(rowOf(1));
+        writer.write(rowOf(2));
+        // both shards flush at the same time
+        Assertions.assertTrue(flushing.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> prepareCommit =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                writer.prepareCommit();
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Thread.sleep(100);
+        Assertions.assertFalse(prepareCommit.isDone());
+
+        release.countDown();
+        prepareCommit.get(10, TimeUnit.SECONDS);
+        verify(firstExecutor, times(1)).executeBatch();
+        verify(secondExecutor, times(1)).executeBatch();
+    }
+
+    @Test
+    public void testCloseFlushesAllShards() throws Exception {
+        when(option.getBulkSize()).thenReturn(10);
+        ClickhouseSinkWriter writer = createWriter();
+
+        writer.write(rowOf(1));
+        writer.write(rowOf(2));
+        writer.write(rowOf(2));
+        verify(firstExecutor, times(0)).executeBatch();
+        verify(secondExecutor, times(0)).executeBatch();
+
+        writer.close();
+        verify(firstExecutor, times(1)).executeBatch();
+        verify(secondExecutor, times(1)).executeBatch();
+        verify(firstExecutor, times(1)).close();
+        verify(secondExecutor, times(1)).close();
+        verify(proxy, times(1)).close();
+    }
+
+    private ClickhouseSinkWriter createWriter() {
+        Map<Shard, ClickhouseBatchStatement> statementMap = new HashMap<>();
+        statementMap.put(firstShard, statement(firstExecutor));
+        statementMap.put(secondShard, statement(secondExecutor));
+        return new ClickhouseSinkWriter(option, null, proxy, shardRouter, statementMap);
+    }
+
+    private static ClickhouseBatchStatement statement(JdbcBatchStatementExecutor executor) {
+        return new ClickhouseBatchStatement(
+                mock(ClickHouseConnectionImpl.class), executor, new IntHolder());
+    }
+
+    private Shard shardOf(Object shardKey) {
+        return Integer.valueOf(1).equals(shardKey) ? firstShard : secondShard;
+    }
+
+    private static SeaTunnelRow rowOf(int shard) {
+        return new SeaTunnelRow(new Object[] {shard});
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.jpountz.xxhash.XXHashFactory;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+public class ShardKeyHasherTest {
+
+    @Test
+    public void testHashMatchesStringBytes() {
+        List<Object> values =
+                Arrays.asList(
+                        "",
+                        "seatunnel",
+                        "中文 key",
+                        "emoji 😀",
+                        "unpaired \uD83D surrogate \uDE00",
+                        0,
+                        -1,
+                        Integer.MAX_VALUE,
+                        Integer.MIN_VALUE,
+                        Long.MAX_VALUE,
+                        Long.MIN_VALUE,
+                        (short) -12,
+                        (byte) 7,
+                        123456789012L,
+                        new BigDecimal("12.50"),
+                        3.5d,
+                        LocalDate.of(2023, 1, 1));
+        ShardKeyHasher hasher = new ShardKeyHasher();
+        for (Object value : values) {
+            long expected =
+                    XXHashFactory.fastestInstance()
+                            .hash64()
+                            .hash(
+                                    ByteBuffer.wrap(
+                                            value.toString().getBytes(StandardCharsets.UTF_8)),
+                                    0);
+            Assertions.assertEquals(expected, hasher.hash(value), String.valueOf(value));
+        }
+    }
+}
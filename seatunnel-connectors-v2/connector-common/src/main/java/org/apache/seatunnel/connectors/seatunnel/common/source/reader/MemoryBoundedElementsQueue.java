@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The elements queue between the split fetchers and the source reader, bounded by the number of
+ * elements and by the bytes the queued elements hold, as reported by {@link
+ * RecordsWithSplitIds#sizeInBytes()}.
+ *
+ * <p>An element is accepted as long as the queued bytes are below the limit, so one large element
+ * can not block the queue forever, and the queue holds at most the limit plus one element.
+ *
+ * <p>The {@link #getAvailabilityFuture() availability future} lets the reader wait for the next
+ * element without polling the queue.
+ */
+public class MemoryBoundedElementsQueue<E> extends LinkedBlockingQueue<RecordsWithSplitIds<E>> {
+
+    private final long maxBytes;
+
+    private final ReentrantLock bytesLock = new ReentrantLock();
+
+    private final Condition notFull = bytesLock.newCondition();
+
+    private long queuedBytes;
+
+    private volatile Counter queuedBytesCounter;
+
+    private CompletableFuture<Void> availability = CompletableFuture.completedFuture(null);
+
+    public MemoryBoundedElementsQueue(int capacity, long maxBytes) {
+        super(capacity);
+        this.maxBytes = maxBytes;
+    }
+
+    /** Report the queued bytes to the given counter from now on. */
+    public void setQueuedBytesCounter(Counter queuedBytesCounter) {
+        this.queuedBytesCounter = queuedBytesCounter;
+        bytesLock.lock();
+        try {
+            queuedBytesCounter.set(queuedBytes);
+        } finally {
+            bytesLock.unlock();
+        }
+    }
+
+    public long getQueuedBytes() {
+        bytesLock.lock();
+        try {
+            return queuedBytes;
+        } finally {
+            bytesLock.unlock();
+        }
+    }
+
+    /** Whether another element would be accepted without waiting. */
+    public boolean hasCapacity() {
+        return getQueuedBytes() < maxBytes && remainingCapacity() > 0;
+    }
+
+    /**
+     * Returns a future which is completed when the queue holds an element, it is done already if
+     * the queue is not empty.
+     */
+    public CompletableFuture<Void> getAvailabilityFuture() {
+        bytesLock.lock();
+        try {
+            if (availability.isDone() && isEmpty()) {
+                availability = new CompletableFuture<>();
+            }
+            return availability;
+        } finally {
+            bytesLock.unlock();
+        }
+    }
+
+    /**
+     * Wait until the queued bytes are below the limit.
+     *
+     * @return false if the queue was still full when the timeout elapsed.
+     */
+    public boolean awaitCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        bytesLock.lock();
+        try {
+            while (queuedBytes >= maxBytes) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            bytesLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(RecordsWithSplitIds<E> element) {
+        if (getQueuedBytes() >= maxBytes || !super.offer(element)) {
+            return false;
+        }
+        added(element);
+        return true;
+    }
+
+    @Override
+    public boolean offer(RecordsWithSplitIds<E> element, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!awaitCapacity(timeout, unit)
+                || !super.offer(
+                        element, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        added(element);
+        return true;
+    }
+
+    @Override
+    public void put(RecordsWithSplitIds<E> element) throws InterruptedException {
+        while (!awaitCapacity(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+            // wait until there is room
+        }
+        super.put(element);
+        added(element);
+    }
+
+    @Override
+    public RecordsWithSplitIds<E> poll() {
+        return removed(super.poll());
+    }
+
+    @Override
+    public RecordsWithSplitIds<E> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return removed(super.poll(timeout, unit));
+    }
+
+    @Override
+    public RecordsWithSplitIds<E> take() throws InterruptedException {
+        return removed(super.take());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object element) {
+        if (!super.remove(element)) {
+            return false;
+        }
+        removed((RecordsWithSplitIds<E>) element);
+        return true;
+    }
+
+    @Override
+    public int drainTo(Collection<? super RecordsWithSplitIds<E>> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super RecordsWithSplitIds<E>> collection, int maxElements) {
+        int drained = 0;
+        RecordsWithSplitIds<E> element;
+        while (drained < maxElements && (element = poll()) != null) {
+            collection.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        updateQueuedBytes(-getQueuedBytes());
+    }
+
+    private void added(RecordsWithSplitIds<E> element) {
+        updateQueuedBytes(element.sizeInBytes());
+        CompletableFuture<Void> available;
+        bytesLock.lock();
+        try {
+            available = availability;
+        } finally {
+            bytesLock.unlock();
+        }
+        // completed outside the lock, the callbacks of the waiting reader run in this thread
+        available.complete(null);
+    }
+
+    private RecordsWithSplitIds<E> removed(RecordsWithSplitIds<E> element) {
+        if (element != null) {
+            updateQueuedBytes(-element.sizeInBytes());
+        }
+        return element;
+    }
+
+    private void updateQueuedBytes(long delta) {
+        if (delta == 0) {
+            return;
+        }
+        bytesLock.lock();
+        try {
+            queuedBytes += delta;
+            if (queuedBytesCounter != null) {
+                queuedBytesCounter.set(queuedBytes);
+            }
+            if (queuedBytes < maxBytes) {
+                notFull.signalAll();
+            }
+        } finally {
+            bytesLock.unlock();
+        }
+    }
+}
@@ -48,4 +48,12 @@ public interface RecordsWithSplitIds<E> {
     Set<String> finishedSplits();
 
     default void recycle() {}
+
+    /**
+     * The estimated bytes the records hold, used to bound the memory of the elements queue. It must
+     * not change while the records are queued, 0 means unknown.
+     */
+    default long sizeInBytes() {
+        return 0;
+    }
 }
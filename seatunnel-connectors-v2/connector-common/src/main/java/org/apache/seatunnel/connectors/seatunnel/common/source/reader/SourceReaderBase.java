@@ -36,10 +36,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static com.google.common.base.Preconditions.checkState;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_FETCH_QUEUE_BYTES;
 
 /**
  * An abstract implementation of {@link SourceReader} which provides some synchronization between
@@ -55,6 +60,8 @@ import static com.google.common.base.Preconditions.checkState;
 @Slf4j
 public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitStateT>
         implements SourceReader<T, SplitT> {
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
     private final BlockingQueue<RecordsWithSplitIds<E>> elementsQueue;
     private final ConcurrentMap<String, SplitContext<T, SplitStateT>> splitStates;
     protected final RecordEmitter<E, T, SplitStateT> recordEmitter;
@@ -79,6 +86,12 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         this.splitStates = new ConcurrentHashMap<>();
         this.options = options;
         this.context = context;
+        if (elementsQueue instanceof MemoryBoundedElementsQueue
+                && context.getMetricsContext() != null) {
+            ((MemoryBoundedElementsQueue<E>) elementsQueue)
+                    .setQueuedBytesCounter(
+                            context.getMetricsContext().counter(SOURCE_FETCH_QUEUE_BYTES));
+        }
     }
 
     @Override
@@ -115,6 +128,17 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         }
     }
 
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        if (currentFetch != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (elementsQueue instanceof MemoryBoundedElementsQueue) {
+            return ((MemoryBoundedElementsQueue<E>) elementsQueue).getAvailabilityFuture();
+        }
+        return SourceReader.super.isAvailable();
+    }
+
     @Override
     public List<SplitT> snapshotState(long checkpointId) {
         List<SplitT> splits = new ArrayList<>();
@@ -169,7 +193,7 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         if (recordsWithSplitId == null || !moveToNextSplit(recordsWithSplitId, output)) {
             try {
                 log.trace("Current fetch is finished.");
-                Thread.sleep(100);
+                awaitNextFetch();
             } catch (InterruptedException e) {
                 throw new SeaTunnelException(e);
             }
@@ -180,6 +204,21 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         return recordsWithSplitId;
     }
 
+    /** Wait until the fetchers queued the next fetch, at most the poll interval. */
+    private void awaitNextFetch() throws InterruptedException {
+        if (!(elementsQueue instanceof MemoryBoundedElementsQueue)) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            return;
+        }
+        try {
+            ((MemoryBoundedElementsQueue<E>) elementsQueue)
+                    .getAvailabilityFuture()
+                    .get(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // poll the queue again
+        }
+    }
+
     private boolean moveToNextSplit(
             RecordsWithSplitIds<E> recordsWithSplitIds, Collector<T> output) {
         final String nextSplitId = recordsWithSplitIds.nextSplit();
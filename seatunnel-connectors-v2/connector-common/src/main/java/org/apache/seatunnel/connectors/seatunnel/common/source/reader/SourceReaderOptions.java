@@ -40,8 +40,16 @@ public class SourceReaderOptions {
                     .defaultValue(2)
                     .withDescription("The capacity of the element queue in the source reader.");
 
+    public static final Option<Long> ELEMENT_QUEUE_MAX_BYTES =
+            Options.key("source.reader.element.queue.max.bytes")
+                    .longType()
+                    .defaultValue(64 * 1024 * 1024L)
+                    .withDescription(
+                            "The maximum bytes the fetched records in the element queue of the source reader can hold, the fetchers pause once it is reached.");
+
     public final long sourceReaderCloseTimeout;
     public final int elementQueueCapacity;
+    public final long elementQueueMaxBytes;
 
     public SourceReaderOptions(Config config) {
         this(ReadonlyConfig.fromConfig(config));
@@ -50,5 +58,6 @@ public class SourceReaderOptions {
     public SourceReaderOptions(ReadonlyConfig config) {
         this.sourceReaderCloseTimeout = config.get(SOURCE_READER_CLOSE_TIMEOUT);
         this.elementQueueCapacity = config.get(ELEMENT_QUEUE_CAPACITY);
+        this.elementQueueMaxBytes = config.get(ELEMENT_QUEUE_MAX_BYTES);
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
 
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.MemoryBoundedElementsQueue;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 
@@ -36,6 +37,7 @@ import java.util.function.Consumer;
 @RequiredArgsConstructor
 class FetchTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
     private static final int OFFER_TIMEOUT_MILLIS = 10000;
+    private static final int PAUSED_WAIT_MILLIS = 100;
 
     private final SplitReader<E, SplitT> splitReader;
     private final BlockingQueue<RecordsWithSplitIds<E>> elementsQueue;
@@ -47,10 +49,20 @@ class FetchTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
 
     private volatile RecordsWithSplitIds<E> lastRecords;
 
+    private boolean paused;
+
     @Override
     public void run() throws IOException {
         try {
             if (!isWakeup() && lastRecords == null) {
+                if (!hasCapacity()) {
+                    // return after a short wait, so the other tasks of the fetcher can run
+                    pause();
+                    ((MemoryBoundedElementsQueue<E>) elementsQueue)
+                            .awaitCapacity(PAUSED_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                resume();
                 lastRecords = splitReader.fetch();
                 log.debug("Fetch records from split fetcher {}", fetcherIndex);
             }
@@ -79,6 +91,27 @@ class FetchTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
         }
     }
 
+    private boolean hasCapacity() {
+        return !(elementsQueue instanceof MemoryBoundedElementsQueue)
+                || ((MemoryBoundedElementsQueue<E>) elementsQueue).hasCapacity();
+    }
+
+    private void pause() {
+        if (!paused) {
+            log.debug("Elements queue is full, pause split fetcher {}", fetcherIndex);
+            splitReader.pauseFetching();
+            paused = true;
+        }
+    }
+
+    private void resume() {
+        if (paused) {
+            log.debug("Elements queue has room again, resume split fetcher {}", fetcherIndex);
+            splitReader.resumeFetching();
+            paused = false;
+        }
+    }
+
     @Override
     public void wakeUp() {
         // Set the wakeup flag first.
@@ -42,6 +42,18 @@ public interface SplitReader<E, SplitT extends SourceSplit> {
      */
     void handleSplitsChanges(SplitsChange<SplitT> splitsChanges);
 
+    /**
+     * Called by the fetcher when the elements queue is full, {@link #fetch()} will not be called
+     * until {@link #resumeFetching()}. Readers that fetch ahead in the background can stop doing so
+     * here, e.g. by pausing the partitions of a consumer.
+     */
+    default void pauseFetching() {}
+
+    /**
+     * Called by the fetcher when the elements queue has room again after {@link #pauseFetching()}.
+     */
+    default void resumeFetching() {}
+
     /** Wake up the split reader in case the fetcher thread is blocking in {@link #fetch()}. */
     void wakeUp();
 
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class MemoryBoundedElementsQueueTest {
+
+    @Test
+    public void testAvailabilityFuture() {
+        MemoryBoundedElementsQueue<String> queue = new MemoryBoundedElementsQueue<>(10, 1024);
+        CompletableFuture<Void> available = queue.getAvailabilityFuture();
+        Assertions.assertFalse(available.isDone());
+        // the reader waits on the same future until an element is added
+        Assertions.assertSame(available, queue.getAvailabilityFuture());
+
+        queue.offer(records(10));
+        Assertions.assertTrue(available.isDone());
+        // done as long as the queue is not empty
+        Assertions.assertTrue(queue.getAvailabilityFuture().isDone());
+
+        queue.poll();
+        CompletableFuture<Void> drained = queue.getAvailabilityFuture();
+        Assertions.assertFalse(drained.isDone());
+        Assertions.assertNotSame(available, drained);
+    }
+
+    @Test
+    public void testAvailabilityFutureCompletedByEveryAdd() throws Exception {
+        MemoryBoundedElementsQueue<String> queue = new MemoryBoundedElementsQueue<>(10, 1024);
+        CompletableFuture<Void> available = queue.getAvailabilityFuture();
+        queue.put(records(10));
+        Assertions.assertTrue(available.isDone());
+
+        queue.drainTo(new ArrayList<>());
+        available = queue.getAvailabilityFuture();
+        Assertions.assertFalse(available.isDone());
+        queue.offer(records(10), 1, TimeUnit.SECONDS);
+        Assertions.assertTrue(available.isDone());
+
+        queue.clear();
+        available = queue.getAvailabilityFuture();
+        Assertions.assertFalse(available.isDone());
+        CompletableFuture<Void> waiting = available;
+        Thread producer = new Thread(() -> queue.offer(records(10)));
+        producer.start();
+        waiting.get(10, TimeUnit.SECONDS);
+        producer.join();
+        Assertions.assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void testQueuedBytes() throws Exception {
+        MemoryBoundedElementsQueue<String> queue = new MemoryBoundedElementsQueue<>(10, 1024);
+        queue.offer(records(100));
+        queue.offer(records(200), 1, TimeUnit.SECONDS);
+        queue.put(records(300));
+        Assertions.assertEquals(600, queue.getQueuedBytes());
+
+        queue.poll();
+        Assertions.assertEquals(500, queue.getQueuedBytes());
+
+        List<RecordsWithSplitIds<String>> drained = new ArrayList<>();
+        Assertions.assertEquals(1, queue.drainTo(drained, 1));
+        Assertions.assertEquals(300, queue.getQueuedBytes());
+        Assertions.assertEquals(1, queue.drainTo(drained));
+        Assertions.assertEquals(0, queue.getQueuedBytes());
+
+        queue.offer(records(100));
+        queue.offer(records(100));
+        queue.clear();
+        Assertions.assertEquals(0, queue.getQueuedBytes());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testElementsAreRejectedAboveTheLimit() throws Exception {
+        MemoryBoundedElementsQueue<String> queue = new MemoryBoundedElementsQueue<>(10, 1024);
+        // accepted while the limit is not reached, so one large element does not block the queue
+        Assertions.assertTrue(queue.offer(records(2048)));
+        Assertions.assertFalse(queue.hasCapacity());
+        Assertions.assertFalse(queue.offer(records(1)));
+        Assertions.assertFalse(queue.offer(records(1), 10, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(1, queue.size());
+
+        queue.poll();
+        Assertions.assertTrue(queue.hasCapacity());
+        Assertions.assertTrue(queue.offer(records(1)));
+    }
+
+    @Test
+    public void testAwaitCapacity() throws Exception {
+        MemoryBoundedElementsQueue<String> queue = new MemoryBoundedElementsQueue<>(10, 1024);
+        Assertions.assertTrue(queue.awaitCapacity(0, TimeUnit.MILLISECONDS));
+
+        queue.offer(records(1024));
+        Assertions.assertFalse(queue.awaitCapacity(50, TimeUnit.MILLISECONDS));
+
+        CountDownLatch waiting = new CountDownLatch(1);
+        CompletableFuture<Boolean> capacity =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            waiting.countDown();
+                            try {
+                                return queue.awaitCapacity(10, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Assertions.assertTrue(waiting.await(10, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        Assertions.assertFalse(capacity.isDone());
+
+        queue.poll();
+        Assertions.assertTrue(capacity.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPutBlocksAboveTheLimit() throws Exception {
+        MemoryBoundedElementsQueue<String> queue = new MemoryBoundedElementsQueue<>(10, 1024);
+        queue.put(records(1024));
+
+        CompletableFuture<Void> put =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                queue.put(records(10));
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Thread.sleep(50);
+        Assertions.assertFalse(put.isDone());
+
+        queue.poll();
+        put.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(10, queue.getQueuedBytes());
+    }
+
+    static RecordsWithSplitIds<String> records(long sizeInBytes) {
+        Collection<String> records = Collections.singletonList("record");
+        return new RecordsBySplits<String>(
+                Collections.singletonMap("split", records), Collections.emptySet()) {
+            @Override
+            public long sizeInBytes() {
+                return sizeInBytes;
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.MemoryBoundedElementsQueue;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsBySplits;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FetchTaskTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPauseAndResumeSplitReader() throws Exception {
+        SplitReader<String, SourceSplit> splitReader = mock(SplitReader.class);
+        when(splitReader.fetch()).thenReturn(records(2048), records(10));
+        MemoryBoundedElementsQueue<String> elementsQueue =
+                new MemoryBoundedElementsQueue<>(10, 1024);
+        FetchTask<String, SourceSplit> fetchTask =
+                new FetchTask<>(splitReader, elementsQueue, splitIds -> {}, 0);
+
+        fetchTask.run();
+        Assertions.assertEquals(2048, elementsQueue.getQueuedBytes());
+        verify(splitReader, never()).pauseFetching();
+
+        // the queue holds more bytes than the limit, the split reader stops fetching
+        fetchTask.run();
+        fetchTask.run();
+        verify(splitReader, times(1)).fetch();
+        verify(splitReader, times(1)).pauseFetching();
+        verify(splitReader, never()).resumeFetching();
+
+        elementsQueue.poll();
+        fetchTask.run();
+        verify(splitReader, times(1)).resumeFetching();
+        verify(splitReader, times(2)).fetch();
+        Assertions.assertEquals(10, elementsQueue.getQueuedBytes());
+
+        fetchTask.run();
+        verify(splitReader, times(1)).pauseFetching();
+        verify(splitReader, times(1)).resumeFetching();
+    }
+
+    private static RecordsWithSplitIds<String> records(long sizeInBytes) {
+        Collection<String> records = Collections.singletonList("record");
+        return new RecordsBySplits<String>(
+                Collections.singletonMap("split", records), Collections.emptySet()) {
+            @Override
+            public long sizeInBytes() {
+                return sizeInBytes;
+            }
+        };
+    }
+}
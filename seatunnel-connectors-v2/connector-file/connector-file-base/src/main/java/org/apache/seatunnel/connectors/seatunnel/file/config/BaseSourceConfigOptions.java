@@ -119,6 +119,16 @@ public class BaseSourceConfigOptions {
                     .defaultValue(0L)
                     .withDescription("The number of rows to skip");
 
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "Split the files which are larger than this size in bytes into several splits, "
+                                    + "so that one file can be read by several readers. Only supported by "
+                                    + "the uncompressed text, csv and json files and by the parquet and orc files, "
+                                    + "0 means that a file is always read by one reader");
+
     public static final Option<List<String>> READ_PARTITIONS =
             Options.key("read_partitions")
                     .listType()
@@ -131,6 +141,16 @@ public class BaseSourceConfigOptions {
                     .noDefaultValue()
                     .withDescription("The columns list that the user want to read");
 
+    public static final Option<String> READ_FILTER =
+            Options.key("read_filter")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The filter of the rows to read, written as a simple SQL WHERE condition "
+                                    + "on the read columns, e.g. id > 100 AND name IS NOT NULL. "
+                                    + "Parquet and orc files also use it to skip the row groups "
+                                    + "and stripes that can not match");
+
     public static final Option<String> SHEET_NAME =
             Options.key("sheet_name")
                     .stringType()
@@ -29,6 +29,9 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOpt
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpressionParser;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -76,8 +79,10 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected List<String> fileNames = new ArrayList<>();
     protected List<String> readPartitions = new ArrayList<>();
     protected List<String> readColumns = new ArrayList<>();
+    protected FileFilterExpression readFilter;
     protected boolean isMergePartition = true;
     protected long skipHeaderNumber = BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
     protected transient boolean isKerberosAuthorization = false;
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
     protected ArchiveCompressFormat archiveCompressFormat =
@@ -154,6 +159,9 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
             skipHeaderNumber =
                     pluginConfig.getLong(BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.key());
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+        }
         if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_PARTITIONS.key())) {
             readPartitions.addAll(
                     pluginConfig.getStringList(BaseSourceConfigOptions.READ_PARTITIONS.key()));
@@ -162,6 +170,11 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
             readColumns.addAll(
                     pluginConfig.getStringList(BaseSourceConfigOptions.READ_COLUMNS.key()));
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_FILTER.key())) {
+            readFilter =
+                    FileFilterExpressionParser.parse(
+                            pluginConfig.getString(BaseSourceConfigOptions.READ_FILTER.key()));
+        }
         if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key())) {
             String filterPattern =
                     pluginConfig.getString(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key());
@@ -169,6 +182,60 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
         }
     }
 
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws IOException {
+        if (split.isWholeFile()) {
+            read(split.getFilePath(), tableId, output);
+        } else {
+            readRange(split.getFilePath(), tableId, output, split.getStart(), split.getLength());
+        }
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (fileSplitSize <= 0 || !isSplittable()) {
+            return ReadStrategy.super.getFileSourceSplits(tableId, path);
+        }
+        long fileLength = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        if (fileLength <= fileSplitSize) {
+            return ReadStrategy.super.getFileSourceSplits(tableId, path);
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (long start = 0; start < fileLength; start += fileSplitSize) {
+            splits.add(
+                    new FileSourceSplit(
+                            tableId, path, start, Math.min(fileSplitSize, fileLength - start)));
+        }
+        return splits;
+    }
+
+    /** Whether a file can be split into byte ranges which are read independently. */
+    protected boolean isSplittable() {
+        return false;
+    }
+
+    /**
+     * Read the records of the file whose position is in the range {@code [start, start + length)},
+     * only called if {@link #isSplittable()} is true.
+     */
+    protected void readRange(
+            String path, String tableId, Collector<SeaTunnelRow> output, long start, long length)
+            throws IOException {
+        throw new UnsupportedOperationException(
+                "The file does not support reading a range of the file");
+    }
+
+    /**
+     * Whether the lines of a file in the encoding can be split on the bytes of the line feed, which
+     * is true for all the ASCII compatible encodings.
+     */
+    protected static boolean isLineSplittableEncoding(String encoding) {
+        String upperCaseEncoding = encoding.toUpperCase();
+        return !upperCaseEncoding.startsWith("UTF-16") && !upperCaseEncoding.startsWith("UTF-32");
+    }
+
     @Override
     public SeaTunnelRowType getActualSeaTunnelRowTypeInfo() {
         return isMergePartition ? seaTunnelRowTypeWithPartition : seaTunnelRowType;
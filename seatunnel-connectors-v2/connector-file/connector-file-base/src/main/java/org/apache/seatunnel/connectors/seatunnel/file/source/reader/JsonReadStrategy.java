@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
@@ -105,8 +106,36 @@ public class JsonReadStrategy extends AbstractReadStrategy {
                 actualInputStream = inputStream;
                 break;
         }
+        readLines(tableId, output, actualInputStream, partitionsMap);
+    }
+
+    @Override
+    protected boolean isSplittable() {
+        return archiveCompressFormat == ArchiveCompressFormat.NONE
+                && compressFormat == CompressFormat.NONE
+                && isLineSplittableEncoding(encoding);
+    }
+
+    @Override
+    protected void readRange(
+            String path, String tableId, Collector<SeaTunnelRow> output, long start, long length)
+            throws IOException {
+        Map<String, String> partitionsMap = parsePartitionsByPath(path);
+        readLines(
+                tableId,
+                output,
+                new LineRangeInputStream(hadoopFileSystemProxy.getInputStream(path), start, length),
+                partitionsMap);
+    }
+
+    private void readLines(
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            InputStream inputStream,
+            Map<String, String> partitionsMap)
+            throws IOException {
         try (BufferedReader reader =
-                new BufferedReader(new InputStreamReader(actualInputStream, encoding))) {
+                new BufferedReader(new InputStreamReader(inputStream, encoding))) {
             reader.lines()
                     .forEach(
                             line -> {
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The input stream of the lines of a file which start in the byte range {@code [start, start +
+ * length)}. A line belongs to the range which contains its first byte, so the partial line at the
+ * start of the range is skipped, it is read by the previous range, and the last line is read to its
+ * end even if it goes beyond the range.
+ */
+public class LineRangeInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final long end;
+    // position in the file of the next byte to read
+    private long pos;
+    private boolean finished;
+
+    public LineRangeInputStream(FSDataInputStream in, long start, long length) throws IOException {
+        this.end = start + length;
+        if (start > 0) {
+            // the line feed before the start ends the line of the previous range
+            in.seek(start - 1);
+            this.pos = start - 1;
+        }
+        this.in = new BufferedInputStream(in, BUFFER_SIZE);
+        if (start > 0) {
+            int b;
+            while ((b = this.in.read()) != -1) {
+                pos++;
+                if (b == '\n') {
+                    break;
+                }
+            }
+            finished = b == -1;
+        }
+        finished = finished || pos >= end;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (finished) {
+            return -1;
+        }
+        int b = in.read();
+        if (b == -1) {
+            finished = true;
+            return -1;
+        }
+        pos++;
+        if (b == '\n' && pos >= end) {
+            finished = true;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (finished) {
+            return -1;
+        }
+        int n = in.read(b, off, len);
+        if (n == -1) {
+            finished = true;
+            return -1;
+        }
+        if (pos + n >= end) {
+            // the bytes after the first line feed at or after the end belong to the next range
+            for (int i = Math.max(0, (int) (end - pos - 1)); i < n; i++) {
+                if (b[off + i] == '\n') {
+                    finished = true;
+                    pos += i + 1;
+                    return i + 1;
+                }
+            }
+        }
+        pos += n;
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -33,6 +33,8 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.OrcFilterConverter;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -53,6 +55,7 @@ import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
 import org.apache.orc.storage.ql.exec.vector.UnionColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -83,6 +86,25 @@ public class OrcReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(path, tableId, output, 0, -1);
+    }
+
+    @Override
+    protected boolean isSplittable() {
+        return true;
+    }
+
+    @Override
+    protected void readRange(
+            String path, String tableId, Collector<SeaTunnelRow> output, long start, long length)
+            throws IOException {
+        // the stripes which start in the range are read
+        read(path, tableId, output, start, length);
+    }
+
+    private void read(
+            String path, String tableId, Collector<SeaTunnelRow> output, long start, long length)
+            throws FileConnectorException, IOException {
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -105,7 +127,21 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
+            // orc maps the reader schema to the file columns by name, so only the read columns
+            // are decoded
+            Reader.Options options = reader.options().schema(schema);
+            if (length > 0) {
+                options.range(start, length);
+            }
+            FileFilterExpression filter = readFilter;
+            if (filter != null) {
+                filter.bind(seaTunnelRowType);
+                SearchArgument searchArgument = OrcFilterConverter.convert(filter);
+                if (searchArgument != null) {
+                    options.searchArgument(searchArgument, seaTunnelRowType.getFieldNames());
+                }
+            }
+            RecordReader rows = reader.rows(options);
             VectorizedRowBatch rowBatch = schema.createRowBatch();
             while (rows.nextBatch(rowBatch)) {
                 int num = 0;
@@ -134,10 +170,14 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                                             num);
                         }
                     }
+                    num++;
                     SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                    // the search argument only skips stripes and row groups
+                    if (filter != null && !filter.test(seaTunnelRow)) {
+                        continue;
+                    }
                     seaTunnelRow.setTableId(tableId);
                     output.collect(seaTunnelRow);
-                    num++;
                 }
             }
         }
@@ -33,18 +33,25 @@ import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.ParquetFilterConverter;
 
 import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
 import org.apache.avro.data.TimeConversions;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
-import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroReadSupport;
 import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.ReadSupport;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
@@ -80,11 +87,28 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
     private static final String PARQUET = "Parquet";
 
-    private int[] indexes;
-
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(path, tableId, output, 0, -1);
+    }
+
+    @Override
+    protected boolean isSplittable() {
+        return true;
+    }
+
+    @Override
+    protected void readRange(
+            String path, String tableId, Collector<SeaTunnelRow> output, long start, long length)
+            throws IOException {
+        // the row groups whose midpoint is in the range are read
+        read(path, tableId, output, start, length);
+    }
+
+    private void read(
+            String path, String tableId, Collector<SeaTunnelRow> output, long start, long length)
+            throws FileConnectorException, IOException {
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -104,11 +128,29 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
-                AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
+        // only the read columns are decoded
+        ParquetReader.Builder<GenericData.Record> readerBuilder =
+                new ProjectionReaderBuilder(
+                        hadoopInputFile, dataModel, seaTunnelRowType.getFieldNames());
+        if (length > 0) {
+            readerBuilder.withFileRange(start, start + length);
+        }
+        FileFilterExpression filter = readFilter;
+        if (filter != null) {
+            filter.bind(seaTunnelRowType);
+            FilterPredicate predicate = ParquetFilterConverter.convert(filter);
+            if (predicate != null) {
+                readerBuilder.withFilter(FilterCompat.get(predicate));
+            }
+        }
+        try (ParquetReader<GenericData.Record> reader = readerBuilder.build()) {
+            int[] positions = null;
             while ((record = reader.read()) != null) {
+                if (positions == null) {
+                    // the records keep the avro schema written in the file if there is one, so
+                    // the positions of the read columns are resolved by name
+                    positions = fieldPositions(record.getSchema());
+                }
                 Object[] fields;
                 if (isMergePartition) {
                     int index = fieldsCount;
@@ -120,16 +162,27 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                     fields = new Object[fieldsCount];
                 }
                 for (int i = 0; i < fieldsCount; i++) {
-                    Object data = record.get(indexes[i]);
+                    Object data = record.get(positions[i]);
                     fields[i] = resolveObject(data, seaTunnelRowType.getFieldType(i));
                 }
                 SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                if (filter != null && !filter.test(seaTunnelRow)) {
+                    continue;
+                }
                 seaTunnelRow.setTableId(tableId);
                 output.collect(seaTunnelRow);
             }
         }
     }
 
+    private int[] fieldPositions(Schema schema) {
+        int[] positions = new int[seaTunnelRowType.getTotalFields()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = schema.getField(seaTunnelRowType.getFieldName(i)).pos();
+        }
+        return positions;
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
@@ -268,15 +321,12 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
         String[] fields = new String[readColumns.size()];
         SeaTunnelDataType<?>[] types = new SeaTunnelDataType[readColumns.size()];
-        indexes = new int[readColumns.size()];
         buildColumnsWithErrorCheck(
                 tablePath,
                 IntStream.range(0, readColumns.size()).iterator(),
                 i -> {
                     fields[i] = readColumns.get(i);
                     Type type = originalSchema.getType(fields[i]);
-                    int fieldIndex = originalSchema.getFieldIndex(fields[i]);
-                    indexes[i] = fieldIndex;
                     types[i] = parquetType2SeaTunnelType(type, fields[i]);
                 });
         seaTunnelRowType = new SeaTunnelRowType(fields, types);
@@ -418,4 +468,51 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
             throw new FileConnectorException(FileConnectorErrorCode.FILE_TYPE_INVALID, errorMsg);
         }
     }
+
+    /** Read the requested columns only, the other columns of the records are left null. */
+    private static class ProjectionReaderBuilder extends ParquetReader.Builder<GenericData.Record> {
+        private final GenericData dataModel;
+        private final String[] columns;
+
+        private ProjectionReaderBuilder(
+                HadoopInputFile inputFile, GenericData dataModel, String[] columns) {
+            super(inputFile);
+            this.dataModel = dataModel;
+            this.columns = columns;
+        }
+
+        @Override
+        protected ReadSupport<GenericData.Record> getReadSupport() {
+            return new ProjectionReadSupport(dataModel, columns);
+        }
+    }
+
+    private static class ProjectionReadSupport extends AvroReadSupport<GenericData.Record> {
+        private final String[] columns;
+
+        private ProjectionReadSupport(GenericData dataModel, String[] columns) {
+            super(dataModel);
+            this.columns = columns;
+        }
+
+        @Override
+        public ReadContext init(
+                Configuration configuration,
+                Map<String, String> keyValueMetaData,
+                MessageType fileSchema) {
+            List<Type> types = new ArrayList<>(columns.length);
+            for (String column : columns) {
+                if (!fileSchema.containsField(column)) {
+                    throw new FileConnectorException(
+                            CommonErrorCodeDeprecated.TABLE_SCHEMA_GET_FAILED,
+                            String.format(
+                                    "Column [%s] does not exists in parquet schema [%s]",
+                                    column, fileSchema));
+                }
+                types.add(fileSchema.getType(column));
+            }
+            return super.init(
+                    configuration, keyValueMetaData, new MessageType(fileSchema.getName(), types));
+        }
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.utils.DateTimeUtils;
 import org.apache.seatunnel.common.utils.DateUtils;
 import org.apache.seatunnel.common.utils.TimeUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
@@ -95,11 +96,41 @@ public class TextReadStrategy extends AbstractReadStrategy {
                 actualInputStream = inputStream;
                 break;
         }
+        readLines(tableId, output, actualInputStream, partitionsMap, skipHeaderNumber);
+    }
+
+    @Override
+    protected boolean isSplittable() {
+        return archiveCompressFormat == ArchiveCompressFormat.NONE
+                && compressFormat == CompressFormat.NONE
+                && isLineSplittableEncoding(encoding);
+    }
+
+    @Override
+    protected void readRange(
+            String path, String tableId, Collector<SeaTunnelRow> output, long start, long length)
+            throws IOException {
+        Map<String, String> partitionsMap = parsePartitionsByPath(path);
+        // the header rows are only in the first range
+        readLines(
+                tableId,
+                output,
+                new LineRangeInputStream(hadoopFileSystemProxy.getInputStream(path), start, length),
+                partitionsMap,
+                start == 0 ? skipHeaderNumber : 0);
+    }
 
+    private void readLines(
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            InputStream inputStream,
+            Map<String, String> partitionsMap,
+            long skipLines)
+            throws IOException {
         try (BufferedReader reader =
-                new BufferedReader(new InputStreamReader(actualInputStream, encoding))) {
+                new BufferedReader(new InputStreamReader(inputStream, encoding))) {
             reader.lines()
-                    .skip(skipHeaderNumber)
+                    .skip(skipLines)
                     .forEach(
                             line -> {
                                 try {
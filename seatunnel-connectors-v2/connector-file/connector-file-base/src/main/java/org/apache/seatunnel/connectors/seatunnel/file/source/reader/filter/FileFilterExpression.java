@@ -0,0 +1,432 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A simple row filter of the file source, parsed from the {@code read_filter} option by {@link
+ * FileFilterExpressionParser}. It is evaluated against every read row, and the columnar formats
+ * also convert it into their own predicates to skip the row groups and stripes that can not match.
+ *
+ * <p>The evaluation follows the SQL three-valued logic: a comparison with a null value is unknown
+ * and the row is only kept if the whole expression is true.
+ */
+public abstract class FileFilterExpression implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Resolve the column indexes and convert the literals to the column types, must be called
+     * before {@link #test(SeaTunnelRow)}.
+     */
+    public abstract void bind(SeaTunnelRowType rowType);
+
+    /** @return true, false or null if the result is unknown */
+    abstract Boolean evaluate(SeaTunnelRow row);
+
+    public boolean test(SeaTunnelRow row) {
+        return Boolean.TRUE.equals(evaluate(row));
+    }
+
+    /**
+     * Relax the expression to the leaves supported by a pushdown target. The result matches every
+     * row the expression matches, so it can be used to skip data but not to replace {@link
+     * #test(SeaTunnelRow)}.
+     *
+     * @return the relaxed expression, or null if nothing can be pushed down
+     */
+    public static FileFilterExpression relax(
+            FileFilterExpression expression, Predicate<ColumnPredicate> supported) {
+        return relax(expression, supported, false);
+    }
+
+    private static FileFilterExpression relax(
+            FileFilterExpression expression, Predicate<ColumnPredicate> supported, boolean exact) {
+        if (expression instanceof And) {
+            And and = (And) expression;
+            FileFilterExpression left = relax(and.getLeft(), supported, exact);
+            FileFilterExpression right = relax(and.getRight(), supported, exact);
+            if (left != null && right != null) {
+                return new And(left, right);
+            }
+            // dropping one side of AND matches more rows, which is not allowed under NOT
+            return exact ? null : left != null ? left : right;
+        }
+        if (expression instanceof Or) {
+            Or or = (Or) expression;
+            FileFilterExpression left = relax(or.getLeft(), supported, exact);
+            FileFilterExpression right = relax(or.getRight(), supported, exact);
+            return left != null && right != null ? new Or(left, right) : null;
+        }
+        if (expression instanceof Not) {
+            FileFilterExpression child = relax(((Not) expression).getChild(), supported, true);
+            return child != null ? new Not(child) : null;
+        }
+        return supported.test((ColumnPredicate) expression) ? expression : null;
+    }
+
+    /** The comparison operators. */
+    public enum Operator {
+        EQUALS("="),
+        NOT_EQUALS("<>"),
+        LESS_THAN("<"),
+        LESS_THAN_OR_EQUALS("<="),
+        GREATER_THAN(">"),
+        GREATER_THAN_OR_EQUALS(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        boolean matches(int compareResult) {
+            switch (this) {
+                case EQUALS:
+                    return compareResult == 0;
+                case NOT_EQUALS:
+                    return compareResult != 0;
+                case LESS_THAN:
+                    return compareResult < 0;
+                case LESS_THAN_OR_EQUALS:
+                    return compareResult <= 0;
+                case GREATER_THAN:
+                    return compareResult > 0;
+                default:
+                    return compareResult >= 0;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return symbol;
+        }
+    }
+
+    @Getter
+    public static class And extends FileFilterExpression {
+        private static final long serialVersionUID = 1L;
+
+        private final FileFilterExpression left;
+        private final FileFilterExpression right;
+
+        public And(FileFilterExpression left, FileFilterExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public void bind(SeaTunnelRowType rowType) {
+            left.bind(rowType);
+            right.bind(rowType);
+        }
+
+        @Override
+        Boolean evaluate(SeaTunnelRow row) {
+            Boolean leftResult = left.evaluate(row);
+            if (Boolean.FALSE.equals(leftResult)) {
+                return false;
+            }
+            Boolean rightResult = right.evaluate(row);
+            if (Boolean.FALSE.equals(rightResult)) {
+                return false;
+            }
+            return leftResult == null || rightResult == null ? null : true;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    @Getter
+    public static class Or extends FileFilterExpression {
+        private static final long serialVersionUID = 1L;
+
+        private final FileFilterExpression left;
+        private final FileFilterExpression right;
+
+        public Or(FileFilterExpression left, FileFilterExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public void bind(SeaTunnelRowType rowType) {
+            left.bind(rowType);
+            right.bind(rowType);
+        }
+
+        @Override
+        Boolean evaluate(SeaTunnelRow row) {
+            Boolean leftResult = left.evaluate(row);
+            if (Boolean.TRUE.equals(leftResult)) {
+                return true;
+            }
+            Boolean rightResult = right.evaluate(row);
+            if (Boolean.TRUE.equals(rightResult)) {
+                return true;
+            }
+            return leftResult == null || rightResult == null ? null : false;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+
+    @Getter
+    public static class Not extends FileFilterExpression {
+        private static final long serialVersionUID = 1L;
+
+        private final FileFilterExpression child;
+
+        public Not(FileFilterExpression child) {
+            this.child = child;
+        }
+
+        @Override
+        public void bind(SeaTunnelRowType rowType) {
+            child.bind(rowType);
+        }
+
+        @Override
+        Boolean evaluate(SeaTunnelRow row) {
+            Boolean result = child.evaluate(row);
+            return result == null ? null : !result;
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + child;
+        }
+    }
+
+    /** The leaf of the expression, which tests a single column. */
+    @Getter
+    public abstract static class ColumnPredicate extends FileFilterExpression {
+        private static final long serialVersionUID = 1L;
+
+        private final String column;
+        private int columnIndex = -1;
+        private SeaTunnelDataType<?> columnType;
+
+        ColumnPredicate(String column) {
+            this.column = column;
+        }
+
+        @Override
+        public void bind(SeaTunnelRowType rowType) {
+            int index = rowType.indexOf(column, false);
+            if (index == -1) {
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "Filter column [%s] is not in the read columns [%s]",
+                                column, String.join(",", rowType.getFieldNames())));
+            }
+            columnIndex = index;
+            columnType = rowType.getFieldType(index);
+        }
+
+        Object getValue(SeaTunnelRow row) {
+            return row.getField(columnIndex);
+        }
+
+        Object convertLiteral(Object literal) {
+            if (literal == null) {
+                return null;
+            }
+            try {
+                switch (columnType.getSqlType()) {
+                    case TINYINT:
+                        return toBigDecimal(literal).byteValueExact();
+                    case SMALLINT:
+                        return toBigDecimal(literal).shortValueExact();
+                    case INT:
+                        return toBigDecimal(literal).intValueExact();
+                    case BIGINT:
+                        return toBigDecimal(literal).longValueExact();
+                    case FLOAT:
+                        return toBigDecimal(literal).floatValue();
+                    case DOUBLE:
+                        return toBigDecimal(literal).doubleValue();
+                    case DECIMAL:
+                        return toBigDecimal(literal);
+                    case STRING:
+                        return literal.toString();
+                    case BOOLEAN:
+                        if (literal instanceof Boolean) {
+                            return literal;
+                        }
+                        break;
+                    case DATE:
+                        return LocalDate.parse(literal.toString());
+                    case TIMESTAMP:
+                        return LocalDateTime.parse(literal.toString().replace(' ', 'T'));
+                    default:
+                        throw new FileConnectorException(
+                                CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                                String.format(
+                                        "Filter column [%s] of type [%s] is not supported",
+                                        column, columnType));
+                }
+            } catch (ArithmeticException | IllegalArgumentException | DateTimeException e) {
+                // fall through to the error below
+            }
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    String.format(
+                            "Filter literal [%s] can not be converted to the type [%s] of column [%s]",
+                            literal, columnType, column));
+        }
+
+        private static BigDecimal toBigDecimal(Object literal) {
+            if (literal instanceof BigDecimal) {
+                return (BigDecimal) literal;
+            }
+            return new BigDecimal(literal.toString());
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static int compare(Object value, Object literal) {
+            return ((Comparable) value).compareTo(literal);
+        }
+    }
+
+    /** {@code column op literal}. */
+    @Getter
+    public static class Comparison extends ColumnPredicate {
+        private static final long serialVersionUID = 1L;
+
+        private final Operator operator;
+        private final Object literal;
+        private Object value;
+
+        public Comparison(String column, Operator operator, Object literal) {
+            super(column);
+            this.operator = operator;
+            this.literal = literal;
+        }
+
+        @Override
+        public void bind(SeaTunnelRowType rowType) {
+            super.bind(rowType);
+            value = convertLiteral(literal);
+        }
+
+        @Override
+        Boolean evaluate(SeaTunnelRow row) {
+            Object fieldValue = getValue(row);
+            if (fieldValue == null || value == null) {
+                return null;
+            }
+            return operator.matches(compare(fieldValue, value));
+        }
+
+        @Override
+        public String toString() {
+            return getColumn() + " " + operator + " " + literal;
+        }
+    }
+
+    /** {@code column IS [NOT] NULL}. */
+    @Getter
+    public static class IsNull extends ColumnPredicate {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean negated;
+
+        public IsNull(String column, boolean negated) {
+            super(column);
+            this.negated = negated;
+        }
+
+        @Override
+        Boolean evaluate(SeaTunnelRow row) {
+            return (getValue(row) == null) != negated;
+        }
+
+        @Override
+        public String toString() {
+            return getColumn() + (negated ? " IS NOT NULL" : " IS NULL");
+        }
+    }
+
+    /** {@code column IN (literal, ...)}, NOT IN is parsed as the negation of it. */
+    @Getter
+    public static class In extends ColumnPredicate {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Object> literals;
+        private List<Object> values;
+
+        public In(String column, List<Object> literals) {
+            super(column);
+            this.literals = literals;
+        }
+
+        @Override
+        public void bind(SeaTunnelRowType rowType) {
+            super.bind(rowType);
+            List<Object> converted = new ArrayList<>(literals.size());
+            for (Object literal : literals) {
+                converted.add(convertLiteral(literal));
+            }
+            values = converted;
+        }
+
+        @Override
+        Boolean evaluate(SeaTunnelRow row) {
+            Object fieldValue = getValue(row);
+            if (fieldValue == null) {
+                return null;
+            }
+            boolean hasNull = false;
+            for (Object value : values) {
+                if (value == null) {
+                    hasNull = true;
+                } else if (compare(fieldValue, value) == 0) {
+                    return true;
+                }
+            }
+            return hasNull ? null : false;
+        }
+
+        @Override
+        public String toString() {
+            return getColumn() + " IN " + literals;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter;
+
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.And;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Comparison;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.In;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.IsNull;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Not;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Operator;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Or;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parse the subset of a SQL WHERE clause supported by {@link FileFilterExpression}:
+ *
+ * <ul>
+ *   <li>{@code column op literal} with the operators {@code = != <> < <= > >=}
+ *   <li>{@code column [NOT] BETWEEN literal AND literal}
+ *   <li>{@code column [NOT] IN (literal, ...)}
+ *   <li>{@code column IS [NOT] NULL}
+ *   <li>{@code AND}, {@code OR}, {@code NOT} and parentheses
+ * </ul>
+ *
+ * <p>The literals are numbers, single quoted strings, {@code true}, {@code false} and {@code null}.
+ * Dates and timestamps are written as strings, e.g. {@code dt >= '2024-01-01'}. The column names
+ * can be quoted with back quotes or double quotes.
+ */
+public class FileFilterExpressionParser {
+
+    private final String expression;
+    private int position;
+
+    private FileFilterExpressionParser(String expression) {
+        this.expression = expression;
+    }
+
+    public static FileFilterExpression parse(String expression) {
+        FileFilterExpressionParser parser = new FileFilterExpressionParser(expression);
+        FileFilterExpression result = parser.parseOr();
+        parser.skipWhitespace();
+        if (parser.position < expression.length()) {
+            throw parser.error("Unexpected character '" + expression.charAt(parser.position) + "'");
+        }
+        return result;
+    }
+
+    private FileFilterExpression parseOr() {
+        FileFilterExpression left = parseAnd();
+        while (acceptKeyword("OR")) {
+            left = new Or(left, parseAnd());
+        }
+        return left;
+    }
+
+    private FileFilterExpression parseAnd() {
+        FileFilterExpression left = parseNot();
+        while (acceptKeyword("AND")) {
+            left = new And(left, parseNot());
+        }
+        return left;
+    }
+
+    private FileFilterExpression parseNot() {
+        if (acceptKeyword("NOT")) {
+            return new Not(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private FileFilterExpression parsePrimary() {
+        if (accept('(')) {
+            FileFilterExpression expression = parseOr();
+            expect(')');
+            return expression;
+        }
+        String column = parseIdentifier();
+        if (acceptKeyword("IS")) {
+            boolean negated = acceptKeyword("NOT");
+            expectKeyword("NULL");
+            return new IsNull(column, negated);
+        }
+        boolean negated = acceptKeyword("NOT");
+        FileFilterExpression predicate;
+        if (acceptKeyword("IN")) {
+            expect('(');
+            List<Object> literals = new ArrayList<>();
+            do {
+                literals.add(parseLiteral());
+            } while (accept(','));
+            expect(')');
+            predicate = new In(column, literals);
+        } else if (acceptKeyword("BETWEEN")) {
+            Object lower = parseLiteral();
+            expectKeyword("AND");
+            Object upper = parseLiteral();
+            predicate =
+                    new And(
+                            new Comparison(column, Operator.GREATER_THAN_OR_EQUALS, lower),
+                            new Comparison(column, Operator.LESS_THAN_OR_EQUALS, upper));
+        } else if (negated) {
+            throw error("Expect IN or BETWEEN after NOT");
+        } else {
+            Operator operator = parseOperator();
+            return new Comparison(column, operator, parseLiteral());
+        }
+        return negated ? new Not(predicate) : predicate;
+    }
+
+    private Operator parseOperator() {
+        skipWhitespace();
+        if (accept('=')) {
+            return Operator.EQUALS;
+        }
+        if (accept('!')) {
+            expect('=');
+            return Operator.NOT_EQUALS;
+        }
+        if (accept('<')) {
+            if (accept('=')) {
+                return Operator.LESS_THAN_OR_EQUALS;
+            }
+            return accept('>') ? Operator.NOT_EQUALS : Operator.LESS_THAN;
+        }
+        if (accept('>')) {
+            return accept('=') ? Operator.GREATER_THAN_OR_EQUALS : Operator.GREATER_THAN;
+        }
+        throw error("Expect a comparison operator");
+    }
+
+    private String parseIdentifier() {
+        skipWhitespace();
+        if (position < expression.length()) {
+            char quote = expression.charAt(position);
+            if (quote == '`' || quote == '"') {
+                int end = expression.indexOf(quote, position + 1);
+                if (end == -1) {
+                    throw error("Unclosed quoted column name");
+                }
+                String identifier = expression.substring(position + 1, end);
+                position = end + 1;
+                return identifier;
+            }
+        }
+        String word = readWord();
+        if (word.isEmpty()) {
+            throw error("Expect a column name");
+        }
+        return word;
+    }
+
+    private Object parseLiteral() {
+        skipWhitespace();
+        if (position >= expression.length()) {
+            throw error("Expect a literal");
+        }
+        char c = expression.charAt(position);
+        if (c == '\'') {
+            StringBuilder builder = new StringBuilder();
+            position++;
+            while (true) {
+                if (position >= expression.length()) {
+                    throw error("Unclosed string literal");
+                }
+                char current = expression.charAt(position++);
+                if (current == '\'') {
+                    if (position < expression.length() && expression.charAt(position) == '\'') {
+                        builder.append('\'');
+                        position++;
+                    } else {
+                        return builder.toString();
+                    }
+                } else {
+                    builder.append(current);
+                }
+            }
+        }
+        if (c == '-' || c == '+' || c == '.' || Character.isDigit(c)) {
+            int start = position++;
+            while (position < expression.length()) {
+                char current = expression.charAt(position);
+                if (!Character.isDigit(current)
+                        && current != '.'
+                        && current != 'e'
+                        && current != 'E'
+                        && !((current == '-' || current == '+')
+                                && Character.toUpperCase(expression.charAt(position - 1)) == 'E')) {
+                    break;
+                }
+                position++;
+            }
+            String number = expression.substring(start, position);
+            try {
+                return new BigDecimal(number);
+            } catch (NumberFormatException e) {
+                throw error("Invalid number literal [" + number + "]");
+            }
+        }
+        String word = readWord();
+        if (word.equalsIgnoreCase("TRUE")) {
+            return Boolean.TRUE;
+        }
+        if (word.equalsIgnoreCase("FALSE")) {
+            return Boolean.FALSE;
+        }
+        if (word.equalsIgnoreCase("NULL")) {
+            return null;
+        }
+        throw error("Expect a literal");
+    }
+
+    private String readWord() {
+        skipWhitespace();
+        int start = position;
+        while (position < expression.length()) {
+            char c = expression.charAt(position);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '.' && c != '$') {
+                break;
+            }
+            position++;
+        }
+        return expression.substring(start, position);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        int start = position;
+        String word = readWord();
+        if (word.equalsIgnoreCase(keyword)) {
+            return true;
+        }
+        position = start;
+        return false;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw error("Expect " + keyword);
+        }
+    }
+
+    private boolean accept(char c) {
+        skipWhitespace();
+        if (position < expression.length() && expression.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (!accept(c)) {
+            throw error("Expect '" + c + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < expression.length()
+                && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+
+    private FileConnectorException error(String message) {
+        return new FileConnectorException(
+                CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                String.format(
+                        "%s at position %d of the read filter [%s]",
+                        message, position, expression));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter;
+
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.And;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.ColumnPredicate;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Comparison;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.In;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.IsNull;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Not;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Or;
+
+import org.apache.orc.storage.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.orc.storage.ql.io.sarg.SearchArgumentFactory;
+import org.apache.orc.storage.serde2.io.HiveDecimalWritable;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Convert a {@link FileFilterExpression} to an orc {@link SearchArgument}, which skips the stripes
+ * and row groups by the column statistics and bloom filters. Bytes and nested columns are not
+ * pushed down.
+ */
+public class OrcFilterConverter {
+
+    private OrcFilterConverter() {}
+
+    /**
+     * @param expression the bound filter expression
+     * @return the search argument matching at least the rows of the expression, or null if nothing
+     *     can be pushed down
+     */
+    public static SearchArgument convert(FileFilterExpression expression) {
+        FileFilterExpression relaxed =
+                FileFilterExpression.relax(expression, OrcFilterConverter::isSupported);
+        if (relaxed == null) {
+            return null;
+        }
+        SearchArgument.Builder builder = SearchArgumentFactory.newBuilder();
+        build(builder, relaxed);
+        return builder.build();
+    }
+
+    private static boolean isSupported(ColumnPredicate predicate) {
+        if (predicate.getColumn().contains(".") || toLeafType(predicate) == null) {
+            return false;
+        }
+        if (predicate instanceof Comparison) {
+            return ((Comparison) predicate).getValue() != null;
+        }
+        if (predicate instanceof In) {
+            return !((In) predicate).getValues().contains(null);
+        }
+        return true;
+    }
+
+    private static PredicateLeaf.Type toLeafType(ColumnPredicate predicate) {
+        switch (predicate.getColumnType().getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return PredicateLeaf.Type.LONG;
+            case FLOAT:
+            case DOUBLE:
+                return PredicateLeaf.Type.FLOAT;
+            case DECIMAL:
+                return PredicateLeaf.Type.DECIMAL;
+            case STRING:
+                return PredicateLeaf.Type.STRING;
+            case BOOLEAN:
+                return PredicateLeaf.Type.BOOLEAN;
+            case DATE:
+                return PredicateLeaf.Type.DATE;
+            case TIMESTAMP:
+                return PredicateLeaf.Type.TIMESTAMP;
+            default:
+                return null;
+        }
+    }
+
+    private static Object toLeafValue(Object value) {
+        if (value instanceof Byte
+                || value instanceof Short
+                || value instanceof Integer
+                || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            // the statistics of a float column keep the double of the float values
+            return ((Float) value).doubleValue();
+        }
+        if (value instanceof BigDecimal) {
+            return new HiveDecimalWritable(((BigDecimal) value).toPlainString());
+        }
+        if (value instanceof LocalDate) {
+            return Date.valueOf((LocalDate) value);
+        }
+        if (value instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) value);
+        }
+        return value;
+    }
+
+    private static void build(SearchArgument.Builder builder, FileFilterExpression expression) {
+        if (expression instanceof And) {
+            And and = (And) expression;
+            builder.startAnd();
+            build(builder, and.getLeft());
+            build(builder, and.getRight());
+            builder.end();
+            return;
+        }
+        if (expression instanceof Or) {
+            Or or = (Or) expression;
+            builder.startOr();
+            build(builder, or.getLeft());
+            build(builder, or.getRight());
+            builder.end();
+            return;
+        }
+        if (expression instanceof Not) {
+            builder.startNot();
+            build(builder, ((Not) expression).getChild());
+            builder.end();
+            return;
+        }
+        ColumnPredicate predicate = (ColumnPredicate) expression;
+        String column = predicate.getColumn();
+        PredicateLeaf.Type type = toLeafType(predicate);
+        if (predicate instanceof IsNull) {
+            if (((IsNull) predicate).isNegated()) {
+                builder.startNot().isNull(column, type).end();
+            } else {
+                builder.isNull(column, type);
+            }
+            return;
+        }
+        if (predicate instanceof In) {
+            Object[] values =
+                    ((In) predicate)
+                            .getValues().stream().map(OrcFilterConverter::toLeafValue).toArray();
+            builder.in(column, type, values);
+            return;
+        }
+        Comparison comparison = (Comparison) predicate;
+        Object value = toLeafValue(comparison.getValue());
+        switch (comparison.getOperator()) {
+            case EQUALS:
+                builder.equals(column, type, value);
+                break;
+            case NOT_EQUALS:
+                builder.startNot().equals(column, type, value).end();
+                break;
+            case LESS_THAN:
+                builder.lessThan(column, type, value);
+                break;
+            case LESS_THAN_OR_EQUALS:
+                builder.lessThanEquals(column, type, value);
+                break;
+            case GREATER_THAN:
+                builder.startNot().lessThanEquals(column, type, value).end();
+                break;
+            default:
+                builder.startNot().lessThan(column, type, value).end();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter;
+
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.And;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.ColumnPredicate;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Comparison;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.In;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.IsNull;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Not;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Operator;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter.FileFilterExpression.Or;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+
+import java.time.LocalDate;
+
+/**
+ * Convert a {@link FileFilterExpression} to a parquet {@link FilterPredicate}, which skips the row
+ * groups by the column statistics, dictionaries and bloom filters. Decimal, timestamp, bytes and
+ * nested columns are not pushed down.
+ */
+public class ParquetFilterConverter {
+
+    private ParquetFilterConverter() {}
+
+    /**
+     * @param expression the bound filter expression
+     * @return the predicate matching at least the rows of the expression, or null if nothing can be
+     *     pushed down
+     */
+    public static FilterPredicate convert(FileFilterExpression expression) {
+        FileFilterExpression relaxed =
+                FileFilterExpression.relax(expression, ParquetFilterConverter::isSupported);
+        return relaxed == null ? null : toPredicate(relaxed);
+    }
+
+    private static boolean isSupported(ColumnPredicate predicate) {
+        if (predicate.getColumn().contains(".")) {
+            return false;
+        }
+        switch (predicate.getColumnType().getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case DATE:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case STRING:
+                break;
+            case BOOLEAN:
+                if (predicate instanceof Comparison) {
+                    Operator operator = ((Comparison) predicate).getOperator();
+                    return operator == Operator.EQUALS || operator == Operator.NOT_EQUALS;
+                }
+                return true;
+            default:
+                return false;
+        }
+        if (predicate instanceof Comparison) {
+            Comparison comparison = (Comparison) predicate;
+            return comparison.getValue() != null
+                    || comparison.getOperator() == Operator.EQUALS
+                    || comparison.getOperator() == Operator.NOT_EQUALS;
+        }
+        return true;
+    }
+
+    private static FilterPredicate toPredicate(FileFilterExpression expression) {
+        if (expression instanceof And) {
+            And and = (And) expression;
+            return FilterApi.and(toPredicate(and.getLeft()), toPredicate(and.getRight()));
+        }
+        if (expression instanceof Or) {
+            Or or = (Or) expression;
+            return FilterApi.or(toPredicate(or.getLeft()), toPredicate(or.getRight()));
+        }
+        if (expression instanceof Not) {
+            return FilterApi.not(toPredicate(((Not) expression).getChild()));
+        }
+        if (expression instanceof IsNull) {
+            IsNull isNull = (IsNull) expression;
+            return leaf(isNull, isNull.isNegated() ? Operator.NOT_EQUALS : Operator.EQUALS, null);
+        }
+        if (expression instanceof In) {
+            In in = (In) expression;
+            FilterPredicate predicate = null;
+            for (Object value : in.getValues()) {
+                FilterPredicate equals = leaf(in, Operator.EQUALS, value);
+                predicate = predicate == null ? equals : FilterApi.or(predicate, equals);
+            }
+            return predicate;
+        }
+        Comparison comparison = (Comparison) expression;
+        return leaf(comparison, comparison.getOperator(), comparison.getValue());
+    }
+
+    private static FilterPredicate leaf(
+            ColumnPredicate predicate, Operator operator, Object value) {
+        String column = predicate.getColumn();
+        switch (predicate.getColumnType().getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+                return compare(
+                        FilterApi.intColumn(column),
+                        operator,
+                        value == null ? null : ((Number) value).intValue());
+            case DATE:
+                return compare(
+                        FilterApi.intColumn(column),
+                        operator,
+                        value == null ? null : (int) ((LocalDate) value).toEpochDay());
+            case BIGINT:
+                return compare(FilterApi.longColumn(column), operator, (Long) value);
+            case FLOAT:
+                return compare(FilterApi.floatColumn(column), operator, (Float) value);
+            case DOUBLE:
+                return compare(FilterApi.doubleColumn(column), operator, (Double) value);
+            case STRING:
+                return compare(
+                        FilterApi.binaryColumn(column),
+                        operator,
+                        value == null ? null : Binary.fromString((String) value));
+            case BOOLEAN:
+                Operators.BooleanColumn booleanColumn = FilterApi.booleanColumn(column);
+                return operator == Operator.EQUALS
+                        ? FilterApi.eq(booleanColumn, (Boolean) value)
+                        : FilterApi.notEq(booleanColumn, (Boolean) value);
+            default:
+                throw new IllegalStateException(
+                        "Unsupported column type " + predicate.getColumnType());
+        }
+    }
+
+    private static <
+                    T extends Comparable<T>,
+                    C extends
+                            Operators.Column<T> & Operators.SupportsLtGt
+                                    & Operators.SupportsEqNotEq>
+            FilterPredicate compare(C column, Operator operator, T value) {
+        switch (operator) {
+            case EQUALS:
+                return FilterApi.eq(column, value);
+            case NOT_EQUALS:
+                return FilterApi.notEq(column, value);
+            case LESS_THAN:
+                return FilterApi.lt(column, value);
+            case LESS_THAN_OR_EQUALS:
+                return FilterApi.ltEq(column, value);
+            case GREATER_THAN:
+                return FilterApi.gt(column, value);
+            default:
+                return FilterApi.gtEq(column, value);
+        }
+    }
+}
@@ -26,24 +26,42 @@ public class FileSourceSplit implements SourceSplit {
 
     @Getter private final String tableId;
     @Getter private final String filePath;
+    /** The offset in bytes of the first byte of the file range to read. */
+    @Getter private final long start;
+    /** The length in bytes of the file range to read, 0 or less means the whole file. */
+    @Getter private final long length;
 
     public FileSourceSplit(String splitId) {
-        this.filePath = splitId;
-        this.tableId = null;
+        this(null, splitId);
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0, -1);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+    }
+
+    /**
+     * Whether the split is the whole file. The splits restored from the states before the byte
+     * range was added have a length of 0 and are whole files as well.
+     */
+    public boolean isWholeFile() {
+        return length <= 0;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String splitId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isWholeFile()) {
+            return splitId;
         }
-        return tableId + "_" + filePath;
+        return splitId + "_" + start;
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader.filter;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class FileFilterExpressionTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "price", "dt", "flag", "data"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        PrimitiveByteArrayType.INSTANCE
+                    });
+
+    private static SeaTunnelRow row(Integer id, String name, String price, String dt) {
+        return new SeaTunnelRow(
+                new Object[] {
+                    id,
+                    name,
+                    price == null ? null : new BigDecimal(price),
+                    dt == null ? null : LocalDate.parse(dt),
+                    true,
+                    null
+                });
+    }
+
+    private static FileFilterExpression parse(String expression) {
+        FileFilterExpression filter = FileFilterExpressionParser.parse(expression);
+        filter.bind(ROW_TYPE);
+        return filter;
+    }
+
+    @Test
+    public void testEvaluate() {
+        SeaTunnelRow row = row(10, "it's", "3.50", "2024-01-02");
+        Assertions.assertTrue(parse("id = 10").test(row));
+        Assertions.assertTrue(parse("id >= 10 and id < 11").test(row));
+        Assertions.assertTrue(parse("id != 9 AND `name` = 'it''s'").test(row));
+        Assertions.assertTrue(parse("price > 3.4 AND price <= 3.5").test(row));
+        Assertions.assertTrue(parse("dt BETWEEN '2024-01-01' AND '2024-01-31'").test(row));
+        Assertions.assertTrue(parse("id IN (1, 10) AND flag = true").test(row));
+        Assertions.assertTrue(parse("NOT (id < 5 OR id > 20)").test(row));
+        Assertions.assertTrue(parse("data IS NULL AND name IS NOT NULL").test(row));
+        Assertions.assertFalse(parse("id NOT IN (10, 11)").test(row));
+        Assertions.assertFalse(parse("id <> 10 OR \"name\" < 'a'").test(row));
+    }
+
+    @Test
+    public void testEvaluateNull() {
+        SeaTunnelRow row = row(null, null, null, null);
+        Assertions.assertFalse(parse("id = 1").test(row));
+        Assertions.assertFalse(parse("NOT id = 1").test(row));
+        Assertions.assertFalse(parse("id NOT IN (1, 2)").test(row));
+        Assertions.assertFalse(parse("id IN (1, NULL)").test(row));
+        Assertions.assertTrue(parse("id = 1 OR id IS NULL").test(row));
+        Assertions.assertFalse(parse("id = 1 AND id IS NULL").test(row));
+    }
+
+    @Test
+    public void testParseError() {
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> FileFilterExpressionParser.parse("id >"));
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> FileFilterExpressionParser.parse("id = 1 +"));
+        Assertions.assertThrows(
+                FileConnectorException.class,
+                () -> FileFilterExpressionParser.parse("name = 'abc"));
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> FileFilterExpressionParser.parse("(id = 1"));
+        Assertions.assertThrows(FileConnectorException.class, () -> parse("unknown = 1"));
+        Assertions.assertThrows(FileConnectorException.class, () -> parse("id = 1.5"));
+        Assertions.assertThrows(FileConnectorException.class, () -> parse("dt = 'today'"));
+    }
+
+    @Test
+    public void testRelax() {
+        // the bytes column can not be pushed down, so it is dropped from AND but not from OR
+        FileFilterExpression filter = parse("id > 1 AND data IS NOT NULL");
+        Assertions.assertEquals(
+                "id > 1", FileFilterExpression.relax(filter, this::isNotBytes).toString());
+        Assertions.assertNull(
+                FileFilterExpression.relax(parse("id > 1 OR data IS NULL"), this::isNotBytes));
+        Assertions.assertNull(
+                FileFilterExpression.relax(
+                        parse("NOT (id > 1 AND data IS NULL)"), this::isNotBytes));
+    }
+
+    private boolean isNotBytes(FileFilterExpression.ColumnPredicate predicate) {
+        return predicate.getColumnIndex() != 5;
+    }
+
+    @Test
+    public void testParquetConvert() {
+        FilterPredicate predicate =
+                ParquetFilterConverter.convert(
+                        parse("id > 1 AND price > 2 AND (name = 'a' OR dt IS NULL)"));
+        Assertions.assertEquals(
+                "and(gt(id, 1), or(eq(name, Binary{\"a\"}), eq(dt, null)))", predicate.toString());
+        Assertions.assertNull(ParquetFilterConverter.convert(parse("flag = true OR price > 2")));
+    }
+
+    @Test
+    public void testOrcConvert() {
+        SearchArgument searchArgument =
+                OrcFilterConverter.convert(
+                        parse("id > 1 AND price > 2 AND data IS NULL AND name IN ('a', 'b')"));
+        Assertions.assertEquals(
+                "leaf-0 = (LESS_THAN_EQUALS id 1), leaf-1 = (LESS_THAN_EQUALS price 2),"
+                        + " leaf-2 = (IN name a b), expr = (and (not leaf-0) (not leaf-1) leaf-2)",
+                searchArgument.toString());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.AbstractReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.JsonReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.TestCollector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class FileSplitReadTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    @TempDir private Path tempDir;
+
+    @Test
+    public void testTextReadBySplits() throws Exception {
+        StringBuilder content = new StringBuilder("id,name\n");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            content.append(i).append(",name_").append(i).append('\n');
+        }
+        Path file = tempDir.resolve("test.csv");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+
+        String options =
+                "file_format_type = text\nfield_delimiter = \",\"\nskip_header_row_number = 1\n";
+        try (TextReadStrategy readStrategy = new TextReadStrategy()) {
+            assertReadBySplits(readStrategy, file, options);
+        }
+    }
+
+    @Test
+    public void testJsonReadBySplits() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            content.append("{\"id\":").append(i).append(",\"name\":\"name_").append(i);
+            content.append("\"}\n");
+        }
+        Path file = tempDir.resolve("test.json");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+
+        String options = "file_format_type = json\n";
+        try (JsonReadStrategy readStrategy = new JsonReadStrategy()) {
+            assertReadBySplits(readStrategy, file, options);
+        }
+    }
+
+    private static void assertReadBySplits(
+            AbstractReadStrategy readStrategy, Path file, String options) throws IOException {
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        options
+                                + "file_split_size = 997\n"
+                                + "schema = { fields { id = int, name = string } }");
+        readStrategy.setPluginConfig(pluginConfig);
+        readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        String path = file.toString();
+        readStrategy.getFileNamesByPath(path);
+        readStrategy.setSeaTunnelRowTypeInfo(
+                CatalogTableUtil.buildWithConfig(pluginConfig).getSeaTunnelRowType());
+
+        List<FileSourceSplit> splits = readStrategy.getFileSourceSplits(null, path);
+        Assertions.assertEquals((Files.size(file) + 996) / 997, splits.size());
+        TestCollector collector = new TestCollector();
+        for (FileSourceSplit split : splits) {
+            Assertions.assertFalse(split.isWholeFile());
+            readStrategy.read(split, "", collector);
+        }
+
+        List<SeaTunnelRow> rows = collector.getRows();
+        Assertions.assertEquals(ROW_COUNT, rows.size());
+        List<Integer> ids = new ArrayList<>();
+        for (SeaTunnelRow row : rows) {
+            int id = (Integer) row.getField(0);
+            Assertions.assertEquals("name_" + id, row.getField(1));
+            ids.add(id);
+        }
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i, ids.get(i));
+        }
+    }
+}
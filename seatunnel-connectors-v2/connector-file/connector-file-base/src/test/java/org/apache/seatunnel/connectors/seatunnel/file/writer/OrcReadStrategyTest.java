@@ -26,13 +26,24 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
 
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.orc.OrcFile;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
@@ -88,6 +99,53 @@ public class OrcReadStrategyTest {
         }
     }
 
+    @Test
+    public void testOrcReadFilter(@TempDir File tempDir) throws Exception {
+        String orcFilePath = new File(tempDir, "filter.orc").getPath();
+        TypeDescription schema = TypeDescription.fromString("struct<id:bigint,name:string>");
+        try (Writer writer =
+                OrcFile.createWriter(
+                        new Path(orcFilePath),
+                        OrcFile.writerOptions(new Configuration())
+                                .setSchema(schema)
+                                .rowIndexStride(1000))) {
+            VectorizedRowBatch batch = schema.createRowBatch();
+            LongColumnVector id = (LongColumnVector) batch.cols[0];
+            BytesColumnVector name = (BytesColumnVector) batch.cols[1];
+            for (int i = 0; i < 10000; i++) {
+                int row = batch.size++;
+                id.vector[row] = i;
+                name.setVal(row, ("name_" + i).getBytes(StandardCharsets.UTF_8));
+                if (batch.size == batch.getMaxSize()) {
+                    writer.addRowBatch(batch);
+                    batch.reset();
+                }
+            }
+            if (batch.size > 0) {
+                writer.addRowBatch(batch);
+            }
+        }
+        OrcReadStrategy orcReadStrategy = new OrcReadStrategy();
+        orcReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        orcReadStrategy.setPluginConfig(
+                ConfigFactory.parseString(
+                        "read_columns = [name, id]\n"
+                                + "read_filter = \"id BETWEEN 4990 AND 5009 AND name <> 'name_5000'\""));
+        SeaTunnelRowType seaTunnelRowTypeInfo =
+                orcReadStrategy.getSeaTunnelRowTypeInfo(orcFilePath);
+        Assertions.assertArrayEquals(
+                new String[] {"name", "id"}, seaTunnelRowTypeInfo.getFieldNames());
+        TestCollector testCollector = new TestCollector();
+        orcReadStrategy.read(orcFilePath, "", testCollector);
+        List<SeaTunnelRow> rows = testCollector.getRows();
+        Assertions.assertEquals(19, rows.size());
+        for (SeaTunnelRow row : rows) {
+            long id = (Long) row.getField(1);
+            Assertions.assertTrue(id >= 4990 && id <= 5009 && id != 5000);
+            Assertions.assertEquals("name_" + id, row.getField(0));
+        }
+    }
+
     public static class TestCollector implements Collector<SeaTunnelRow> {
 
         private final List<SeaTunnelRow> rows = new ArrayList<>();
@@ -190,6 +190,31 @@ public class ParquetReadStrategyTest {
         AutoGenerateParquetData.deleteFile();
     }
 
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadFilter() throws Exception {
+        AutoGenerateParquetData.generateTestData();
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "read_columns = [name, id]\n"
+                                + "read_filter = \"id > 1 AND name NOT IN ('Carol')\"");
+        parquetReadStrategy.setPluginConfig(pluginConfig);
+        SeaTunnelRowType seaTunnelRowTypeInfo =
+                parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+        Assertions.assertArrayEquals(
+                new String[] {"name", "id"}, seaTunnelRowTypeInfo.getFieldNames());
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "", testCollector);
+        List<SeaTunnelRow> rows = testCollector.getRows();
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals("Bob", rows.get(0).getField(0));
+        Assertions.assertEquals(2, rows.get(0).getField(1));
+        AutoGenerateParquetData.deleteFile();
+    }
+
     @DisabledOnOs(OS.WINDOWS)
     @Test
     public void testParquetReadUnsupportedType() throws Exception {
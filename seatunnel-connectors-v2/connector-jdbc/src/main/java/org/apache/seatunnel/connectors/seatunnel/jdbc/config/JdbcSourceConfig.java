@@ -43,6 +43,8 @@ public class JdbcSourceConfig implements Serializable {
     private int splitSampleShardingThreshold;
     private int splitInverseSamplingRate;
     private boolean decimalTypeNarrowing;
+    private int splitFetchParallelism;
+    private int splitFetchBufferSize;
 
     public static JdbcSourceConfig of(ReadonlyConfig config) {
         JdbcSourceConfig.Builder builder = JdbcSourceConfig.builder();
@@ -66,6 +68,8 @@ public class JdbcSourceConfig implements Serializable {
         builder.splitInverseSamplingRate(config.get(JdbcSourceOptions.SPLIT_INVERSE_SAMPLING_RATE));
 
         builder.decimalTypeNarrowing(config.get(JdbcOptions.DECIMAL_TYPE_NARROWING));
+        builder.splitFetchParallelism(config.get(JdbcSourceOptions.SPLIT_FETCH_PARALLELISM));
+        builder.splitFetchBufferSize(config.get(JdbcSourceOptions.SPLIT_FETCH_BUFFER_SIZE));
 
         config.getOptional(JdbcSourceOptions.WHERE_CONDITION)
                 .ifPresent(
@@ -100,6 +100,21 @@ public interface JdbcSourceOptions {
                     .defaultValue(false)
                     .withDescription("Use select count for table count");
 
+    Option<Integer> SPLIT_FETCH_PARALLELISM =
+            Options.key("split.fetch-parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "How many split queries one reader keeps in flight. Splits are still emitted one after another in "
+                                    + "assignment order, the following splits are queried and buffered while the current one is emitted.");
+
+    Option<Integer> SPLIT_FETCH_BUFFER_SIZE =
+            Options.key("split.fetch-buffer-size")
+                    .intType()
+                    .defaultValue(1024)
+                    .withDescription(
+                            "The maximum number of rows buffered for each prefetched split when `split.fetch-parallelism` is greater than 1.");
+
     Option<Boolean> SKIP_ANALYZE =
             Options.key("skip_analyze")
                     .booleanType()
@@ -38,28 +38,43 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSplit> {
     private final Context context;
     private final JdbcInputFormat inputFormat;
+    private final JdbcSplitFetcher splitFetcher;
     private final Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
     private volatile boolean noMoreSplit;
 
     public JdbcSourceReader(
             Context context, JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
         this.inputFormat = new JdbcInputFormat(config, tables);
+        this.splitFetcher =
+                config.getSplitFetchParallelism() > 1
+                        ? new JdbcSplitFetcher(config, tables, context.getIndexOfSubtask())
+                        : null;
         this.context = context;
     }
 
     @Override
     public void open() throws Exception {
         inputFormat.openInputFormat();
+        if (splitFetcher != null) {
+            splitFetcher.open();
+        }
     }
 
     @Override
     public void close() throws IOException {
         inputFormat.closeInputFormat();
+        if (splitFetcher != null) {
+            splitFetcher.close();
+        }
     }
 
     @Override
     @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        if (splitFetcher != null) {
+            pollPrefetched(output);
+            return;
+        }
         synchronized (output.getCheckpointLock()) {
             JdbcSourceSplit split = splits.poll();
             if (null != split) {
@@ -82,8 +97,31 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
         }
     }
 
+    @SuppressWarnings("magicnumber")
+    private void pollPrefetched(Collector<SeaTunnelRow> output) throws Exception {
+        synchronized (output.getCheckpointLock()) {
+            splitFetcher.fetch(splits);
+            if (!splitFetcher.isEmpty()) {
+                splitFetcher.emitNext(output);
+                // start the next query before waiting for the lock again
+                splitFetcher.fetch(splits);
+            } else if (noMoreSplit && splits.isEmpty()) {
+                log.info("Closed the bounded jdbc source");
+                context.signalNoMoreElement();
+            } else {
+                Thread.sleep(1000L);
+            }
+        }
+    }
+
     @Override
     public List<JdbcSourceSplit> snapshotState(long checkpointId) throws Exception {
+        if (splitFetcher != null) {
+            // splits in flight are emitted as a whole, so they are read again after restore
+            List<JdbcSourceSplit> state = splitFetcher.inFlightSplits();
+            state.addAll(splits);
+            return state;
+        }
         return new ArrayList<>(splits);
     }
 
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps several split queries of one reader in flight. Every split is read by a worker thread with
+ * its own connection into a bounded buffer, while the reader emits the buffered rows of the oldest
+ * split. Splits are emitted one after another in the order they were fetched, so a split is either
+ * fully emitted or still part of the reader state.
+ */
+@Slf4j
+class JdbcSplitFetcher implements AutoCloseable {
+
+    private static final long POLL_TIMEOUT_MS = 100L;
+
+    private final int parallelism;
+    private final int bufferSize;
+    private final List<JdbcInputFormat> inputFormats;
+    private final BlockingQueue<JdbcInputFormat> idleInputFormats;
+    private final Deque<SplitFetch> fetches = new ConcurrentLinkedDeque<>();
+    private final ExecutorService executor;
+
+    JdbcSplitFetcher(JdbcSourceConfig config, Map<TablePath, CatalogTable> tables, int subtaskId) {
+        this.parallelism = config.getSplitFetchParallelism();
+        this.bufferSize = Math.max(1, config.getSplitFetchBufferSize());
+        this.inputFormats = new ArrayList<>(parallelism);
+        this.idleInputFormats = new LinkedBlockingQueue<>();
+        for (int i = 0; i < parallelism; i++) {
+            JdbcInputFormat inputFormat = new JdbcInputFormat(config, tables);
+            inputFormats.add(inputFormat);
+            idleInputFormats.add(inputFormat);
+        }
+        this.executor =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("jdbc-split-fetcher-" + subtaskId + "-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    void open() {
+        inputFormats.forEach(JdbcInputFormat::openInputFormat);
+    }
+
+    /** Starts queries for the queued splits until {@code parallelism} splits are in flight. */
+    void fetch(Deque<JdbcSourceSplit> splits) {
+        while (fetches.size() < parallelism) {
+            JdbcSourceSplit split = splits.poll();
+            if (split == null) {
+                return;
+            }
+            SplitFetch fetch = new SplitFetch(split, bufferSize);
+            fetches.add(fetch);
+            executor.execute(() -> read(fetch));
+        }
+    }
+
+    boolean isEmpty() {
+        return fetches.isEmpty();
+    }
+
+    /** The splits in flight, none of their rows has been emitted yet. */
+    List<JdbcSourceSplit> inFlightSplits() {
+        return fetches.stream().map(fetch -> fetch.split).collect(Collectors.toList());
+    }
+
+    /** Emits all rows of the oldest split in flight and removes it afterwards. */
+    void emitNext(Collector<SeaTunnelRow> output) throws Exception {
+        SplitFetch fetch = fetches.peek();
+        if (fetch == null) {
+            return;
+        }
+        List<SeaTunnelRow> batch = new ArrayList<>(bufferSize);
+        while (true) {
+            SeaTunnelRow row = fetch.buffer.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (row == null) {
+                if (fetch.error != null) {
+                    throw new JdbcConnectorException(
+                            CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                            "Read split " + fetch.split.getSplitId() + " failed",
+                            fetch.error);
+                }
+                // the flag is set after the last row was buffered
+                if (fetch.finished && fetch.buffer.isEmpty()) {
+                    break;
+                }
+                continue;
+            }
+            output.collect(row);
+            fetch.buffer.drainTo(batch);
+            for (SeaTunnelRow buffered : batch) {
+                output.collect(buffered);
+            }
+            batch.clear();
+        }
+        fetches.poll();
+    }
+
+    private void read(SplitFetch fetch) {
+        JdbcInputFormat inputFormat = null;
+        try {
+            inputFormat = idleInputFormats.take();
+            inputFormat.open(fetch.split);
+            while (!inputFormat.reachedEnd()) {
+                SeaTunnelRow row = inputFormat.nextRecord();
+                while (!fetch.buffer.offer(row, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    if (fetch.cancelled) {
+                        return;
+                    }
+                }
+            }
+            fetch.finished = true;
+        } catch (Throwable e) {
+            fetch.error = e;
+        } finally {
+            if (inputFormat != null) {
+                try {
+                    inputFormat.close();
+                } catch (IOException e) {
+                    log.warn("Close split {} failed", fetch.split.getSplitId(), e);
+                }
+                idleInputFormats.add(inputFormat);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        fetches.forEach(fetch -> fetch.cancelled = true);
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(POLL_TIMEOUT_MS * 10, TimeUnit.MILLISECONDS)) {
+                log.warn("Split fetcher threads did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (JdbcInputFormat inputFormat : inputFormats) {
+            inputFormat.closeInputFormat();
+        }
+    }
+
+    private static class SplitFetch {
+        private final JdbcSourceSplit split;
+        private final BlockingQueue<SeaTunnelRow> buffer;
+        private volatile boolean finished;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        private SplitFetch(JdbcSourceSplit split, int bufferSize) {
+            this.split = split;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JdbcSourceReaderTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("main", "test_table");
+
+    @Test
+    public void testPrefetchedSplitsKeepOrderAndState(@TempDir File dir) throws Exception {
+        String url = "jdbc:sqlite:" + new File(dir, "test.db").getAbsolutePath();
+        try (Connection connection = DriverManager.getConnection(url)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE test_table (id INTEGER, name TEXT)");
+            }
+            try (PreparedStatement statement =
+                    connection.prepareStatement("INSERT INTO test_table VALUES (?, ?)")) {
+                for (int i = 0; i < 1000; i++) {
+                    statement.setInt(1, i);
+                    statement.setString(2, "name_" + i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        JdbcSourceConfig config =
+                JdbcSourceConfig.builder()
+                        .jdbcConnectionConfig(
+                                JdbcConnectionConfig.builder()
+                                        .url(url)
+                                        .driverName("org.sqlite.JDBC")
+                                        .build())
+                        .splitFetchParallelism(3)
+                        .splitFetchBufferSize(16)
+                        .build();
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.of(
+                                                "id",
+                                                BasicType.INT_TYPE,
+                                                (Long) null,
+                                                true,
+                                                null,
+                                                ""),
+                                        PhysicalColumn.of(
+                                                "name",
+                                                BasicType.STRING_TYPE,
+                                                (Long) null,
+                                                true,
+                                                null,
+                                                "")))
+                        .build();
+        Map<TablePath, CatalogTable> tables = new HashMap<>();
+        tables.put(
+                TABLE_PATH,
+                CatalogTable.of(
+                        TableIdentifier.of("sqlite", TABLE_PATH),
+                        tableSchema,
+                        Collections.emptyMap(),
+                        Collections.emptyList(),
+                        ""));
+
+        List<JdbcSourceSplit> splits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            splits.add(
+                    new JdbcSourceSplit(
+                            TABLE_PATH,
+                            "split_" + i,
+                            String.format(
+                                    "SELECT * FROM test_table WHERE id >= %d AND id < %d ORDER BY id",
+                                    i * 100, (i + 1) * 100),
+                            null,
+                            null,
+                            null,
+                            null));
+        }
+
+        SourceReader.Context context = Mockito.mock(SourceReader.Context.class);
+        ListCollector collector = new ListCollector();
+        try (JdbcSourceReader reader = new JdbcSourceReader(context, config, tables)) {
+            reader.open();
+            reader.addSplits(splits);
+            reader.handleNoMoreSplits();
+            Assertions.assertEquals(splits, reader.snapshotState(1));
+
+            reader.pollNext(collector);
+            Assertions.assertEquals(100, collector.rows.size());
+            Assertions.assertEquals(splits.subList(1, 10), reader.snapshotState(2));
+
+            while (collector.rows.size() < 1000) {
+                reader.pollNext(collector);
+            }
+            reader.pollNext(collector);
+            Mockito.verify(context).signalNoMoreElement();
+            Assertions.assertTrue(reader.snapshotState(3).isEmpty());
+        }
+        for (int i = 0; i < 1000; i++) {
+            SeaTunnelRow row = collector.rows.get(i);
+            Assertions.assertEquals(i, row.getField(0));
+            Assertions.assertEquals("name_" + i, row.getField(1));
+        }
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows = new ArrayList<>();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+}
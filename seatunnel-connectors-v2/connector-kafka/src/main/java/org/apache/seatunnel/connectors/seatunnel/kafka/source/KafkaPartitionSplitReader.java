@@ -327,6 +327,16 @@ public class KafkaPartitionSplitReader
         }
     }
 
+    @Override
+    public void pauseFetching() {
+        consumer.pause(consumer.assignment());
+    }
+
+    @Override
+    public void resumeFetching() {
+        consumer.resume(consumer.paused());
+    }
+
     @Override
     public void wakeUp() {
         consumer.wakeup();
@@ -405,10 +415,18 @@ public class KafkaPartitionSplitReader
         private Iterator<ConsumerRecord<byte[], byte[]>> recordIterator;
         private TopicPartition currentTopicPartition;
         private Long currentSplitStoppingOffset;
+        private final long sizeInBytes;
 
         private KafkaPartitionSplitRecords(ConsumerRecords<byte[], byte[]> consumerRecords) {
             this.consumerRecords = consumerRecords;
             this.splitIterator = consumerRecords.partitions().iterator();
+            long size = 0;
+            for (ConsumerRecord<byte[], byte[]> record : consumerRecords) {
+                size +=
+                        Math.max(0, record.serializedKeySize())
+                                + Math.max(0, record.serializedValueSize());
+            }
+            this.sizeInBytes = size;
         }
 
         private void setPartitionStoppingOffset(
@@ -456,5 +474,10 @@ public class KafkaPartitionSplitReader
         public Set<String> finishedSplits() {
             return finishedSplits;
         }
+
+        @Override
+        public long sizeInBytes() {
+            return sizeInBytes;
+        }
     }
 }
@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.source.SupportParallelism;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.constants.JobMode;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.MemoryBoundedElementsQueue;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch.KafkaSourceFetcherManager;
@@ -38,7 +39,6 @@ import com.google.common.base.Supplier;
 
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
 
 public class KafkaSource
@@ -78,8 +78,11 @@ public class KafkaSource
     public SourceReader<SeaTunnelRow, KafkaSourceSplit> createReader(
             SourceReader.Context readerContext) {
 
+        SourceReaderOptions sourceReaderOptions = new SourceReaderOptions(readonlyConfig);
+        // the number of fetched batches is not limited, only the bytes they hold
         BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue =
-                new LinkedBlockingQueue<>();
+                new MemoryBoundedElementsQueue<>(
+                        Integer.MAX_VALUE, sourceReaderOptions.getElementQueueMaxBytes());
 
         Supplier<KafkaPartitionSplitReader> kafkaPartitionSplitReaderSupplier =
                 () -> new KafkaPartitionSplitReader(kafkaSourceConfig, readerContext);
@@ -96,7 +99,7 @@ public class KafkaSource
                 elementsQueue,
                 kafkaSourceFetcherManager,
                 kafkaRecordEmitter,
-                new SourceReaderOptions(readonlyConfig),
+                sourceReaderOptions,
                 kafkaSourceConfig,
                 readerContext);
     }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.common.utils.ReflectionUtils;
+
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+
+class KafkaPartitionSplitReaderTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pauseAndResumeFetching() throws Exception {
+        KafkaSourceConfig kafkaSourceConfig = Mockito.mock(KafkaSourceConfig.class);
+        Mockito.when(kafkaSourceConfig.getProperties()).thenReturn(new Properties());
+        Mockito.when(kafkaSourceConfig.getBootstrap()).thenReturn("localhost:9092");
+        Mockito.when(kafkaSourceConfig.getConsumerGroup()).thenReturn("test-group");
+        SourceReader.Context context = Mockito.mock(SourceReader.Context.class);
+
+        KafkaPartitionSplitReader splitReader =
+                new KafkaPartitionSplitReader(kafkaSourceConfig, context);
+        try {
+            KafkaConsumer<byte[], byte[]> consumer =
+                    (KafkaConsumer<byte[], byte[]>)
+                            ReflectionUtils.getField(splitReader, "consumer").get();
+            List<TopicPartition> partitions =
+                    Arrays.asList(new TopicPartition("test", 0), new TopicPartition("test", 1));
+            consumer.assign(partitions);
+
+            splitReader.pauseFetching();
+            Assertions.assertEquals(new HashSet<>(partitions), consumer.paused());
+
+            splitReader.resumeFetching();
+            Assertions.assertTrue(consumer.paused().isEmpty());
+            Assertions.assertEquals(new HashSet<>(partitions), consumer.assignment());
+        } finally {
+            splitReader.close();
+        }
+    }
+}
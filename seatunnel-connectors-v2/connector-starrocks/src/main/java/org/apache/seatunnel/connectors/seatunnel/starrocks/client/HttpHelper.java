@@ -125,7 +125,7 @@ public class HttpHelper {
     }
 
     @SuppressWarnings("unchecked")
-    public Map<String, Object> doHttpPut(String url, byte[] data, Map<String, String> header)
+    public Map<String, Object> doHttpPut(String url, HttpEntity entity, Map<String, String> header)
             throws IOException {
         final HttpClientBuilder httpClientBuilder =
                 HttpClients.custom()
@@ -151,7 +151,7 @@ public class HttpHelper {
                     httpPut.setHeader(entry.getKey(), String.valueOf(entry.getValue()));
                 }
             }
-            httpPut.setEntity(new ByteArrayEntity(data));
+            httpPut.setEntity(entity);
             httpPut.setConfig(
                     RequestConfig.custom()
                             .setSocketTimeout(sinkConfig.getHttpSocketTimeout())
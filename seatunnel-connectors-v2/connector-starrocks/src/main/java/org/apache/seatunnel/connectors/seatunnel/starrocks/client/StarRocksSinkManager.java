@@ -22,6 +22,7 @@ import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksCo
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -29,12 +30,16 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 public class StarRocksSinkManager {
 
     private final SinkConfig sinkConfig;
-    private final List<byte[]> batchList;
+    private List<byte[]> batchList;
 
     private final StarRocksStreamLoadVisitor starrocksStreamLoadVisitor;
     private volatile boolean initialize;
@@ -42,10 +47,33 @@ public class StarRocksSinkManager {
     private int batchRowCount = 0;
     private long batchBytesSize = 0;
 
+    /** Runs the stream loads in async mode, null when the loads run on the writer thread. */
+    private final ExecutorService loadExecutor;
+
+    private final int maxInflightLoads;
+    private final Semaphore inflightLoads;
+
     public StarRocksSinkManager(SinkConfig sinkConfig, List<String> fileNames) {
+        this(sinkConfig, new StarRocksStreamLoadVisitor(sinkConfig, fileNames));
+    }
+
+    StarRocksSinkManager(SinkConfig sinkConfig, StarRocksStreamLoadVisitor streamLoadVisitor) {
         this.sinkConfig = sinkConfig;
         this.batchList = new ArrayList<>();
-        starrocksStreamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, fileNames);
+        this.starrocksStreamLoadVisitor = streamLoadVisitor;
+        this.maxInflightLoads = Math.max(1, sinkConfig.getMaxInflightLoads());
+        this.inflightLoads = new Semaphore(maxInflightLoads);
+        if (sinkConfig.isEnableAsyncLoad()) {
+            this.loadExecutor =
+                    Executors.newFixedThreadPool(
+                            maxInflightLoads,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("starrocks-stream-load-%d")
+                                    .setDaemon(true)
+                                    .build());
+        } else {
+            this.loadExecutor = null;
+        }
     }
 
     private void tryInit() throws IOException {
@@ -64,22 +92,87 @@ public class StarRocksSinkManager {
         batchBytesSize += bts.length;
         if (batchRowCount >= sinkConfig.getBatchMaxSize()
                 || batchBytesSize >= sinkConfig.getBatchMaxBytes()) {
-            flush();
+            flushBatch();
         }
     }
 
     public synchronized void close() throws IOException {
-        flush();
+        try {
+            flush();
+        } finally {
+            if (loadExecutor != null) {
+                loadExecutor.shutdownNow();
+            }
+        }
     }
 
+    /** Load the buffered rows and wait until all the loads in flight are finished. */
     public synchronized void flush() throws IOException {
+        flushBatch();
+        waitForInflightLoads();
+    }
+
+    /**
+     * Hand the buffered rows over to a stream load. In async mode this only blocks when {@code
+     * max_inflight_loads} loads are already running.
+     */
+    private void flushBatch() throws IOException {
         checkFlushException();
         if (batchList.isEmpty()) {
             return;
         }
-        String label = createBatchLabel();
         StarRocksFlushTuple tuple =
-                new StarRocksFlushTuple(label, batchBytesSize, new ArrayList<>(batchList));
+                new StarRocksFlushTuple(createBatchLabel(), batchBytesSize, batchList);
+        batchList = new ArrayList<>();
+        batchRowCount = 0;
+        batchBytesSize = 0;
+        if (loadExecutor == null) {
+            load(tuple);
+        } else {
+            loadAsync(tuple);
+        }
+    }
+
+    private void loadAsync(StarRocksFlushTuple tuple) {
+        try {
+            inflightLoads.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException(StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+        }
+        try {
+            loadExecutor.execute(
+                    () -> {
+                        try {
+                            load(tuple);
+                        } catch (Exception e) {
+                            log.error("Stream load of label [{}] failed.", tuple.getLabel(), e);
+                            flushException = e;
+                        } finally {
+                            inflightLoads.release();
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            inflightLoads.release();
+            throw new StarRocksConnectorException(StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+        }
+    }
+
+    private void waitForInflightLoads() {
+        if (loadExecutor == null) {
+            return;
+        }
+        try {
+            inflightLoads.acquire(maxInflightLoads);
+            inflightLoads.release(maxInflightLoads);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException(StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+        }
+        checkFlushException();
+    }
+
+    private void load(StarRocksFlushTuple tuple) {
         for (int i = 0; i <= sinkConfig.getMaxRetries(); i++) {
             try {
                 Boolean successFlag = starrocksStreamLoadVisitor.doStreamLoad(tuple);
@@ -118,9 +211,6 @@ public class StarRocksSinkManager {
                 }
             }
         }
-        batchList.clear();
-        batchRowCount = 0;
-        batchBytesSize = 0;
     }
 
     private void checkFlushException() {
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * The body of a stream load, written row by row into a chunked request, so the rows of a batch are
+ * not copied into one array first. It can be written again for a retry or a redirect.
+ */
+public class StarRocksStreamLoadEntity extends AbstractHttpEntity {
+
+    private final List<byte[]> rows;
+    private final byte[] prefix;
+    private final byte[] separator;
+    private final byte[] suffix;
+
+    private StarRocksStreamLoadEntity(
+            List<byte[]> rows, byte[] prefix, byte[] separator, byte[] suffix) {
+        this.rows = rows;
+        this.prefix = prefix;
+        this.separator = separator;
+        this.suffix = suffix;
+        setChunked(true);
+    }
+
+    /** Rows of csv format, each one followed by the line delimiter. */
+    public static StarRocksStreamLoadEntity csv(List<byte[]> rows, byte[] lineDelimiter) {
+        return new StarRocksStreamLoadEntity(
+                rows, new byte[0], lineDelimiter, rows.isEmpty() ? new byte[0] : lineDelimiter);
+    }
+
+    /** Rows of json format, written as one json array. */
+    public static StarRocksStreamLoadEntity json(List<byte[]> rows) {
+        return new StarRocksStreamLoadEntity(
+                rows, new byte[] {'['}, new byte[] {','}, new byte[] {']'});
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTo(out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(prefix);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                out.write(separator);
+            }
+            out.write(rows.get(i));
+        }
+        out.write(suffix);
+        out.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
@@ -65,6 +65,9 @@ public class SinkConfig implements Serializable {
 
     private int httpSocketTimeout;
 
+    private boolean enableAsyncLoad;
+    private int maxInflightLoads;
+
     @Getter private final Map<String, Object> streamLoadProps = new HashMap<>();
 
     public static SinkConfig of(ReadonlyConfig config) {
@@ -98,6 +101,8 @@ public class SinkConfig implements Serializable {
         sinkConfig.setDataSaveMode(config.get(StarRocksSinkOptions.DATA_SAVE_MODE));
         sinkConfig.setCustomSql(config.get(StarRocksSinkOptions.CUSTOM_SQL));
         sinkConfig.setHttpSocketTimeout(config.get(StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS));
+        sinkConfig.setEnableAsyncLoad(config.get(StarRocksSinkOptions.ENABLE_ASYNC_LOAD));
+        sinkConfig.setMaxInflightLoads(config.get(StarRocksSinkOptions.MAX_INFLIGHT_LOADS));
         return sinkConfig;
     }
 }
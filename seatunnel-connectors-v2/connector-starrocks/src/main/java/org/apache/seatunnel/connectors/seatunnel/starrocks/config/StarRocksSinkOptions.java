@@ -160,6 +160,20 @@ public interface StarRocksSinkOptions {
                     .defaultValue(3 * 60 * 1000)
                     .withDescription("Set http socket timeout, default is 3 minutes.");
 
+    Option<Boolean> ENABLE_ASYNC_LOAD =
+            Options.key("enable_async_load")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to run the stream loads in the background, so the next batch is filled while the previous ones are loading. All loads are finished before a checkpoint completes.");
+
+    Option<Integer> MAX_INFLIGHT_LOADS =
+            Options.key("max_inflight_loads")
+                    .intType()
+                    .defaultValue(3)
+                    .withDescription(
+                            "The maximum number of stream loads running at the same time when enable_async_load is true, each one with its own label and spread across the nodeUrls.");
+
     Option<String> CUSTOM_SQL =
             Options.key("custom_sql")
                     .stringType()
@@ -65,7 +65,9 @@ public class StarRocksSinkFactory implements TableSinkFactory {
                         StarRocksSinkOptions.SCHEMA_SAVE_MODE,
                         StarRocksSinkOptions.DATA_SAVE_MODE,
                         StarRocksSinkOptions.SAVE_MODE_CREATE_TEMPLATE,
-                        StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS)
+                        StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS,
+                        StarRocksSinkOptions.ENABLE_ASYNC_LOAD,
+                        StarRocksSinkOptions.MAX_INFLIGHT_LOADS)
                 .conditional(
                         DATA_SAVE_MODE,
                         DataSaveMode.CUSTOM_PROCESSING,
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StarRocksSinkManagerTest {
+
+    @Test
+    void testStreamLoadEntity() throws IOException {
+        List<byte[]> rows = Arrays.asList(bytes("a,1"), bytes("b,2"));
+        Assertions.assertEquals(
+                "a,1\nb,2\n", write(StarRocksStreamLoadEntity.csv(rows, bytes("\n"))));
+        Assertions.assertEquals(
+                "[{\"a\":1},{\"b\":2}]",
+                write(
+                        StarRocksStreamLoadEntity.json(
+                                Arrays.asList(bytes("{\"a\":1}"), bytes("{\"b\":2}")))));
+        Assertions.assertEquals("[]", write(StarRocksStreamLoadEntity.json(new ArrayList<>())));
+        Assertions.assertTrue(StarRocksStreamLoadEntity.json(rows).isChunked());
+        Assertions.assertTrue(StarRocksStreamLoadEntity.json(rows).isRepeatable());
+    }
+
+    @Test
+    void testAsyncLoadsFinishOnFlush() throws IOException, InterruptedException {
+        SinkConfig sinkConfig = asyncSinkConfig();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        Set<String> labels = ConcurrentHashMap.newKeySet();
+        List<String> loadedRows = Collections.synchronizedList(new ArrayList<>());
+        StarRocksSinkManager manager =
+                new StarRocksSinkManager(
+                        sinkConfig,
+                        new StarRocksStreamLoadVisitor(sinkConfig, null) {
+                            @Override
+                            public Boolean doStreamLoad(StarRocksFlushTuple flushData) {
+                                running.incrementAndGet();
+                                try {
+                                    release.await(10, TimeUnit.SECONDS);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                labels.add(flushData.getLabel());
+                                flushData
+                                        .getRows()
+                                        .forEach(
+                                                row ->
+                                                        loadedRows.add(
+                                                                new String(
+                                                                        row,
+                                                                        StandardCharsets.UTF_8)));
+                                return true;
+                            }
+                        });
+
+        // two full batches are loading while the writer keeps buffering rows
+        for (int i = 0; i < 5; i++) {
+            manager.write("row" + i);
+        }
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (running.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(2, running.get());
+        Assertions.assertTrue(loadedRows.isEmpty());
+
+        release.countDown();
+        manager.flush();
+        Assertions.assertEquals(5, loadedRows.size());
+        Assertions.assertEquals(3, labels.size());
+        manager.close();
+    }
+
+    @Test
+    void testAsyncLoadFailureIsThrownOnFlush() throws IOException {
+        SinkConfig sinkConfig = asyncSinkConfig();
+        StarRocksSinkManager manager =
+                new StarRocksSinkManager(
+                        sinkConfig,
+                        new StarRocksStreamLoadVisitor(sinkConfig, null) {
+                            @Override
+                            public Boolean doStreamLoad(StarRocksFlushTuple flushData)
+                                    throws IOException {
+                                throw new IOException("load failed");
+                            }
+                        });
+        manager.write("row0");
+        manager.write("row1");
+        Assertions.assertThrows(StarRocksConnectorException.class, manager::flush);
+    }
+
+    private static SinkConfig asyncSinkConfig() {
+        SinkConfig sinkConfig = new SinkConfig();
+        sinkConfig.setLoadFormat(SinkConfig.StreamLoadFormat.CSV);
+        sinkConfig.setBatchMaxSize(2);
+        sinkConfig.setBatchMaxBytes(Long.MAX_VALUE);
+        sinkConfig.setEnableAsyncLoad(true);
+        sinkConfig.setMaxInflightLoads(3);
+        return sinkConfig;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String write(StarRocksStreamLoadEntity entity) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
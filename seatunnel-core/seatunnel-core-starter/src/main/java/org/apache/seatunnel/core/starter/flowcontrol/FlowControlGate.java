@@ -48,6 +48,17 @@ public class FlowControlGate {
         countRateLimiter.ifPresent(RateLimiter::acquire);
     }
 
+    public void audit(int rowCount, long bytesSize) {
+        if (bytesSize > 0) {
+            bytesRateLimiter.ifPresent(
+                    rateLimiter ->
+                            rateLimiter.acquire((int) Math.min(bytesSize, Integer.MAX_VALUE)));
+        }
+        if (rowCount > 0) {
+            countRateLimiter.ifPresent(rateLimiter -> rateLimiter.acquire(rowCount));
+        }
+    }
+
     public static FlowControlGate create(FlowControlStrategy flowControlStrategy) {
         return new FlowControlGate(flowControlStrategy);
     }
@@ -57,11 +57,14 @@ public class Constant {
 
     public static final String IMAP_CHECKPOINT_ID = "engine_checkpoint-id-map";
 
-    public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningJobMetrics";
-
-    public static final Long IMAP_RUNNING_JOB_METRICS_KEY = 1L;
+    /** The metrics of every running task, keyed by its task location. */
+    public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningTaskMetrics";
 
     public static final String IMAP_CONNECTOR_JAR_REF_COUNTERS = "engine_connectorJarRefCounters";
 
+    public static final String IMAP_SHUFFLE_CHANNEL_ADDRESS = "engine_shuffleChannelAddress";
+
+    public static final String IMAP_SHUFFLE_SENDER_ADDRESS = "engine_shuffleSenderAddress";
+
     public static final String PROP_FILE = "zeta.version.properties";
 }
@@ -22,6 +22,7 @@ import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageConfi
 import org.apache.seatunnel.engine.common.config.server.HttpConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
@@ -63,6 +64,10 @@ public class EngineConfig {
             ServerConfigOptions.CLASSLOADER_CACHE_MODE.defaultValue();
 
     private QueueType queueType = ServerConfigOptions.QUEUE_TYPE.defaultValue();
+
+    private ShuffleTransportType shuffleTransport =
+            ServerConfigOptions.SHUFFLE_TRANSPORT.defaultValue();
+
     private int historyJobExpireMinutes =
             ServerConfigOptions.HISTORY_JOB_EXPIRE_MINUTES.defaultValue();
 
@@ -121,6 +126,12 @@ public class EngineConfig {
         return this;
     }
 
+    public EngineConfig setShuffleTransport(ShuffleTransportType shuffleTransport) {
+        checkNotNull(shuffleTransport);
+        this.shuffleTransport = shuffleTransport;
+        return this;
+    }
+
     public enum ClusterRole {
         MASTER_AND_WORKER,
         MASTER,
@@ -25,6 +25,7 @@ import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageMode;
 import org.apache.seatunnel.engine.common.config.server.HttpConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryMetricConfig;
@@ -151,6 +152,16 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                 engineConfig.setConnectorJarStorageConfig(parseConnectorJarStorageConfig(node));
             } else if (ServerConfigOptions.CLASSLOADER_CACHE_MODE.key().equals(name)) {
                 engineConfig.setClassloaderCacheMode(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.SHUFFLE_TRANSPORT.key().equals(name)) {
+                String transport = getTextContent(node).toUpperCase(Locale.ROOT);
+                if (Arrays.stream(ShuffleTransportType.values())
+                        .noneMatch(type -> type.name().equals(transport))) {
+                    throw new IllegalArgumentException(
+                            ServerConfigOptions.SHUFFLE_TRANSPORT
+                                    + " must in "
+                                    + Arrays.toString(ShuffleTransportType.values()));
+                }
+                engineConfig.setShuffleTransport(ShuffleTransportType.valueOf(transport));
             } else if (ServerConfigOptions.EVENT_REPORT_HTTP.equalsIgnoreCase(name)) {
                 NamedNodeMap attributes = node.getAttributes();
                 Node urlNode = attributes.getNamedItem(ServerConfigOptions.EVENT_REPORT_HTTP_URL);
@@ -218,6 +229,17 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                         getIntegerValue(
                                 ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STORAGE_MAX_INFLIGHT_WRITES
+                    .key()
+                    .equals(name)) {
+                checkpointStorageConfig.setMaxInflightWrites(
+                        getIntegerValue(
+                                ServerConfigOptions.CHECKPOINT_STORAGE_MAX_INFLIGHT_WRITES.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STORAGE_INCREMENTAL.key().equals(name)) {
+                checkpointStorageConfig.setIncremental(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STORAGE_DIRECT_UPLOAD.key().equals(name)) {
+                checkpointStorageConfig.setDirectUpload(getBooleanValue(getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE_PLUGIN_CONFIG.key().equals(name)) {
                 Map<String, String> pluginConfig = parseCheckpointPluginConfig(node);
                 checkpointStorageConfig.setStoragePluginConfig(pluginConfig);
@@ -30,6 +30,14 @@ public class CheckpointStorageConfig {
     private int maxRetainedCheckpoints =
             ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.defaultValue();
 
+    private int maxInflightWrites =
+            ServerConfigOptions.CHECKPOINT_STORAGE_MAX_INFLIGHT_WRITES.defaultValue();
+
+    private boolean incremental = ServerConfigOptions.CHECKPOINT_STORAGE_INCREMENTAL.defaultValue();
+
+    private boolean directUpload =
+            ServerConfigOptions.CHECKPOINT_STORAGE_DIRECT_UPLOAD.defaultValue();
+
     /** Storage plugin instance configuration */
     private Map<String, String> storagePluginConfig = new HashMap<>();
 }
@@ -103,12 +103,40 @@ public class ServerConfigOptions {
                     .defaultValue(20)
                     .withDescription("The maximum number of retained checkpoints.");
 
+    public static final Option<Integer> CHECKPOINT_STORAGE_MAX_INFLIGHT_WRITES =
+            Options.key("max-inflight-writes")
+                    .intType()
+                    .defaultValue(2)
+                    .withDescription(
+                            "The maximum number of completed checkpoints of one pipeline that are written to the checkpoint storage at the same time.");
+
+    public static final Option<Boolean> CHECKPOINT_STORAGE_INCREMENTAL =
+            Options.key("incremental")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether large subtask states are stored as content addressed chunks shared between checkpoints, so that unchanged state is not written again.");
+
+    public static final Option<Boolean> CHECKPOINT_STORAGE_DIRECT_UPLOAD =
+            Options.key("direct-upload")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether tasks write their large states to the checkpoint storage themselves and only send the chunk ids to the checkpoint coordinator.");
+
     public static final Option<QueueType> QUEUE_TYPE =
             Options.key("queue-type")
                     .type(new TypeReference<QueueType>() {})
                     .defaultValue(QueueType.BLOCKINGQUEUE)
                     .withDescription("The internal data cache queue type.");
 
+    public static final Option<ShuffleTransportType> SHUFFLE_TRANSPORT =
+            Options.key("shuffle-transport")
+                    .enumType(ShuffleTransportType.class)
+                    .defaultValue(ShuffleTransportType.HAZELCAST_QUEUE)
+                    .withDescription(
+                            "The transport used to exchange records of a shuffle action between tasks.");
+
     public static final Option<CheckpointStorageConfig> CHECKPOINT_STORAGE =
             Options.key("storage")
                     .type(new TypeReference<CheckpointStorageConfig>() {})
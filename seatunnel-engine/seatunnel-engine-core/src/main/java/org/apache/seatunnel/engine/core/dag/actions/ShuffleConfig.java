@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -35,6 +37,7 @@ public class ShuffleConfig implements Config {
 
     @Builder.Default private int batchSize = DEFAULT_BATCH_SIZE;
     @Builder.Default private long batchFlushInterval = DEFAULT_BATCH_FLUSH_INTERVAL;
+    @Builder.Default private ShuffleTransportType transport = ShuffleTransportType.HAZELCAST_QUEUE;
     private ShuffleStrategy shuffleStrategy;
 
     @Tolerate
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.core.dag.actions;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.config.QueueConfig;
@@ -28,10 +29,16 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @SuperBuilder(toBuilder = true)
 @Getter
 @Setter
@@ -51,13 +58,60 @@ public abstract class ShuffleStrategy implements Serializable {
     @Tolerate
     public ShuffleStrategy() {}
 
-    public abstract Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex);
+    public Map<String, IQueue<Record<?>>> createShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        for (String queueName : createShuffleNames(pipelineId, inputIndex)) {
+            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            // clear old data when job restore
+            queue.clear();
+            shuffleMap.put(queueName, queue);
+        }
+
+        log.info(
+                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                inputIndex,
+                shuffleMap.keySet());
+
+        return shuffleMap;
+    }
+
+    public IQueue<Record<?>>[] getShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+        String[] queueNames = getShuffleNames(pipelineId, targetIndex);
+        IQueue<Record<?>>[] shuffles = new IQueue[queueNames.length];
+        for (int inputIndex = 0; inputIndex < queueNames.length; inputIndex++) {
+            shuffles[inputIndex] = getIQueue(hazelcast, queueNames[inputIndex]);
+        }
+
+        log.info(
+                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                targetIndex,
+                Arrays.asList(queueNames));
+
+        return shuffles;
+    }
+
+    /**
+     * The names of the shuffle channels written by the given input (upstream) subtask, the returned
+     * list is ordered and every name is unique within the pipeline.
+     */
+    public abstract List<String> createShuffleNames(int pipelineId, int inputIndex);
+
+    /** The names of the shuffle channels read by the given target (downstream) subtask. */
+    public abstract String[] getShuffleNames(int pipelineId, int targetIndex);
 
     public abstract String createShuffleKey(Record<?> record, int pipelineId, int inputIndex);
 
-    public abstract IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex);
+    /**
+     * The row types of the shuffled tables keyed by table id. Rows of these tables can be written
+     * with a schema bound codec, the map is empty if the row types are unknown.
+     */
+    public Map<String, SeaTunnelRowType> getShuffleRowTypes() {
+        return Collections.emptyMap();
+    }
 
     protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
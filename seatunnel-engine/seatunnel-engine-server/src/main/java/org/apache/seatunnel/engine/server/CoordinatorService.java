@@ -75,7 +75,6 @@ import lombok.NonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -154,7 +153,7 @@ public class CoordinatorService {
      */
     private IMap<PipelineLocation, Map<TaskGroupLocation, SlotProfile>> ownedSlotProfilesIMap;
 
-    private IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap;
+    private IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap;
 
     /** If this node is a master node */
     private volatile boolean isActive = false;
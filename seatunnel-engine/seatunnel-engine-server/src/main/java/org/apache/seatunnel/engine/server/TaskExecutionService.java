@@ -23,11 +23,17 @@ import org.apache.seatunnel.api.tracing.MDCExecutorService;
 import org.apache.seatunnel.api.tracing.MDCTracer;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.StringFormatUtils;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorageFactory;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
 import org.apache.seatunnel.engine.common.exception.JobNotFoundException;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+import org.apache.seatunnel.engine.common.utils.FactoryUtil;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.core.classloader.ClassLoaderService;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
@@ -47,6 +53,7 @@ import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.execution.TaskTracker;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.service.jar.ServerConnectorPackageClient;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleChannelService;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
@@ -54,7 +61,6 @@ import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperati
 import org.apache.commons.collections4.CollectionUtils;
 
 import com.google.common.collect.Lists;
-import com.hazelcast.core.OperationTimeoutException;
 import com.hazelcast.instance.impl.NodeState;
 import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
@@ -146,6 +152,10 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final EventService eventService;
 
+    private final ShuffleChannelService shuffleChannelService;
+
+    private volatile CheckpointStorage checkpointStorage;
+
     public TaskExecutionService(
             ClassLoaderService classLoaderService,
             NodeEngineImpl nodeEngine,
@@ -173,6 +183,8 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 new ServerConnectorPackageClient(nodeEngine, seaTunnelConfig);
 
         this.eventService = eventService;
+
+        this.shuffleChannelService = new ShuffleChannelService(nodeEngine);
     }
 
     public void start() {
@@ -578,7 +590,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             nodeEngine.getNode().getState()));
             return;
         }
-        IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
+        IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
         Map<TaskGroupLocation, TaskGroupContext> contextMap = new HashMap<>();
         contextMap.putAll(finishedExecutionContexts);
@@ -603,36 +615,14 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                     });
                 });
         if (!localMap.isEmpty()) {
-            boolean lockedIMap = false;
             try {
-                lockedIMap =
-                        metricsImap.tryLock(
-                                Constant.IMAP_RUNNING_JOB_METRICS_KEY, 5, TimeUnit.SECONDS);
-                if (!lockedIMap) {
-                    logger.warning("try lock failed in update metrics");
-                    return;
-                }
-                HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
-                        metricsImap.computeIfAbsent(
-                                Constant.IMAP_RUNNING_JOB_METRICS_KEY, k -> new HashMap<>());
-                centralMap.putAll(localMap);
-                metricsImap.put(Constant.IMAP_RUNNING_JOB_METRICS_KEY, centralMap);
+                // every task has an entry of its own which is only written by the node running the
+                // task, so the nodes update their tasks in parallel without any lock
+                metricsImap.putAll(localMap);
             } catch (Exception e) {
                 logger.warning(
                         "The Imap acquisition failed due to the hazelcast node being offline or restarted, and will be retried next time",
                         e);
-            } finally {
-                if (lockedIMap) {
-                    boolean unLockedIMap = false;
-                    while (!unLockedIMap) {
-                        try {
-                            metricsImap.unlock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-                            unLockedIMap = true;
-                        } catch (OperationTimeoutException e) {
-                            logger.warning("unlock imap failed in update metrics", e);
-                        }
-                    }
-                }
             }
         }
         this.printTaskExecutionRuntimeInfo();
@@ -1000,6 +990,41 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         return serverConnectorPackageClient;
     }
 
+    public ShuffleChannelService getShuffleChannelService() {
+        return shuffleChannelService;
+    }
+
+    public boolean isCheckpointDirectUpload() {
+        return seaTunnelConfig.getEngineConfig().getCheckpointConfig().getStorage().isDirectUpload()
+                && getCheckpointStorage().isStateChunkSupported();
+    }
+
+    /** The checkpoint storage tasks of this node upload and load their state chunks with. */
+    public CheckpointStorage getCheckpointStorage() {
+        if (checkpointStorage == null) {
+            synchronized (this) {
+                if (checkpointStorage == null) {
+                    CheckpointStorageConfig storageConfig =
+                            seaTunnelConfig.getEngineConfig().getCheckpointConfig().getStorage();
+                    try {
+                        checkpointStorage =
+                                FactoryUtil.discoverFactory(
+                                                Thread.currentThread().getContextClassLoader(),
+                                                CheckpointStorageFactory.class,
+                                                storageConfig.getStorage())
+                                        .create(
+                                                new HashMap<>(
+                                                        storageConfig.getStoragePluginConfig()));
+                    } catch (CheckpointStorageException e) {
+                        throw new SeaTunnelEngineException(
+                                "create checkpoint storage for tasks failed", e);
+                    }
+                }
+            }
+        }
+        return checkpointStorage;
+    }
+
     public static class NamedTaskWrapper implements Runnable {
         private final Runnable task;
         private final String threadName;
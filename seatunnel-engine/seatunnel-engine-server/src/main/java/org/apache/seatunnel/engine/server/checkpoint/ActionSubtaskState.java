@@ -30,4 +30,10 @@ public class ActionSubtaskState implements Serializable {
     private final ActionStateKey stateKey;
     private final int index;
     private final List<byte[]> state;
+
+    /**
+     * Content hashes of the state entries which are kept as shared chunks in the checkpoint
+     * storage, the entry in {@link #state} is empty for those. Null if all entries are inline.
+     */
+    private List<String> stateChunkIds;
 }
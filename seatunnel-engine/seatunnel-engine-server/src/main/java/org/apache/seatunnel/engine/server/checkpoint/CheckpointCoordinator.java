@@ -56,6 +56,7 @@ import lombok.SneakyThrows;
 import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -75,7 +76,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneakyThrow;
 import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.CHECKPOINT_TYPE;
 import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.SAVEPOINT_TYPE;
 import static org.apache.seatunnel.engine.server.checkpoint.CheckpointPlan.COORDINATOR_INDEX;
@@ -101,6 +101,20 @@ public class CheckpointCoordinator {
 
     private final transient Serializer serializer;
 
+    private final CheckpointPersister checkpointPersister;
+
+    /**
+     * Completes once the latest completed checkpoint is durable and has been finished, the next
+     * completed checkpoint is finished after it so that tasks are notified in checkpoint order.
+     */
+    private CompletableFuture<Void> latestPersistFuture = CompletableFuture.completedFuture(null);
+
+    /**
+     * Bumped on every reset. A checkpoint of an older generation is not finished once stored, its
+     * files are deleted again.
+     */
+    private final AtomicInteger persistGeneration = new AtomicInteger(0);
+
     /**
      * All tasks in this pipeline. <br>
      * key: the task id; <br>
@@ -190,6 +204,14 @@ public class CheckpointCoordinator {
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.scheduler = MDCTracer.tracing(scheduler);
         this.serializer = new ProtoStuffSerializer();
+        this.checkpointPersister =
+                new CheckpointPersister(
+                        checkpointStorage,
+                        serializer,
+                        jobId,
+                        pipelineId,
+                        checkpointConfig.getStorage().getMaxInflightWrites(),
+                        checkpointConfig.getStorage().isIncremental());
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
         this.checkpointIdCounter = checkpointIdCounter;
@@ -203,8 +225,7 @@ public class CheckpointCoordinator {
                 jobId,
                 plan);
         if (pipelineState != null) {
-            this.latestCompletedCheckpoint =
-                    serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+            this.latestCompletedCheckpoint = checkpointPersister.restore(pipelineState);
             this.latestCompletedCheckpoint.setRestored(true);
             LOG.info(
                     "Restore job({}@{}) with checkpoint({}), data: {}",
@@ -777,6 +798,7 @@ public class CheckpointCoordinator {
 
     protected void cleanPendingCheckpoint(CheckpointCloseReason closedReason) {
         shutdown = true;
+        persistGeneration.incrementAndGet();
         isAllTaskReady = false;
         synchronized (lock) {
             LOG.info("start clean pending checkpoint cause {}", closedReason.message());
@@ -837,7 +859,8 @@ public class CheckpointCoordinator {
         }
     }
 
-    public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
+    public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint)
+            throws InterruptedException {
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
                 completedCheckpoint.getCheckpointId(),
@@ -847,39 +870,68 @@ public class CheckpointCoordinator {
                         - completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
+        final int generation = persistGeneration.get();
+        final boolean stored = completedCheckpoint.getCheckpointType().notCompletedCheckpoint();
+        final CompletableFuture<Void> persisted =
+                stored
+                        ? checkpointPersister.persist(completedCheckpoint)
+                        : CompletableFuture.completedFuture(null);
+        if (completedCheckpoint.getCheckpointType().isGeneralCheckpoint()) {
+            // all tasks acked, the next checkpoint can be triggered while this one is stored
+            releasePendingCheckpoint(completedCheckpoint.getCheckpointId());
+        }
+        latestPersistFuture =
+                latestPersistFuture
+                        .handle((v, e) -> (Void) null)
+                        .thenCombine(persisted, (previous, current) -> (Void) null)
+                        .thenRunAsync(
+                                () -> {
+                                    if (generation == persistGeneration.get()) {
+                                        finishCompletedCheckpoint(completedCheckpoint);
+                                    } else if (stored) {
+                                        deleteStaleCheckpoint(completedCheckpoint);
+                                    }
+                                },
+                                executorService);
+        latestPersistFuture.whenComplete(
+                (v, e) -> {
+                    if (e != null && generation == persistGeneration.get()) {
+                        handleCoordinatorError(
+                                "store checkpoint states failed",
+                                e,
+                                CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                    }
+                });
+    }
+
+    /**
+     * The coordinator was reset while the checkpoint was stored, the tasks restart from an older
+     * one. Nothing refers to the stored files, they would otherwise be kept forever.
+     */
+    private void deleteStaleCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        LOG.info(
+                "checkpoint({}/{}@{}) stored after a coordinator reset, deleting it",
+                completedCheckpoint.getCheckpointId(),
+                completedCheckpoint.getPipelineId(),
+                completedCheckpoint.getJobId());
+        checkpointPersister.delete(
+                Collections.singletonList(String.valueOf(completedCheckpoint.getCheckpointId())));
+    }
+
+    private synchronized void finishCompletedCheckpoint(CompletedCheckpoint completedCheckpoint) {
         final long checkpointId = completedCheckpoint.getCheckpointId();
-        completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
-        try {
-            if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
-                checkpointStorage.storeCheckPoint(
-                        PipelineState.builder()
-                                .checkpointId(checkpointId)
-                                .jobId(String.valueOf(jobId))
-                                .pipelineId(pipelineId)
-                                .states(states)
-                                .build());
-            }
-            if (completedCheckpointIds.size()
-                                    % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            == 0
-                    && completedCheckpointIds.size()
-                                    / coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            > 1) {
-                List<String> needDeleteCheckpointId = new ArrayList<>();
-                for (int i = 0;
-                        i < coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
-                        i++) {
-                    needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
-                }
-                checkpointStorage.deleteCheckpoint(
-                        String.valueOf(completedCheckpoint.getJobId()),
-                        String.valueOf(completedCheckpoint.getPipelineId()),
-                        needDeleteCheckpointId);
+        completedCheckpointIds.addLast(String.valueOf(checkpointId));
+        if (completedCheckpointIds.size()
+                                % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
+                        == 0
+                && completedCheckpointIds.size()
+                                / coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
+                        > 1) {
+            List<String> needDeleteCheckpointId = new ArrayList<>();
+            for (int i = 0; i < coordinatorConfig.getStorage().getMaxRetainedCheckpoints(); i++) {
+                needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
             }
-        } catch (Throwable e) {
-            LOG.error("store checkpoint states failed.", e);
-            sneakyThrow(e);
+            checkpointPersister.delete(needDeleteCheckpointId);
         }
         LOG.info(
                 "pending checkpoint({}/{}@{}) notify finished!",
@@ -888,8 +940,9 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getJobId());
         latestCompletedCheckpoint = completedCheckpoint;
         notifyCompleted(completedCheckpoint);
-        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
-        pendingCounter.decrementAndGet();
+        if (!completedCheckpoint.getCheckpointType().isGeneralCheckpoint()) {
+            releasePendingCheckpoint(checkpointId);
+        }
         if (isCompleted()) {
             cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_COMPLETED);
             if (latestCompletedCheckpoint.getCheckpointType().isSavepoint()) {
@@ -904,6 +957,14 @@ public class CheckpointCoordinator {
         }
     }
 
+    private void releasePendingCheckpoint(long checkpointId) {
+        PendingCheckpoint pendingCheckpoint = pendingCheckpoints.remove(checkpointId);
+        if (pendingCheckpoint != null) {
+            pendingCheckpoint.abortCheckpointTimeoutFutureWhenIsCompleted();
+            pendingCounter.decrementAndGet();
+        }
+    }
+
     public InvocationFuture<?>[] notifyCheckpointCompleted(CompletedCheckpoint checkpoint) {
         if (checkpoint.getCheckpointType().isSchemaChangeAfterCheckpoint()) {
             completeSchemaChangeAfterCheckpoint(checkpoint);
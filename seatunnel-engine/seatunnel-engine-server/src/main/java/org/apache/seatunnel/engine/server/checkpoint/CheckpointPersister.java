@@ -0,0 +1,421 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes the completed checkpoints of one pipeline to the {@link CheckpointStorage} off the
+ * coordinator threads. At most {@code maxInflightWrites} checkpoints are serialized and stored at
+ * the same time, {@link #persist} blocks the caller while the limit is reached. Retired checkpoints
+ * are deleted in batches by a single cleanup thread.
+ *
+ * <p>With incremental checkpoints, every subtask state entry of at least {@link
+ * #MIN_STATE_CHUNK_SIZE} bytes is stored once as a chunk named by its SHA-256 and referenced from
+ * the checkpoints containing it. A chunk is deleted when the last retained checkpoint referencing
+ * it is retired. Tasks uploading their state themselves, see {@link TaskStateUploader}, only send
+ * the chunk ids which are tracked the same way.
+ */
+public class CheckpointPersister {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckpointPersister.class);
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60L;
+
+    /** Smaller state entries are kept inline, a chunk file would cost more than rewriting them. */
+    static final int MIN_STATE_CHUNK_SIZE = 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final CheckpointStorage checkpointStorage;
+    private final Serializer serializer;
+    private final String jobId;
+    private final int pipelineId;
+
+    private final Semaphore inflightWrites;
+    private final ThreadPoolExecutor writeExecutor;
+    private final ThreadPoolExecutor cleanupExecutor;
+    private final Queue<String> retiredCheckpointIds = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean cleanupScheduled = new AtomicBoolean(false);
+
+    private final boolean incremental;
+
+    private final boolean chunksSupported;
+
+    /** Guards the chunk bookkeeping so a chunk is never deleted while being referenced. */
+    private final Object chunkLock = new Object();
+
+    /** The chunks referenced by every persisted checkpoint which is not retired yet. */
+    private final Map<Long, Set<String>> chunksByCheckpoint = new HashMap<>();
+
+    /** The chunks known to be durable in the storage. */
+    private final Set<String> storedChunks = new HashSet<>();
+
+    /** The chunks being written, a checkpoint referencing one waits for the running write. */
+    private final Map<String, CompletableFuture<Void>> chunkWrites = new HashMap<>();
+
+    public CheckpointPersister(
+            CheckpointStorage checkpointStorage,
+            Serializer serializer,
+            long jobId,
+            int pipelineId,
+            int maxInflightWrites) {
+        this(checkpointStorage, serializer, jobId, pipelineId, maxInflightWrites, false);
+    }
+
+    public CheckpointPersister(
+            CheckpointStorage checkpointStorage,
+            Serializer serializer,
+            long jobId,
+            int pipelineId,
+            int maxInflightWrites,
+            boolean incremental) {
+        if (incremental && !checkpointStorage.isStateChunkSupported()) {
+            LOG.warn(
+                    "{} does not support state chunks, pipeline {}@{} writes full checkpoints",
+                    checkpointStorage.getClass().getSimpleName(),
+                    pipelineId,
+                    jobId);
+            incremental = false;
+        }
+        this.incremental = incremental;
+        this.chunksSupported = checkpointStorage.isStateChunkSupported();
+        this.checkpointStorage = checkpointStorage;
+        this.serializer = serializer;
+        this.jobId = String.valueOf(jobId);
+        this.pipelineId = pipelineId;
+        int writers = Math.max(1, maxInflightWrites);
+        this.inflightWrites = new Semaphore(writers);
+        this.writeExecutor = newExecutor(writers, "checkpoint-writer");
+        this.cleanupExecutor = newExecutor(1, "checkpoint-cleanup");
+    }
+
+    /**
+     * Serializes and stores the checkpoint asynchronously, the returned future completes once the
+     * storage acknowledged the write.
+     */
+    public CompletableFuture<Void> persist(CompletedCheckpoint checkpoint)
+            throws InterruptedException {
+        inflightWrites.acquire();
+        try {
+            return CompletableFuture.runAsync(() -> store(checkpoint), writeExecutor)
+                    .whenComplete((v, e) -> inflightWrites.release());
+        } catch (RuntimeException e) {
+            inflightWrites.release();
+            throw e;
+        }
+    }
+
+    /** Deletes the checkpoints in the background, ids retired meanwhile are deleted together. */
+    public void delete(List<String> checkpointIds) {
+        retiredCheckpointIds.addAll(checkpointIds);
+        if (cleanupScheduled.compareAndSet(false, true)) {
+            cleanupExecutor.execute(this::deleteRetiredCheckpoints);
+        }
+    }
+
+    /**
+     * Deserializes a checkpoint read from the storage. The chunks it references stay registered, so
+     * they are kept until the checkpoint is retired. The state entries kept as chunks are not
+     * loaded here but by the restored tasks, see {@link TaskStateUploader#load}.
+     */
+    public CompletedCheckpoint restore(PipelineState pipelineState) throws Exception {
+        CompletedCheckpoint checkpoint =
+                serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+        Set<String> chunkIds = new HashSet<>();
+        for (ActionState actionState : checkpoint.getTaskStates().values()) {
+            collectChunkIds(actionState.getCoordinatorState(), chunkIds);
+            for (ActionSubtaskState subtaskState : actionState.getSubtaskStates()) {
+                collectChunkIds(subtaskState, chunkIds);
+            }
+        }
+        if (!chunkIds.isEmpty()) {
+            synchronized (chunkLock) {
+                chunksByCheckpoint.put(checkpoint.getCheckpointId(), chunkIds);
+                storedChunks.addAll(chunkIds);
+            }
+        }
+        return checkpoint;
+    }
+
+    private static void collectChunkIds(ActionSubtaskState subtaskState, Set<String> chunkIds) {
+        if (subtaskState == null || subtaskState.getStateChunkIds() == null) {
+            return;
+        }
+        for (String chunkId : subtaskState.getStateChunkIds()) {
+            if (chunkId != null) {
+                chunkIds.add(chunkId);
+            }
+        }
+    }
+
+    private void store(CompletedCheckpoint checkpoint) {
+        long start = System.currentTimeMillis();
+        try {
+            byte[] states =
+                    serializer.serialize(
+                            chunksSupported ? externalizeStates(checkpoint) : checkpoint);
+            checkpointStorage.storeCheckPoint(
+                    PipelineState.builder()
+                            .checkpointId(checkpoint.getCheckpointId())
+                            .jobId(jobId)
+                            .pipelineId(pipelineId)
+                            .states(states)
+                            .build());
+            LOG.debug(
+                    "stored checkpoint({}/{}@{}), {} bytes, cost: {}ms",
+                    checkpoint.getCheckpointId(),
+                    pipelineId,
+                    jobId,
+                    states.length,
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            if (chunksSupported) {
+                synchronized (chunkLock) {
+                    chunksByCheckpoint.remove(checkpoint.getCheckpointId());
+                }
+            }
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Returns a copy of the checkpoint whose large state entries are replaced by chunk ids, and
+     * registers the chunks the checkpoint references.
+     */
+    private CompletedCheckpoint externalizeStates(CompletedCheckpoint checkpoint) throws Exception {
+        Set<String> chunkIds = new HashSet<>();
+        synchronized (chunkLock) {
+            chunksByCheckpoint.put(checkpoint.getCheckpointId(), chunkIds);
+        }
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : checkpoint.getTaskStates().entrySet()) {
+            ActionState actionState = entry.getValue();
+            ActionState copy =
+                    new ActionState(actionState.getStateKey(), actionState.getParallelism());
+            copy.reportState(
+                    -1, externalizeState(actionState.getCoordinatorState(), chunkIds, digest));
+            List<ActionSubtaskState> subtaskStates = actionState.getSubtaskStates();
+            for (int i = 0; i < subtaskStates.size(); i++) {
+                copy.reportState(i, externalizeState(subtaskStates.get(i), chunkIds, digest));
+            }
+            taskStates.put(entry.getKey(), copy);
+        }
+        return new CompletedCheckpoint(
+                checkpoint.getJobId(),
+                checkpoint.getPipelineId(),
+                checkpoint.getCheckpointId(),
+                checkpoint.getCheckpointTimestamp(),
+                checkpoint.getCheckpointType(),
+                checkpoint.getCompletedTimestamp(),
+                taskStates,
+                checkpoint.getTaskStatistics());
+    }
+
+    private ActionSubtaskState externalizeState(
+            ActionSubtaskState subtaskState, Set<String> chunkIds, MessageDigest digest)
+            throws Exception {
+        if (subtaskState == null || subtaskState.getState() == null) {
+            return subtaskState;
+        }
+        List<String> uploadedChunkIds = subtaskState.getStateChunkIds();
+        if (uploadedChunkIds != null) {
+            // already uploaded by the task itself
+            synchronized (chunkLock) {
+                collectChunkIds(subtaskState, chunkIds);
+            }
+        }
+        if (!incremental) {
+            return subtaskState;
+        }
+        List<byte[]> state = new ArrayList<>(subtaskState.getState().size());
+        List<String> stateChunkIds = new ArrayList<>(subtaskState.getState().size());
+        boolean externalized = false;
+        for (int i = 0; i < subtaskState.getState().size(); i++) {
+            byte[] entry = subtaskState.getState().get(i);
+            String uploadedChunkId = uploadedChunkIds == null ? null : uploadedChunkIds.get(i);
+            if (uploadedChunkId != null || entry == null || entry.length < MIN_STATE_CHUNK_SIZE) {
+                state.add(entry);
+                stateChunkIds.add(uploadedChunkId);
+                externalized |= uploadedChunkId != null;
+                continue;
+            }
+            String chunkId = toHex(digest.digest(entry));
+            storeChunk(chunkId, entry, chunkIds);
+            state.add(new byte[0]);
+            stateChunkIds.add(chunkId);
+            externalized = true;
+        }
+        if (!externalized) {
+            return subtaskState;
+        }
+        ActionSubtaskState copy =
+                new ActionSubtaskState(subtaskState.getStateKey(), subtaskState.getIndex(), state);
+        copy.setStateChunkIds(stateChunkIds);
+        return copy;
+    }
+
+    /**
+     * Stores the chunk unless it is stored already. Checkpoints written concurrently often share
+     * chunks, only the first of them writes a chunk and the others wait for that write.
+     */
+    private void storeChunk(String chunkId, byte[] entry, Set<String> chunkIds) throws Exception {
+        CompletableFuture<Void> runningWrite;
+        CompletableFuture<Void> write = null;
+        synchronized (chunkLock) {
+            chunkIds.add(chunkId);
+            if (storedChunks.contains(chunkId)) {
+                return;
+            }
+            runningWrite = chunkWrites.get(chunkId);
+            if (runningWrite == null) {
+                write = new CompletableFuture<>();
+                chunkWrites.put(chunkId, write);
+            }
+        }
+        if (write == null) {
+            runningWrite.get();
+            return;
+        }
+        try {
+            checkpointStorage.storeStateChunk(jobId, String.valueOf(pipelineId), chunkId, entry);
+        } catch (Exception e) {
+            synchronized (chunkLock) {
+                chunkWrites.remove(chunkId);
+            }
+            write.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (chunkLock) {
+            chunkWrites.remove(chunkId);
+            storedChunks.add(chunkId);
+        }
+        write.complete(null);
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    private void deleteRetiredCheckpoints() {
+        cleanupScheduled.set(false);
+        List<String> checkpointIds = new ArrayList<>();
+        String checkpointId;
+        while ((checkpointId = retiredCheckpointIds.poll()) != null) {
+            checkpointIds.add(checkpointId);
+        }
+        if (checkpointIds.isEmpty()) {
+            return;
+        }
+        try {
+            checkpointStorage.deleteCheckpoint(jobId, String.valueOf(pipelineId), checkpointIds);
+        } catch (Exception e) {
+            // a failed cleanup leaves files behind but does not affect the running job
+            LOG.warn(
+                    "delete checkpoints {} of pipeline {}@{} failed",
+                    checkpointIds,
+                    pipelineId,
+                    jobId,
+                    e);
+        }
+        if (chunksSupported) {
+            deleteUnreferencedChunks(checkpointIds);
+        }
+    }
+
+    private void deleteUnreferencedChunks(List<String> retiredCheckpointIds) {
+        // held while deleting, a concurrent write must not skip a chunk that is about to vanish
+        synchronized (chunkLock) {
+            Set<String> unreferenced = new HashSet<>();
+            for (String checkpointId : retiredCheckpointIds) {
+                Set<String> chunkIds = chunksByCheckpoint.remove(Long.parseLong(checkpointId));
+                if (chunkIds != null) {
+                    unreferenced.addAll(chunkIds);
+                }
+            }
+            for (Set<String> chunkIds : chunksByCheckpoint.values()) {
+                unreferenced.removeAll(chunkIds);
+            }
+            if (unreferenced.isEmpty()) {
+                return;
+            }
+            storedChunks.removeAll(unreferenced);
+            try {
+                checkpointStorage.deleteStateChunks(
+                        jobId, String.valueOf(pipelineId), unreferenced);
+            } catch (Exception e) {
+                LOG.warn(
+                        "delete {} state chunks of pipeline {}@{} failed",
+                        unreferenced.size(),
+                        pipelineId,
+                        jobId,
+                        e);
+            }
+        }
+    }
+
+    private ThreadPoolExecutor newExecutor(int threads, String name) {
+        ThreadFactory threadFactory =
+                runnable -> {
+                    Thread thread = new Thread(runnable);
+                    thread.setName(String.format("%s-%s/%s", name, pipelineId, jobId));
+                    thread.setDaemon(true);
+                    return thread;
+                };
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        IDLE_THREAD_KEEP_ALIVE_SECONDS,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        threadFactory);
+        // the persister lives as long as its coordinator, idle threads must not pile up
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
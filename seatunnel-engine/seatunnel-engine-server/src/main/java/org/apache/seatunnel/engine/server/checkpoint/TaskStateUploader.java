@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uploads the large state entries of one task straight to the {@link CheckpointStorage}, so the
+ * checkpoint ack sent to the coordinator only carries the chunk ids instead of the state bytes.
+ *
+ * <p>A chunk uploaded by a task is named by the content hash and the checkpoint id, a name is never
+ * reused by the coordinator which deletes the chunks of retired checkpoints concurrently. Only the
+ * chunks of the latest completed checkpoint, which the coordinator retains, are referenced again
+ * without uploading them, and only while no later checkpoint is acked but not completed yet. The
+ * completion of such a checkpoint may retire the one whose chunks would be referenced, before the
+ * coordinator learns about the new reference.
+ *
+ * <p>Checkpoints complete in order, so a checkpoint still pending when a later one completes was
+ * declined, timed out or dropped by a coordinator reset. The coordinator never learns about its
+ * chunks, they are deleted here, as are the chunks still pending when the task is closed.
+ */
+@Slf4j
+public class TaskStateUploader {
+
+    private final CheckpointStorage checkpointStorage;
+    private final String jobId;
+    private final String pipelineId;
+
+    /** checkpoint id -> content hash -> chunk id, the chunks acked but not completed yet. */
+    private final Map<Long, Map<String, String>> pendingChunks = new ConcurrentHashMap<>();
+
+    /** content hash -> chunk id of the chunks referenced by the latest completed checkpoint. */
+    private volatile Map<String, String> completedChunks = Collections.emptyMap();
+
+    public TaskStateUploader(CheckpointStorage checkpointStorage, long jobId, int pipelineId) {
+        this.checkpointStorage = checkpointStorage;
+        this.jobId = String.valueOf(jobId);
+        this.pipelineId = String.valueOf(pipelineId);
+    }
+
+    public List<ActionSubtaskState> upload(long checkpointId, List<ActionSubtaskState> states)
+            throws Exception {
+        if (states == null) {
+            return null;
+        }
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        Map<String, String> reusableChunks;
+        synchronized (this) {
+            reusableChunks = pendingChunks.isEmpty() ? completedChunks : Collections.emptyMap();
+        }
+        Map<String, String> checkpointChunks = new HashMap<>();
+        List<ActionSubtaskState> uploaded = new ArrayList<>(states.size());
+        for (ActionSubtaskState state : states) {
+            uploaded.add(upload(checkpointId, state, digest, reusableChunks, checkpointChunks));
+        }
+        pendingChunks.put(checkpointId, checkpointChunks);
+        return uploaded;
+    }
+
+    private ActionSubtaskState upload(
+            long checkpointId,
+            ActionSubtaskState subtaskState,
+            MessageDigest digest,
+            Map<String, String> reusableChunks,
+            Map<String, String> checkpointChunks)
+            throws Exception {
+        if (subtaskState.getState() == null) {
+            return subtaskState;
+        }
+        List<byte[]> state = new ArrayList<>(subtaskState.getState().size());
+        List<String> stateChunkIds = new ArrayList<>(subtaskState.getState().size());
+        boolean uploaded = false;
+        for (byte[] entry : subtaskState.getState()) {
+            if (entry == null || entry.length < CheckpointPersister.MIN_STATE_CHUNK_SIZE) {
+                state.add(entry);
+                stateChunkIds.add(null);
+                continue;
+            }
+            String contentHash = CheckpointPersister.toHex(digest.digest(entry));
+            String chunkId = reusableChunks.get(contentHash);
+            if (chunkId == null) {
+                chunkId = checkpointChunks.get(contentHash);
+            }
+            if (chunkId == null) {
+                chunkId = contentHash + "-" + checkpointId;
+                checkpointStorage.storeStateChunk(jobId, pipelineId, chunkId, entry);
+            }
+            checkpointChunks.put(contentHash, chunkId);
+            state.add(new byte[0]);
+            stateChunkIds.add(chunkId);
+            uploaded = true;
+        }
+        if (!uploaded) {
+            return subtaskState;
+        }
+        ActionSubtaskState copy =
+                new ActionSubtaskState(subtaskState.getStateKey(), subtaskState.getIndex(), state);
+        copy.setStateChunkIds(stateChunkIds);
+        return copy;
+    }
+
+    /** Reads the chunks referenced by the restored states back into the state entries. */
+    public List<ActionSubtaskState> load(List<ActionSubtaskState> states) throws Exception {
+        Map<String, String> restoredChunks = new HashMap<>();
+        List<ActionSubtaskState> loaded = new ArrayList<>(states.size());
+        for (ActionSubtaskState subtaskState : states) {
+            if (subtaskState == null || subtaskState.getStateChunkIds() == null) {
+                loaded.add(subtaskState);
+                continue;
+            }
+            List<String> stateChunkIds = subtaskState.getStateChunkIds();
+            List<byte[]> state = new ArrayList<>(subtaskState.getState());
+            for (int i = 0; i < stateChunkIds.size(); i++) {
+                String chunkId = stateChunkIds.get(i);
+                if (chunkId != null) {
+                    state.set(i, checkpointStorage.getStateChunk(jobId, pipelineId, chunkId));
+                    restoredChunks.put(contentHash(chunkId), chunkId);
+                }
+            }
+            loaded.add(
+                    new ActionSubtaskState(
+                            subtaskState.getStateKey(), subtaskState.getIndex(), state));
+        }
+        // the restored checkpoint is retained by the coordinator, its chunks can be referenced
+        completedChunks = restoredChunks;
+        return loaded;
+    }
+
+    public synchronized void notifyCheckpointComplete(long checkpointId) {
+        Map<String, String> checkpointChunks = pendingChunks.remove(checkpointId);
+        // without chunks of the completed checkpoint, the older ones may be retired any time
+        completedChunks = checkpointChunks == null ? Collections.emptyMap() : checkpointChunks;
+        deleteAbandonedChunks(checkpointId);
+    }
+
+    /** Deletes the chunks of the checkpoints that never completed before the task is closed. */
+    public synchronized void close() {
+        deleteAbandonedChunks(Long.MAX_VALUE);
+    }
+
+    /**
+     * Forgets the pending checkpoints before the given one and deletes the chunks uploaded for
+     * them. Chunks they referenced from a completed checkpoint are left alone.
+     */
+    private void deleteAbandonedChunks(long checkpointId) {
+        Set<String> abandonedChunks = new HashSet<>();
+        Iterator<Map.Entry<Long, Map<String, String>>> iterator =
+                pendingChunks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Map<String, String>> pending = iterator.next();
+            if (pending.getKey() >= checkpointId) {
+                continue;
+            }
+            String suffix = "-" + pending.getKey();
+            for (String chunkId : pending.getValue().values()) {
+                if (chunkId.endsWith(suffix)) {
+                    abandonedChunks.add(chunkId);
+                }
+            }
+            iterator.remove();
+        }
+        abandonedChunks.removeAll(completedChunks.values());
+        if (!abandonedChunks.isEmpty()) {
+            deleteChunks(abandonedChunks);
+        }
+    }
+
+    private void deleteChunks(Collection<String> chunkIds) {
+        try {
+            checkpointStorage.deleteStateChunks(jobId, pipelineId, chunkIds);
+        } catch (Exception e) {
+            log.warn(
+                    "delete state chunks {} of job {} pipeline {} failed",
+                    chunkIds,
+                    jobId,
+                    pipelineId,
+                    e);
+        }
+    }
+
+    private static String contentHash(String chunkId) {
+        int separator = chunkId.indexOf('-');
+        return separator < 0 ? chunkId : chunkId.substring(0, separator);
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupContext;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.serializable.CheckpointDataSerializerHook;
+import org.apache.seatunnel.engine.server.task.AbstractTask;
 import org.apache.seatunnel.engine.server.task.operation.TaskOperation;
 
 import com.hazelcast.nio.ObjectDataInput;
@@ -90,6 +91,10 @@ public class CheckpointFinishedOperation extends TaskOperation {
                                 .setContextClassLoader(
                                         groupContext.getClassLoader(taskLocation.getTaskID()));
                         if (successful) {
+                            // before the task, which may close itself on the completed checkpoint
+                            if (task instanceof AbstractTask) {
+                                ((AbstractTask) task).notifyStateCheckpointComplete(checkpointId);
+                            }
                             task.notifyCheckpointComplete(checkpointId);
                         } else {
                             task.notifyCheckpointAborted(checkpointId);
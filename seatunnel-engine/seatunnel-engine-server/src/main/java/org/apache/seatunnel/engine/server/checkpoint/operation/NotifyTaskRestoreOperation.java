@@ -27,6 +27,7 @@ import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupContext;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.serializable.CheckpointDataSerializerHook;
+import org.apache.seatunnel.engine.server.task.AbstractTask;
 import org.apache.seatunnel.engine.server.task.operation.TaskOperation;
 
 import com.hazelcast.nio.ObjectDataInput;
@@ -104,7 +105,11 @@ public class NotifyTaskRestoreOperation extends TaskOperation {
                                                 log.debug(
                                                         "NotifyTaskRestoreOperation.restoreState "
                                                                 + restoredState);
-                                                task.restoreState(restoredState);
+                                                task.restoreState(
+                                                        task instanceof AbstractTask
+                                                                ? ((AbstractTask) task)
+                                                                        .loadStates(restoredState)
+                                                                : restoredState);
                                                 log.debug(
                                                         "NotifyTaskRestoreOperation.finished "
                                                                 + restoredState);
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.master;
+
+import org.apache.seatunnel.engine.server.dag.physical.PipelineLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import com.hazelcast.query.Predicate;
+
+import java.util.Map;
+
+/**
+ * Matches the entries of the tasks of one pipeline in a map keyed by {@link TaskLocation}, it is
+ * evaluated on the members owning the partitions of the map.
+ */
+public class PipelineTaskLocationPredicate<V> implements Predicate<TaskLocation, V> {
+
+    private static final long serialVersionUID = -1751337218340386284L;
+
+    private final PipelineLocation pipelineLocation;
+
+    public PipelineTaskLocationPredicate(PipelineLocation pipelineLocation) {
+        this.pipelineLocation = pipelineLocation;
+    }
+
+    @Override
+    public boolean apply(Map.Entry<TaskLocation, V> entry) {
+        return entry.getKey().getTaskGroupLocation().getPipelineLocation().equals(pipelineLocation);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.metrics;
 
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.SerializationFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
@@ -37,11 +38,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.UnaryOperator;
 
 import static org.apache.seatunnel.api.common.metrics.MetricTags.ADDRESS;
 import static org.apache.seatunnel.api.common.metrics.MetricTags.JOB_ID;
 import static org.apache.seatunnel.api.common.metrics.MetricTags.MEMBER;
+import static org.apache.seatunnel.api.common.metrics.MetricTags.QUANTILE;
 
 public final class JobMetricsUtil {
 
@@ -76,6 +79,37 @@ public final class JobMetricsUtil {
         return JobMetrics.of(consumer.metrics);
     }
 
+    /**
+     * Combines the histograms reported by the tasks of a job, a quantile of the job is the largest
+     * value any of its tasks reported for that quantile.
+     *
+     * @param jobMetrics the job metrics in the form of {@link JobMetrics#toJsonString()}
+     * @param histogramNames the names of the histograms
+     * @return histogram name -> quantile -> value, histograms without values are left out
+     */
+    public static Map<String, Object> aggregateHistograms(
+            JsonNode jobMetrics, String... histogramNames) {
+        Map<String, Object> histograms = new HashMap<>();
+        for (String histogramName : histogramNames) {
+            JsonNode measurements = jobMetrics.get(histogramName);
+            if (measurements == null || !measurements.isArray()) {
+                continue;
+            }
+            Map<String, Long> quantiles = new TreeMap<>();
+            for (JsonNode measurement : measurements) {
+                JsonNode quantile = measurement.path("tags").get(QUANTILE);
+                if (quantile != null) {
+                    quantiles.merge(
+                            quantile.asText(), measurement.path("value").asLong(), Math::max);
+                }
+            }
+            if (!quantiles.isEmpty()) {
+                histograms.put(histogramName, quantiles);
+            }
+        }
+        return histograms;
+    }
+
     public static String toJsonString(Object o) {
         OBJECTMAPPER.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
         try {
@@ -19,6 +19,7 @@ package org.apache.seatunnel.engine.server.metrics;
 
 import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
 import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Histogram;
 import org.apache.seatunnel.api.common.metrics.Meter;
 import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
@@ -30,10 +31,15 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.ProbeUnit;
 import lombok.extern.slf4j.Slf4j;
 
+import static org.apache.seatunnel.api.common.metrics.MetricTags.QUANTILE;
+
 @Slf4j
 public class SeaTunnelMetricsContext extends AbstractMetricsContext
         implements DynamicMetricsProvider {
 
+    /** The quantiles reported for every histogram, 1 is the maximum. */
+    public static final String[] HISTOGRAM_QUANTILES = {"0.5", "0.95", "0.99", "1"};
+
     @Override
     public void provideDynamicMetrics(MetricDescriptor tagger, MetricsCollectionContext context) {
         metrics.forEach(
@@ -52,6 +58,19 @@ public class SeaTunnelMetricsContext extends AbstractMetricsContext
                                 ProbeLevel.INFO,
                                 toProbeUnit(metric.unit()),
                                 ((Meter) metric).getRate());
+                    } else if (metric instanceof Histogram) {
+                        Histogram histogram = (Histogram) metric;
+                        if (histogram.getCount() == 0) {
+                            return;
+                        }
+                        for (String quantile : HISTOGRAM_QUANTILES) {
+                            context.collect(
+                                    tagger.copy().withTag(QUANTILE, quantile),
+                                    name,
+                                    ProbeLevel.INFO,
+                                    toProbeUnit(metric.unit()),
+                                    histogram.getQuantile(Double.parseDouble(quantile)));
+                        }
                     } else {
                         throw new SeaTunnelException(
                                 "The value of Metric does not support "
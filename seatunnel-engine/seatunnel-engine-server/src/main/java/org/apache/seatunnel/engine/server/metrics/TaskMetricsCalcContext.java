@@ -25,10 +25,10 @@ import org.apache.seatunnel.common.constants.PluginType;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES_PER_SECONDS;
@@ -39,27 +39,45 @@ import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVE
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_QPS;
 
+/**
+ * Counts the rows and bytes a source or sink task handled, in total and per table.
+ *
+ * <p>The updates are accumulated in plain fields and only published to the thread safe counters and
+ * meters of the {@link MetricsContext} by {@link #publishMetrics()}, which the task calls once per
+ * loop, or once {@link #PUBLISH_ROW_THRESHOLD} rows are pending. So this class must only be updated
+ * and published by the thread running the task.
+ */
 public class TaskMetricsCalcContext {
 
+    static final int PUBLISH_ROW_THRESHOLD = 1024;
+
     private final MetricsContext metricsContext;
 
     private final PluginType type;
 
-    private Counter count;
+    private String countName;
+
+    private String qpsName;
 
-    private Map<String, Counter> countPerTable = new ConcurrentHashMap<>();
+    private String bytesName;
 
-    private Meter QPS;
+    private String bytesPerSecondsName;
 
-    private Map<String, Meter> QPSPerTable = new ConcurrentHashMap<>();
+    private TableMetrics total;
 
-    private Counter bytes;
+    /** The metrics of each table, keyed by the full name of the table. */
+    private final Map<String, TableMetrics> metricsPerTable = new HashMap<>();
 
-    private Map<String, Counter> bytesPerTable = new ConcurrentHashMap<>();
+    /** The metrics of each table, keyed by the table id of the rows. */
+    private final Map<String, TableMetrics> metricsPerTableId = new HashMap<>();
 
-    private Meter bytesPerSeconds;
+    private final List<TableMetrics> pendingTables = new ArrayList<>();
 
-    private Map<String, Meter> bytesPerSecondsPerTable = new ConcurrentHashMap<>();
+    private String lastTableId;
+
+    private TableMetrics lastTableMetrics;
+
+    private long pendingRows;
 
     public TaskMetricsCalcContext(
             MetricsContext metricsContext,
@@ -98,113 +116,125 @@ public class TaskMetricsCalcContext {
             String qpsName,
             String bytesName,
             String bytesPerSecondsName) {
-        count = metricsContext.counter(countName);
-        QPS = metricsContext.meter(qpsName);
-        bytes = metricsContext.counter(bytesName);
-        bytesPerSeconds = metricsContext.meter(bytesPerSecondsName);
+        this.countName = countName;
+        this.qpsName = qpsName;
+        this.bytesName = bytesName;
+        this.bytesPerSecondsName = bytesPerSecondsName;
+        total = createTableMetrics("");
         if (isMulti) {
             tables.forEach(
-                    tablePath -> {
-                        countPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.counter(countName + "#" + tablePath.getFullName()));
-                        QPSPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.meter(qpsName + "#" + tablePath.getFullName()));
-                        bytesPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.counter(bytesName + "#" + tablePath.getFullName()));
-                        bytesPerSecondsPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.meter(
-                                        bytesPerSecondsName + "#" + tablePath.getFullName()));
-                    });
+                    tablePath ->
+                            metricsPerTable.put(
+                                    tablePath.getFullName(),
+                                    createTableMetrics("#" + tablePath.getFullName())));
         }
     }
 
+    private TableMetrics createTableMetrics(String suffix) {
+        return new TableMetrics(
+                metricsContext.counter(countName + suffix),
+                metricsContext.meter(qpsName + suffix),
+                metricsContext.counter(bytesName + suffix),
+                metricsContext.meter(bytesPerSecondsName + suffix));
+    }
+
     public void updateMetrics(Object data, String tableId) {
-        count.inc();
-        QPS.markEvent();
         if (data instanceof SeaTunnelRow) {
-            SeaTunnelRow row = (SeaTunnelRow) data;
-            bytes.inc(row.getBytesSize());
-            bytesPerSeconds.markEvent(row.getBytesSize());
-
-            if (StringUtils.isNotBlank(tableId)) {
-                String tableName = TablePath.of(tableId).getFullName();
+            updateMetrics(1, ((SeaTunnelRow) data).getBytesSize(), tableId);
+        } else {
+            total.pendingRows++;
+            afterUpdate(1);
+        }
+    }
 
-                // Processing count
-                processMetrics(
-                        countPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_COUNT,
-                        SOURCE_RECEIVED_COUNT,
-                        Counter::inc);
-
-                // Processing bytes
-                processMetrics(
-                        bytesPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_BYTES,
-                        SOURCE_RECEIVED_BYTES,
-                        counter -> counter.inc(row.getBytesSize()));
-
-                // Processing QPS
-                processMetrics(
-                        QPSPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_QPS,
-                        SOURCE_RECEIVED_QPS,
-                        Meter::markEvent);
-
-                // Processing bytes rate
-                processMetrics(
-                        bytesPerSecondsPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_BYTES_PER_SECONDS,
-                        SOURCE_RECEIVED_BYTES_PER_SECONDS,
-                        meter -> meter.markEvent(row.getBytesSize()));
+    /**
+     * Update the metrics for a batch of rows at once, used by the columnar batch path and by
+     * callers that already know the size of a row.
+     */
+    public void updateMetrics(long rowCount, long bytesSize, String tableId) {
+        total.pendingRows += rowCount;
+        total.pendingBytes += bytesSize;
+
+        if (StringUtils.isNotBlank(tableId)) {
+            TableMetrics tableMetrics = getTableMetrics(tableId);
+            if (tableMetrics.pendingRows == 0 && tableMetrics.pendingBytes == 0) {
+                pendingTables.add(tableMetrics);
             }
+            tableMetrics.pendingRows += rowCount;
+            tableMetrics.pendingBytes += bytesSize;
         }
+        afterUpdate(rowCount);
     }
 
-    private <T> void processMetrics(
-            Map<String, T> metricMap,
-            Class<T> cls,
-            String tableName,
-            String sinkMetric,
-            String sourceMetric,
-            MetricProcessor<T> processor) {
-        T metric = metricMap.get(tableName);
-        if (Objects.nonNull(metric)) {
-            processor.process(metric);
-        } else {
-            String metricName =
-                    PluginType.SINK.equals(type)
-                            ? sinkMetric + "#" + tableName
-                            : sourceMetric + "#" + tableName;
-            T newMetric = createMetric(metricsContext, metricName, cls);
-            processor.process(newMetric);
-            metricMap.put(tableName, newMetric);
+    private void afterUpdate(long rowCount) {
+        pendingRows += rowCount;
+        if (pendingRows >= PUBLISH_ROW_THRESHOLD) {
+            publishMetrics();
+        }
+    }
+
+    /** Publish the rows and bytes counted since the last call to the metrics context. */
+    public void publishMetrics() {
+        if (pendingRows == 0) {
+            return;
+        }
+        total.publish();
+        for (TableMetrics tableMetrics : pendingTables) {
+            tableMetrics.publish();
         }
+        pendingTables.clear();
+        pendingRows = 0;
     }
 
-    private <T> T createMetric(
-            MetricsContext metricsContext, String metricName, Class<T> metricClass) {
-        if (metricClass == Counter.class) {
-            return metricClass.cast(metricsContext.counter(metricName));
-        } else if (metricClass == Meter.class) {
-            return metricClass.cast(metricsContext.meter(metricName));
+    private TableMetrics getTableMetrics(String tableId) {
+        // rows of the same table usually come in runs, and mostly share the same table id instance
+        if (tableId != lastTableId) {
+            TableMetrics tableMetrics = metricsPerTableId.get(tableId);
+            if (tableMetrics == null) {
+                String tableName = TablePath.of(tableId).getFullName();
+                tableMetrics =
+                        metricsPerTable.computeIfAbsent(
+                                tableName, name -> createTableMetrics("#" + name));
+                metricsPerTableId.put(tableId, tableMetrics);
+            }
+            lastTableId = tableId;
+            lastTableMetrics = tableMetrics;
         }
-        throw new IllegalArgumentException("Unsupported metric class: " + metricClass.getName());
+        return lastTableMetrics;
     }
 
-    @FunctionalInterface
-    interface MetricProcessor<T> {
-        void process(T t);
+    private static class TableMetrics {
+
+        private final Counter count;
+
+        private final Meter qps;
+
+        private final Counter bytes;
+
+        private final Meter bytesPerSeconds;
+
+        private long pendingRows;
+
+        private long pendingBytes;
+
+        private TableMetrics(Counter count, Meter qps, Counter bytes, Meter bytesPerSeconds) {
+            this.count = count;
+            this.qps = qps;
+            this.bytes = bytes;
+            this.bytesPerSeconds = bytesPerSeconds;
+        }
+
+        private void publish() {
+            if (pendingRows > 0) {
+                count.inc(pendingRows);
+                qps.markEvent(pendingRows);
+                pendingRows = 0;
+            }
+            if (pendingBytes > 0) {
+                bytes.inc(pendingBytes);
+                bytesPerSeconds.markEvent(pendingBytes);
+                pendingBytes = 0;
+            }
+        }
     }
 }
@@ -38,6 +38,7 @@ import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.dag.DAGUtils;
 import org.apache.seatunnel.engine.server.log.Log4j2HttpGetCommandProcessor;
 import org.apache.seatunnel.engine.server.master.JobHistoryService.JobState;
+import org.apache.seatunnel.engine.server.metrics.JobMetricsUtil;
 import org.apache.seatunnel.engine.server.operation.GetClusterHealthMetricsOperation;
 import org.apache.seatunnel.engine.server.operation.GetJobMetricsOperation;
 import org.apache.seatunnel.engine.server.operation.GetJobStatusOperation;
@@ -78,6 +79,8 @@ import java.util.stream.StreamSupport;
 
 import static com.hazelcast.internal.ascii.rest.HttpStatusCode.SC_400;
 import static com.hazelcast.internal.ascii.rest.HttpStatusCode.SC_500;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.CHECKPOINT_DURATION;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_FLUSH_LATENCY;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES_PER_SECONDS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
@@ -485,6 +488,10 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
                     metricsRates,
                     ArrayUtils.addAll(countMetricsNames, rateMetricsNames));
 
+            metricsMap.putAll(
+                    JobMetricsUtil.aggregateHistograms(
+                            jobMetricsStr, SINK_FLUSH_LATENCY, CHECKPOINT_DURATION));
+
         } catch (JsonProcessingException e) {
             return metricsMap;
         }
@@ -39,6 +39,7 @@ import org.apache.seatunnel.engine.server.CoordinatorService;
 import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.dag.DAGUtils;
 import org.apache.seatunnel.engine.server.master.JobHistoryService;
+import org.apache.seatunnel.engine.server.metrics.JobMetricsUtil;
 import org.apache.seatunnel.engine.server.operation.CancelJobOperation;
 import org.apache.seatunnel.engine.server.operation.GetJobMetricsOperation;
 import org.apache.seatunnel.engine.server.operation.GetJobStatusOperation;
@@ -76,6 +77,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.CHECKPOINT_DURATION;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_FLUSH_LATENCY;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES_PER_SECONDS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
@@ -364,6 +367,10 @@ public class BaseServlet extends HttpServlet {
                     metricsRates,
                     ArrayUtils.addAll(countMetricsNames, rateMetricsNames));
 
+            metricsMap.putAll(
+                    JobMetricsUtil.aggregateHistograms(
+                            jobMetricsStr, SINK_FLUSH_LATENCY, CHECKPOINT_DURATION));
+
         } catch (JsonProcessingException e) {
             return metricsMap;
         }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes a batch of {@link Record}s of one channel into a single frame. The row types of the
+ * channel are negotiated once when the channel is created, rows of a known table are written with a
+ * {@link SeaTunnelRowCodec} and the table ids are dictionary encoded within the frame. All other
+ * records are written with {@link RecordSerializer}.
+ */
+public class RecordFrameCodec {
+
+    private static final byte SCHEMA_ROW = 0;
+    private static final byte GENERIC_ROW = 1;
+    private static final byte OTHER_RECORD = 2;
+
+    private final InternalSerializationService serializationService;
+    private final Map<String, SeaTunnelRowCodec> rowCodecs = new HashMap<>();
+
+    public RecordFrameCodec(
+            Map<String, SeaTunnelRowType> rowTypes,
+            InternalSerializationService serializationService) {
+        this.serializationService = serializationService;
+        rowTypes.forEach(
+                (tableId, rowType) -> rowCodecs.put(tableId, new SeaTunnelRowCodec(rowType)));
+    }
+
+    public byte[] encode(List<Record<?>> records) throws IOException {
+        try (BufferObjectDataOutput out = serializationService.createObjectDataOutput()) {
+            Map<String, Integer> tableIds = new HashMap<>();
+            out.writeInt(records.size());
+            for (Record<?> record : records) {
+                if (!(record.getData() instanceof SeaTunnelRow)) {
+                    out.writeByte(OTHER_RECORD);
+                    out.writeObject(record);
+                    continue;
+                }
+                SeaTunnelRow row = (SeaTunnelRow) record.getData();
+                SeaTunnelRowCodec rowCodec = rowCodecs.get(row.getTableId());
+                boolean schemaRow = rowCodec != null && rowCodec.canWrite(row);
+                out.writeByte(schemaRow ? SCHEMA_ROW : GENERIC_ROW);
+                out.writeByte(row.getRowKind().toByteValue());
+                Integer tableIndex = tableIds.get(row.getTableId());
+                if (tableIndex == null) {
+                    // the first occurrence carries the table id, later ones only the index
+                    tableIndex = tableIds.size();
+                    tableIds.put(row.getTableId(), tableIndex);
+                    out.writeInt(tableIndex);
+                    out.writeString(row.getTableId());
+                } else {
+                    out.writeInt(tableIndex);
+                }
+                if (schemaRow) {
+                    rowCodec.write(out, row);
+                } else {
+                    out.writeInt(row.getArity());
+                    for (Object field : row.getFields()) {
+                        out.writeObject(field);
+                    }
+                }
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public List<Record<?>> decode(byte[] frame) throws IOException {
+        BufferObjectDataInput in = serializationService.createObjectDataInput(frame);
+        List<String> tableIds = new ArrayList<>();
+        int size = in.readInt();
+        List<Record<?>> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byte recordType = in.readByte();
+            if (recordType == OTHER_RECORD) {
+                records.add(in.readObject());
+                continue;
+            }
+            RowKind rowKind = RowKind.fromByteValue(in.readByte());
+            int tableIndex = in.readInt();
+            if (tableIndex == tableIds.size()) {
+                tableIds.add(in.readString());
+            }
+            String tableId = tableIds.get(tableIndex);
+            SeaTunnelRow row;
+            if (recordType == SCHEMA_ROW) {
+                row = rowCodecs.get(tableId).read(in);
+            } else {
+                int arity = in.readInt();
+                row = new SeaTunnelRow(arity);
+                for (int j = 0; j < arity; j++) {
+                    row.setField(j, in.readObject());
+                }
+            }
+            row.setTableId(tableId);
+            row.setRowKind(rowKind);
+            records.add(new Record<>(row));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Writes the fields of {@link SeaTunnelRow}s whose {@link SeaTunnelRowType} is agreed on by both
+ * sides beforehand. Instead of a type id per field it writes a null bitmap followed by the non null
+ * fields in their plain binary form, only the nested types fall back to {@code writeObject}.
+ */
+public class SeaTunnelRowCodec {
+
+    private final SqlType[] sqlTypes;
+    private final Class<?>[] fieldClasses;
+
+    public SeaTunnelRowCodec(SeaTunnelRowType rowType) {
+        int arity = rowType.getTotalFields();
+        this.sqlTypes = new SqlType[arity];
+        this.fieldClasses = new Class<?>[arity];
+        for (int i = 0; i < arity; i++) {
+            sqlTypes[i] = rowType.getFieldType(i).getSqlType();
+            fieldClasses[i] = getFieldClass(sqlTypes[i]);
+        }
+    }
+
+    /**
+     * Whether the row matches the schema of this codec. A row that does not match, e.g. after a
+     * schema change, must be written in the generic way.
+     */
+    public boolean canWrite(SeaTunnelRow row) {
+        Object[] fields = row.getFields();
+        if (fields.length != sqlTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null && !fieldClasses[i].isInstance(fields[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void write(ObjectDataOutput out, SeaTunnelRow row) throws IOException {
+        Object[] fields = row.getFields();
+        byte[] nullBitmap = new byte[(fields.length + 7) >>> 3];
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                nullBitmap[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(nullBitmap);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                writeField(out, sqlTypes[i], fields[i]);
+            }
+        }
+    }
+
+    public SeaTunnelRow read(ObjectDataInput in) throws IOException {
+        SeaTunnelRow row = new SeaTunnelRow(sqlTypes.length);
+        byte[] nullBitmap = new byte[(sqlTypes.length + 7) >>> 3];
+        in.readFully(nullBitmap);
+        for (int i = 0; i < sqlTypes.length; i++) {
+            if ((nullBitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+                row.setField(i, readField(in, sqlTypes[i]));
+            }
+        }
+        return row;
+    }
+
+    private static void writeField(ObjectDataOutput out, SqlType sqlType, Object value)
+            throws IOException {
+        switch (sqlType) {
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case TINYINT:
+                out.writeByte((Byte) value);
+                break;
+            case SMALLINT:
+                out.writeShort((Short) value);
+                break;
+            case INT:
+                out.writeInt((Integer) value);
+                break;
+            case BIGINT:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case STRING:
+                out.writeString((String) value);
+                break;
+            case BYTES:
+                out.writeByteArray((byte[]) value);
+                break;
+            case DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeByteArray(decimal.unscaledValue().toByteArray());
+                out.writeInt(decimal.scale());
+                break;
+            case DATE:
+                out.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case TIME:
+                out.writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case TIMESTAMP:
+                LocalDateTime dateTime = (LocalDateTime) value;
+                out.writeLong(dateTime.toLocalDate().toEpochDay());
+                out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+                break;
+            default:
+                out.writeObject(value);
+        }
+    }
+
+    private static Object readField(ObjectDataInput in, SqlType sqlType) throws IOException {
+        switch (sqlType) {
+            case BOOLEAN:
+                return in.readBoolean();
+            case TINYINT:
+                return in.readByte();
+            case SMALLINT:
+                return in.readShort();
+            case INT:
+                return in.readInt();
+            case BIGINT:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case STRING:
+                return in.readString();
+            case BYTES:
+                return in.readByteArray();
+            case DECIMAL:
+                BigInteger unscaledValue = new BigInteger(in.readByteArray());
+                return new BigDecimal(unscaledValue, in.readInt());
+            case DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case TIMESTAMP:
+                return LocalDateTime.of(
+                        LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+            default:
+                return in.readObject();
+        }
+    }
+
+    private static Class<?> getFieldClass(SqlType sqlType) {
+        switch (sqlType) {
+            case BOOLEAN:
+                return Boolean.class;
+            case TINYINT:
+                return Byte.class;
+            case SMALLINT:
+                return Short.class;
+            case INT:
+                return Integer.class;
+            case BIGINT:
+                return Long.class;
+            case FLOAT:
+                return Float.class;
+            case DOUBLE:
+                return Double.class;
+            case STRING:
+                return String.class;
+            case BYTES:
+                return byte[].class;
+            case DECIMAL:
+                return BigDecimal.class;
+            case DATE:
+                return LocalDate.class;
+            case TIME:
+                return LocalTime.class;
+            case TIMESTAMP:
+                return LocalDateTime.class;
+            default:
+                return Object.class;
+        }
+    }
+}
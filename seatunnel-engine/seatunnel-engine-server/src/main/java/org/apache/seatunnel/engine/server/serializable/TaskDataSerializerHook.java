@@ -34,6 +34,9 @@ import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperati
 import org.apache.seatunnel.engine.server.task.operation.SendConnectorJarToMemberNodeOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.BarrierFlowOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.CloseRequestOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleCreditOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleFrameOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleSubscribeOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkRegisterOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.AssignSplitOperation;
@@ -104,6 +107,12 @@ public class TaskDataSerializerHook implements DataSerializerHook {
 
     public static final int CLOSE_READER_OPERATION = 26;
 
+    public static final int SHUFFLE_FRAME_OPERATION = 27;
+
+    public static final int SHUFFLE_SUBSCRIBE_OPERATION = 28;
+
+    public static final int SHUFFLE_CREDIT_OPERATION = 29;
+
     public static final int FACTORY_ID =
             FactoryIdHelper.getFactoryId(
                     SeaTunnelFactoryIdConstant.SEATUNNEL_TASK_DATA_SERIALIZER_FACTORY,
@@ -176,6 +185,12 @@ public class TaskDataSerializerHook implements DataSerializerHook {
                     return new JobEventReportOperation();
                 case CLOSE_READER_OPERATION:
                     return new CloseIdleReaderOperation();
+                case SHUFFLE_FRAME_OPERATION:
+                    return new ShuffleFrameOperation();
+                case SHUFFLE_SUBSCRIBE_OPERATION:
+                    return new ShuffleSubscribeOperation();
+                case SHUFFLE_CREDIT_OPERATION:
+                    return new ShuffleCreditOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
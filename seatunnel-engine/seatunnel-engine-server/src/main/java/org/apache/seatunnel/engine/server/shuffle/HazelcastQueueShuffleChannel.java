@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import com.hazelcast.collection.IQueue;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Queue;
+
+/** Shuffle channel backed by a Hazelcast {@link IQueue}, it works as both read and write side. */
+@Slf4j
+public class HazelcastQueueShuffleChannel implements ShuffleOutputChannel, ShuffleInputChannel {
+
+    private final IQueue<Record<?>> queue;
+
+    public HazelcastQueueShuffleChannel(IQueue<Record<?>> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public String getName() {
+        return queue.getName();
+    }
+
+    @Override
+    public void put(Record<?> record) throws InterruptedException {
+        queue.put(record);
+    }
+
+    @Override
+    public void putAll(Queue<Record<?>> records) throws InterruptedException {
+        if (queue.remainingCapacity() <= 0 || !queue.addAll(records)) {
+            for (; ; ) {
+                Record<?> record = records.poll();
+                if (record == null) {
+                    break;
+                }
+                queue.put(record);
+            }
+        }
+        records.clear();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        return queue.take();
+    }
+
+    @Override
+    public int drainTo(Collection<? super Record<?>> target, int maxElements) {
+        return queue.drainTo(target, maxElements);
+    }
+
+    @Override
+    public void close() {
+        log.info("destroy shuffle queue: {}", queue.getName());
+        queue.destroy();
+    }
+}
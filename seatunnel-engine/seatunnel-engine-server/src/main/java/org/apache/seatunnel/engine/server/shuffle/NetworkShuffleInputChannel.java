@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.serializable.RecordFrameCodec;
+
+import com.hazelcast.cluster.Address;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The receiving end of a {@link
+ * org.apache.seatunnel.engine.common.config.server.ShuffleTransportType#NETWORK} shuffle channel.
+ * It lives on the member that runs the downstream task and buffers at most {@code capacity}
+ * records.
+ *
+ * <p>Flow control is credit based: once the upstream task subscribed, the free slots of the buffer
+ * are granted to it as credits ahead of time, and every slot freed by the downstream task is
+ * granted again as soon as {@link #creditThreshold} of them are collected. The upstream task never
+ * sends more records than it was granted, so every frame fits into the buffer. Frames may arrive
+ * out of order because several of them are in flight, they are put into the buffer in the order of
+ * their sequence numbers.
+ */
+@Slf4j
+public class NetworkShuffleInputChannel implements ShuffleInputChannel {
+    private static final long CREDIT_CHECK_MILLIS = 1000;
+
+    private final String name;
+    private final int capacity;
+    private final int creditThreshold;
+    private final BlockingQueue<Record<?>> buffer;
+    private final ShuffleChannelService channelService;
+    private final RecordFrameCodec frameCodec;
+
+    private String senderId;
+    private Address senderAddress;
+    /** Freed buffer slots that have not been granted to the upstream task yet. */
+    private int availableCredits;
+
+    private long nextSequence;
+    private final Map<Long, List<Record<?>>> pendingFrames = new HashMap<>();
+
+    private volatile Throwable failure;
+
+    public NetworkShuffleInputChannel(
+            String name,
+            int capacity,
+            ShuffleChannelService channelService,
+            RecordFrameCodec frameCodec) {
+        this.name = name;
+        this.capacity = capacity;
+        this.creditThreshold = Math.max(1, capacity / 4);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.channelService = channelService;
+        this.frameCodec = frameCodec;
+        this.availableCredits = capacity;
+    }
+
+    /**
+     * Subscribe an upstream task, all free slots of the buffer are granted to it. Subscribing the
+     * same upstream task again does nothing, a new upstream task replaces the previous one.
+     */
+    synchronized void subscribe(String senderId, Address senderAddress) {
+        if (senderId.equals(this.senderId)) {
+            return;
+        }
+        if (this.senderId != null) {
+            log.info(
+                    "shuffle channel [{}] replace upstream [{}] by [{}]",
+                    name,
+                    this.senderAddress,
+                    senderAddress);
+        }
+        this.senderId = senderId;
+        this.senderAddress = senderAddress;
+        this.nextSequence = 0;
+        this.pendingFrames.clear();
+        this.availableCredits = capacity - buffer.size();
+        grantCredits();
+    }
+
+    /**
+     * Accept a frame of the subscribed upstream task, it always fits into the buffer because the
+     * upstream task only sends records it holds credits for.
+     *
+     * @return false if the frame was sent by an upstream task that is not subscribed.
+     */
+    synchronized boolean offer(String senderId, long sequence, byte[] encodedFrame)
+            throws IOException {
+        if (!senderId.equals(this.senderId)) {
+            return false;
+        }
+        pendingFrames.put(sequence, frameCodec.decode(encodedFrame));
+        List<Record<?>> frame;
+        while ((frame = pendingFrames.remove(nextSequence)) != null) {
+            for (Record<?> record : frame) {
+                if (!buffer.offer(record)) {
+                    throw new IllegalStateException(
+                            String.format(
+                                    "shuffle channel [%s] received more records than the credits granted",
+                                    name));
+                }
+            }
+            nextSequence++;
+        }
+        return true;
+    }
+
+    private synchronized void release(int records) {
+        availableCredits += records;
+        if (availableCredits >= creditThreshold) {
+            grantCredits();
+        }
+    }
+
+    private void grantCredits() {
+        if (senderAddress == null || availableCredits <= 0) {
+            return;
+        }
+        channelService.sendCredits(this, senderAddress, availableCredits);
+        availableCredits = 0;
+    }
+
+    /** A lost credit grant leaves the upstream task without credits, so the channel gives up. */
+    void fail(Throwable e) {
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new RuntimeException(
+                    String.format("grant credits of shuffle channel [%s] failed", name), failure);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int size() {
+        return buffer.size();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        Record<?> record;
+        while ((record = buffer.poll(CREDIT_CHECK_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+            checkFailure();
+        }
+        release(1);
+        return record;
+    }
+
+    @Override
+    public int drainTo(Collection<? super Record<?>> target, int maxElements) {
+        checkFailure();
+        int drained = buffer.drainTo(target, maxElements);
+        if (drained > 0) {
+            release(drained);
+        }
+        return drained;
+    }
+
+    @Override
+    public void close() {
+        log.info("unregister shuffle channel: {}", name);
+        channelService.unregisterInputChannel(this);
+        buffer.clear();
+    }
+}
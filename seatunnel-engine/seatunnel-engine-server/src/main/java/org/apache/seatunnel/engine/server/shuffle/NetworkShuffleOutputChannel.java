@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.serializable.RecordFrameCodec;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * The sending end of a {@link
+ * org.apache.seatunnel.engine.common.config.server.ShuffleTransportType#NETWORK} shuffle channel.
+ * Records are pushed as frames straight to the member that owns the receiving channel, so there is
+ * no partition owner hop, no backup copy and no per item queue operation.
+ *
+ * <p>The channel subscribes to the {@link NetworkShuffleInputChannel} once and then only sends as
+ * many records as the receiver granted credits for, a batch larger than the credits is split into
+ * several frames. Up to {@link #MAX_FRAMES_IN_FLIGHT} frames are sent without waiting for each
+ * other, they carry a sequence number so that the receiver keeps the records and the in-band
+ * barriers in order. Without credits the channel waits until the receiver grants new ones.
+ */
+@Slf4j
+public class NetworkShuffleOutputChannel implements ShuffleOutputChannel {
+    private static final int MAX_FRAMES_IN_FLIGHT = 4;
+    private static final long CREDIT_WAIT_MILLIS = 1000;
+
+    private final String name;
+    private final String senderId = UUID.randomUUID().toString();
+    private final ShuffleChannelService channelService;
+    private final RecordFrameCodec frameCodec;
+    private final Deque<InvocationFuture<Boolean>> framesInFlight = new ArrayDeque<>();
+
+    private boolean registered;
+    private long nextSequence;
+
+    /** Guarded by {@code this}. */
+    private Address targetAddress;
+    /** Guarded by {@code this}. */
+    private int credits;
+    /** Guarded by {@code this}. */
+    private Throwable failure;
+
+    public NetworkShuffleOutputChannel(
+            String name, ShuffleChannelService channelService, RecordFrameCodec frameCodec) {
+        this.name = name;
+        this.channelService = channelService;
+        this.frameCodec = frameCodec;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    String getSenderId() {
+        return senderId;
+    }
+
+    @Override
+    public void put(Record<?> record) throws InterruptedException {
+        sendFrames(Collections.singletonList(record));
+    }
+
+    @Override
+    public void putAll(Queue<Record<?>> records) throws InterruptedException {
+        List<Record<?>> frame = new ArrayList<>(records);
+        records.clear();
+        sendFrames(frame);
+    }
+
+    private void sendFrames(List<Record<?>> records) throws InterruptedException {
+        if (!registered) {
+            channelService.registerOutputChannel(this);
+            registered = true;
+            Address channelAddress = channelService.getChannelAddress(name);
+            if (channelAddress != null) {
+                // otherwise the receiver announces itself once it is registered
+                subscribe(channelAddress);
+            }
+        }
+        int offset = 0;
+        while (offset < records.size()) {
+            Address target;
+            int granted;
+            synchronized (this) {
+                while (credits == 0 && failure == null) {
+                    wait(CREDIT_WAIT_MILLIS);
+                    if (credits == 0 && failure == null) {
+                        checkReceiver();
+                    }
+                }
+                checkFailure();
+                granted = Math.min(credits, records.size() - offset);
+                credits -= granted;
+                target = targetAddress;
+            }
+            if (framesInFlight.size() >= MAX_FRAMES_IN_FLIGHT) {
+                awaitFrame(framesInFlight.poll());
+            }
+            long sequence = nextSequence++;
+            InvocationFuture<Boolean> frameFuture =
+                    channelService.sendFrame(
+                            name,
+                            senderId,
+                            sequence,
+                            encode(records.subList(offset, offset + granted)),
+                            target);
+            frameFuture.whenComplete(
+                    (accepted, e) -> {
+                        if (e != null || !accepted) {
+                            fail(e != null ? e : frameRejected());
+                        }
+                    });
+            framesInFlight.add(frameFuture);
+            while (!framesInFlight.isEmpty() && framesInFlight.peek().isDone()) {
+                awaitFrame(framesInFlight.poll());
+            }
+            offset += granted;
+        }
+    }
+
+    /** Subscribe to the receiving channel on the given member, it then grants the credits. */
+    void subscribe(Address channelAddress) {
+        channelService.sendSubscription(this, channelAddress);
+    }
+
+    /**
+     * Called while waiting for credits. Without any grant so far the channel subscribes again to
+     * the published receiver, in case its announcement was lost. After a grant the member of the
+     * receiver has to be still part of the cluster, otherwise no credits will come anymore.
+     */
+    private void checkReceiver() {
+        if (targetAddress == null) {
+            Address channelAddress = channelService.getChannelAddress(name);
+            if (channelAddress != null) {
+                subscribe(channelAddress);
+            }
+        } else if (!channelService.isMember(targetAddress)) {
+            fail(
+                    new IllegalStateException(
+                            String.format(
+                                    "member [%s] of shuffle channel [%s] left the cluster",
+                                    targetAddress, name)));
+        }
+    }
+
+    synchronized void addCredits(Address channelAddress, int granted) {
+        targetAddress = channelAddress;
+        credits += granted;
+        notifyAll();
+    }
+
+    synchronized void fail(Throwable e) {
+        if (failure == null) {
+            failure = e;
+        }
+        notifyAll();
+    }
+
+    private synchronized void checkFailure() {
+        if (failure != null) {
+            throw new RuntimeException(
+                    String.format("send shuffle frame of channel [%s] failed", name), failure);
+        }
+    }
+
+    private IllegalStateException frameRejected() {
+        return new IllegalStateException(
+                String.format(
+                        "shuffle channel [%s] does not accept frames of this upstream task, it was closed or redeployed",
+                        name));
+    }
+
+    private void awaitFrame(InvocationFuture<Boolean> frameFuture) throws InterruptedException {
+        try {
+            if (!Boolean.TRUE.equals(frameFuture.get())) {
+                fail(frameRejected());
+            }
+        } catch (ExecutionException e) {
+            fail(e.getCause());
+        }
+        checkFailure();
+    }
+
+    private byte[] encode(List<Record<?>> records) {
+        try {
+            return frameCodec.encode(records);
+        } catch (IOException e) {
+            throw new RuntimeException(
+                    String.format("encode shuffle frame of channel [%s] failed", name), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        log.info("close shuffle channel: {}", name);
+        try {
+            while (!framesInFlight.isEmpty()) {
+                awaitFrame(framesInFlight.poll());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("frames of shuffle channel [{}] were not delivered", name, e);
+        } finally {
+            framesInFlight.clear();
+            channelService.unregisterOutputChannel(this);
+        }
+    }
+}
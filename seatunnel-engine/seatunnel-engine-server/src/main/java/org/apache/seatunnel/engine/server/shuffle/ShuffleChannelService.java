@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.server.serializable.RecordFrameCodec;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleCreditOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleFrameOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleSubscribeOperation;
+import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the network shuffle channels of the tasks running on this member. The member address of
+ * every registered channel end is published once, the ends look each other up when they open the
+ * channel and then talk to that member directly.
+ *
+ * <p>The ends exchange three operations: the {@link NetworkShuffleOutputChannel} subscribes with a
+ * {@link ShuffleSubscribeOperation}, the {@link NetworkShuffleInputChannel} grants credits with a
+ * {@link ShuffleCreditOperation}, and the records are sent with {@link ShuffleFrameOperation}s
+ * within these credits. A credit operation without credits announces a receiver registered after
+ * its upstream task, which then subscribes.
+ */
+@Slf4j
+public class ShuffleChannelService {
+
+    private final NodeEngineImpl nodeEngine;
+    private final ConcurrentMap<String, NetworkShuffleInputChannel> inputChannels =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, NetworkShuffleOutputChannel> outputChannels =
+            new ConcurrentHashMap<>();
+
+    public ShuffleChannelService(NodeEngineImpl nodeEngine) {
+        this.nodeEngine = nodeEngine;
+    }
+
+    public NetworkShuffleInputChannel registerInputChannel(
+            String name, int capacity, RecordFrameCodec frameCodec) {
+        NetworkShuffleInputChannel channel =
+                new NetworkShuffleInputChannel(name, capacity, this, frameCodec);
+        // replace the channel of a previous attempt, its data will be restored from checkpoint
+        inputChannels.put(name, channel);
+        getChannelAddressMap().put(name, nodeEngine.getThisAddress());
+        Address senderAddress = getSenderAddressMap().get(name);
+        if (senderAddress != null) {
+            announce(name, senderAddress);
+        }
+        return channel;
+    }
+
+    public void unregisterInputChannel(NetworkShuffleInputChannel channel) {
+        if (inputChannels.remove(channel.getName(), channel)) {
+            getChannelAddressMap().remove(channel.getName(), nodeEngine.getThisAddress());
+        }
+    }
+
+    public void registerOutputChannel(NetworkShuffleOutputChannel channel) {
+        outputChannels.put(channel.getName(), channel);
+        getSenderAddressMap().put(channel.getName(), nodeEngine.getThisAddress());
+    }
+
+    public void unregisterOutputChannel(NetworkShuffleOutputChannel channel) {
+        if (outputChannels.remove(channel.getName(), channel)) {
+            getSenderAddressMap().remove(channel.getName(), nodeEngine.getThisAddress());
+        }
+    }
+
+    /**
+     * Subscribe an upstream task to a channel registered on this member.
+     *
+     * @return false if the channel is not registered on this member.
+     */
+    public boolean subscribe(String name, String senderId, Address senderAddress) {
+        NetworkShuffleInputChannel channel = inputChannels.get(name);
+        if (channel == null) {
+            log.debug("shuffle channel [{}] is not registered on this member", name);
+            return false;
+        }
+        channel.subscribe(senderId, senderAddress);
+        return true;
+    }
+
+    /**
+     * Hand over a frame received from an upstream task.
+     *
+     * @return false if the channel is not registered on this member or the upstream task is not
+     *     subscribed to it.
+     */
+    public boolean receive(String name, String senderId, long sequence, byte[] frame)
+            throws IOException {
+        NetworkShuffleInputChannel channel = inputChannels.get(name);
+        if (channel == null) {
+            log.debug("shuffle channel [{}] is not registered on this member", name);
+            return false;
+        }
+        return channel.offer(senderId, sequence, frame);
+    }
+
+    /** Hand over credits granted by the receiving channel on the given member. */
+    public void receiveCredits(String name, Address channelAddress, int credits) {
+        NetworkShuffleOutputChannel channel = outputChannels.get(name);
+        if (channel == null) {
+            log.debug("shuffle channel [{}] has no upstream task on this member", name);
+        } else if (credits == 0) {
+            channel.subscribe(channelAddress);
+        } else {
+            channel.addCredits(channelAddress, credits);
+        }
+    }
+
+    /**
+     * Subscribe the given upstream channel to the receiving channel on the given member. The
+     * upstream channel fails if the receiving channel is not registered there, because it would
+     * never be granted any credits.
+     */
+    void sendSubscription(NetworkShuffleOutputChannel channel, Address channelAddress) {
+        NodeEngineUtil.<Boolean>sendOperationToMemberNode(
+                        nodeEngine,
+                        new ShuffleSubscribeOperation(channel.getName(), channel.getSenderId()),
+                        channelAddress)
+                .whenComplete(
+                        (subscribed, e) -> {
+                            if (e != null) {
+                                channel.fail(e);
+                            } else if (!Boolean.TRUE.equals(subscribed)) {
+                                channel.fail(
+                                        new IllegalStateException(
+                                                String.format(
+                                                        "shuffle channel [%s] is not registered on [%s]",
+                                                        channel.getName(), channelAddress)));
+                            }
+                        });
+    }
+
+    /**
+     * Grant credits of the given receiving channel to its upstream task. The receiving channel
+     * fails if the grant is lost, because the upstream task would wait for these credits forever.
+     */
+    void sendCredits(NetworkShuffleInputChannel channel, Address senderAddress, int credits) {
+        if (!isMember(senderAddress)) {
+            channel.fail(
+                    new IllegalStateException(
+                            String.format(
+                                    "member [%s] of the upstream task of shuffle channel [%s] left the cluster",
+                                    senderAddress, channel.getName())));
+            return;
+        }
+        NodeEngineUtil.sendOperationToMemberNode(
+                        nodeEngine,
+                        new ShuffleCreditOperation(channel.getName(), credits),
+                        senderAddress)
+                .whenComplete(
+                        (r, e) -> {
+                            if (e != null) {
+                                channel.fail(e);
+                            }
+                        });
+    }
+
+    /**
+     * Announce a receiving channel to the member that published an upstream task of it. The address
+     * may be left over by a previous attempt, so a lost announcement is only logged, the upstream
+     * task subscribes on its own once it finds the receiving channel.
+     */
+    private void announce(String name, Address senderAddress) {
+        NodeEngineUtil.sendOperationToMemberNode(
+                        nodeEngine, new ShuffleCreditOperation(name, 0), senderAddress)
+                .whenComplete(
+                        (r, e) -> {
+                            if (e != null) {
+                                log.warn(
+                                        "announce shuffle channel [{}] to [{}] failed",
+                                        name,
+                                        senderAddress,
+                                        e);
+                            }
+                        });
+    }
+
+    boolean isMember(Address address) {
+        return nodeEngine.getClusterService().getMember(address) != null;
+    }
+
+    InvocationFuture<Boolean> sendFrame(
+            String name, String senderId, long sequence, byte[] frame, Address channelAddress) {
+        return NodeEngineUtil.sendOperationToMemberNode(
+                nodeEngine,
+                new ShuffleFrameOperation(name, senderId, sequence, frame),
+                channelAddress);
+    }
+
+    public Address getChannelAddress(String name) {
+        return getChannelAddressMap().get(name);
+    }
+
+    public NodeEngineImpl getNodeEngine() {
+        return nodeEngine;
+    }
+
+    private IMap<String, Address> getChannelAddressMap() {
+        return nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_SHUFFLE_CHANNEL_ADDRESS);
+    }
+
+    private IMap<String, Address> getSenderAddressMap() {
+        return nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_SHUFFLE_SENDER_ADDRESS);
+    }
+}
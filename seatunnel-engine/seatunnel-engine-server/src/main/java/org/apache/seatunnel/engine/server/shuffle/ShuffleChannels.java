@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.serializable.RecordFrameCodec;
+
+import com.hazelcast.collection.IQueue;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Creates the shuffle channels of a task according to {@link ShuffleConfig#getTransport()}. */
+@Slf4j
+public class ShuffleChannels {
+
+    private ShuffleChannels() {}
+
+    public static Map<String, ShuffleOutputChannel> createOutputChannels(
+            ShuffleConfig shuffleConfig,
+            TaskExecutionContext executionContext,
+            int pipelineId,
+            int inputIndex) {
+        ShuffleStrategy shuffleStrategy = shuffleConfig.getShuffleStrategy();
+        Map<String, ShuffleOutputChannel> channels = new LinkedHashMap<>();
+        switch (shuffleConfig.getTransport()) {
+            case NETWORK:
+                ShuffleChannelService channelService =
+                        executionContext.getTaskExecutionService().getShuffleChannelService();
+                RecordFrameCodec frameCodec = createFrameCodec(shuffleStrategy, channelService);
+                for (String name : shuffleStrategy.createShuffleNames(pipelineId, inputIndex)) {
+                    channels.put(
+                            name,
+                            new NetworkShuffleOutputChannel(name, channelService, frameCodec));
+                }
+                log.info(
+                        "pipeline[{}] / reader[{}] assigned shuffle channel list: {}",
+                        pipelineId,
+                        inputIndex,
+                        channels.keySet());
+                break;
+            case HAZELCAST_QUEUE:
+            default:
+                Map<String, IQueue<Record<?>>> queues =
+                        shuffleStrategy.createShuffles(
+                                executionContext.getInstance(), pipelineId, inputIndex);
+                queues.forEach(
+                        (name, queue) ->
+                                channels.put(name, new HazelcastQueueShuffleChannel(queue)));
+        }
+        return channels;
+    }
+
+    public static ShuffleInputChannel[] createInputChannels(
+            ShuffleConfig shuffleConfig,
+            TaskExecutionContext executionContext,
+            int pipelineId,
+            int targetIndex) {
+        ShuffleStrategy shuffleStrategy = shuffleConfig.getShuffleStrategy();
+        ShuffleInputChannel[] channels;
+        switch (shuffleConfig.getTransport()) {
+            case NETWORK:
+                ShuffleChannelService channelService =
+                        executionContext.getTaskExecutionService().getShuffleChannelService();
+                RecordFrameCodec frameCodec = createFrameCodec(shuffleStrategy, channelService);
+                String[] names = shuffleStrategy.getShuffleNames(pipelineId, targetIndex);
+                channels = new ShuffleInputChannel[names.length];
+                for (int i = 0; i < names.length; i++) {
+                    channels[i] =
+                            channelService.registerInputChannel(
+                                    names[i], shuffleStrategy.getQueueMaxSize(), frameCodec);
+                }
+                log.info(
+                        "pipeline[{}] / writer[{}] assigned shuffle channel list: {}",
+                        pipelineId,
+                        targetIndex,
+                        Arrays.asList(names));
+                break;
+            case HAZELCAST_QUEUE:
+            default:
+                IQueue<Record<?>>[] queues =
+                        shuffleStrategy.getShuffles(
+                                executionContext.getInstance(), pipelineId, targetIndex);
+                channels = new ShuffleInputChannel[queues.length];
+                for (int i = 0; i < queues.length; i++) {
+                    channels[i] = new HazelcastQueueShuffleChannel(queues[i]);
+                }
+        }
+        return channels;
+    }
+
+    private static RecordFrameCodec createFrameCodec(
+            ShuffleStrategy shuffleStrategy, ShuffleChannelService channelService) {
+        return new RecordFrameCodec(
+                shuffleStrategy.getShuffleRowTypes(),
+                channelService.getNodeEngine().getNode().getSerializationService());
+    }
+}
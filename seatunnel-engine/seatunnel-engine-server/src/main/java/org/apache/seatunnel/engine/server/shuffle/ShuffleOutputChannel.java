@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.util.Queue;
+
+/** The write side of a shuffle channel, used by {@code ShuffleSinkFlowLifeCycle}. */
+public interface ShuffleOutputChannel {
+
+    String getName();
+
+    /** Send a single record, blocks until the downstream side has room for it. */
+    void put(Record<?> record) throws InterruptedException;
+
+    /**
+     * Send a batch of records in order, blocks until all of them have been accepted by the
+     * downstream side. The given queue is drained.
+     */
+    void putAll(Queue<Record<?>> records) throws InterruptedException;
+
+    void close();
+}
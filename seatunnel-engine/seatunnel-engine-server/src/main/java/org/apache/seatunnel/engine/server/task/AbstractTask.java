@@ -19,6 +19,8 @@ package org.apache.seatunnel.engine.server.task;
 
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.TaskStateUploader;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskReportStatusOperation;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.Task;
@@ -53,6 +55,8 @@ public abstract class AbstractTask implements Task {
 
     protected Progress progress;
 
+    private transient volatile TaskStateUploader stateUploader;
+
     public AbstractTask(long jobID, TaskLocation taskLocation) {
         this.taskLocation = taskLocation;
         this.jobID = jobID;
@@ -103,6 +107,9 @@ public abstract class AbstractTask implements Task {
             }
         } catch (Exception ignore) {
         }
+        if (stateUploader != null) {
+            stateUploader.close();
+        }
     }
 
     protected void reportTaskStatus(SeaTunnelTaskState status) {
@@ -117,6 +124,45 @@ public abstract class AbstractTask implements Task {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Uploads the large state entries to the checkpoint storage when the direct upload is enabled,
+     * the returned states only reference them.
+     */
+    protected List<ActionSubtaskState> uploadStates(
+            long checkpointId, List<ActionSubtaskState> states) throws Exception {
+        if (!executionContext.getTaskExecutionService().isCheckpointDirectUpload()) {
+            return states;
+        }
+        return getStateUploader().upload(checkpointId, states);
+    }
+
+    /** Loads the state entries the restored states only reference. */
+    public List<ActionSubtaskState> loadStates(List<ActionSubtaskState> states) throws Exception {
+        if (states == null
+                || states.stream()
+                        .noneMatch(state -> state != null && state.getStateChunkIds() != null)) {
+            return states;
+        }
+        return getStateUploader().load(states);
+    }
+
+    public void notifyStateCheckpointComplete(long checkpointId) {
+        if (stateUploader != null) {
+            stateUploader.notifyCheckpointComplete(checkpointId);
+        }
+    }
+
+    private TaskStateUploader getStateUploader() {
+        if (stateUploader == null) {
+            stateUploader =
+                    new TaskStateUploader(
+                            executionContext.getTaskExecutionService().getCheckpointStorage(),
+                            jobID,
+                            taskLocation.getPipelineId());
+        }
+        return stateUploader;
+    }
+
     public void startCall() {
         startCalled = true;
     }
@@ -28,6 +28,7 @@ import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
@@ -107,7 +108,7 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
                             "Unsupported row type: " + rowType.getClass().getName());
                 }
                 flowControlGate.audit((SeaTunnelRow) row);
-                taskMetricsCalcContext.updateMetrics(row, tableId);
+                taskMetricsCalcContext.updateMetrics(1, size, tableId);
             }
             sendRecordToNext(new Record<>(row));
             emptyThisPollNext = false;
@@ -116,6 +117,22 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         }
     }
 
+    @Override
+    public void collectBatch(ColumnarBatch batch) {
+        if (batch.getNumRows() == 0) {
+            return;
+        }
+        try {
+            long bytesSize = batch.getBytesSize();
+            flowControlGate.audit(batch.getNumRows(), bytesSize);
+            taskMetricsCalcContext.updateMetrics(batch.getNumRows(), bytesSize, batch.getTableId());
+            sendRecordToNext(new Record<>(batch));
+            emptyThisPollNext = false;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public void collect(SchemaChangeEvent event) {
         try {
@@ -189,6 +206,13 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         this.emptyThisPollNext = true;
     }
 
+    /**
+     * Publish the metrics of the collected rows, must be called by the thread polling the reader.
+     */
+    public void publishMetrics() {
+        taskMetricsCalcContext.publishMetrics();
+    }
+
     public void sendRecordToNext(Record<?> record) throws IOException {
         synchronized (checkpointLock) {
             for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
@@ -59,7 +59,6 @@ import org.apache.seatunnel.engine.server.task.group.AbstractTaskGroupWithInterm
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 
-import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
@@ -166,6 +165,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 break;
             case RUNNING:
                 collect();
+                publishMetrics();
                 if (prepareCloseStatus) {
                     currState = PREPARE_CLOSE;
                 }
@@ -239,23 +239,14 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 completableFuture);
             } else if (f.getAction() instanceof ShuffleAction) {
                 ShuffleAction shuffleAction = (ShuffleAction) f.getAction();
-                HazelcastInstance hazelcastInstance = getExecutionContext().getInstance();
                 if (flow.getNext().isEmpty()) {
                     lifeCycle =
                             new ShuffleSinkFlowLifeCycle(
-                                    this,
-                                    indexID,
-                                    shuffleAction,
-                                    hazelcastInstance,
-                                    completableFuture);
+                                    this, indexID, shuffleAction, completableFuture);
                 } else {
                     lifeCycle =
                             new ShuffleSourceFlowLifeCycle(
-                                    this,
-                                    indexID,
-                                    shuffleAction,
-                                    hazelcastInstance,
-                                    completableFuture);
+                                    this, indexID, shuffleAction, completableFuture);
                 }
                 outputs = flowLifeCycles;
             } else {
@@ -286,6 +277,17 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected abstract void collect() throws Exception;
 
+    /**
+     * Publish the row metrics the flows of this task counted during the last {@link #collect()}.
+     */
+    protected void publishMetrics() {
+        for (FlowLifeCycle cycle : allCycles) {
+            if (cycle instanceof SinkFlowLifeCycle) {
+                ((SinkFlowLifeCycle<?, ?, ?, ?>) cycle).publishMetrics();
+            }
+        }
+    }
+
     @Override
     public Set<URL> getJarsUrl() {
         return getFlowInfo((action, set) -> set.addAll(action.getJarUrls()));
@@ -350,7 +352,12 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 new TaskAcknowledgeOperation(
                                         this.taskLocation,
                                         (CheckpointBarrier) barrier,
-                                        checkpointStates.remove(barrier.getId())))
+                                        sneaky(
+                                                () ->
+                                                        uploadStates(
+                                                                barrier.getId(),
+                                                                checkpointStates.remove(
+                                                                        barrier.getId())))))
                         .join();
             }
         }
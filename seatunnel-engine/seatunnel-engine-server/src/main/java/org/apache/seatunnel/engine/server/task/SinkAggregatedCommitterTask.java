@@ -262,9 +262,11 @@ public class SinkAggregatedCommitterTask<CommandInfoT, AggregatedCommitInfoT>
                             new TaskAcknowledgeOperation(
                                     this.taskLocation,
                                     (CheckpointBarrier) barrier,
-                                    Collections.singletonList(
-                                            new ActionSubtaskState(
-                                                    ActionStateKey.of(sink), -1, states))))
+                                    uploadStates(
+                                            barrier.getId(),
+                                            Collections.singletonList(
+                                                    new ActionSubtaskState(
+                                                            ActionStateKey.of(sink), -1, states)))))
                     .join();
         }
 
@@ -127,6 +127,14 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
         ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).collect();
     }
 
+    @Override
+    protected void publishMetrics() {
+        super.publishMetrics();
+        if (collector != null) {
+            collector.publishMetrics();
+        }
+    }
+
     @NonNull @Override
     public ProgressState call() throws Exception {
         stateProcess();
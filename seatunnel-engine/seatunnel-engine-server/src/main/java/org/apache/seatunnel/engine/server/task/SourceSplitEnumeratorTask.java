@@ -169,11 +169,14 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
                             new TaskAcknowledgeOperation(
                                     this.taskLocation,
                                     (CheckpointBarrier) barrier,
-                                    Collections.singletonList(
-                                            new ActionSubtaskState(
-                                                    ActionStateKey.of(source),
-                                                    -1,
-                                                    Collections.singletonList(serialize)))))
+                                    uploadStates(
+                                            barrierId,
+                                            Collections.singletonList(
+                                                    new ActionSubtaskState(
+                                                            ActionStateKey.of(source),
+                                                            -1,
+                                                            Collections.singletonList(
+                                                                    serialize))))))
                     .join();
         }
 
@@ -19,14 +19,15 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleChannels;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleOutputChannel;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -44,7 +45,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final int pipelineId;
     private final int taskIndex;
     private final ShuffleAction shuffleAction;
-    private final Map<String, IQueue<Record<?>>> shuffles;
+    private final Map<String, ShuffleOutputChannel> shuffles;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
@@ -56,14 +57,18 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             SeaTunnelTask runningTask,
             int taskIndex,
             ShuffleAction shuffleAction,
-            HazelcastInstance hazelcastInstance,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
         this.pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
         this.taskIndex = taskIndex;
         this.shuffleAction = shuffleAction;
         this.shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
-        this.shuffles = shuffleStrategy.createShuffles(hazelcastInstance, pipelineId, taskIndex);
+        this.shuffles =
+                ShuffleChannels.createOutputChannels(
+                        shuffleAction.getConfig(),
+                        runningTask.getExecutionContext(),
+                        pipelineId,
+                        taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
@@ -88,8 +93,8 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             runningTask.ack(barrier);
 
             // The barrier needs to be replicated to all channels
-            for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
+            for (Map.Entry<String, ShuffleOutputChannel> shuffle : shuffles.entrySet()) {
+                ShuffleOutputChannel shuffleQueue = shuffle.getValue();
                 try {
                     shuffleQueue.put(record);
                 } catch (InterruptedException e) {
@@ -108,6 +113,16 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             }
 
             shuffleItem(record);
+        } else if (record.getData() instanceof ColumnarBatch) {
+            if (prepareClose) {
+                return;
+            }
+
+            // the shuffle strategies route by row, so the batch is split into rows here
+            ColumnarBatch batch = (ColumnarBatch) record.getData();
+            for (int i = 0; i < batch.getNumRows(); i++) {
+                shuffleItem(new Record<>(batch.getRow(i)));
+            }
         } else {
             if (prepareClose) {
                 return;
@@ -120,9 +135,8 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (Map.Entry<String, IQueue<Record<?>>> shuffleItem : shuffles.entrySet()) {
-            log.info("destroy shuffle queue: {}", shuffleItem.getKey());
-            shuffleItem.getValue().destroy();
+        for (ShuffleOutputChannel shuffleChannel : shuffles.values()) {
+            shuffleChannel.close();
         }
     }
 
@@ -140,21 +154,12 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
 
     private synchronized void shuffleFlush() {
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
-            IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
+            ShuffleOutputChannel shuffleQueue = shuffles.get(shuffleBatch.getKey());
             Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
+            try {
+                shuffleQueue.putAll(shuffleQueueBatch);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
             }
             shuffleQueueBatch.clear();
         }
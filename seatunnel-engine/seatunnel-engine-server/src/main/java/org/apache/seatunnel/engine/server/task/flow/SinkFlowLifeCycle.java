@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.Histogram;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.serialization.Serializer;
@@ -24,6 +25,7 @@ import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.sink.SinkCommitter;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SinkWriter.Context;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchSinkWriter;
 import org.apache.seatunnel.api.sink.SupportResourceShare;
 import org.apache.seatunnel.api.sink.event.WriterCloseEvent;
 import org.apache.seatunnel.api.sink.multitablesink.MultiTableSink;
@@ -32,11 +34,13 @@ import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.engine.core.checkpoint.InternalCheckpointListener;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.event.JobEventListener;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.metrics.TaskMetricsCalcContext;
@@ -65,6 +69,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.CHECKPOINT_DURATION;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_FLUSH_LATENCY;
 import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneaky;
 import static org.apache.seatunnel.engine.server.task.AbstractTask.serializeStates;
 
@@ -96,6 +102,10 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
 
     private TaskMetricsCalcContext taskMetricsCalcContext;
 
+    private final Histogram flushLatency;
+
+    private final Histogram checkpointDuration;
+
     private final boolean containAggCommitter;
 
     private MultiTableResourceManager resourceManager;
@@ -105,6 +115,11 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
     /** Mapping relationship between upstream tablepath and downstream tablepath. */
     private final Map<TablePath, TablePath> tablesMaps = new HashMap<>();
 
+    /** The sink table name of each upstream table id, to not parse the table id of every row. */
+    private final Map<String, String> metricsTableIds = new HashMap<>();
+
+    private String writeTableId;
+
     public SinkFlowLifeCycle(
             SinkAction<T, StateT, CommitInfoT, AggregatedCommitInfoT> sinkAction,
             TaskLocation taskLocation,
@@ -144,6 +159,8 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         }
         this.taskMetricsCalcContext =
                 new TaskMetricsCalcContext(metricsContext, PluginType.SINK, isMulti, sinkTables);
+        this.flushLatency = metricsContext.histogram(SINK_FLUSH_LATENCY);
+        this.checkpointDuration = metricsContext.histogram(CHECKPOINT_DURATION);
     }
 
     @Override
@@ -214,6 +231,7 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                         throw e;
                     }
                     List<StateT> states = writer.snapshotState(barrier.getId());
+                    flushLatency.update(System.currentTimeMillis() - startTime);
                     if (!writerStateSerializer.isPresent()) {
                         runningTask.addState(
                                 barrier, ActionStateKey.of(sinkAction), Collections.emptyList());
@@ -253,6 +271,13 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                     }
                 }
                 runningTask.ack(barrier);
+                if (barrier.snapshot() && barrier instanceof CheckpointBarrier) {
+                    // the barrier follows every row read before the checkpoint was triggered, so
+                    // this is also the end-to-end latency of the pipeline at checkpoint time
+                    checkpointDuration.update(
+                            System.currentTimeMillis()
+                                    - ((CheckpointBarrier) barrier).getTimestamp());
+                }
 
                 log.debug(
                         "trigger barrier [{}] finished, cost {}ms. taskLocation [{}]",
@@ -265,42 +290,19 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 }
                 SchemaChangeEvent event = (SchemaChangeEvent) record.getData();
                 writer.applySchemaChange(event);
+            } else if (record.getData() instanceof ColumnarBatch) {
+                if (prepareClose) {
+                    return;
+                }
+                writeBatch((ColumnarBatch) record.getData());
             } else {
                 if (prepareClose) {
                     return;
                 }
-                String tableId = "";
                 writer.write((T) record.getData());
                 if (record.getData() instanceof SeaTunnelRow) {
-                    if (this.sinkAction.getSink() instanceof MultiTableSink) {
-                        if (((SeaTunnelRow) record.getData()).getTableId() == null
-                                || ((SeaTunnelRow) record.getData()).getTableId().isEmpty()) {
-                            tableId = ((SeaTunnelRow) record.getData()).getTableId();
-                        } else {
-
-                            TablePath tablePath =
-                                    tablesMaps.get(
-                                            TablePath.of(
-                                                    ((SeaTunnelRow) record.getData())
-                                                            .getTableId()));
-                            tableId =
-                                    tablePath != null
-                                            ? tablePath.getFullName()
-                                            : TablePath.DEFAULT.getFullName();
-                        }
-
-                    } else {
-                        Optional<CatalogTable> writeCatalogTable =
-                                this.sinkAction.getSink().getWriteCatalogTable();
-                        tableId =
-                                writeCatalogTable
-                                        .map(
-                                                catalogTable ->
-                                                        catalogTable.getTablePath().getFullName())
-                                        .orElseGet(TablePath.DEFAULT::getFullName);
-                    }
-
-                    taskMetricsCalcContext.updateMetrics(record.getData(), tableId);
+                    SeaTunnelRow row = (SeaTunnelRow) record.getData();
+                    taskMetricsCalcContext.updateMetrics(row, getMetricsTableId(row.getTableId()));
                 }
             }
         } catch (Exception e) {
@@ -322,6 +324,52 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         }
     }
 
+    private void writeBatch(ColumnarBatch batch) throws IOException {
+        if (writer instanceof SupportColumnarBatchSinkWriter) {
+            ((SupportColumnarBatchSinkWriter) writer).writeBatch(batch);
+            taskMetricsCalcContext.updateMetrics(
+                    batch.getNumRows(),
+                    batch.getBytesSize(),
+                    getMetricsTableId(batch.getTableId()));
+            return;
+        }
+        for (int i = 0; i < batch.getNumRows(); i++) {
+            SeaTunnelRow row = batch.getRow(i);
+            writer.write((T) row);
+            taskMetricsCalcContext.updateMetrics(row, getMetricsTableId(row.getTableId()));
+        }
+    }
+
+    /** Publish the metrics of the written rows, must be called by the thread running the task. */
+    public void publishMetrics() {
+        taskMetricsCalcContext.publishMetrics();
+    }
+
+    private String getMetricsTableId(String rowTableId) {
+        if (this.sinkAction.getSink() instanceof MultiTableSink) {
+            if (rowTableId == null || rowTableId.isEmpty()) {
+                return rowTableId;
+            }
+            return metricsTableIds.computeIfAbsent(
+                    rowTableId,
+                    id -> {
+                        TablePath tablePath = tablesMaps.get(TablePath.of(id));
+                        return tablePath != null
+                                ? tablePath.getFullName()
+                                : TablePath.DEFAULT.getFullName();
+                    });
+        }
+        if (writeTableId == null) {
+            Optional<CatalogTable> writeCatalogTable =
+                    this.sinkAction.getSink().getWriteCatalogTable();
+            writeTableId =
+                    writeCatalogTable
+                            .map(catalogTable -> catalogTable.getTablePath().getFullName())
+                            .orElseGet(TablePath.DEFAULT::getFullName);
+        }
+        return writeTableId;
+    }
+
     @Override
     public void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {
         List<StateT> states = new ArrayList<>();
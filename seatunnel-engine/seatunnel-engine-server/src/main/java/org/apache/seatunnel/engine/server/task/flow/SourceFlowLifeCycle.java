@@ -59,6 +59,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -68,6 +70,8 @@ import static org.apache.seatunnel.engine.server.task.AbstractTask.serializeStat
 public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFlowLifeCycle
         implements InternalCheckpointListener {
 
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
     private final SourceAction<T, SplitT, ?> sourceAction;
     private final TaskLocation enumeratorTaskLocation;
 
@@ -88,6 +92,8 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
     private SourceReader.Context context;
 
     private final AtomicReference<SchemaChangePhase> schemaChangePhase = new AtomicReference<>();
+    private volatile CompletableFuture<Void> schemaChangeEnded =
+            CompletableFuture.completedFuture(null);
 
     public SourceFlowLifeCycle(
             SourceAction<T, SplitT, ?> sourceAction,
@@ -152,13 +158,13 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
             if (schemaChanging()) {
                 log.debug("schema is changing, stop reader collect records");
 
-                Thread.sleep(200);
+                await(schemaChangeEnded, 200);
                 return;
             }
 
             reader.pollNext(collector);
             if (collector.isEmptyThisPollNext()) {
-                Thread.sleep(100);
+                await(reader.isAvailable(), POLL_INTERVAL_MILLIS);
             } else {
                 collector.resetEmptyThisPollNext();
                 /**
@@ -177,6 +183,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                             "previous schema changes in progress, schemaChangePhase: "
                                     + schemaChangePhase.get());
                 }
+                schemaChangeEnded = new CompletableFuture<>();
                 schemaChangePhase.set(SchemaChangePhase.createBeforePhase());
                 runningTask.triggerSchemaChangeBeforeCheckpoint().get();
                 log.info("triggered schema-change-before checkpoint, stopping collect data");
@@ -186,12 +193,26 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                             "previous schema changes in progress, schemaChangePhase: "
                                     + schemaChangePhase.get());
                 }
+                schemaChangeEnded = new CompletableFuture<>();
                 schemaChangePhase.set(SchemaChangePhase.createAfterPhase());
                 runningTask.triggerSchemaChangeAfterCheckpoint().get();
                 log.info("triggered schema-change-after checkpoint, stopping collect data");
             }
         } else {
-            Thread.sleep(100);
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    /**
+     * Wait until the future completes, at most the given time. The task keeps processing its state
+     * in the meantime, e.g. to close, so the waits are bounded.
+     */
+    private static void await(CompletableFuture<?> future, long timeoutMillis)
+            throws InterruptedException {
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // collect again
         }
     }
 
@@ -352,6 +373,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                     checkpointId,
                     schemaChangePhase.get().getPhase());
             schemaChangePhase.set(null);
+            schemaChangeEnded.complete(null);
         }
     }
 
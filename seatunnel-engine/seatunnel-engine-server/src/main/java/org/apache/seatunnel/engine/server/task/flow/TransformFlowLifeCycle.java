@@ -18,8 +18,10 @@
 package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportColumnarBatchTransform;
 import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
@@ -88,22 +90,55 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             if (prepareClose) {
                 return;
             }
-            T inputData = (T) record.getData();
-            T outputData = inputData;
-            for (SeaTunnelTransform<T> t : transform) {
-                outputData = t.map(inputData);
-                log.debug("Transform[{}] input row {} and output row {}", t, inputData, outputData);
-                if (outputData == null) {
-                    log.trace("Transform[{}] filtered data row {}", t, inputData);
-                    break;
-                }
-
-                inputData = outputData;
+            if (record.getData() instanceof ColumnarBatch) {
+                transformBatch((ColumnarBatch) record.getData());
+            } else {
+                transformRow((T) record.getData(), 0);
             }
-            if (outputData != null) {
-                // todo log metrics
-                collector.collect(new Record<>(outputData));
+        }
+    }
+
+    /**
+     * Apply the leading transforms which support {@link ColumnarBatch} on the whole batch, the
+     * remaining transforms get the rows of the batch one by one.
+     */
+    private void transformBatch(ColumnarBatch batch) {
+        int index = 0;
+        while (index < transform.size()
+                && transform.get(index) instanceof SupportColumnarBatchTransform) {
+            SeaTunnelTransform<T> t = transform.get(index);
+            batch = ((SupportColumnarBatchTransform) t).mapBatch(batch);
+            if (batch == null || batch.getNumRows() == 0) {
+                log.trace("Transform[{}] filtered the whole batch", t);
+                return;
+            }
+            index++;
+        }
+        if (index == transform.size()) {
+            collector.collect(new Record<>(batch));
+            return;
+        }
+        for (int i = 0; i < batch.getNumRows(); i++) {
+            transformRow((T) batch.getRow(i), index);
+        }
+    }
+
+    private void transformRow(T inputData, int fromIndex) {
+        T outputData = inputData;
+        for (int i = fromIndex; i < transform.size(); i++) {
+            SeaTunnelTransform<T> t = transform.get(i);
+            outputData = t.map(inputData);
+            log.debug("Transform[{}] input row {} and output row {}", t, inputData, outputData);
+            if (outputData == null) {
+                log.trace("Transform[{}] filtered data row {}", t, inputData);
+                break;
             }
+
+            inputData = outputData;
+        }
+        if (outputData != null) {
+            // todo log metrics
+            collector.collect(new Record<>(outputData));
         }
     }
 
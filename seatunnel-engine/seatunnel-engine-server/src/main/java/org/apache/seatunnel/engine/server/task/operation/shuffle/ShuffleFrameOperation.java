@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.operation.shuffle;
+
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+import org.apache.seatunnel.engine.server.task.operation.TracingOperation;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+
+/**
+ * Carries one frame of records, encoded by {@link
+ * org.apache.seatunnel.engine.server.serializable.RecordFrameCodec}, of a network shuffle channel
+ * to the member of the reader. The sequence number keeps the frames of a channel in order.
+ */
+public class ShuffleFrameOperation extends TracingOperation implements IdentifiedDataSerializable {
+
+    private String channelName;
+
+    private String senderId;
+
+    private long sequence;
+
+    private byte[] frame;
+
+    private boolean response;
+
+    public ShuffleFrameOperation() {}
+
+    public ShuffleFrameOperation(String channelName, String senderId, long sequence, byte[] frame) {
+        this.channelName = channelName;
+        this.senderId = senderId;
+        this.sequence = sequence;
+        this.frame = frame;
+    }
+
+    @Override
+    public void runInternal() throws Exception {
+        SeaTunnelServer server = getService();
+        response =
+                server.getTaskExecutionService()
+                        .getShuffleChannelService()
+                        .receive(channelName, senderId, sequence, frame);
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public String getServiceName() {
+        return SeaTunnelServer.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(channelName);
+        out.writeString(senderId);
+        out.writeLong(sequence);
+        out.writeByteArray(frame);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        channelName = in.readString();
+        senderId = in.readString();
+        sequence = in.readLong();
+        frame = in.readByteArray();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.SHUFFLE_FRAME_OPERATION;
+    }
+}
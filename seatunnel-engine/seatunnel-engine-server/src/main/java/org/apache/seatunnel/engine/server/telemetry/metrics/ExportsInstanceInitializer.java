@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.telemetry.metrics;
 
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.ClusterMetricExports;
+import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobLatencyExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobThreadPoolStatusExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.NodeMetricExports;
@@ -41,6 +42,8 @@ public final class ExportsInstanceInitializer {
             CollectorRegistry collectorRegistry = CollectorRegistry.defaultRegistry;
             // Job info detail
             new JobMetricExports(node).register(collectorRegistry);
+            // Latency histograms of the running jobs
+            new JobLatencyExports(node).register(collectorRegistry);
             // Thread pool status
             new JobThreadPoolStatusExports(node).register(collectorRegistry);
             // Node metrics
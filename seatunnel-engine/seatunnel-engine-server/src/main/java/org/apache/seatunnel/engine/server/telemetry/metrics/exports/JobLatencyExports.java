@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
+
+import org.apache.seatunnel.api.common.metrics.JobMetrics;
+import org.apache.seatunnel.api.common.metrics.Measurement;
+import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
+
+import com.hazelcast.instance.impl.Node;
+import io.prometheus.client.GaugeMetricFamily;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.CHECKPOINT_DURATION;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_FLUSH_LATENCY;
+import static org.apache.seatunnel.api.common.metrics.MetricTags.QUANTILE;
+
+public class JobLatencyExports extends AbstractCollector {
+
+    private static final String[] HISTOGRAM_NAMES = {SINK_FLUSH_LATENCY, CHECKPOINT_DURATION};
+
+    public JobLatencyExports(Node node) {
+        super(node);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> mfs = new ArrayList();
+        // Only the master can get job metrics
+        if (isMaster()) {
+            GaugeMetricFamily metricFamily =
+                    new GaugeMetricFamily(
+                            "job_latency_milliseconds",
+                            "Latency quantiles of the running jobs, the largest value of all tasks",
+                            clusterLabelNames("job_id", "metric", "quantile"));
+            Map<Long, JobMetrics> runningJobMetrics =
+                    getCoordinatorService().getRunningJobMetrics();
+            runningJobMetrics.forEach(
+                    (jobId, jobMetrics) -> {
+                        for (String histogramName : HISTOGRAM_NAMES) {
+                            Map<String, Long> quantiles = new TreeMap<>();
+                            for (Measurement measurement : jobMetrics.get(histogramName)) {
+                                String quantile = measurement.tag(QUANTILE);
+                                if (quantile != null) {
+                                    quantiles.merge(
+                                            quantile,
+                                            ((Number) measurement.value()).longValue(),
+                                            Math::max);
+                                }
+                            }
+                            quantiles.forEach(
+                                    (quantile, value) ->
+                                            metricFamily.addMetric(
+                                                    labelValues(
+                                                            String.valueOf(jobId),
+                                                            histogramName,
+                                                            quantile),
+                                                    value));
+                        }
+                    });
+            mfs.add(metricFamily);
+        }
+        return mfs;
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CheckpointPersisterTest {
+
+    private static final ActionStateKey STATE_KEY = new ActionStateKey("source");
+
+    @Test
+    public void testInflightWritesAreBounded() throws Exception {
+        CheckpointStorage storage = mock(CheckpointStorage.class);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(
+                        invocation -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            release.await();
+                            running.decrementAndGet();
+                            return "ok";
+                        })
+                .when(storage)
+                .storeCheckPoint(any(PipelineState.class));
+
+        CheckpointPersister persister =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 2);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        futures.add(persister.persist(checkpoint(1)));
+        futures.add(persister.persist(checkpoint(2)));
+
+        CompletableFuture<Void> blocked =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                futures.add(persister.persist(checkpoint(3)));
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Thread.sleep(200);
+        Assertions.assertFalse(blocked.isDone());
+
+        release.countDown();
+        blocked.get(10, TimeUnit.SECONDS);
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    public void testFailedWriteCompletesExceptionally() throws Exception {
+        CheckpointStorage storage = mock(CheckpointStorage.class);
+        doThrow(new RuntimeException("storage unavailable"))
+                .when(storage)
+                .storeCheckPoint(any(PipelineState.class));
+
+        CheckpointPersister persister =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 1);
+        CompletableFuture<Void> future = persister.persist(checkpoint(1));
+        Assertions.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        // the permit of the failed write is given back
+        persister.persist(checkpoint(2)).exceptionally(e -> null).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testRetiredCheckpointsAreDeleted() throws Exception {
+        CheckpointStorage storage = mock(CheckpointStorage.class);
+        List<String> deleted = new CopyOnWriteArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            deleted.addAll(invocation.getArgument(2));
+                            return null;
+                        })
+                .when(storage)
+                .deleteCheckpoint(anyString(), anyString(), anyList());
+
+        CheckpointPersister persister =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 1);
+        persister.delete(Arrays.asList("1", "2"));
+        persister.delete(Collections.singletonList("3"));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (deleted.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(Arrays.asList("1", "2", "3"), deleted);
+    }
+
+    @Test
+    public void testIncrementalCheckpointSharesUnchangedState() throws Exception {
+        Map<String, byte[]> chunks = new ConcurrentHashMap<>();
+        List<String> chunkWrites = new CopyOnWriteArrayList<>();
+        Map<Long, PipelineState> stored = new ConcurrentHashMap<>();
+        CheckpointStorage storage = chunkStorage(chunks, chunkWrites, stored);
+
+        byte[] finishedSplits = filled(4096, (byte) 1);
+        byte[] smallState = filled(16, (byte) 2);
+        byte[] newSplits = filled(2048, (byte) 3);
+        CheckpointPersister persister =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 1, true);
+        persister
+                .persist(checkpoint(1, Arrays.asList(finishedSplits, smallState)))
+                .get(10, TimeUnit.SECONDS);
+        persister
+                .persist(checkpoint(2, Arrays.asList(finishedSplits, smallState, newSplits)))
+                .get(10, TimeUnit.SECONDS);
+        // the unchanged state is written once, small entries stay inline
+        Assertions.assertEquals(2, chunkWrites.size());
+        Assertions.assertTrue(stored.get(2L).getStates().length < newSplits.length);
+
+        CompletedCheckpoint restored =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 1, true)
+                        .restore(stored.get(2L));
+        // the restored task loads the chunks
+        List<byte[]> state =
+                new TaskStateUploader(storage, 1L, 1)
+                        .load(restored.getTaskStates().get(STATE_KEY).getSubtaskStates())
+                        .get(0)
+                        .getState();
+        Assertions.assertArrayEquals(finishedSplits, state.get(0));
+        Assertions.assertArrayEquals(smallState, state.get(1));
+        Assertions.assertArrayEquals(newSplits, state.get(2));
+
+        // chunks still referenced by checkpoint 2 survive the retirement of checkpoint 1
+        persister.delete(Collections.singletonList("1"));
+        persister.delete(Collections.singletonList("2"));
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!chunks.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(chunks.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentWritesStoreSharedChunkOnce() throws Exception {
+        Map<String, byte[]> chunks = new ConcurrentHashMap<>();
+        List<String> chunkWrites = new CopyOnWriteArrayList<>();
+        Map<Long, PipelineState> stored = new ConcurrentHashMap<>();
+        CheckpointStorage storage = chunkStorage(chunks, chunkWrites, stored);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(
+                        invocation -> {
+                            chunkWrites.add(invocation.getArgument(2));
+                            writing.countDown();
+                            release.await();
+                            chunks.put(invocation.getArgument(2), invocation.getArgument(3));
+                            return null;
+                        })
+                .when(storage)
+                .storeStateChunk(anyString(), anyString(), anyString(), any(byte[].class));
+
+        byte[] finishedSplits = filled(4096, (byte) 1);
+        CheckpointPersister persister =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 2, true);
+        CompletableFuture<Void> first =
+                persister.persist(checkpoint(1, Collections.singletonList(finishedSplits)));
+        Assertions.assertTrue(writing.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> second =
+                persister.persist(checkpoint(2, Collections.singletonList(finishedSplits)));
+        Thread.sleep(200);
+        // the second checkpoint waits for the running write instead of writing the chunk again
+        Assertions.assertFalse(second.isDone());
+
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, chunkWrites.size());
+        Assertions.assertEquals(2, stored.size());
+    }
+
+    @Test
+    public void testTaskUploadedStateIsOnlyReferenced() throws Exception {
+        Map<String, byte[]> chunks = new ConcurrentHashMap<>();
+        List<String> chunkWrites = new CopyOnWriteArrayList<>();
+        Map<Long, PipelineState> stored = new ConcurrentHashMap<>();
+        CheckpointStorage storage = chunkStorage(chunks, chunkWrites, stored);
+
+        byte[] enumeratorState = filled(4096, (byte) 1);
+        TaskStateUploader uploader = new TaskStateUploader(storage, 1L, 1);
+        CheckpointPersister persister =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 1, false);
+
+        List<ActionSubtaskState> acked =
+                uploader.upload(
+                        1,
+                        Collections.singletonList(
+                                new ActionSubtaskState(
+                                        STATE_KEY,
+                                        -1,
+                                        Collections.singletonList(enumeratorState))));
+        // the ack only carries the chunk id
+        Assertions.assertEquals(0, acked.get(0).getState().get(0).length);
+        Assertions.assertEquals(1, chunkWrites.size());
+        persister.persist(checkpoint(1, acked.get(0))).get(10, TimeUnit.SECONDS);
+        uploader.notifyCheckpointComplete(1);
+
+        // unchanged state of a completed checkpoint is referenced again without uploading it
+        acked =
+                uploader.upload(
+                        2,
+                        Collections.singletonList(
+                                new ActionSubtaskState(
+                                        STATE_KEY,
+                                        -1,
+                                        Collections.singletonList(enumeratorState))));
+        Assertions.assertEquals(1, chunkWrites.size());
+        persister.persist(checkpoint(2, acked.get(0))).get(10, TimeUnit.SECONDS);
+
+        persister.delete(Collections.singletonList("1"));
+        CompletedCheckpoint restored =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 1, false)
+                        .restore(stored.get(2L));
+        ActionSubtaskState coordinatorState =
+                restored.getTaskStates().get(STATE_KEY).getCoordinatorState();
+        Assertions.assertArrayEquals(
+                enumeratorState,
+                new TaskStateUploader(storage, 1L, 1)
+                        .load(Collections.singletonList(coordinatorState))
+                        .get(0)
+                        .getState()
+                        .get(0));
+    }
+
+    @Test
+    public void testReferencedChunksSurviveRetirementOfOverlappingCheckpoints() throws Exception {
+        Map<String, byte[]> chunks = new ConcurrentHashMap<>();
+        List<String> chunkWrites = new CopyOnWriteArrayList<>();
+        Map<Long, PipelineState> stored = new ConcurrentHashMap<>();
+        CheckpointStorage storage = chunkStorage(chunks, chunkWrites, stored);
+
+        byte[] enumeratorState = filled(4096, (byte) 1);
+        byte[] changedState = filled(4096, (byte) 2);
+        TaskStateUploader uploader = new TaskStateUploader(storage, 1L, 1);
+        CheckpointPersister persister =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 2, false);
+
+        persister
+                .persist(
+                        checkpoint(
+                                1, uploader.upload(1, coordinatorStates(enumeratorState)).get(0)))
+                .get(10, TimeUnit.SECONDS);
+        uploader.notifyCheckpointComplete(1);
+        // checkpoint 3 is taken while checkpoint 2 is acked but not completed yet, it has the
+        // state of checkpoint 1 again
+        List<ActionSubtaskState> acked2 = uploader.upload(2, coordinatorStates(changedState));
+        List<ActionSubtaskState> acked3 = uploader.upload(3, coordinatorStates(enumeratorState));
+
+        // completing checkpoint 2 retires checkpoint 1 before checkpoint 3 is persisted
+        persister.persist(checkpoint(2, acked2.get(0))).get(10, TimeUnit.SECONDS);
+        uploader.notifyCheckpointComplete(2);
+        int chunkCount = chunks.size();
+        persister.delete(Collections.singletonList("1"));
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (chunks.size() == chunkCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(chunkCount - 1, chunks.size());
+        persister.persist(checkpoint(3, acked3.get(0))).get(10, TimeUnit.SECONDS);
+
+        CompletedCheckpoint restored =
+                new CheckpointPersister(storage, new ProtoStuffSerializer(), 1L, 1, 1, false)
+                        .restore(stored.get(3L));
+        ActionSubtaskState coordinatorState =
+                restored.getTaskStates().get(STATE_KEY).getCoordinatorState();
+        Assertions.assertArrayEquals(
+                enumeratorState,
+                new TaskStateUploader(storage, 1L, 1)
+                        .load(Collections.singletonList(coordinatorState))
+                        .get(0)
+                        .getState()
+                        .get(0));
+    }
+
+    @Test
+    public void testChunksOfAbortedCheckpointsAreDeleted() throws Exception {
+        Map<String, byte[]> chunks = new ConcurrentHashMap<>();
+        List<String> chunkWrites = new CopyOnWriteArrayList<>();
+        CheckpointStorage storage = chunkStorage(chunks, chunkWrites, new ConcurrentHashMap<>());
+
+        byte[] abortedState = filled(4096, (byte) 1);
+        byte[] completedState = filled(4096, (byte) 2);
+        byte[] pendingState = filled(4096, (byte) 3);
+        TaskStateUploader uploader = new TaskStateUploader(storage, 1L, 1);
+
+        // checkpoint 1 is aborted, the coordinator completes checkpoint 2 after it
+        uploader.upload(1, coordinatorStates(abortedState));
+        uploader.upload(2, coordinatorStates(completedState));
+        Assertions.assertEquals(2, chunks.size());
+        uploader.notifyCheckpointComplete(2);
+        Assertions.assertEquals(Collections.singleton(chunkWrites.get(1)), chunks.keySet());
+
+        // checkpoint 3 references the chunk of checkpoint 2 and is still pending on close
+        uploader.upload(
+                3,
+                Collections.singletonList(
+                        new ActionSubtaskState(
+                                STATE_KEY, -1, Arrays.asList(completedState, pendingState))));
+        Assertions.assertEquals(2, chunks.size());
+        uploader.close();
+        Assertions.assertEquals(Collections.singleton(chunkWrites.get(1)), chunks.keySet());
+    }
+
+    private static List<ActionSubtaskState> coordinatorStates(byte[] state) {
+        return Collections.singletonList(
+                new ActionSubtaskState(STATE_KEY, -1, Collections.singletonList(state)));
+    }
+
+    private static CheckpointStorage chunkStorage(
+            Map<String, byte[]> chunks, List<String> chunkWrites, Map<Long, PipelineState> stored)
+            throws Exception {
+        CheckpointStorage storage = mock(CheckpointStorage.class);
+        when(storage.isStateChunkSupported()).thenReturn(true);
+        doAnswer(
+                        invocation -> {
+                            chunkWrites.add(invocation.getArgument(2));
+                            chunks.put(invocation.getArgument(2), invocation.getArgument(3));
+                            return null;
+                        })
+                .when(storage)
+                .storeStateChunk(anyString(), anyString(), anyString(), any(byte[].class));
+        doAnswer(invocation -> chunks.get(invocation.<String>getArgument(2)))
+                .when(storage)
+                .getStateChunk(anyString(), anyString(), anyString());
+        doAnswer(
+                        invocation -> {
+                            chunks.keySet().removeAll(invocation.getArgument(2));
+                            return null;
+                        })
+                .when(storage)
+                .deleteStateChunks(anyString(), anyString(), anyCollection());
+        doAnswer(
+                        invocation -> {
+                            PipelineState state = invocation.getArgument(0);
+                            stored.put(state.getCheckpointId(), state);
+                            return "ok";
+                        })
+                .when(storage)
+                .storeCheckPoint(any(PipelineState.class));
+        return storage;
+    }
+
+    private static CompletedCheckpoint checkpoint(
+            long checkpointId, ActionSubtaskState coordinatorState) {
+        ActionState actionState = new ActionState(STATE_KEY, 1);
+        actionState.reportState(-1, coordinatorState);
+        return new CompletedCheckpoint(
+                1,
+                1,
+                checkpointId,
+                Instant.now().toEpochMilli(),
+                CheckpointType.CHECKPOINT_TYPE,
+                Instant.now().toEpochMilli(),
+                Collections.singletonMap(STATE_KEY, actionState),
+                Collections.emptyMap());
+    }
+
+    private static byte[] filled(int length, byte value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, value);
+        return bytes;
+    }
+
+    private static CompletedCheckpoint checkpoint(long checkpointId, List<byte[]> state) {
+        ActionState actionState = new ActionState(STATE_KEY, 1);
+        actionState.reportState(0, new ActionSubtaskState(STATE_KEY, 0, state));
+        return new CompletedCheckpoint(
+                1,
+                1,
+                checkpointId,
+                Instant.now().toEpochMilli(),
+                CheckpointType.CHECKPOINT_TYPE,
+                Instant.now().toEpochMilli(),
+                Collections.singletonMap(STATE_KEY, actionState),
+                Collections.emptyMap());
+    }
+
+    private static CompletedCheckpoint checkpoint(long checkpointId) {
+        return new CompletedCheckpoint(
+                1,
+                1,
+                checkpointId,
+                Instant.now().toEpochMilli(),
+                CheckpointType.CHECKPOINT_TYPE,
+                Instant.now().toEpochMilli(),
+                Collections.emptyMap(),
+                Collections.emptyMap());
+    }
+}
@@ -18,9 +18,14 @@
 package org.apache.seatunnel.engine.server.master;
 
 import org.apache.seatunnel.api.common.metrics.JobMetrics;
+import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
 import org.apache.seatunnel.engine.server.CoordinatorService;
+import org.apache.seatunnel.engine.server.dag.physical.PipelineLocation;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -28,16 +33,20 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 
+import com.hazelcast.map.IMap;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.CHECKPOINT_DURATION;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_FLUSH_LATENCY;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_QPS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_QPS;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -91,6 +100,32 @@ class JobMetricsTest extends AbstractSeaTunnelServerTest {
         assertTrue((Double) jobMetrics.get(SINK_WRITE_QPS).get(0).value() > 0);
     }
 
+    @Test
+    public void testRemovePipelineTaskLocations() {
+        long jobId = System.currentTimeMillis() + 423475L;
+        IMap<TaskLocation, String> map = instance.getMap("test_removePipelineTaskLocations");
+        for (int pipelineId = 1; pipelineId <= 2; pipelineId++) {
+            for (int index = 0; index < 3; index++) {
+                map.put(
+                        new TaskLocation(
+                                new TaskGroupLocation(jobId, pipelineId, index), 1L, index),
+                        "metrics");
+            }
+        }
+        map.put(new TaskLocation(new TaskGroupLocation(jobId + 1, 1, 0), 1L, 0), "metrics");
+
+        map.removeAll(new PipelineTaskLocationPredicate<>(new PipelineLocation(jobId, 1)));
+
+        assertEquals(4, map.size());
+        assertTrue(
+                map.keySet().stream()
+                        .noneMatch(
+                                taskLocation ->
+                                        taskLocation.getJobId() == jobId
+                                                && taskLocation.getPipelineId() == 1));
+        map.destroy();
+    }
+
     @Test
     public void testMetricsOnJobRestart() throws InterruptedException {
 
@@ -110,6 +145,15 @@ class JobMetricsTest extends AbstractSeaTunnelServerTest {
 
         log.info(coordinatorService.getJobMetrics(jobId3).toJsonString());
 
+        // every completed checkpoint records how long the sinks took to flush
+        await().atMost(60000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () -> {
+                            JobMetrics jobMetrics = coordinatorService.getJobMetrics(jobId3);
+                            assertFalse(jobMetrics.get(SINK_FLUSH_LATENCY).isEmpty());
+                            assertFalse(jobMetrics.get(CHECKPOINT_DURATION).isEmpty());
+                        });
+
         // start savePoint
         coordinatorService.savePoint(jobId3);
 
@@ -121,6 +165,13 @@ class JobMetricsTest extends AbstractSeaTunnelServerTest {
                                         JobStatus.SAVEPOINT_DONE,
                                         server.getCoordinatorService().getJobStatus(jobId3)));
 
+        // the metrics of every task are kept under its own task location to be restored
+        IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap =
+                instance.getMap(Constant.IMAP_RUNNING_JOB_METRICS);
+        assertTrue(
+                metricsImap.keySet().stream()
+                        .anyMatch(taskLocation -> taskLocation.getJobId() == jobId3));
+
         // restore job
         startJob(jobId3, "stream_fake_to_console.conf", true);
         await().atMost(120000, TimeUnit.MILLISECONDS)
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.common.constants.PluginType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_QPS;
+
+public class TaskMetricsCalcContextTest {
+
+    @Test
+    void testMetricsArePublishedInBatches() {
+        MetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context =
+                new TaskMetricsCalcContext(
+                        metricsContext,
+                        PluginType.SOURCE,
+                        true,
+                        Arrays.asList(TablePath.of("db.t1"), TablePath.of("db.t2")));
+
+        context.updateMetrics(1, 10, "db.t1");
+        context.updateMetrics(1, 20, "db.t2");
+        context.updateMetrics(1, 30, "db.t1");
+        Assertions.assertEquals(0, metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+
+        context.publishMetrics();
+        Assertions.assertEquals(3, metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+        Assertions.assertEquals(3, metricsContext.meter(SOURCE_RECEIVED_QPS).getCount());
+        Assertions.assertEquals(60, metricsContext.counter(SOURCE_RECEIVED_BYTES).getCount());
+        Assertions.assertEquals(
+                2, metricsContext.counter(SOURCE_RECEIVED_COUNT + "#db.t1").getCount());
+        Assertions.assertEquals(
+                40, metricsContext.counter(SOURCE_RECEIVED_BYTES + "#db.t1").getCount());
+        Assertions.assertEquals(
+                20, metricsContext.counter(SOURCE_RECEIVED_BYTES + "#db.t2").getCount());
+
+        // a table that was not known upfront gets its metrics on the first row
+        context.updateMetrics(2, 5, "db.t3");
+        context.publishMetrics();
+        Assertions.assertEquals(
+                2, metricsContext.counter(SOURCE_RECEIVED_COUNT + "#db.t3").getCount());
+    }
+
+    @Test
+    void testMetricsArePublishedWhenThresholdReached() {
+        MetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context =
+                new TaskMetricsCalcContext(
+                        metricsContext, PluginType.SOURCE, false, Arrays.asList());
+
+        for (int i = 0; i < TaskMetricsCalcContext.PUBLISH_ROW_THRESHOLD; i++) {
+            context.updateMetrics(1, 4, null);
+        }
+        Assertions.assertEquals(
+                TaskMetricsCalcContext.PUBLISH_ROW_THRESHOLD,
+                metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+        Assertions.assertEquals(
+                TaskMetricsCalcContext.PUBLISH_ROW_THRESHOLD * 4L,
+                metricsContext.counter(SOURCE_RECEIVED_BYTES).getCount());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RecordFrameCodecTest {
+
+    private final InternalSerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testSchemaRows() throws Exception {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "c_boolean",
+                            "c_int",
+                            "c_bigint",
+                            "c_double",
+                            "c_string",
+                            "c_bytes",
+                            "c_decimal",
+                            "c_date",
+                            "c_time",
+                            "c_timestamp",
+                            "c_null"
+                        },
+                        new SeaTunnelDataType[] {
+                            BasicType.BOOLEAN_TYPE,
+                            BasicType.INT_TYPE,
+                            BasicType.LONG_TYPE,
+                            BasicType.DOUBLE_TYPE,
+                            BasicType.STRING_TYPE,
+                            PrimitiveByteArrayType.INSTANCE,
+                            new DecimalType(10, 2),
+                            LocalTimeType.LOCAL_DATE_TYPE,
+                            LocalTimeType.LOCAL_TIME_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            BasicType.STRING_TYPE
+                        });
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            true,
+                            1,
+                            2L,
+                            3.0d,
+                            "seatunnel",
+                            new byte[] {1, 2},
+                            new BigDecimal("12.34"),
+                            LocalDate.of(2024, 1, 1),
+                            LocalTime.of(1, 2, 3, 4),
+                            LocalDateTime.of(2024, 1, 1, 1, 2, 3, 4),
+                            null
+                        });
+        row.setTableId("db.t1");
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        // the row type does not match the schema anymore, e.g. after a schema change
+        SeaTunnelRow mismatchedRow = new SeaTunnelRow(new Object[] {"a", "b"});
+        mismatchedRow.setTableId("db.t1");
+        SeaTunnelRow unknownTableRow = new SeaTunnelRow(new Object[] {1, "b"});
+        unknownTableRow.setTableId("db.t2");
+
+        Map<String, SeaTunnelRowType> rowTypes = new HashMap<>();
+        rowTypes.put("db.t1", rowType);
+        RecordFrameCodec frameCodec = new RecordFrameCodec(rowTypes, serializationService);
+        List<Record<?>> decoded =
+                frameCodec.decode(
+                        frameCodec.encode(
+                                Arrays.asList(
+                                        new Record<>(row),
+                                        new Record<>(mismatchedRow),
+                                        new Record<>(unknownTableRow),
+                                        new Record<>(row))));
+
+        Assertions.assertEquals(4, decoded.size());
+        assertRowEquals(row, (SeaTunnelRow) decoded.get(0).getData());
+        assertRowEquals(mismatchedRow, (SeaTunnelRow) decoded.get(1).getData());
+        assertRowEquals(unknownTableRow, (SeaTunnelRow) decoded.get(2).getData());
+        assertRowEquals(row, (SeaTunnelRow) decoded.get(3).getData());
+    }
+
+    @Test
+    public void testWideRowAndBarrier() throws Exception {
+        int arity = 300;
+        String[] fieldNames = new String[arity];
+        SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType[arity];
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            fieldNames[i] = "f" + i;
+            fieldTypes[i] = BasicType.LONG_TYPE;
+            fields[i] = i % 3 == 0 ? null : (long) i;
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId("db.wide");
+        CheckpointBarrier barrier = new CheckpointBarrier(1L, 2L, CheckpointType.CHECKPOINT_TYPE);
+
+        RecordFrameCodec frameCodec =
+                new RecordFrameCodec(
+                        Collections.singletonMap(
+                                "db.wide", new SeaTunnelRowType(fieldNames, fieldTypes)),
+                        serializationService);
+        List<Record<?>> decoded =
+                frameCodec.decode(
+                        frameCodec.encode(Arrays.asList(new Record<>(row), new Record<>(barrier))));
+
+        assertRowEquals(row, (SeaTunnelRow) decoded.get(0).getData());
+        CheckpointBarrier decodedBarrier = (CheckpointBarrier) decoded.get(1).getData();
+        Assertions.assertEquals(barrier.getId(), decodedBarrier.getId());
+        Assertions.assertEquals(barrier.getCheckpointType(), decodedBarrier.getCheckpointType());
+
+        // the generic record serializer supports wide rows as well
+        RecordSerializer recordSerializer = new RecordSerializer();
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        recordSerializer.write(out, new Record<>(row));
+        Record<?> record =
+                recordSerializer.read(
+                        serializationService.createObjectDataInput(out.toByteArray()));
+        assertRowEquals(row, (SeaTunnelRow) record.getData());
+    }
+
+    private static void assertRowEquals(SeaTunnelRow expected, SeaTunnelRow actual) {
+        Assertions.assertEquals(expected.getTableId(), actual.getTableId());
+        Assertions.assertEquals(expected.getRowKind(), actual.getRowKind());
+        Assertions.assertEquals(expected.getArity(), actual.getArity());
+        for (int i = 0; i < expected.getArity(); i++) {
+            if (expected.getField(i) instanceof byte[]) {
+                Assertions.assertArrayEquals(
+                        (byte[]) expected.getField(i), (byte[]) actual.getField(i));
+            } else {
+                Assertions.assertEquals(expected.getField(i), actual.getField(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.serializable.RecordFrameCodec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+public class NetworkShuffleChannelTest
+        extends AbstractSeaTunnelServerTest<NetworkShuffleChannelTest> {
+
+    @Test
+    public void testSendFramesWithCredits() throws Exception {
+        ShuffleChannelService channelService =
+                server.getTaskExecutionService().getShuffleChannelService();
+        String channelName = "NetworkShuffleChannelTest_testSendFramesWithCredits";
+        RecordFrameCodec frameCodec = createFrameCodec(channelService);
+        NetworkShuffleInputChannel inputChannel =
+                channelService.registerInputChannel(channelName, 4, frameCodec);
+        Assertions.assertEquals(
+                nodeEngine.getThisAddress(), channelService.getChannelAddress(channelName));
+
+        NetworkShuffleOutputChannel outputChannel =
+                new NetworkShuffleOutputChannel(channelName, channelService, frameCodec);
+        Queue<Record<?>> batch = new LinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            batch.add(new Record<>(new SeaTunnelRow(new Object[] {i})));
+        }
+        // the batch is larger than the receiver buffer, the sender has to wait for credits
+        CompletableFuture<Void> sendFuture =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                outputChannel.putAll(batch);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        List<Record<?>> received = new ArrayList<>();
+        while (received.size() < 10) {
+            received.add(inputChannel.take());
+            Assertions.assertTrue(inputChannel.size() <= 4);
+        }
+        sendFuture.get();
+        Assertions.assertTrue(batch.isEmpty());
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(i, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+        }
+
+        outputChannel.close();
+        inputChannel.close();
+        Assertions.assertNull(channelService.getChannelAddress(channelName));
+        Assertions.assertFalse(
+                channelService.receive(
+                        channelName,
+                        outputChannel.getSenderId(),
+                        0,
+                        frameCodec.encode(new ArrayList<>())));
+    }
+
+    @Test
+    public void testReceiverRegisteredAfterSender() throws Exception {
+        ShuffleChannelService channelService =
+                server.getTaskExecutionService().getShuffleChannelService();
+        String channelName = "NetworkShuffleChannelTest_testReceiverRegisteredAfterSender";
+        RecordFrameCodec frameCodec = createFrameCodec(channelService);
+
+        NetworkShuffleOutputChannel outputChannel =
+                new NetworkShuffleOutputChannel(channelName, channelService, frameCodec);
+        // the sender waits for the announcement of the receiver, which grants the first credits
+        CompletableFuture<Void> sendFuture =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                for (int i = 0; i < 5; i++) {
+                                    outputChannel.put(
+                                            new Record<>(new SeaTunnelRow(new Object[] {i})));
+                                }
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Thread.sleep(100);
+        Assertions.assertFalse(sendFuture.isDone());
+
+        NetworkShuffleInputChannel inputChannel =
+                channelService.registerInputChannel(channelName, 2, frameCodec);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(i, ((SeaTunnelRow) inputChannel.take().getData()).getField(0));
+        }
+        sendFuture.get();
+        outputChannel.close();
+        inputChannel.close();
+    }
+
+    @Test
+    public void testFramesAreBufferedInSequence() throws Exception {
+        ShuffleChannelService channelService =
+                server.getTaskExecutionService().getShuffleChannelService();
+        String channelName = "NetworkShuffleChannelTest_testFramesAreBufferedInSequence";
+        RecordFrameCodec frameCodec = createFrameCodec(channelService);
+        NetworkShuffleInputChannel inputChannel =
+                channelService.registerInputChannel(channelName, 4, frameCodec);
+
+        Assertions.assertTrue(
+                channelService.subscribe(channelName, "sender", nodeEngine.getThisAddress()));
+        Assertions.assertTrue(
+                channelService.receive(channelName, "sender", 1, frameCodec.encode(records(2, 3))));
+        // the frame is held back until the frame before it arrived
+        Assertions.assertEquals(0, inputChannel.size());
+        Assertions.assertTrue(
+                channelService.receive(channelName, "sender", 0, frameCodec.encode(records(0, 1))));
+        List<Record<?>> received = new ArrayList<>();
+        Assertions.assertEquals(4, inputChannel.drainTo(received, 10));
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals(i, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+        }
+        // frames of an upstream task that did not subscribe are rejected
+        Assertions.assertFalse(
+                channelService.receive(channelName, "other", 2, frameCodec.encode(records(4))));
+        inputChannel.close();
+    }
+
+    @Test
+    public void testSenderFailsWhenSubscriptionIsRejected() {
+        ShuffleChannelService channelService =
+                server.getTaskExecutionService().getShuffleChannelService();
+        String channelName = "NetworkShuffleChannelTest_testSenderFailsWhenSubscriptionIsRejected";
+        NetworkShuffleOutputChannel outputChannel =
+                new NetworkShuffleOutputChannel(
+                        channelName, channelService, createFrameCodec(channelService));
+        // like an address left over by a previous attempt, no channel is registered there
+        outputChannel.subscribe(nodeEngine.getThisAddress());
+
+        Assertions.assertThrows(
+                RuntimeException.class,
+                () -> outputChannel.put(new Record<>(new SeaTunnelRow(new Object[] {0}))));
+        outputChannel.close();
+    }
+
+    @Test
+    public void testReceiverFailsWhenCreditsAreLost() throws Exception {
+        ShuffleChannelService channelService =
+                server.getTaskExecutionService().getShuffleChannelService();
+        String channelName = "NetworkShuffleChannelTest_testReceiverFailsWhenCreditsAreLost";
+        NetworkShuffleInputChannel inputChannel =
+                channelService.registerInputChannel(
+                        channelName, 4, createFrameCodec(channelService));
+
+        // the credits granted to a member outside of the cluster never arrive
+        Assertions.assertTrue(
+                channelService.subscribe(channelName, "sender", new Address("127.0.0.1", 1)));
+        await().atMost(60000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () ->
+                                Assertions.assertThrows(
+                                        RuntimeException.class,
+                                        () -> inputChannel.drainTo(new ArrayList<>(), 1)));
+        inputChannel.close();
+    }
+
+    private static RecordFrameCodec createFrameCodec(ShuffleChannelService channelService) {
+        return new RecordFrameCodec(
+                Collections.emptyMap(),
+                channelService.getNodeEngine().getNode().getSerializationService());
+    }
+
+    private static List<Record<?>> records(int... ids) {
+        List<Record<?>> records = new ArrayList<>();
+        for (int id : ids) {
+            records.add(new Record<>(new SeaTunnelRow(new Object[] {id})));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.sink.SeaTunnelSink;
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchSinkWriter;
+import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
+import org.apache.seatunnel.api.sink.multitablesink.MultiTableSink;
+import org.apache.seatunnel.api.sink.multitablesink.MultiTableSinkWriter;
+import org.apache.seatunnel.api.sink.multitablesink.SinkIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.columnar.ColumnarBatch;
+import org.apache.seatunnel.common.utils.ReflectionUtils;
+import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SinkFlowLifeCycleTest {
+
+    private static final String TABLE = "db.table";
+
+    @Test
+    public void testBatchIsForwardedToBatchWriters() throws Exception {
+        TestSinkWriter subWriter = new TestBatchSinkWriter();
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        MultiTableSinkWriter writer = multiTableSinkWriter(subWriter);
+        SinkFlowLifeCycle<?, ?, ?, ?> lifeCycle = lifeCycle(writer, metricsContext);
+
+        lifeCycle.received(new Record<>(batch(5)));
+        writer.prepareCommit(1);
+        lifeCycle.publishMetrics();
+
+        Assertions.assertEquals(1, subWriter.batches.get());
+        Assertions.assertEquals(5, subWriter.rows.get());
+        Assertions.assertEquals(5, metricsContext.counter(SINK_WRITE_COUNT).getCount());
+        writer.close();
+    }
+
+    @Test
+    public void testBatchIsSplitIntoRowsForRowWriters() throws Exception {
+        TestSinkWriter subWriter = new TestSinkWriter();
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        MultiTableSinkWriter writer = multiTableSinkWriter(subWriter);
+        SinkFlowLifeCycle<?, ?, ?, ?> lifeCycle = lifeCycle(writer, metricsContext);
+
+        lifeCycle.received(new Record<>(batch(5)));
+        writer.prepareCommit(1);
+        lifeCycle.publishMetrics();
+
+        Assertions.assertEquals(0, subWriter.batches.get());
+        Assertions.assertEquals(5, subWriter.rows.get());
+        Assertions.assertEquals(5, metricsContext.counter(SINK_WRITE_COUNT).getCount());
+        writer.close();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static SinkFlowLifeCycle<?, ?, ?, ?> lifeCycle(
+            MultiTableSinkWriter writer, SeaTunnelMetricsContext metricsContext) {
+        MultiTableSink sink = mock(MultiTableSink.class);
+        when(sink.getSinkTables()).thenReturn(Collections.singletonList(TablePath.of(TABLE)));
+        when(sink.getSinks())
+                .thenReturn(Collections.singletonMap(TABLE, mock(SeaTunnelSink.class)));
+        SinkAction sinkAction = mock(SinkAction.class);
+        when(sinkAction.getSink()).thenReturn(sink);
+        SinkFlowLifeCycle<?, ?, ?, ?> lifeCycle =
+                new SinkFlowLifeCycle(
+                        sinkAction,
+                        null,
+                        0,
+                        mock(SeaTunnelTask.class),
+                        null,
+                        false,
+                        new CompletableFuture<>(),
+                        metricsContext);
+        ReflectionUtils.setField(lifeCycle, "writer", writer);
+        return lifeCycle;
+    }
+
+    private static MultiTableSinkWriter multiTableSinkWriter(TestSinkWriter subWriter) {
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        sinkWriters.put(SinkIdentifier.of(TABLE, 0), subWriter);
+        SinkWriter.Context context = mock(SinkWriter.Context.class);
+        when(context.getEventListener()).thenReturn(mock(EventListener.class));
+        sinkWritersContext.put(SinkIdentifier.of(TABLE, 0), context);
+        return new MultiTableSinkWriter(sinkWriters, 1, sinkWritersContext);
+    }
+
+    private static ColumnarBatch batch(int rows) {
+        ColumnarBatch batch =
+                ColumnarBatch.allocate(
+                        new SeaTunnelRowType(
+                                new String[] {"id"}, new SeaTunnelDataType[] {BasicType.INT_TYPE}),
+                        rows);
+        for (int i = 0; i < rows; i++) {
+            batch.appendRow(new SeaTunnelRow(new Object[] {i}));
+        }
+        batch.setTableId(TABLE);
+        return batch;
+    }
+
+    private static class TestSinkWriter
+            implements SinkWriter<SeaTunnelRow, Void, Void>, SupportMultiTableSinkWriter<Void> {
+        protected final AtomicLong rows = new AtomicLong();
+        protected final AtomicLong batches = new AtomicLong();
+
+        @Override
+        public void write(SeaTunnelRow element) {
+            rows.incrementAndGet();
+        }
+
+        @Override
+        public Optional<Void> prepareCommit() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void abortPrepare() {}
+
+        @Override
+        public void close() {}
+    }
+
+    private static class TestBatchSinkWriter extends TestSinkWriter
+            implements SupportColumnarBatchSinkWriter {
+
+        @Override
+        public void writeBatch(ColumnarBatch batch) {
+            batches.incrementAndGet();
+            rows.addAndGet(batch.getNumRows());
+        }
+    }
+}
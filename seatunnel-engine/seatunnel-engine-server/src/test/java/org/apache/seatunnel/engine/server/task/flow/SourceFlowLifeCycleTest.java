@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.common.utils.ReflectionUtils;
+import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
+import org.apache.seatunnel.engine.server.task.SeaTunnelSourceCollector;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SourceFlowLifeCycleTest {
+
+    private static final int COLLECT_TIMES = 5;
+
+    private ScheduledExecutorService scheduler;
+
+    private SourceReader<Object, SourceSplit> reader;
+
+    private SourceFlowLifeCycle<Object, SourceSplit> lifeCycle;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        reader = mock(SourceReader.class);
+        SeaTunnelSourceCollector<Object> collector = mock(SeaTunnelSourceCollector.class);
+        when(collector.isEmptyThisPollNext()).thenReturn(true);
+        lifeCycle =
+                new SourceFlowLifeCycle<>(
+                        mock(SourceAction.class),
+                        0,
+                        null,
+                        mock(SeaTunnelTask.class),
+                        null,
+                        new CompletableFuture<>(),
+                        null);
+        lifeCycle.setCollector(collector);
+        ReflectionUtils.setField(lifeCycle, "reader", reader);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testCollectWakesUpWhenReaderIsAvailable() throws Exception {
+        when(reader.isAvailable())
+                .thenAnswer(
+                        invocation -> {
+                            CompletableFuture<Void> available = new CompletableFuture<>();
+                            scheduler.schedule(
+                                    () -> available.complete(null), 10, TimeUnit.MILLISECONDS);
+                            return available;
+                        });
+
+        long start = System.nanoTime();
+        for (int i = 0; i < COLLECT_TIMES; i++) {
+            lifeCycle.collect();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // waiting for the poll interval every time would take 500 ms
+        Assertions.assertTrue(elapsedMillis < 400, "collect took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    public void testCollectWaitsAtMostThePollInterval() throws Exception {
+        when(reader.isAvailable()).thenReturn(new CompletableFuture<>());
+
+        long start = System.nanoTime();
+        lifeCycle.collect();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assertions.assertTrue(elapsedMillis >= 100, "collect took " + elapsedMillis + " ms");
+        Assertions.assertTrue(elapsedMillis < 10_000, "collect took " + elapsedMillis + " ms");
+    }
+}
@@ -21,6 +21,8 @@
 package org.apache.seatunnel.engine.checkpoint.storage.api;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointFileFormat;
+import org.apache.seatunnel.engine.checkpoint.storage.common.CompressionCodec;
 import org.apache.seatunnel.engine.checkpoint.storage.common.StorageThreadFactory;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
@@ -28,7 +30,13 @@ import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -58,6 +66,8 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
     /** storage root directory if not set, use default value */
     private String storageNameSpace = "/seatunnel/checkpoint/";
 
+    private CompressionCodec compression = CompressionCodec.DEFLATE;
+
     public static final String FILE_NAME_SPLIT = "-";
 
     public static final int FILE_NAME_PIPELINE_ID_INDEX = 2;
@@ -70,6 +80,11 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
 
     public static final String FILE_FORMAT = "ser";
 
+    /** state chunks are kept in this directory of the job, one sub directory per pipeline */
+    public static final String STATE_CHUNK_DIRECTORY = "chunks";
+
+    public static final String STATE_CHUNK_FORMAT = "chunk";
+
     private volatile ExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_MIN_SIZE =
@@ -105,12 +120,53 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
                 + FILE_FORMAT;
     }
 
+    public String getStateChunkName(String chunkId) {
+        return chunkId + "." + STATE_CHUNK_FORMAT;
+    }
+
     public byte[] serializeCheckPointData(PipelineState state) throws IOException {
-        return serializer.serialize(state);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(state.getStates().length / 2 + 64);
+        writeCheckPointData(state, out);
+        return out.toByteArray();
     }
 
     public PipelineState deserializeCheckPointData(byte[] data) throws IOException {
-        return serializer.deserialize(data, PipelineState.class);
+        return readCheckPointData(new ByteArrayInputStream(data));
+    }
+
+    public void writeCheckPointData(PipelineState state, OutputStream out) throws IOException {
+        CheckpointFileFormat.writePipelineState(state, compression, out);
+    }
+
+    /** Reads a checkpoint file, files written before the block format are still understood. */
+    public PipelineState readCheckPointData(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(new BufferedInputStream(in));
+        dataIn.mark(Integer.BYTES);
+        if (dataIn.readInt() == CheckpointFileFormat.MAGIC) {
+            return CheckpointFileFormat.readPipelineState(dataIn);
+        }
+        dataIn.reset();
+        ByteArrayOutputStream legacy = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = dataIn.read(buffer)) != -1) {
+            legacy.write(buffer, 0, read);
+        }
+        return serializer.deserialize(legacy.toByteArray(), PipelineState.class);
+    }
+
+    public void writeStateChunkData(byte[] data, OutputStream out) throws IOException {
+        CheckpointFileFormat.writeBytes(data, compression, out);
+    }
+
+    public byte[] readStateChunkData(InputStream in) throws IOException {
+        return CheckpointFileFormat.readBytes(new BufferedInputStream(in));
+    }
+
+    public void setCompression(String compression) {
+        if (compression != null) {
+            this.compression = CompressionCodec.valueOf(compression.trim().toUpperCase());
+        }
     }
 
     public void setStorageNameSpace(String storageNameSpace) {
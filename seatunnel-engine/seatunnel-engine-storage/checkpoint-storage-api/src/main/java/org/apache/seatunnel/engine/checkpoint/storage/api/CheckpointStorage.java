@@ -23,6 +23,7 @@ package org.apache.seatunnel.engine.checkpoint.storage.api;
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CheckpointStorage {
@@ -118,4 +119,57 @@ public interface CheckpointStorage {
 
     void deleteCheckpoint(String jobId, String pipelineId, List<String> checkpointIdList)
             throws CheckpointStorageException;
+
+    /**
+     * whether the storage can keep state chunks, which are shared by several checkpoints of a
+     * pipeline and referenced by their content hash
+     *
+     * @return true if the state chunk methods are implemented
+     */
+    default boolean isStateChunkSupported() {
+        return false;
+    }
+
+    /**
+     * save a state chunk, a chunk which already exists is not written again
+     *
+     * @param jobId job id
+     * @param pipelineId pipeline id
+     * @param chunkId content hash of the chunk
+     * @param data chunk data
+     * @throws CheckpointStorageException if save chunk failed
+     */
+    default void storeStateChunk(String jobId, String pipelineId, String chunkId, byte[] data)
+            throws CheckpointStorageException {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " does not support state chunks");
+    }
+
+    /**
+     * get a state chunk
+     *
+     * @param jobId job id
+     * @param pipelineId pipeline id
+     * @param chunkId content hash of the chunk
+     * @return chunk data
+     * @throws CheckpointStorageException if the chunk can't be read
+     */
+    default byte[] getStateChunk(String jobId, String pipelineId, String chunkId)
+            throws CheckpointStorageException {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " does not support state chunks");
+    }
+
+    /**
+     * Delete state chunks which are no longer referenced by any retained checkpoint.
+     *
+     * @param jobId job id
+     * @param pipelineId pipeline id
+     * @param chunkIds content hashes of the chunks
+     */
+    default void deleteStateChunks(String jobId, String pipelineId, Collection<String> chunkIds)
+            throws CheckpointStorageException {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " does not support state chunks");
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The checkpoint file format, version 1.
+ *
+ * <pre>
+ * magic "STCP" | version | compression | job id | pipeline id | checkpoint id | state length
+ * block*       : raw length | stored length | crc32 of the raw bytes | stored bytes
+ * </pre>
+ *
+ * <p>The state is cut into blocks of {@link #BLOCK_SIZE} bytes which are compressed and verified
+ * one by one while streaming, so neither side needs the whole file in memory next to the state.
+ * State chunks are written the same way without the pipeline header. Files which do not start with
+ * the magic number were written before this format and are protostuff serialized {@link
+ * PipelineState}s.
+ */
+public final class CheckpointFileFormat {
+
+    /** "STCP", cannot be the first bytes of a protostuff serialized {@link PipelineState}. */
+    public static final int MAGIC = 0x53544350;
+
+    public static final byte VERSION = 1;
+
+    static final int BLOCK_SIZE = 1024 * 1024;
+
+    private CheckpointFileFormat() {}
+
+    public static void writePipelineState(
+            PipelineState state, CompressionCodec codec, OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        writeHeader(dataOut, codec);
+        dataOut.writeUTF(state.getJobId());
+        dataOut.writeInt(state.getPipelineId());
+        dataOut.writeLong(state.getCheckpointId());
+        writeBlocks(state.getStates(), codec, dataOut);
+        dataOut.flush();
+    }
+
+    /**
+     * Reads a pipeline state written by {@link #writePipelineState}.
+     *
+     * @param in the stream, positioned after the magic number
+     */
+    public static PipelineState readPipelineState(DataInputStream in) throws IOException {
+        CompressionCodec codec = readHeader(in);
+        String jobId = in.readUTF();
+        int pipelineId = in.readInt();
+        long checkpointId = in.readLong();
+        return PipelineState.builder()
+                .jobId(jobId)
+                .pipelineId(pipelineId)
+                .checkpointId(checkpointId)
+                .states(readBlocks(in, codec))
+                .build();
+    }
+
+    public static void writeBytes(byte[] data, CompressionCodec codec, OutputStream out)
+            throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        writeHeader(dataOut, codec);
+        writeBlocks(data, codec, dataOut);
+        dataOut.flush();
+    }
+
+    public static byte[] readBytes(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        if (dataIn.readInt() != MAGIC) {
+            throw new IOException("Not a checkpoint file, the magic number does not match");
+        }
+        return readBlocks(dataIn, readHeader(dataIn));
+    }
+
+    private static void writeHeader(DataOutputStream out, CompressionCodec codec)
+            throws IOException {
+        out.writeByte(VERSION);
+        out.writeByte(codec.getId());
+    }
+
+    private static CompressionCodec readHeader(DataInputStream in) throws IOException {
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint file version " + version);
+        }
+        return CompressionCodec.of(in.readByte());
+    }
+
+    private static void writeBlocks(byte[] data, CompressionCodec codec, DataOutputStream out)
+            throws IOException {
+        out.writeInt(data.length);
+        Deflater deflater =
+                codec == CompressionCodec.DEFLATE ? new Deflater(Deflater.BEST_SPEED) : null;
+        byte[] buffer = deflater == null ? null : new byte[BLOCK_SIZE + BLOCK_SIZE / 16 + 64];
+        CRC32 crc = new CRC32();
+        try {
+            for (int offset = 0; offset < data.length; offset += BLOCK_SIZE) {
+                int length = Math.min(BLOCK_SIZE, data.length - offset);
+                crc.reset();
+                crc.update(data, offset, length);
+                out.writeInt(length);
+                if (deflater == null) {
+                    out.writeInt(length);
+                    out.writeInt((int) crc.getValue());
+                    out.write(data, offset, length);
+                    continue;
+                }
+                deflater.reset();
+                deflater.setInput(data, offset, length);
+                deflater.finish();
+                int compressed = 0;
+                while (!deflater.finished()) {
+                    if (compressed == buffer.length) {
+                        throw new IOException("Compressed block exceeds the block buffer");
+                    }
+                    compressed += deflater.deflate(buffer, compressed, buffer.length - compressed);
+                }
+                out.writeInt(compressed);
+                out.writeInt((int) crc.getValue());
+                out.write(buffer, 0, compressed);
+            }
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    private static byte[] readBlocks(DataInputStream in, CompressionCodec codec)
+            throws IOException {
+        int total = in.readInt();
+        if (total < 0) {
+            throw new IOException("Corrupted checkpoint file, invalid state length " + total);
+        }
+        byte[] data = new byte[total];
+        Inflater inflater = codec == CompressionCodec.DEFLATE ? new Inflater() : null;
+        byte[] buffer = null;
+        CRC32 crc = new CRC32();
+        try {
+            int block = 0;
+            for (int offset = 0; offset < data.length; offset += BLOCK_SIZE, block++) {
+                int length = in.readInt();
+                int stored = in.readInt();
+                int checksum = in.readInt();
+                if (length != Math.min(BLOCK_SIZE, data.length - offset)) {
+                    throw new IOException("Corrupted checkpoint block " + block);
+                }
+                if (inflater == null) {
+                    in.readFully(data, offset, length);
+                } else {
+                    if (buffer == null || buffer.length < stored) {
+                        buffer = new byte[stored];
+                    }
+                    in.readFully(buffer, 0, stored);
+                    inflater.reset();
+                    inflater.setInput(buffer, 0, stored);
+                    if (inflater.inflate(data, offset, length) != length || !inflater.finished()) {
+                        throw new IOException("Corrupted checkpoint block " + block);
+                    }
+                }
+                crc.reset();
+                crc.update(data, offset, length);
+                if ((int) crc.getValue() != checksum) {
+                    throw new IOException("Checksum mismatch in checkpoint block " + block);
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted compressed checkpoint block", e);
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+        return data;
+    }
+}
@@ -24,4 +24,7 @@ public class StorageConstants {
 
     /** The name of the configuration property that specifies the name of the file system. */
     public static final String STORAGE_NAME_SPACE = "namespace";
+
+    /** The compression of the checkpoint files, one of none and deflate. */
+    public static final String STORAGE_COMPRESSION = "compression";
 }
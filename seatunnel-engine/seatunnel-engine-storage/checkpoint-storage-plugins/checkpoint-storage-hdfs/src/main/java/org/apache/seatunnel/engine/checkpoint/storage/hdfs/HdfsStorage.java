@@ -33,17 +33,18 @@ import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
-import org.apache.hadoop.io.IOUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_COMPRESSION;
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
 @Slf4j
@@ -63,6 +64,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
             configuration.remove(STORAGE_NAME_SPACE);
         }
+        setCompression(configuration.remove(STORAGE_COMPRESSION));
         Configuration hadoopConf = getConfiguration(configuration);
         try {
             fs = FileSystem.get(hadoopConf);
@@ -83,13 +85,6 @@ public class HdfsStorage extends AbstractCheckpointStorage {
 
     @Override
     public String storeCheckPoint(PipelineState state) throws CheckpointStorageException {
-        byte[] datas;
-        try {
-            datas = serializeCheckPointData(state);
-        } catch (IOException e) {
-            throw new CheckpointStorageException(
-                    String.format("Failed to serialize checkpoint data, state: %s", state), e);
-        }
         Path filePath =
                 new Path(
                         getStorageParentDirectory()
@@ -105,7 +100,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                                 + getCheckPointName(state)
                                 + STORAGE_TMP_SUFFIX);
         try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
-            out.write(datas);
+            writeCheckPointData(state, out);
         } catch (IOException e) {
             throw new CheckpointStorageException(
                     String.format(
@@ -331,6 +326,84 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                 });
     }
 
+    @Override
+    public boolean isStateChunkSupported() {
+        return true;
+    }
+
+    @Override
+    public void storeStateChunk(String jobId, String pipelineId, String chunkId, byte[] data)
+            throws CheckpointStorageException {
+        Path chunkPath = getStateChunkPath(jobId, pipelineId, chunkId);
+        // unique per write, writers of the same chunk must not truncate each other's file
+        Path tmpChunkPath =
+                new Path(chunkPath.toString() + "." + UUID.randomUUID() + STORAGE_TMP_SUFFIX);
+        try {
+            if (fs.exists(chunkPath)) {
+                return;
+            }
+            try (FSDataOutputStream out = fs.create(tmpChunkPath, true)) {
+                writeStateChunkData(data, out);
+            }
+            // the chunk is addressed by its content, a concurrent writer stored the same bytes
+            if (!fs.rename(tmpChunkPath, chunkPath) && !fs.exists(chunkPath)) {
+                throw new CheckpointStorageException(
+                        "Failed to rename tmp chunk file to final file " + chunkPath);
+            }
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to write state chunk, file: %s", chunkPath), e);
+        } finally {
+            try {
+                if (fs.exists(tmpChunkPath)) {
+                    fs.delete(tmpChunkPath, false);
+                }
+            } catch (IOException ioe) {
+                log.error("Failed to delete tmp chunk file", ioe);
+            }
+        }
+    }
+
+    @Override
+    public byte[] getStateChunk(String jobId, String pipelineId, String chunkId)
+            throws CheckpointStorageException {
+        Path chunkPath = getStateChunkPath(jobId, pipelineId, chunkId);
+        try (FSDataInputStream in = fs.open(chunkPath)) {
+            return readStateChunkData(in);
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to read state chunk, file: %s", chunkPath), e);
+        }
+    }
+
+    @Override
+    public void deleteStateChunks(String jobId, String pipelineId, Collection<String> chunkIds) {
+        for (String chunkId : chunkIds) {
+            try {
+                fs.delete(getStateChunkPath(jobId, pipelineId, chunkId), false);
+            } catch (IOException e) {
+                log.error(
+                        "Failed to delete state chunk {} for job {}, pipeline {}",
+                        chunkId,
+                        jobId,
+                        pipelineId,
+                        e);
+            }
+        }
+    }
+
+    private Path getStateChunkPath(String jobId, String pipelineId, String chunkId) {
+        return new Path(
+                getStorageParentDirectory()
+                        + jobId
+                        + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                        + STATE_CHUNK_DIRECTORY
+                        + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                        + pipelineId
+                        + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                        + getStateChunkName(chunkId));
+    }
+
     private List<String> getFileNames(String path) throws CheckpointStorageException {
         try {
             Path parentPath = new Path(path);
@@ -360,11 +433,8 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             throws CheckpointStorageException {
         fileName =
                 getStorageParentDirectory() + jobId + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName;
-        try (FSDataInputStream in = fs.open(new Path(fileName));
-                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
-            IOUtils.copyBytes(in, stream, 1024);
-            byte[] bytes = stream.toByteArray();
-            return deserializeCheckPointData(bytes);
+        try (FSDataInputStream in = fs.open(new Path(fileName))) {
+            return readCheckPointData(in);
         } catch (IOException e) {
             throw new CheckpointStorageException(
                     String.format(
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.List;
 
 public abstract class AbstractFileCheckPointTest {
@@ -59,6 +60,21 @@ public abstract class AbstractFileCheckPointTest {
         Assertions.assertEquals(2, state.size());
     }
 
+    @Test
+    public void testStateChunks() throws CheckpointStorageException {
+        byte[] data = new byte[] {1, 2, 3};
+        STORAGE.storeStateChunk(JOB_ID, "1", "abc", data);
+        // chunks are content addressed, storing the same chunk again is a no-op
+        STORAGE.storeStateChunk(JOB_ID, "1", "abc", data);
+        Assertions.assertArrayEquals(data, STORAGE.getStateChunk(JOB_ID, "1", "abc"));
+        // chunk files are not listed as checkpoints
+        Assertions.assertEquals(3, STORAGE.getAllCheckpoints(JOB_ID).size());
+
+        STORAGE.deleteStateChunks(JOB_ID, "1", Collections.singletonList("abc"));
+        Assertions.assertThrows(
+                CheckpointStorageException.class, () -> STORAGE.getStateChunk(JOB_ID, "1", "abc"));
+    }
+
     @AfterAll
     public static void teardown() {
         STORAGE.deleteCheckpoint(JOB_ID);
@@ -33,16 +33,20 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_COMPRESSION;
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
 @Slf4j
@@ -68,6 +72,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
         if (StringUtils.isNotBlank(configuration.get(STORAGE_NAME_SPACE))) {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
         }
+        setCompression(configuration.get(STORAGE_COMPRESSION));
     }
 
     /** set default storage root directory */
@@ -389,4 +394,61 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                     }
                 });
     }
+
+    @Override
+    public boolean isStateChunkSupported() {
+        return true;
+    }
+
+    @Override
+    public void storeStateChunk(String jobId, String pipelineId, String chunkId, byte[] data)
+            throws CheckpointStorageException {
+        File file = getStateChunkFile(jobId, pipelineId, chunkId);
+        if (file.exists()) {
+            return;
+        }
+        // unique per write, writers of the same chunk must not truncate each other's file
+        File tmpFile = new File(file.getPath() + "." + UUID.randomUUID());
+        try (OutputStream out = FileUtils.openOutputStream(tmpFile)) {
+            writeStateChunkData(data, out);
+            out.close();
+            // the chunk is addressed by its content, a concurrent writer stored the same bytes
+            if (!tmpFile.renameTo(file) && !file.exists()) {
+                throw new CheckpointStorageException("Failed to rename state chunk file " + file);
+            }
+        } catch (IOException e) {
+            throw new CheckpointStorageException("Failed to write state chunk file " + file, e);
+        } finally {
+            FileUtils.deleteQuietly(tmpFile);
+        }
+    }
+
+    @Override
+    public byte[] getStateChunk(String jobId, String pipelineId, String chunkId)
+            throws CheckpointStorageException {
+        File file = getStateChunkFile(jobId, pipelineId, chunkId);
+        try (InputStream in = FileUtils.openInputStream(file)) {
+            return readStateChunkData(in);
+        } catch (IOException e) {
+            throw new CheckpointStorageException("Failed to read state chunk file " + file, e);
+        }
+    }
+
+    @Override
+    public void deleteStateChunks(String jobId, String pipelineId, Collection<String> chunkIds) {
+        chunkIds.forEach(
+                chunkId -> FileUtils.deleteQuietly(getStateChunkFile(jobId, pipelineId, chunkId)));
+    }
+
+    private File getStateChunkFile(String jobId, String pipelineId, String chunkId) {
+        return new File(
+                getStorageParentDirectory()
+                        + jobId
+                        + File.separator
+                        + STATE_CHUNK_DIRECTORY
+                        + File.separator
+                        + pipelineId
+                        + File.separator
+                        + getStateChunkName(chunkId));
+    }
 }
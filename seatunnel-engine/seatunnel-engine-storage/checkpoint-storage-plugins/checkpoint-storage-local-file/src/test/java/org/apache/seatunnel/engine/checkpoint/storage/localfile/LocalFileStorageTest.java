@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.checkpoint.storage.localfile;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 
+import java.io.IOException;
 import java.util.List;
 
 import static org.junit.jupiter.api.condition.OS.LINUX;
@@ -82,6 +84,48 @@ public class LocalFileStorageTest {
         Assertions.assertEquals(2, state.size());
     }
 
+    @Test
+    public void testCompressedCheckpointFile() throws Exception {
+        // larger than one block and well compressible
+        byte[] states = new byte[3 * 1024 * 1024 + 17];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = (byte) (i % 31);
+        }
+        PipelineState state =
+                PipelineState.builder()
+                        .jobId(JOB_ID)
+                        .pipelineId(5)
+                        .checkpointId(9)
+                        .states(states)
+                        .build();
+        byte[] data = STORAGE.serializeCheckPointData(state);
+        Assertions.assertTrue(data.length < states.length / 10);
+        PipelineState restored = STORAGE.deserializeCheckPointData(data);
+        Assertions.assertEquals(JOB_ID, restored.getJobId());
+        Assertions.assertEquals(5, restored.getPipelineId());
+        Assertions.assertEquals(9, restored.getCheckpointId());
+        Assertions.assertArrayEquals(states, restored.getStates());
+
+        // a flipped bit inside the block data is detected instead of restoring garbage
+        data[data.length - 8] ^= 0x10;
+        Assertions.assertThrows(IOException.class, () -> STORAGE.deserializeCheckPointData(data));
+    }
+
+    @Test
+    public void testLegacyCheckpointFile() throws Exception {
+        PipelineState state =
+                PipelineState.builder()
+                        .jobId(JOB_ID)
+                        .pipelineId(6)
+                        .checkpointId(3)
+                        .states(new byte[] {1, 2, 3})
+                        .build();
+        byte[] legacy = new ProtoStuffSerializer().serialize(state);
+        PipelineState restored = STORAGE.deserializeCheckPointData(legacy);
+        Assertions.assertEquals(3, restored.getCheckpointId());
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, restored.getStates());
+    }
+
     @AfterAll
     public static void teardown() {
         STORAGE.deleteCheckpoint(JOB_ID);
@@ -38,6 +38,7 @@ public class AvroDeserializationSchema implements DeserializationSchema<SeaTunne
     private final SeaTunnelRowType rowType;
     private final AvroToRowConverter converter;
     private final CatalogTable catalogTable;
+    private transient BinaryDecoder decoder;
 
     public AvroDeserializationSchema(CatalogTable catalogTable) {
         this.catalogTable = catalogTable;
@@ -47,9 +48,13 @@ public class AvroDeserializationSchema implements DeserializationSchema<SeaTunne
 
     @Override
     public SeaTunnelRow deserialize(byte[] message) throws IOException {
-        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(message, null);
-        GenericRecord record = this.converter.getReader().read(null, decoder);
-        SeaTunnelRow seaTunnelRow = converter.converter(record, rowType);
+        decoder = DecoderFactory.get().binaryDecoder(message, decoder);
+        SeaTunnelRow seaTunnelRow = converter.read(decoder, rowType);
+        if (seaTunnelRow == null) {
+            decoder = DecoderFactory.get().binaryDecoder(message, decoder);
+            GenericRecord record = this.converter.getReader().read(null, decoder);
+            seaTunnelRow = converter.converter(record, rowType);
+        }
         Optional<TablePath> tablePath =
                 Optional.ofNullable(catalogTable).map(CatalogTable::getTablePath);
         if (tablePath.isPresent()) {
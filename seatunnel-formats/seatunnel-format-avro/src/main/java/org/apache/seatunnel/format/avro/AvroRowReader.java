@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.avro;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.io.BinaryDecoder;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a {@link SeaTunnelRow} straight from the binary encoding of the record, with a reader per
+ * field built once from the row type and its avro schema, instead of reading a generic record and
+ * converting it.
+ *
+ * <p>{@link #create} returns null for row types the reader does not support, e.g. maps with keys
+ * that are not strings.
+ */
+class AvroRowReader {
+
+    @FunctionalInterface
+    private interface FieldReader {
+        Object read(BinaryDecoder decoder) throws IOException;
+    }
+
+    private static final Conversions.DecimalConversion DECIMAL_CONVERSION =
+            new Conversions.DecimalConversion();
+    private static final TimeConversions.LocalTimestampMillisConversion TIMESTAMP_CONVERSION =
+            new TimeConversions.LocalTimestampMillisConversion();
+
+    private final FieldReader[] fieldReaders;
+
+    private AvroRowReader(FieldReader[] fieldReaders) {
+        this.fieldReaders = fieldReaders;
+    }
+
+    static AvroRowReader create(SeaTunnelRowType rowType, Schema schema) {
+        FieldReader[] fieldReaders = createFieldReaders(rowType, schema);
+        return fieldReaders == null ? null : new AvroRowReader(fieldReaders);
+    }
+
+    SeaTunnelRow read(BinaryDecoder decoder) throws IOException {
+        return readRow(fieldReaders, decoder);
+    }
+
+    private static SeaTunnelRow readRow(FieldReader[] fieldReaders, BinaryDecoder decoder)
+            throws IOException {
+        Object[] values = new Object[fieldReaders.length];
+        for (int i = 0; i < fieldReaders.length; i++) {
+            values[i] = fieldReaders[i].read(decoder);
+        }
+        return new SeaTunnelRow(values);
+    }
+
+    private static FieldReader[] createFieldReaders(SeaTunnelRowType rowType, Schema schema) {
+        List<Schema.Field> fields = schema.getFields();
+        if (fields.size() != rowType.getTotalFields()) {
+            return null;
+        }
+        FieldReader[] fieldReaders = new FieldReader[fields.size()];
+        for (int i = 0; i < fieldReaders.length; i++) {
+            fieldReaders[i] = createFieldReader(rowType.getFieldType(i), fields.get(i).schema());
+            if (fieldReaders[i] == null) {
+                return null;
+            }
+        }
+        return fieldReaders;
+    }
+
+    private static FieldReader createFieldReader(SeaTunnelDataType<?> dataType, Schema schema) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return BinaryDecoder::readString;
+            case BOOLEAN:
+                return BinaryDecoder::readBoolean;
+            case INT:
+                return BinaryDecoder::readInt;
+            case SMALLINT:
+                return decoder -> (short) decoder.readInt();
+            case TINYINT:
+                if (dataType.getTypeClass() == Byte.class) {
+                    return decoder -> (byte) decoder.readInt();
+                }
+                return BinaryDecoder::readInt;
+            case BIGINT:
+                return BinaryDecoder::readLong;
+            case FLOAT:
+                return BinaryDecoder::readFloat;
+            case DOUBLE:
+                return BinaryDecoder::readDouble;
+            case NULL:
+                return decoder -> {
+                    decoder.readNull();
+                    return null;
+                };
+            case BYTES:
+                return decoder -> decoder.readBytes(null).array();
+            case DECIMAL:
+                LogicalType decimalType = schema.getLogicalType();
+                return decoder ->
+                        DECIMAL_CONVERSION.fromBytes(decoder.readBytes(null), schema, decimalType);
+            case DATE:
+                return decoder -> LocalDate.ofEpochDay(decoder.readInt());
+            case TIMESTAMP:
+                LogicalType timestampType = schema.getLogicalType();
+                return decoder ->
+                        TIMESTAMP_CONVERSION.fromLong(decoder.readLong(), schema, timestampType);
+            case MAP:
+                return createMapReader((MapType<?, ?>) dataType, schema);
+            case ARRAY:
+                return createArrayReader((ArrayType<?, ?>) dataType, schema);
+            case ROW:
+                FieldReader[] fieldReaders =
+                        createFieldReaders((SeaTunnelRowType) dataType, schema);
+                if (fieldReaders == null) {
+                    return null;
+                }
+                return decoder -> readRow(fieldReaders, decoder);
+            default:
+                return null;
+        }
+    }
+
+    private static FieldReader createMapReader(MapType<?, ?> mapType, Schema schema) {
+        if (mapType.getKeyType().getSqlType() != SqlType.STRING) {
+            return null;
+        }
+        FieldReader valueReader = createFieldReader(mapType.getValueType(), schema.getValueType());
+        if (valueReader == null) {
+            return null;
+        }
+        return decoder -> {
+            Map<Object, Object> map = new HashMap<>();
+            for (long count = decoder.readMapStart(); count != 0; count = decoder.mapNext()) {
+                for (long i = 0; i < count; i++) {
+                    String key = decoder.readString();
+                    map.put(key, valueReader.read(decoder));
+                }
+            }
+            return map;
+        };
+    }
+
+    private static FieldReader createArrayReader(ArrayType<?, ?> arrayType, Schema schema) {
+        SeaTunnelDataType<?> elementType = arrayType.getElementType();
+        FieldReader elementReader = createFieldReader(elementType, schema.getElementType());
+        if (elementReader == null) {
+            return null;
+        }
+        Class<?> elementClass = elementType.getTypeClass();
+        return decoder -> {
+            List<Object> elements = new ArrayList<>();
+            for (long count = decoder.readArrayStart(); count != 0; count = decoder.arrayNext()) {
+                for (long i = 0; i < count; i++) {
+                    elements.add(elementReader.read(decoder));
+                }
+            }
+            Object array = Array.newInstance(elementClass, elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                Array.set(array, i, elements.get(i));
+            }
+            return array;
+        };
+    }
+}
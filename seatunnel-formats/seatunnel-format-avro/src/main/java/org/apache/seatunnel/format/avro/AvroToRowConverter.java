@@ -30,6 +30,7 @@ import org.apache.avro.Schema;
 import org.apache.avro.data.TimeConversions;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.DatumReader;
 
 import java.io.Serializable;
@@ -45,6 +46,8 @@ public class AvroToRowConverter implements Serializable {
 
     private DatumReader<GenericRecord> reader = null;
     private Schema schema;
+    private transient AvroRowReader rowReader;
+    private transient boolean rowReaderCreated;
 
     public AvroToRowConverter(SeaTunnelRowType rowType) {
         schema = SeaTunnelRowTypeToAvroSchemaConverter.buildAvroSchemaWithRowType(rowType);
@@ -67,6 +70,26 @@ public class AvroToRowConverter implements Serializable {
         return datumReader;
     }
 
+    /**
+     * Reads the row straight from the decoder. Returns null when the record has to be read with the
+     * {@link #getReader() reader} and converted, i.e. for row types the direct read does not
+     * support or for data it does not read, the decoder has to be reset to the message then.
+     */
+    public SeaTunnelRow read(BinaryDecoder decoder, SeaTunnelRowType rowType) {
+        if (!rowReaderCreated) {
+            rowReader = AvroRowReader.create(rowType, schema);
+            rowReaderCreated = true;
+        }
+        if (rowReader == null) {
+            return null;
+        }
+        try {
+            return rowReader.read(decoder);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     public SeaTunnelRow converter(GenericRecord record, SeaTunnelRowType rowType) {
         String[] fieldNames = rowType.getFieldNames();
 
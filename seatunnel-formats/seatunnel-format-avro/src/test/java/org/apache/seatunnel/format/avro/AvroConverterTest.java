@@ -27,13 +27,17 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -171,4 +175,60 @@ class AvroConverterTest {
 
         Assertions.assertEquals(converterRow, seaTunnelRow);
     }
+
+    @Test
+    public void testReadMatchesConverter() throws IOException {
+        SeaTunnelRowType rowType = buildSeaTunnelRowType();
+        byte[] message = new AvroSerializationSchema(rowType).serialize(buildSeaTunnelRow());
+        AvroToRowConverter avroToRowConverter = new AvroToRowConverter(rowType);
+
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(message, null);
+        SeaTunnelRow readRow = avroToRowConverter.read(decoder, rowType);
+        decoder = DecoderFactory.get().binaryDecoder(message, decoder);
+        GenericRecord record = avroToRowConverter.getReader().read(null, decoder);
+        Assertions.assertEquals(avroToRowConverter.converter(record, rowType), readRow);
+        Assertions.assertEquals(buildSeaTunnelRow(), readRow);
+
+        // a truncated message is left to the reader
+        decoder =
+                DecoderFactory.get()
+                        .binaryDecoder(Arrays.copyOf(message, message.length / 2), decoder);
+        Assertions.assertNull(avroToRowConverter.read(decoder, rowType));
+    }
+
+    @Test
+    public void testReadNestedCollections() throws IOException {
+        SeaTunnelRowType subRow =
+                new SeaTunnelRowType(
+                        new String[] {"c_longs", "c_null"},
+                        new SeaTunnelDataType<?>[] {
+                            ArrayType.LONG_ARRAY_TYPE, BasicType.VOID_TYPE
+                        });
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_row", "c_map"},
+                        new SeaTunnelDataType<?>[] {
+                            subRow, new MapType<>(BasicType.STRING_TYPE, BasicType.DOUBLE_TYPE)
+                        });
+        Map<String, Double> map = new HashMap<>();
+        map.put("k1", 1.5);
+        map.put("k2", -0.0);
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            new SeaTunnelRow(new Object[] {new Long[] {1L, Long.MIN_VALUE}, null}),
+                            map
+                        });
+        byte[] message = new AvroSerializationSchema(rowType).serialize(row);
+        AvroToRowConverter avroToRowConverter = new AvroToRowConverter(rowType);
+
+        SeaTunnelRow readRow =
+                avroToRowConverter.read(DecoderFactory.get().binaryDecoder(message, null), rowType);
+        GenericRecord record =
+                avroToRowConverter
+                        .getReader()
+                        .read(null, DecoderFactory.get().binaryDecoder(message, null));
+        Assertions.assertEquals(avroToRowConverter.converter(record, rowType), readRow);
+        Assertions.assertEquals(row, readRow);
+    }
 }
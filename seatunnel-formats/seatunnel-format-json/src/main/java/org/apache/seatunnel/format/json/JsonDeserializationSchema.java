@@ -63,6 +63,9 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
      */
     private JsonToRowConverters.JsonToObjectConverter runtimeConverter;
 
+    /** Reads rows from the JSON tokens, null when the field names do not allow it. */
+    private final JsonToRowStreamingConverter streamingConverter;
+
     /** Object mapper for parsing the JSON. */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -78,13 +81,17 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(rowType);
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters converters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = converters.createRowConverter(checkNotNull(rowType));
 
-        if (hasDecimalType(rowType)) {
+        boolean hasDecimalType = hasDecimalType(rowType);
+        if (hasDecimalType) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
         }
+        this.streamingConverter =
+                JsonToRowStreamingConverter.create(
+                        rowType, converters, failOnMissingField, hasDecimalType);
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
     }
 
@@ -99,13 +106,17 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(catalogTable.getSeaTunnelRowType());
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters converters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = converters.createRowConverter(checkNotNull(rowType));
 
-        if (hasDecimalType(rowType)) {
+        boolean hasDecimalType = hasDecimalType(rowType);
+        if (hasDecimalType) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
         }
+        this.streamingConverter =
+                JsonToRowStreamingConverter.create(
+                        rowType, converters, failOnMissingField, hasDecimalType);
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
     }
 
@@ -129,7 +140,8 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
-        return convertJsonNode(convertBytes(message));
+        SeaTunnelRow row = readRow(message);
+        return row != null ? row : convertJsonNode(convertBytes(message));
     }
 
     public SeaTunnelRow deserialize(String message) throws IOException {
@@ -140,6 +152,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
     }
 
     public void collect(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
+        SeaTunnelRow row = readRow(message);
+        if (row != null) {
+            setCollectorTablePath(row, catalogTable);
+            out.collect(row);
+            return;
+        }
         JsonNode jsonNode = convertBytes(message);
         if (jsonNode.isArray()) {
             ArrayNode arrayNode = (ArrayNode) jsonNode;
@@ -163,6 +181,11 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         }
     }
 
+    /** Reads a JSON object without its tree, returns null when the tree has to be converted. */
+    private SeaTunnelRow readRow(byte[] message) {
+        return streamingConverter == null ? null : streamingConverter.read(objectMapper, message);
+    }
+
     private SeaTunnelRow convertJsonNode(JsonNode jsonNode) {
         if (jsonNode.isNull()) {
             return null;
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads a {@link SeaTunnelRow} from a JSON object token by token, without building a {@code
+ * JsonNode} tree of the whole message. Fields not in the row type are skipped, strings, integers,
+ * doubles and booleans are written straight into the row, other values are read as a tree of that
+ * value only and converted by the {@link JsonToRowConverters} of the field.
+ *
+ * <p>{@link #read} returns {@code null} for everything the tree based conversion has to handle,
+ * e.g. a malformed message, a missing field or a conversion error, so that the caller can fall back
+ * to it and produce exactly the same rows and errors.
+ */
+public class JsonToRowStreamingConverter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The largest hash table tried for the field names, in bits. */
+    private static final int MAX_TABLE_BITS = 16;
+
+    private static final int[] MULTIPLIERS = {
+        0x9E3779B1, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F, 0x165667B1, 0x61C88647
+    };
+
+    private final String[] fieldNames;
+    private final SqlType[] sqlTypes;
+    private final JsonToRowConverters.JsonToObjectConverter[] fieldConverters;
+    private final boolean failOnMissingField;
+    private final boolean useBigDecimalForFloats;
+
+    /** Maps {@code (hashCode * multiplier) >>> shift} of a field name to its ordinal. */
+    private final int[] fieldTable;
+
+    private final int multiplier;
+    private final int shift;
+
+    private JsonToRowStreamingConverter(
+            SeaTunnelRowType rowType,
+            JsonToRowConverters converters,
+            boolean failOnMissingField,
+            boolean useBigDecimalForFloats,
+            int[] fieldTable,
+            int multiplier,
+            int shift) {
+        this.fieldNames = rowType.getFieldNames();
+        this.sqlTypes =
+                Arrays.stream(rowType.getFieldTypes())
+                        .map(SeaTunnelDataType::getSqlType)
+                        .toArray(SqlType[]::new);
+        this.fieldConverters =
+                Arrays.stream(rowType.getFieldTypes())
+                        .map(converters::createConverter)
+                        .toArray(JsonToRowConverters.JsonToObjectConverter[]::new);
+        this.failOnMissingField = failOnMissingField;
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+        this.fieldTable = fieldTable;
+        this.multiplier = multiplier;
+        this.shift = shift;
+    }
+
+    /**
+     * Creates the converter, or returns {@code null} when the field names have no collision free
+     * hash table, e.g. because a name is used twice.
+     */
+    public static JsonToRowStreamingConverter create(
+            SeaTunnelRowType rowType,
+            JsonToRowConverters converters,
+            boolean failOnMissingField,
+            boolean useBigDecimalForFloats) {
+        String[] names = rowType.getFieldNames();
+        Set<String> distinct = new HashSet<>(Arrays.asList(names));
+        if (distinct.size() != names.length) {
+            return null;
+        }
+        int minBits = 32 - Integer.numberOfLeadingZeros(Math.max(names.length, 1));
+        for (int bits = minBits; bits <= MAX_TABLE_BITS; bits++) {
+            for (int multiplier : MULTIPLIERS) {
+                int[] table = buildTable(names, multiplier, bits);
+                if (table != null) {
+                    return new JsonToRowStreamingConverter(
+                            rowType,
+                            converters,
+                            failOnMissingField,
+                            useBigDecimalForFloats,
+                            table,
+                            multiplier,
+                            32 - bits);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int[] buildTable(String[] names, int multiplier, int bits) {
+        int[] table = new int[1 << bits];
+        Arrays.fill(table, -1);
+        for (int i = 0; i < names.length; i++) {
+            int slot = (names[i].hashCode() * multiplier) >>> (32 - bits);
+            if (table[slot] != -1) {
+                return null;
+            }
+            table[slot] = i;
+        }
+        return table;
+    }
+
+    private int indexOf(String name) {
+        int index = fieldTable[(name.hashCode() * multiplier) >>> shift];
+        return index >= 0 && fieldNames[index].equals(name) ? index : -1;
+    }
+
+    /**
+     * Reads the row of a JSON object.
+     *
+     * @return the row, or {@code null} when the message has to be converted from its tree
+     */
+    public SeaTunnelRow read(ObjectMapper objectMapper, byte[] message) {
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            Object[] fields = new Object[fieldNames.length];
+            boolean[] found = failOnMissingField ? new boolean[fieldNames.length] : null;
+            String name;
+            while ((name = parser.nextFieldName()) != null) {
+                JsonToken token = parser.nextToken();
+                int index = indexOf(name);
+                if (index < 0) {
+                    parser.skipChildren();
+                    continue;
+                }
+                fields[index] = readField(objectMapper, parser, token, index);
+                if (found != null) {
+                    found[index] = true;
+                }
+            }
+            if (found != null) {
+                for (boolean fieldFound : found) {
+                    if (!fieldFound) {
+                        return null;
+                    }
+                }
+            }
+            return new SeaTunnelRow(fields);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private Object readField(
+            ObjectMapper objectMapper, JsonParser parser, JsonToken token, int index)
+            throws IOException {
+        SqlType sqlType = sqlTypes[index];
+        switch (token) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                if (sqlType == SqlType.STRING) {
+                    return parser.getText();
+                }
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                if (sqlType == SqlType.BOOLEAN) {
+                    return token == JsonToken.VALUE_TRUE;
+                }
+                break;
+            case VALUE_NUMBER_INT:
+                JsonParser.NumberType numberType = parser.getNumberType();
+                if (sqlType == SqlType.INT && numberType == JsonParser.NumberType.INT) {
+                    return parser.getIntValue();
+                }
+                if (sqlType == SqlType.BIGINT
+                        && (numberType == JsonParser.NumberType.INT
+                                || numberType == JsonParser.NumberType.LONG)) {
+                    return parser.getLongValue();
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                if (sqlType == SqlType.DOUBLE && !useBigDecimalForFloats) {
+                    return parser.getDoubleValue();
+                }
+                break;
+            default:
+                break;
+        }
+        // reads the value, and only the value, like the tree of the whole message holds it
+        return fieldConverters[index].convert(objectMapper.readTree(parser), fieldNames[index]);
+    }
+}
@@ -222,7 +222,7 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
     public void deserialize(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
         ObjectNode jsonNodes = convertBytes(message);
         if (jsonNodes != null) {
-            deserialize(convertBytes(message), out);
+            deserialize(jsonNodes, out);
         }
     }
 
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+public class JsonToRowStreamingConverterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "name", "flag", "small", "id", "big", "ratio", "score", "amount", "day",
+                        "ts", "tags", "attrs", "nested"
+                    },
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        ArrayType.STRING_ARRAY_TYPE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+                        new SeaTunnelRowType(
+                                new String[] {"a", "b"},
+                                new SeaTunnelDataType<?>[] {
+                                    BasicType.INT_TYPE, BasicType.STRING_TYPE
+                                })
+                    });
+
+    private static final List<String> MESSAGES =
+            Arrays.asList(
+                    "{\"name\":\"a\",\"flag\":true,\"small\":3,\"id\":1,\"big\":12345678901,"
+                            + "\"ratio\":1.5,\"score\":2.25,\"amount\":10.50,\"day\":\"2023-01-02\","
+                            + "\"ts\":\"2023-01-02 10:11:12\",\"tags\":[\"x\",\"y\"],"
+                            + "\"attrs\":{\"k\":1},\"nested\":{\"a\":2,\"b\":\"c\"}}",
+                    "{\"unknown\":{\"deep\":[1,{\"x\":2}]},\"id\":\"42\",\"big\":7,\"name\":{\"o\":1},"
+                            + "\"flag\":\"TRUE\",\"score\":3,\"amount\":1e2,\"ratio\":\"0.1\"}",
+                    "{\"id\":1,\"id\":2,\"name\":null,\"score\":null,\"nested\":null}",
+                    "{\"id\":2.7,\"big\":92233720368547758070}",
+                    "{\"id\":\"not a number\"}",
+                    "[{\"id\":1},{\"id\":2}]",
+                    "{\"id\":1",
+                    "null",
+                    "{}");
+
+    @Test
+    public void testReadMatchesTreeConversion() throws Exception {
+        for (boolean failOnMissingField : new boolean[] {false, true}) {
+            for (boolean ignoreParseErrors : new boolean[] {false, true}) {
+                if (failOnMissingField && ignoreParseErrors) {
+                    continue;
+                }
+                JsonDeserializationSchema streaming =
+                        new JsonDeserializationSchema(
+                                failOnMissingField, ignoreParseErrors, ROW_TYPE);
+                JsonDeserializationSchema tree =
+                        new JsonDeserializationSchema(
+                                failOnMissingField, ignoreParseErrors, ROW_TYPE);
+                for (String message : MESSAGES) {
+                    byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+                    SeaTunnelRow expected;
+                    try {
+                        expected = tree.convertToRowData(tree.deserializeToJsonNode(bytes));
+                    } catch (Exception e) {
+                        expected = null;
+                    }
+                    SeaTunnelRow actual;
+                    try {
+                        actual = streaming.deserialize(bytes);
+                    } catch (Exception e) {
+                        actual = null;
+                    }
+                    if (expected == null) {
+                        continue;
+                    }
+                    Assertions.assertNotNull(actual, message);
+                    Assertions.assertEquals(
+                            Arrays.deepToString(expected.getFields()),
+                            Arrays.deepToString(actual.getFields()),
+                            message);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFieldLookup() {
+        JsonToRowConverters converters = new JsonToRowConverters(false, false);
+        JsonToRowStreamingConverter converter =
+                JsonToRowStreamingConverter.create(ROW_TYPE, converters, false, false);
+        SeaTunnelRow row =
+                converter.read(
+                        new ObjectMapper(),
+                        "{\"skip\":[{}],\"id\":7,\"name\":\"n\",\"nested\":{\"a\":1}}"
+                                .getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(7, row.getField(3));
+        Assertions.assertEquals("n", row.getField(0));
+        Assertions.assertEquals(1, ((SeaTunnelRow) row.getField(12)).getField(0));
+        Assertions.assertNull(converter.read(new ObjectMapper(), "[1]".getBytes()));
+        SeaTunnelRowType duplicated =
+                new SeaTunnelRowType(
+                        new String[] {"a", "a"},
+                        new SeaTunnelDataType<?>[] {BasicType.INT_TYPE, BasicType.INT_TYPE});
+        Assertions.assertNull(
+                JsonToRowStreamingConverter.create(duplicated, converters, false, false));
+    }
+}
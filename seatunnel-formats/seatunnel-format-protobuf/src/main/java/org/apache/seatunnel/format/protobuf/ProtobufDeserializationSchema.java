@@ -50,9 +50,12 @@ public class ProtobufDeserializationSchema implements DeserializationSchema<SeaT
 
     @Override
     public SeaTunnelRow deserialize(byte[] message) throws IOException {
-        Descriptors.Descriptor descriptor = this.converter.getDescriptor();
-        DynamicMessage dynamicMessage = DynamicMessage.parseFrom(descriptor, message);
-        SeaTunnelRow seaTunnelRow = this.converter.converter(descriptor, dynamicMessage, rowType);
+        SeaTunnelRow seaTunnelRow = this.converter.read(message, rowType);
+        if (seaTunnelRow == null) {
+            Descriptors.Descriptor descriptor = this.converter.getDescriptor();
+            DynamicMessage dynamicMessage = DynamicMessage.parseFrom(descriptor, message);
+            seaTunnelRow = this.converter.converter(descriptor, dynamicMessage, rowType);
+        }
         Optional<TablePath> tablePath =
                 Optional.ofNullable(catalogTable).map(CatalogTable::getTablePath);
         if (tablePath.isPresent()) {
@@ -0,0 +1,452 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.protobuf;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads a {@link SeaTunnelRow} straight from the protobuf wire format. The columns of the row type
+ * are resolved against the descriptor once, the same way {@link ProtobufToRowConverter} resolves
+ * them, fields which are not read are skipped without being parsed.
+ *
+ * <p>Descriptors with oneofs or required fields are not supported, {@link #create} returns null for
+ * them and the messages are parsed into a {@code DynamicMessage}.
+ */
+class ProtobufRowReader {
+
+    /** The largest field number looked up in an array instead of a map. */
+    private static final int MAX_DIRECT_FIELD_NUMBER = 1024;
+
+    private enum Kind {
+        SCALAR,
+        REPEATED,
+        MESSAGE,
+        MAP
+    }
+
+    /** A field of the message read by at least one column. */
+    private static class Slot {
+        private final Descriptors.FieldDescriptor field;
+        private final Kind kind;
+        private final ProtobufRowReader nested;
+        private final Descriptors.FieldDescriptor keyField;
+        private final Descriptors.FieldDescriptor valueField;
+
+        private Slot(
+                Descriptors.FieldDescriptor field,
+                Kind kind,
+                ProtobufRowReader nested,
+                Descriptors.FieldDescriptor keyField,
+                Descriptors.FieldDescriptor valueField) {
+            this.field = field;
+            this.kind = kind;
+            this.nested = nested;
+            this.keyField = keyField;
+            this.valueField = valueField;
+        }
+    }
+
+    private final SeaTunnelDataType<?>[] columnTypes;
+    /** The slot of each column, -1 for columns without a field. */
+    private final int[] columnSlots;
+
+    private final Slot[] slots;
+    private final int[] slotByNumber;
+    private final Map<Integer, Integer> slotByLargeNumber;
+
+    private ProtobufRowReader(
+            SeaTunnelDataType<?>[] columnTypes, int[] columnSlots, List<Slot> slots) {
+        this.columnTypes = columnTypes;
+        this.columnSlots = columnSlots;
+        this.slots = slots.toArray(new Slot[0]);
+        this.slotByLargeNumber = new HashMap<>();
+        int maxNumber = 0;
+        for (Slot slot : slots) {
+            maxNumber =
+                    Math.max(maxNumber, Math.min(slot.field.getNumber(), MAX_DIRECT_FIELD_NUMBER));
+        }
+        this.slotByNumber = new int[maxNumber + 1];
+        Arrays.fill(slotByNumber, -1);
+        for (int i = 0; i < this.slots.length; i++) {
+            int number = this.slots[i].field.getNumber();
+            if (number <= MAX_DIRECT_FIELD_NUMBER) {
+                slotByNumber[number] = i;
+            } else {
+                slotByLargeNumber.put(number, i);
+            }
+        }
+    }
+
+    /** Creates the reader, or returns null when the descriptor is not supported. */
+    static ProtobufRowReader create(Descriptors.Descriptor descriptor, SeaTunnelRowType rowType) {
+        if (hasRequiredFields(descriptor, new HashSet<>())) {
+            return null;
+        }
+        return compile(descriptor, rowType);
+    }
+
+    private static ProtobufRowReader compile(
+            Descriptors.Descriptor descriptor, SeaTunnelRowType rowType) {
+        if (!descriptor.getRealOneofs().isEmpty()) {
+            return null;
+        }
+        String[] fieldNames = rowType.getFieldNames();
+        int[] columnSlots = new int[fieldNames.length];
+        List<Slot> slots = new ArrayList<>();
+        Map<Descriptors.FieldDescriptor, Integer> slotIndexes = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            SeaTunnelDataType<?> type = rowType.getFieldType(i);
+            Descriptors.FieldDescriptor field = descriptor.findFieldByName(fieldNames[i]);
+            Descriptors.Descriptor nestedType = descriptor.findNestedTypeByName(fieldNames[i]);
+            if (field == null && nestedType == null) {
+                columnSlots[i] = -1;
+                continue;
+            }
+            Slot slot;
+            if (type.getSqlType() == SqlType.ROW) {
+                Descriptors.FieldDescriptor messageField =
+                        descriptor.findFieldByName(fieldNames[i].toLowerCase());
+                if (nestedType == null
+                        || messageField == null
+                        || messageField.isRepeated()
+                        || messageField.getType() != Descriptors.FieldDescriptor.Type.MESSAGE
+                        || messageField.getMessageType() != nestedType) {
+                    return null;
+                }
+                ProtobufRowReader nested = compile(nestedType, (SeaTunnelRowType) type);
+                if (nested == null) {
+                    return null;
+                }
+                slot = new Slot(messageField, Kind.MESSAGE, nested, null, null);
+            } else if (field == null) {
+                return null;
+            } else if (field.isMapField()) {
+                Descriptors.FieldDescriptor keyField =
+                        field.getMessageType().findFieldByName("key");
+                Descriptors.FieldDescriptor valueField =
+                        field.getMessageType().findFieldByName("value");
+                if (type.getSqlType() != SqlType.MAP
+                        || !isScalar(keyField)
+                        || !isScalar(valueField)
+                        || !isScalar(((MapType<?, ?>) type).getKeyType())
+                        || !isScalar(((MapType<?, ?>) type).getValueType())) {
+                    return null;
+                }
+                slot = new Slot(field, Kind.MAP, null, keyField, valueField);
+            } else if (field.isRepeated()) {
+                if (type.getSqlType() != SqlType.ARRAY
+                        || !isScalar(field)
+                        || !isScalar(((ArrayType<?, ?>) type).getElementType())) {
+                    return null;
+                }
+                slot = new Slot(field, Kind.REPEATED, null, null, null);
+            } else {
+                if (!isScalar(field) || !isScalar(type)) {
+                    return null;
+                }
+                slot = new Slot(field, Kind.SCALAR, null, null, null);
+            }
+            Integer existing = slotIndexes.get(slot.field);
+            if (existing != null && slots.get(existing).kind != slot.kind) {
+                return null;
+            }
+            if (existing == null) {
+                existing = slots.size();
+                slotIndexes.put(slot.field, existing);
+                slots.add(slot);
+            }
+            columnSlots[i] = existing;
+        }
+        return new ProtobufRowReader(rowType.getFieldTypes(), columnSlots, slots);
+    }
+
+    private static boolean isScalar(Descriptors.FieldDescriptor field) {
+        if (field == null || field.getType() == Descriptors.FieldDescriptor.Type.GROUP) {
+            return false;
+        }
+        switch (field.getJavaType()) {
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case BOOLEAN:
+            case STRING:
+            case BYTE_STRING:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isScalar(SeaTunnelDataType<?> type) {
+        SqlType sqlType = type.getSqlType();
+        return sqlType != SqlType.ROW && sqlType != SqlType.ARRAY && sqlType != SqlType.MAP;
+    }
+
+    /** The parsed message is only valid when all required fields of all its messages are set. */
+    private static boolean hasRequiredFields(
+            Descriptors.Descriptor descriptor, Set<Descriptors.Descriptor> visited) {
+        if (!visited.add(descriptor)) {
+            return false;
+        }
+        for (Descriptors.FieldDescriptor field : descriptor.getFields()) {
+            if (field.isRequired()) {
+                return true;
+            }
+            if (field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE
+                    && hasRequiredFields(field.getMessageType(), visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    SeaTunnelRow read(CodedInputStream input) throws IOException {
+        Object[] state = new Object[slots.length];
+        while (true) {
+            int tag = input.readTag();
+            if (tag == 0) {
+                break;
+            }
+            int slotIndex = slotOf(WireFormat.getTagFieldNumber(tag));
+            boolean consumed =
+                    slotIndex >= 0 && readSlot(input, tag, slots[slotIndex], state, slotIndex);
+            if (!consumed && !input.skipField(tag)) {
+                throw new InvalidProtocolBufferException(
+                        "Protocol message end-group tag did not match expected tag.");
+            }
+        }
+        Object[] values = new Object[columnTypes.length];
+        for (int i = 0; i < values.length; i++) {
+            int slotIndex = columnSlots[i];
+            if (slotIndex >= 0) {
+                values[i] = convertColumn(slots[slotIndex], state[slotIndex], columnTypes[i]);
+            }
+        }
+        return new SeaTunnelRow(values);
+    }
+
+    private int slotOf(int number) {
+        if (number < slotByNumber.length) {
+            return slotByNumber[number];
+        }
+        if (number <= MAX_DIRECT_FIELD_NUMBER) {
+            return -1;
+        }
+        Integer slot = slotByLargeNumber.get(number);
+        return slot == null ? -1 : slot;
+    }
+
+    /** Reads the value like {@code DynamicMessage}, returns false for a mismatching wire type. */
+    @SuppressWarnings("unchecked")
+    private static boolean readSlot(
+            CodedInputStream input, int tag, Slot slot, Object[] state, int slotIndex)
+            throws IOException {
+        int wireType = WireFormat.getTagWireType(tag);
+        switch (slot.kind) {
+            case MESSAGE:
+                if (wireType != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    return false;
+                }
+                // the occurrences of a message field are merged, like their concatenation
+                ByteString bytes = input.readBytes();
+                ByteString previous = (ByteString) state[slotIndex];
+                state[slotIndex] = previous == null ? bytes : previous.concat(bytes);
+                return true;
+            case MAP:
+                if (wireType != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    return false;
+                }
+                List<ByteString> entries = (List<ByteString>) state[slotIndex];
+                if (entries == null) {
+                    entries = new ArrayList<>();
+                    state[slotIndex] = entries;
+                }
+                entries.add(input.readBytes());
+                return true;
+            case REPEATED:
+                List<Object> values = (List<Object>) state[slotIndex];
+                if (values == null) {
+                    values = new ArrayList<>();
+                    state[slotIndex] = values;
+                }
+                return readScalars(input, wireType, slot.field, values);
+            default:
+                // singular fields are not packable, the last occurrence wins
+                if (wireType != slot.field.getLiteType().getWireType()) {
+                    return false;
+                }
+                state[slotIndex] = readScalar(input, slot.field);
+                return true;
+        }
+    }
+
+    /** Reads a single value, or all values of a packed field. */
+    private static boolean readScalars(
+            CodedInputStream input,
+            int wireType,
+            Descriptors.FieldDescriptor field,
+            List<Object> values)
+            throws IOException {
+        if (wireType == field.getLiteType().getWireType()) {
+            values.add(readScalar(input, field));
+            return true;
+        }
+        if (!field.isPackable() || wireType != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+            return false;
+        }
+        int limit = input.pushLimit(input.readRawVarint32());
+        while (input.getBytesUntilLimit() > 0) {
+            values.add(readScalar(input, field));
+        }
+        input.popLimit(limit);
+        return true;
+    }
+
+    private static Object readScalar(CodedInputStream input, Descriptors.FieldDescriptor field)
+            throws IOException {
+        switch (field.getType()) {
+            case INT32:
+                return input.readInt32();
+            case SINT32:
+                return input.readSInt32();
+            case SFIXED32:
+                return input.readSFixed32();
+            case UINT32:
+                return input.readUInt32();
+            case FIXED32:
+                return input.readFixed32();
+            case INT64:
+                return input.readInt64();
+            case SINT64:
+                return input.readSInt64();
+            case SFIXED64:
+                return input.readSFixed64();
+            case UINT64:
+                return input.readUInt64();
+            case FIXED64:
+                return input.readFixed64();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BOOL:
+                return input.readBool();
+            case STRING:
+                return field.needsUtf8Check() ? input.readStringRequireUtf8() : input.readString();
+            case BYTES:
+                return input.readBytes();
+            default:
+                throw new IllegalStateException(
+                        "Unsupported protobuf field type " + field.getType());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object convertColumn(Slot slot, Object state, SeaTunnelDataType<?> type)
+            throws IOException {
+        switch (slot.kind) {
+            case MESSAGE:
+                ByteString bytes = state == null ? ByteString.EMPTY : (ByteString) state;
+                return slot.nested.read(bytes.newCodedInput());
+            case MAP:
+                return convertMap(
+                        slot,
+                        state == null ? Collections.emptyList() : (List<ByteString>) state,
+                        (MapType<?, ?>) type);
+            case REPEATED:
+                List<Object> values =
+                        state == null ? Collections.emptyList() : (List<Object>) state;
+                SeaTunnelDataType<?> elementType = ((ArrayType<?, ?>) type).getElementType();
+                Object array = Array.newInstance(elementType.getTypeClass(), values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    Array.set(
+                            array,
+                            i,
+                            ProtobufToRowConverter.convertScalar(elementType, values.get(i)));
+                }
+                return array;
+            default:
+                return ProtobufToRowConverter.convertScalar(
+                        type, state == null ? slot.field.getDefaultValue() : state);
+        }
+    }
+
+    /** Builds the map like collecting the entries with {@code Collectors.toMap}. */
+    private static Map<Object, Object> convertMap(
+            Slot slot, List<ByteString> entries, MapType<?, ?> type) throws IOException {
+        Map<Object, Object> map = new HashMap<>();
+        for (ByteString entry : entries) {
+            CodedInputStream input = entry.newCodedInput();
+            // like the entries of DynamicMessage, missing keys and values are their defaults
+            Object key = slot.keyField.getDefaultValue();
+            Object value = slot.valueField.getDefaultValue();
+            while (true) {
+                int tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                }
+                int number = WireFormat.getTagFieldNumber(tag);
+                Descriptors.FieldDescriptor field =
+                        number == slot.keyField.getNumber()
+                                ? slot.keyField
+                                : number == slot.valueField.getNumber() ? slot.valueField : null;
+                if (field != null
+                        && WireFormat.getTagWireType(tag) == field.getLiteType().getWireType()) {
+                    if (field == slot.keyField) {
+                        key = readScalar(input, field);
+                    } else {
+                        value = readScalar(input, field);
+                    }
+                } else if (!input.skipField(tag)) {
+                    throw new InvalidProtocolBufferException(
+                            "Protocol message end-group tag did not match expected tag.");
+                }
+            }
+            Object mapKey = ProtobufToRowConverter.convertScalar(type.getKeyType(), key);
+            Object mapValue = ProtobufToRowConverter.convertScalar(type.getValueType(), value);
+            if (map.containsKey(mapKey)) {
+                throw new IllegalStateException("Duplicate map key " + mapKey);
+            }
+            map.put(mapKey, mapValue);
+        }
+        return map;
+    }
+}
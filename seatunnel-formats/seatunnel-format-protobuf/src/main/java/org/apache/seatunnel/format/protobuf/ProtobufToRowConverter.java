@@ -25,6 +25,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
 
@@ -41,6 +42,8 @@ public class ProtobufToRowConverter implements Serializable {
     private Descriptors.Descriptor descriptor = null;
     private String protoContent;
     private String messageName;
+    private transient ProtobufRowReader rowReader;
+    private transient boolean rowReaderCreated;
 
     public ProtobufToRowConverter(String protoContent, String messageName) {
         this.protoContent = protoContent;
@@ -66,6 +69,26 @@ public class ProtobufToRowConverter implements Serializable {
         return CompileDescriptor.compileDescriptorTempFile(protoContent, messageName);
     }
 
+    /**
+     * Reads the row straight from the serialized message. Returns null when the message has to be
+     * parsed into a {@link DynamicMessage} and converted, e.g. for descriptors with oneofs or
+     * required fields, or for data the direct read does not convert.
+     */
+    public SeaTunnelRow read(byte[] message, SeaTunnelRowType rowType) {
+        if (!rowReaderCreated) {
+            rowReader = ProtobufRowReader.create(getDescriptor(), rowType);
+            rowReaderCreated = true;
+        }
+        if (rowReader == null) {
+            return null;
+        }
+        try {
+            return rowReader.read(CodedInputStream.newInstance(message));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     public SeaTunnelRow converter(
             Descriptors.Descriptor descriptor,
             DynamicMessage dynamicMessage,
@@ -96,29 +119,6 @@ public class ProtobufToRowConverter implements Serializable {
             Object val,
             String fieldName) {
         switch (dataType.getSqlType()) {
-            case STRING:
-                return val.toString();
-            case BOOLEAN:
-            case INT:
-            case BIGINT:
-            case FLOAT:
-            case DOUBLE:
-            case NULL:
-            case DATE:
-            case DECIMAL:
-            case TIMESTAMP:
-                return val;
-            case BYTES:
-                return ((ByteString) val).toByteArray();
-            case SMALLINT:
-                return ((Integer) val).shortValue();
-            case TINYINT:
-                Class<?> typeClass = dataType.getTypeClass();
-                if (typeClass == Byte.class) {
-                    Integer integer = (Integer) val;
-                    return integer.byteValue();
-                }
-                return val;
             case MAP:
                 MapType<?, ?> mapType = (MapType<?, ?>) dataType;
                 Map<Object, Object> res =
@@ -154,6 +154,36 @@ public class ProtobufToRowConverter implements Serializable {
                 SeaTunnelDataType<?> basicType = ((ArrayType<?, ?>) dataType).getElementType();
                 List<Object> list = (List<Object>) val;
                 return convertArray(list, basicType);
+            default:
+                return convertScalar(dataType, val);
+        }
+    }
+
+    static Object convertScalar(SeaTunnelDataType<?> dataType, Object val) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return val.toString();
+            case BOOLEAN:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case NULL:
+            case DATE:
+            case DECIMAL:
+            case TIMESTAMP:
+                return val;
+            case BYTES:
+                return ((ByteString) val).toByteArray();
+            case SMALLINT:
+                return ((Integer) val).shortValue();
+            case TINYINT:
+                Class<?> typeClass = dataType.getTypeClass();
+                if (typeClass == Byte.class) {
+                    Integer integer = (Integer) val;
+                    return integer.byteValue();
+                }
+                return val;
             default:
                 String errorMsg =
                         String.format(
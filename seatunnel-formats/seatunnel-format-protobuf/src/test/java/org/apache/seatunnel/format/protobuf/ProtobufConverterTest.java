@@ -27,15 +27,47 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 class ProtobufConverterTest {
 
+    private static final String PERSON_PROTO =
+            "syntax = \"proto3\";\n"
+                    + "\n"
+                    + "package org.apache.seatunnel.format.protobuf;\n"
+                    + "\n"
+                    + "option java_outer_classname = \"ProtobufE2E\";\n"
+                    + "\n"
+                    + "message Person {\n"
+                    + "  int32 c_int32 = 1;\n"
+                    + "  int64 c_int64 = 2;\n"
+                    + "  float c_float = 3;\n"
+                    + "  double c_double = 4;\n"
+                    + "  bool c_bool = 5;\n"
+                    + "  string c_string = 6;\n"
+                    + "  bytes c_bytes = 7;\n"
+                    + "\n"
+                    + "  message Address {\n"
+                    + "    string street = 1;\n"
+                    + "    string city = 2;\n"
+                    + "    string state = 3;\n"
+                    + "    string zip = 4;\n"
+                    + "  }\n"
+                    + "\n"
+                    + "  Address address = 8;\n"
+                    + "\n"
+                    + "  map<string, float> attributes = 9;\n"
+                    + "\n"
+                    + "  repeated string phone_numbers = 10;\n"
+                    + "}";
+
     private SeaTunnelRow buildSeaTunnelRow() {
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(10);
 
@@ -152,4 +184,157 @@ class ProtobufConverterTest {
 
         Assertions.assertEquals(originalRow, convertedRow);
     }
+
+    @Test
+    public void testReadMatchesConverter()
+            throws Descriptors.DescriptorValidationException, IOException, InterruptedException {
+        SeaTunnelRowType rowType = buildSeaTunnelRowType();
+        Descriptors.Descriptor descriptor =
+                CompileDescriptor.compileDescriptorTempFile(PERSON_PROTO, "Person");
+        ProtobufToRowConverter converter = new ProtobufToRowConverter(PERSON_PROTO, "Person");
+
+        byte[] message =
+                new RowToProtobufConverter(rowType, descriptor)
+                        .convertRowToGenericRecord(buildSeaTunnelRow());
+        assertReadMatchesConverter(converter, descriptor, rowType, message);
+        Assertions.assertEquals(buildSeaTunnelRow(), converter.read(message, rowType));
+
+        // an empty message reads the default values
+        assertReadMatchesConverter(converter, descriptor, rowType, new byte[0]);
+
+        // unknown fields, repeated occurrences of scalars and nested messages, default map entries
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        output.writeInt32(1, 7);
+        output.writeString(42, "unknown");
+        output.writeInt32(1, 8);
+        output.writeFixed64(1000, 1L);
+        output.writeByteArray(8, address("street", "city"));
+        output.writeByteArray(8, address(null, "other city"));
+        output.writeByteArray(9, entry("k1", 2.5F));
+        output.writeByteArray(9, entry("k2", 1.5F));
+        output.writeString(10, "1");
+        output.writeString(10, "2");
+        output.flush();
+        message = bytes.toByteArray();
+        assertReadMatchesConverter(converter, descriptor, rowType, message);
+        SeaTunnelRow row = converter.read(message, rowType);
+        Assertions.assertEquals(8, row.getField(0));
+        Assertions.assertEquals("other city", ((SeaTunnelRow) row.getField(7)).getField(0));
+        Assertions.assertEquals("street", ((SeaTunnelRow) row.getField(7)).getField(2));
+
+        // missing keys and values of map entries are their defaults
+        assertReadMatchesConverter(
+                converter, descriptor, rowType, new byte[] {74, 5, 21, 0, 0, 0, 64});
+
+        // data the direct read does not convert falls back to the parsed message
+        Assertions.assertNull(converter.read(new byte[] {10, 5, 1}, rowType));
+        byte[] duplicateKeys = new byte[] {74, 0, 74, 0};
+        Assertions.assertNull(converter.read(duplicateKeys, rowType));
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () ->
+                        converter.converter(
+                                descriptor,
+                                DynamicMessage.parseFrom(descriptor, duplicateKeys),
+                                rowType));
+    }
+
+    @Test
+    public void testReadPackedRepeatedFields()
+            throws Descriptors.DescriptorValidationException, IOException, InterruptedException {
+        String protoContent =
+                "syntax = \"proto3\";\n"
+                        + "message Numbers {\n"
+                        + "  repeated sint32 c_packed = 1;\n"
+                        + "  repeated int64 c_unpacked = 2 [packed = false];\n"
+                        + "  uint32 c_last = 3;\n"
+                        + "}";
+        Descriptors.Descriptor descriptor =
+                CompileDescriptor.compileDescriptorTempFile(protoContent, "Numbers");
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_packed", "c_unpacked", "c_last", "c_missing"},
+                        new SeaTunnelDataType<?>[] {
+                            ArrayType.INT_ARRAY_TYPE,
+                            ArrayType.LONG_ARRAY_TYPE,
+                            BasicType.INT_TYPE,
+                            BasicType.STRING_TYPE
+                        });
+        ProtobufToRowConverter converter = new ProtobufToRowConverter(protoContent, "Numbers");
+
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+        for (int i = -3; i < 3; i++) {
+            builder.addRepeatedField(descriptor.findFieldByName("c_packed"), i);
+            builder.addRepeatedField(descriptor.findFieldByName("c_unpacked"), (long) i << 40);
+        }
+        builder.setField(descriptor.findFieldByName("c_last"), 5);
+        byte[] message = builder.build().toByteArray();
+        // a packed occurrence of a singular field is an unknown field
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(message);
+        bytes.write(new byte[] {26, 2, 6, 9});
+        message = bytes.toByteArray();
+
+        assertReadMatchesConverter(converter, descriptor, rowType, message);
+        SeaTunnelRow row = converter.read(message, rowType);
+        Assertions.assertArrayEquals(
+                new Integer[] {-3, -2, -1, 0, 1, 2}, (Object[]) row.getField(0));
+        Assertions.assertEquals(5, row.getField(2));
+        Assertions.assertNull(row.getField(3));
+    }
+
+    @Test
+    public void testReadUnsupportedDescriptor()
+            throws Descriptors.DescriptorValidationException, IOException, InterruptedException {
+        String protoContent =
+                "syntax = \"proto3\";\n"
+                        + "message Choice {\n"
+                        + "  oneof value {\n"
+                        + "    string c_string = 1;\n"
+                        + "    int32 c_int32 = 2;\n"
+                        + "  }\n"
+                        + "}";
+        Descriptors.Descriptor descriptor =
+                CompileDescriptor.compileDescriptorTempFile(protoContent, "Choice");
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_string", "c_int32"},
+                        new SeaTunnelDataType<?>[] {BasicType.STRING_TYPE, BasicType.INT_TYPE});
+        Assertions.assertNull(ProtobufRowReader.create(descriptor, rowType));
+        ProtobufToRowConverter converter = new ProtobufToRowConverter(protoContent, "Choice");
+        Assertions.assertNull(converter.read(new byte[0], rowType));
+    }
+
+    private static void assertReadMatchesConverter(
+            ProtobufToRowConverter converter,
+            Descriptors.Descriptor descriptor,
+            SeaTunnelRowType rowType,
+            byte[] message)
+            throws IOException {
+        SeaTunnelRow expected =
+                converter.converter(
+                        descriptor, DynamicMessage.parseFrom(descriptor, message), rowType);
+        Assertions.assertEquals(expected, converter.read(message, rowType));
+    }
+
+    private static byte[] address(String street, String city) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        if (street != null) {
+            output.writeString(1, street);
+        }
+        output.writeString(2, city);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] entry(String key, float value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        output.writeString(1, key);
+        output.writeFloat(2, value);
+        output.flush();
+        return bytes.toByteArray();
+    }
 }
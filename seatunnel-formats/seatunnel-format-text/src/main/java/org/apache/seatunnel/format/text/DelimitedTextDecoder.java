@@ -0,0 +1,469 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.text;
+
+import org.apache.seatunnel.format.text.splitor.CsvLineSplitor;
+import org.apache.seatunnel.format.text.splitor.DefaultTextLineSplitor;
+import org.apache.seatunnel.format.text.splitor.TextLineSplitor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Splits UTF-8 encoded lines on their raw bytes and parses plain numbers, dates and times straight
+ * from the byte ranges, so {@link TextDeserializationSchema} only builds strings for the fields
+ * that need them.
+ *
+ * <p>The parse methods only accept the canonical form of a value and return {@code null} for
+ * anything else, the caller then converts the decoded string as before. This keeps the results and
+ * the errors identical to the string based conversion.
+ */
+class DelimitedTextDecoder implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The quoted field contains {@code ""} escapes. */
+    static final int ESCAPED_QUOTES = 1;
+
+    /** The decoded value of a missing field, e.g. a partition column. */
+    static final int MISSING = -1;
+
+    /** The value the formatter of a date field was matched with has no canonical shape. */
+    static final byte STYLE_OTHER = 1;
+
+    static final byte STYLE_DATE = 2;
+    static final byte STYLE_DATE_TIME_SPACE = 3;
+    static final byte STYLE_DATE_TIME_SPACE_FRACTION = 4;
+    static final byte STYLE_DATE_TIME_T = 5;
+    static final byte STYLE_DATE_TIME_T_FRACTION = 6;
+
+    private static final String REGEX_META_CHARS = ".$|()[{^?*+\\";
+    private static final int DATE_LENGTH = 10;
+    private static final int DATE_TIME_LENGTH = 19;
+    private static final int TIME_LENGTH = 8;
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    private static final int MAX_FLOAT_DIGITS = 7;
+    private static final int MAX_NANO_DIGITS = 9;
+
+    private static final double[] DOUBLE_POW10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+        1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POW10 = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    private static final int[] NANO_SCALE = {
+        1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private final byte delimiter;
+    private final boolean csv;
+
+    private DelimitedTextDecoder(byte delimiter, boolean csv) {
+        this.delimiter = delimiter;
+        this.csv = csv;
+    }
+
+    /**
+     * Returns a decoder splitting exactly like the given splitor, or {@code null} if the lines can
+     * not be split on the bytes, e.g. for another charset or a regular expression separator.
+     */
+    static DelimitedTextDecoder create(TextLineSplitor splitor, String separator, Charset charset) {
+        if (!StandardCharsets.UTF_8.equals(charset) || separator == null || separator.isEmpty()) {
+            return null;
+        }
+        if (splitor.getClass() == CsvLineSplitor.class) {
+            char c = separator.charAt(0);
+            if (c >= 0x80 || c == '"' || c == '\r' || c == '\n') {
+                return null;
+            }
+            return new DelimitedTextDecoder((byte) c, true);
+        }
+        if (splitor.getClass() == DefaultTextLineSplitor.class) {
+            // the separators String#split does not treat as a regular expression
+            char c;
+            if (separator.length() == 1 && REGEX_META_CHARS.indexOf(separator.charAt(0)) == -1) {
+                c = separator.charAt(0);
+            } else if (separator.length() == 2
+                    && separator.charAt(0) == '\\'
+                    && !Character.isLetterOrDigit(separator.charAt(1))) {
+                c = separator.charAt(1);
+            } else {
+                return null;
+            }
+            return c < 0x80 ? new DelimitedTextDecoder((byte) c, false) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the first {@code fieldCount} fields of the line. Field {@code i} is described by {@code
+     * [i * 3]} start, {@code [i * 3 + 1]} end and {@code [i * 3 + 2]} flags, the start is {@link
+     * #MISSING} when the line has less fields.
+     *
+     * @return the field bounds, or {@code null} when the line has to be split as a string
+     */
+    int[] split(byte[] line, int fieldCount) {
+        int[] bounds = new int[fieldCount * 3];
+        int found = csv ? splitCsv(line, bounds, fieldCount) : splitPlain(line, bounds, fieldCount);
+        if (found < 0) {
+            return null;
+        }
+        for (int i = found; i < fieldCount; i++) {
+            bounds[i * 3] = MISSING;
+        }
+        return bounds;
+    }
+
+    private int splitPlain(byte[] line, int[] bounds, int fieldCount) {
+        if (fieldCount == 0) {
+            return 0;
+        }
+        int field = 0;
+        int start = 0;
+        for (int i = 0; i < line.length; i++) {
+            if (line[i] == delimiter) {
+                setBounds(bounds, field++, start, i, 0);
+                if (field == fieldCount) {
+                    return field;
+                }
+                start = i + 1;
+            }
+        }
+        setBounds(bounds, field++, start, line.length, 0);
+        return field;
+    }
+
+    /**
+     * Splits a single record of {@code CSVFormat.DEFAULT}. Line breaks outside of quotes, an
+     * unterminated quote and text after a closing quote are left to the csv parser, the whole line
+     * is scanned so that those are detected in any field.
+     */
+    private int splitCsv(byte[] line, int[] bounds, int fieldCount) {
+        int length = line.length;
+        int field = 0;
+        int pos = 0;
+        while (true) {
+            int start;
+            int end;
+            int flags = 0;
+            if (pos < length && line[pos] == '"') {
+                start = pos + 1;
+                end = start;
+                while (true) {
+                    if (end >= length) {
+                        return -1;
+                    }
+                    if (line[end] == '"') {
+                        if (end + 1 < length && line[end + 1] == '"') {
+                            flags = ESCAPED_QUOTES;
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    end++;
+                }
+                pos = end + 1;
+                if (pos < length && line[pos] != delimiter) {
+                    return -1;
+                }
+            } else {
+                start = pos;
+                while (pos < length && line[pos] != delimiter) {
+                    if (line[pos] == '\r' || line[pos] == '\n') {
+                        return -1;
+                    }
+                    pos++;
+                }
+                end = pos;
+            }
+            if (field < fieldCount) {
+                setBounds(bounds, field, start, end, flags);
+            }
+            field++;
+            if (pos >= length) {
+                return Math.min(field, fieldCount);
+            }
+            // skip the delimiter, a trailing one is followed by an empty field
+            pos++;
+        }
+    }
+
+    private static void setBounds(int[] bounds, int field, int start, int end, int flags) {
+        bounds[field * 3] = start;
+        bounds[field * 3 + 1] = end;
+        bounds[field * 3 + 2] = flags;
+    }
+
+    /** Builds the string value of a field. */
+    static String decode(byte[] line, int start, int end, int flags) {
+        String field = new String(line, start, end - start, StandardCharsets.UTF_8);
+        return (flags & ESCAPED_QUOTES) != 0 ? field.replace("\"\"", "\"") : field;
+    }
+
+    /** Parses {@code Boolean.parseBoolean} for fields starting with an ASCII non whitespace. */
+    static Boolean parseBoolean(byte[] line, int start, int end) {
+        if (start == end || line[start] < 0 || Character.isWhitespace(line[start])) {
+            return null;
+        }
+        return end - start == 4
+                && (line[start] | 0x20) == 't'
+                && (line[start + 1] | 0x20) == 'r'
+                && (line[start + 2] | 0x20) == 'u'
+                && (line[start + 3] | 0x20) == 'e';
+    }
+
+    /**
+     * Parses an optionally signed integer of at most 18 digits.
+     *
+     * @return the value, or {@link Long#MIN_VALUE} when the field is not such an integer
+     */
+    static long parseLong(byte[] line, int start, int end) {
+        int pos = start;
+        boolean negative = false;
+        if (pos < end && (line[pos] == '-' || line[pos] == '+')) {
+            negative = line[pos] == '-';
+            pos++;
+        }
+        if (end - pos <= 0 || end - pos > MAX_LONG_DIGITS) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = line[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    static BigDecimal parseDecimal(byte[] line, int start, int end) {
+        int scale = decimalScale(line, start, end, MAX_LONG_DIGITS);
+        if (scale < 0) {
+            return null;
+        }
+        long unscaled = unscaledValue(line, start, end);
+        return BigDecimal.valueOf(line[start] == '-' ? -unscaled : unscaled, scale);
+    }
+
+    /**
+     * Parses plain decimals whose digits and power of ten are both exact doubles, a single division
+     * then rounds like {@link Double#parseDouble}.
+     */
+    static Double parseDouble(byte[] line, int start, int end) {
+        int scale = decimalScale(line, start, end, MAX_DOUBLE_DIGITS);
+        if (scale < 0) {
+            return null;
+        }
+        double value = unscaledValue(line, start, end) / DOUBLE_POW10[scale];
+        return line[start] == '-' ? -value : value;
+    }
+
+    static Float parseFloat(byte[] line, int start, int end) {
+        int scale = decimalScale(line, start, end, MAX_FLOAT_DIGITS);
+        if (scale < 0 || scale >= FLOAT_POW10.length) {
+            return null;
+        }
+        float value = unscaledValue(line, start, end) / FLOAT_POW10[scale];
+        return line[start] == '-' ? -value : value;
+    }
+
+    /**
+     * Returns the number of fraction digits of a plain decimal like {@code -12.50}, or -1 when the
+     * field is not one or has more than {@code maxDigits} digits.
+     */
+    private static int decimalScale(byte[] line, int start, int end, int maxDigits) {
+        int pos = start;
+        if (pos < end && (line[pos] == '-' || line[pos] == '+')) {
+            pos++;
+        }
+        int digits = 0;
+        int scale = -1;
+        for (; pos < end; pos++) {
+            byte c = line[pos];
+            if (c == '.') {
+                if (scale >= 0) {
+                    return -1;
+                }
+                scale = 0;
+            } else if (c >= '0' && c <= '9') {
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else {
+                return -1;
+            }
+        }
+        if (digits == 0 || digits > maxDigits) {
+            return -1;
+        }
+        return Math.max(scale, 0);
+    }
+
+    /** Returns the digits of a field accepted by {@link #decimalScale} as a positive number. */
+    private static long unscaledValue(byte[] line, int start, int end) {
+        long value = 0;
+        for (int pos = start; pos < end; pos++) {
+            int digit = line[pos] - '0';
+            if (digit >= 0 && digit <= 9) {
+                value = value * 10 + digit;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns {@link #STYLE_DATE} when the value matches the ISO formatter of {@code DateUtils},
+     * {@link #STYLE_OTHER} otherwise.
+     */
+    static byte dateStyle(byte[] line, int start, int end) {
+        return end - start == DATE_LENGTH && isDate(line, start) ? STYLE_DATE : STYLE_OTHER;
+    }
+
+    /** Parses {@code yyyy-MM-dd}. */
+    static LocalDate parseDate(byte[] line, int start, int end) {
+        if (end - start != DATE_LENGTH || !isDate(line, start)) {
+            return null;
+        }
+        int year = digits(line, start, 4);
+        int month = digits(line, start + 5, 2);
+        int day = digits(line, start + 8, 2);
+        if (year == 0) {
+            // not a year of era of the yyyy patterns
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /** Parses {@code HH:mm:ss[.SSSSSSSSS]}. */
+    static LocalTime parseTime(byte[] line, int start, int end) {
+        if (end - start < TIME_LENGTH || line[start + 2] != ':' || line[start + 5] != ':') {
+            return null;
+        }
+        int hour = digits(line, start, 2);
+        int minute = digits(line, start + 3, 2);
+        int second = digits(line, start + 6, 2);
+        int nano = nanos(line, start + TIME_LENGTH, end);
+        if (hour < 0 || minute < 0 || second < 0 || nano < 0) {
+            return null;
+        }
+        try {
+            return LocalTime.of(hour, minute, second, nano);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the shape of a timestamp for the {@code DateTimeUtils} formatter it matches, or
+     * {@link #STYLE_OTHER} when it is none of the canonical ones.
+     */
+    static byte dateTimeStyle(byte[] line, int start, int end) {
+        // yyyy-MM-dd HH:mm, followed by :ss or anything longer
+        if (end - start < DATE_TIME_LENGTH
+                || !isDate(line, start)
+                || digits(line, start + 11, 2) < 0
+                || line[start + 13] != ':'
+                || digits(line, start + 14, 2) < 0) {
+            return STYLE_OTHER;
+        }
+        boolean fraction = end - start > DATE_TIME_LENGTH;
+        if (!fraction && (line[start + 16] != ':' || digits(line, start + 17, 2) < 0)) {
+            return STYLE_OTHER;
+        }
+        byte separator = line[start + DATE_LENGTH];
+        if (separator == ' ') {
+            return fraction ? STYLE_DATE_TIME_SPACE_FRACTION : STYLE_DATE_TIME_SPACE;
+        }
+        if (separator == 'T') {
+            return fraction ? STYLE_DATE_TIME_T_FRACTION : STYLE_DATE_TIME_T;
+        }
+        return STYLE_OTHER;
+    }
+
+    /**
+     * Parses the timestamps the formatter matched for the given style accepts in their canonical
+     * form: {@code yyyy-MM-dd HH:mm:ss} for the exact styles, with an optional fraction for the
+     * others.
+     */
+    static LocalDateTime parseDateTime(byte[] line, int start, int end, byte style) {
+        boolean fraction =
+                style == STYLE_DATE_TIME_SPACE_FRACTION || style == STYLE_DATE_TIME_T_FRACTION;
+        byte separator =
+                style == STYLE_DATE_TIME_SPACE || style == STYLE_DATE_TIME_SPACE_FRACTION
+                        ? (byte) ' '
+                        : (byte) 'T';
+        if (style == STYLE_OTHER
+                || end - start < DATE_TIME_LENGTH
+                || (!fraction && end - start != DATE_TIME_LENGTH)
+                || line[start + DATE_LENGTH] != separator) {
+            return null;
+        }
+        LocalDate date = parseDate(line, start, start + DATE_LENGTH);
+        LocalTime time = parseTime(line, start + DATE_LENGTH + 1, end);
+        return date == null || time == null ? null : LocalDateTime.of(date, time);
+    }
+
+    private static boolean isDate(byte[] line, int start) {
+        return digits(line, start, 4) >= 0
+                && line[start + 4] == '-'
+                && digits(line, start + 5, 2) >= 0
+                && line[start + 7] == '-'
+                && digits(line, start + 8, 2) >= 0;
+    }
+
+    private static int digits(byte[] line, int start, int count) {
+        int value = 0;
+        for (int pos = start; pos < start + count; pos++) {
+            int digit = line[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /** Parses an optional {@code .S} to {@code .SSSSSSSSS} fraction into nanoseconds. */
+    private static int nanos(byte[] line, int start, int end) {
+        if (start == end) {
+            return 0;
+        }
+        int count = end - start - 1;
+        if (line[start] != '.' || count < 1 || count > MAX_NANO_DIGITS) {
+            return -1;
+        }
+        int value = digits(line, start + 1, count);
+        return value < 0 ? -1 : value * NANO_SCALE[count];
+    }
+}
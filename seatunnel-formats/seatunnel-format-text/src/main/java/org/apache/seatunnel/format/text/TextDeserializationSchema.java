@@ -25,6 +25,7 @@ import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.utils.DateTimeUtils;
@@ -63,6 +64,9 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
     private final String encoding;
     private final TextLineSplitor splitor;
     private final CatalogTable catalogTable;
+    private final DelimitedTextDecoder textDecoder;
+    /** The shape of the value the date formatter of each field was matched with. */
+    private final byte[] temporalStyles;
 
     @SuppressWarnings("MagicNumber")
     public static final DateTimeFormatter TIME_FORMAT =
@@ -84,6 +88,10 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
         this.encoding = encoding;
         this.splitor = splitor;
         this.catalogTable = catalogTable;
+        this.textDecoder =
+                DelimitedTextDecoder.create(
+                        splitor, separators[0], EncodingUtils.tryParseCharset(encoding));
+        this.temporalStyles = new byte[seaTunnelRowType.getTotalFields()];
     }
 
     public static Builder builder() {
@@ -159,16 +167,20 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null || message.length == 0) {
             return null;
         }
-        String content = new String(message, EncodingUtils.tryParseCharset(encoding));
-        Map<Integer, String> splitsMap = splitLineBySeaTunnelRowType(content, seaTunnelRowType, 0);
-        Object[] objects = new Object[seaTunnelRowType.getTotalFields()];
-        for (int i = 0; i < objects.length; i++) {
-            objects[i] =
-                    convert(
-                            splitsMap.get(i),
-                            seaTunnelRowType.getFieldType(i),
-                            0,
-                            seaTunnelRowType.getFieldNames()[i]);
+        Object[] objects = textDecoder == null ? null : decodeFields(message);
+        if (objects == null) {
+            String content = new String(message, EncodingUtils.tryParseCharset(encoding));
+            Map<Integer, String> splitsMap =
+                    splitLineBySeaTunnelRowType(content, seaTunnelRowType, 0);
+            objects = new Object[seaTunnelRowType.getTotalFields()];
+            for (int i = 0; i < objects.length; i++) {
+                objects[i] =
+                        convert(
+                                splitsMap.get(i),
+                                seaTunnelRowType.getFieldType(i),
+                                0,
+                                seaTunnelRowType.getFieldNames()[i]);
+            }
         }
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(objects);
         Optional<TablePath> tablePath =
@@ -184,6 +196,107 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
         return seaTunnelRowType;
     }
 
+    /**
+     * Converts the fields straight from the bytes of the line.
+     *
+     * @return the field values, or {@code null} when the line has to be converted as a string
+     */
+    private Object[] decodeFields(byte[] message) {
+        int fieldCount = seaTunnelRowType.getTotalFields();
+        int[] bounds = textDecoder.split(message, fieldCount);
+        if (bounds == null) {
+            return null;
+        }
+        Object[] objects = new Object[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            int start = bounds[i * 3];
+            if (start != DelimitedTextDecoder.MISSING) {
+                objects[i] = decodeField(message, start, bounds[i * 3 + 1], bounds[i * 3 + 2], i);
+            }
+        }
+        return objects;
+    }
+
+    private Object decodeField(byte[] message, int start, int end, int flags, int index) {
+        SeaTunnelDataType<?> fieldType = seaTunnelRowType.getFieldType(index);
+        if (flags == 0) {
+            Object value = parseField(message, start, end, fieldType, index);
+            if (value != null) {
+                return value;
+            }
+        }
+        String fieldName = seaTunnelRowType.getFieldNames()[index];
+        SqlType sqlType = fieldType.getSqlType();
+        boolean matchFormatter =
+                (sqlType == SqlType.DATE || sqlType == SqlType.TIMESTAMP)
+                        && temporalStyles[index] == 0;
+        boolean newFormatter = matchFormatter && !fieldFormatterMap.containsKey(fieldName);
+        Object value =
+                convert(
+                        DelimitedTextDecoder.decode(message, start, end, flags),
+                        fieldType,
+                        0,
+                        fieldName);
+        if (matchFormatter && fieldFormatterMap.containsKey(fieldName)) {
+            // remember the shape of the value the formatter was matched with, the bytes are
+            // only parsed for the values that formatter accepts in the same shape
+            if (!newFormatter || flags != 0) {
+                temporalStyles[index] = DelimitedTextDecoder.STYLE_OTHER;
+            } else if (sqlType == SqlType.DATE) {
+                temporalStyles[index] = DelimitedTextDecoder.dateStyle(message, start, end);
+            } else {
+                temporalStyles[index] = DelimitedTextDecoder.dateTimeStyle(message, start, end);
+            }
+        }
+        return value;
+    }
+
+    /** Returns {@code null} when the field has to be converted from its string value. */
+    private Object parseField(
+            byte[] message, int start, int end, SeaTunnelDataType<?> fieldType, int index) {
+        switch (fieldType.getSqlType()) {
+            case BOOLEAN:
+                return DelimitedTextDecoder.parseBoolean(message, start, end);
+            case TINYINT:
+                long tinyint = DelimitedTextDecoder.parseLong(message, start, end);
+                return tinyint >= Byte.MIN_VALUE && tinyint <= Byte.MAX_VALUE
+                        ? (byte) tinyint
+                        : null;
+            case SMALLINT:
+                long smallint = DelimitedTextDecoder.parseLong(message, start, end);
+                return smallint >= Short.MIN_VALUE && smallint <= Short.MAX_VALUE
+                        ? (short) smallint
+                        : null;
+            case INT:
+                long intValue = DelimitedTextDecoder.parseLong(message, start, end);
+                return intValue >= Integer.MIN_VALUE && intValue <= Integer.MAX_VALUE
+                        ? (int) intValue
+                        : null;
+            case BIGINT:
+                long bigint = DelimitedTextDecoder.parseLong(message, start, end);
+                return bigint != Long.MIN_VALUE ? bigint : null;
+            case FLOAT:
+                return DelimitedTextDecoder.parseFloat(message, start, end);
+            case DOUBLE:
+                return DelimitedTextDecoder.parseDouble(message, start, end);
+            case DECIMAL:
+                return DelimitedTextDecoder.parseDecimal(message, start, end);
+            case DATE:
+                return temporalStyles[index] == DelimitedTextDecoder.STYLE_DATE
+                        ? DelimitedTextDecoder.parseDate(message, start, end)
+                        : null;
+            case TIME:
+                return DelimitedTextDecoder.parseTime(message, start, end);
+            case TIMESTAMP:
+                return temporalStyles[index] > DelimitedTextDecoder.STYLE_DATE
+                        ? DelimitedTextDecoder.parseDateTime(
+                                message, start, end, temporalStyles[index])
+                        : null;
+            default:
+                return null;
+        }
+    }
+
     private Map<Integer, String> splitLineBySeaTunnelRowType(
             String line, SeaTunnelRowType seaTunnelRowType, int level) {
         String[] splits = splitor.spliteLine(line, separators[level]);
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.text;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.format.text.splitor.CsvLineSplitor;
+import org.apache.seatunnel.format.text.splitor.DefaultTextLineSplitor;
+import org.apache.seatunnel.format.text.splitor.TextLineSplitor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+public class DelimitedTextDecoderTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "string",
+                        "boolean",
+                        "tinyint",
+                        "smallint",
+                        "int",
+                        "bigint",
+                        "float",
+                        "double",
+                        "decimal",
+                        "date",
+                        "time",
+                        "timestamp",
+                        "timestamp_t"
+                    },
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE
+                    });
+
+    private static final List<String> LINES =
+            Arrays.asList(
+                    "中文,true,1,2,3,4,5.5,6.66,7.77,2023-01-02,10:11:12,2023-01-02 10:11:12,2023-01-02T10:11:12.5",
+                    " ,TRUE,-128,-32768,-2147483648,-123456789012345678,-0,-0.0,-0.0,2024-02-29,23:59:59.999999999,2024-02-29 23:59:59,2024-02-29T23:59:59",
+                    "a,yes,127,32767,2147483647,9223372036854775807,3.4028235,0.1,12.345,2023-12-31,00:00:00,2023-12-31 00:00:00,2023-12-31T00:00:00.123456",
+                    "\"quoted, \"\"value\"\"\",\"false\",+7,\"8\",09,10,.5,5.,1e3, 2023-01-01,00:00,2023-01-01 00:00:00.1,2023-01-01T00:00",
+                    ",,,,,,,,,,,,",
+                    "short,true",
+                    "x,false,1,2,3,4,1.17549435E-38,4.9E-324,0.00,2023-01-01,12:00:00,2023-01-01 12:00:00,2023-01-01T12:00:00,extra");
+
+    @Test
+    public void testCsvMatchesStringConversion() throws Exception {
+        assertSameRows(new CsvLineSplitor(), new CsvLineSplitor() {}, ",");
+    }
+
+    @Test
+    public void testDelimitedMatchesStringConversion() throws Exception {
+        assertSameRows(new DefaultTextLineSplitor(), new DefaultTextLineSplitor() {}, ";");
+    }
+
+    @Test
+    public void testSplit() {
+        DelimitedTextDecoder decoder =
+                DelimitedTextDecoder.create(new CsvLineSplitor(), ",", StandardCharsets.UTF_8);
+        byte[] line = "a,\"b\"\"c\",".getBytes(StandardCharsets.UTF_8);
+        int[] bounds = decoder.split(line, 4);
+        Assertions.assertEquals("a", DelimitedTextDecoder.decode(line, bounds[0], bounds[1], 0));
+        Assertions.assertEquals(
+                "b\"c", DelimitedTextDecoder.decode(line, bounds[3], bounds[4], bounds[5]));
+        Assertions.assertEquals(bounds[6], bounds[7]);
+        Assertions.assertEquals(DelimitedTextDecoder.MISSING, bounds[9]);
+        Assertions.assertNull(decoder.split("\"a\"b,c".getBytes(StandardCharsets.UTF_8), 2));
+        Assertions.assertNull(decoder.split("a\nb".getBytes(StandardCharsets.UTF_8), 2));
+        Assertions.assertNull(
+                DelimitedTextDecoder.create(
+                        new DefaultTextLineSplitor(), "|", StandardCharsets.UTF_8));
+        Assertions.assertNull(
+                DelimitedTextDecoder.create(
+                        new DefaultTextLineSplitor(), ",", StandardCharsets.UTF_16));
+    }
+
+    private void assertSameRows(
+            TextLineSplitor bytesSplitor, TextLineSplitor stringSplitor, String delimiter)
+            throws Exception {
+        TextDeserializationSchema bytesSchema = schema(bytesSplitor, delimiter);
+        TextDeserializationSchema stringSchema = schema(stringSplitor, delimiter);
+        for (String line : LINES) {
+            byte[] message = line.replace(",", delimiter).getBytes(StandardCharsets.UTF_8);
+            Object[] expected;
+            try {
+                expected = stringSchema.deserialize(message).getFields();
+            } catch (Exception e) {
+                Assertions.assertThrows(e.getClass(), () -> bytesSchema.deserialize(message));
+                continue;
+            }
+            Object[] actual = bytesSchema.deserialize(message).getFields();
+            Assertions.assertArrayEquals(expected, actual, line);
+            for (int i = 0; i < expected.length; i++) {
+                if (expected[i] != null) {
+                    Assertions.assertEquals(expected[i].getClass(), actual[i].getClass(), line);
+                }
+            }
+        }
+    }
+
+    private static TextDeserializationSchema schema(TextLineSplitor splitor, String delimiter) {
+        return TextDeserializationSchema.builder()
+                .seaTunnelRowType(ROW_TYPE)
+                .delimiter(delimiter)
+                .textLineSplitor(splitor)
+                .build();
+    }
+}
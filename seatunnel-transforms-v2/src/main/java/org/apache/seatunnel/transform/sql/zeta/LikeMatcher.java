@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.transform.sql.zeta.functions.PatternCache;
+
+import java.util.regex.Pattern;
+
+/**
+ * Matches a value against the pattern of a LIKE expression. The simple shapes {@code abc}, {@code
+ * abc%}, {@code %abc} and {@code %abc%} are matched with plain string operations, the other
+ * patterns are converted to a regular expression.
+ */
+public abstract class LikeMatcher {
+
+    private static final String LIKE_IDENT = "%";
+    private static final String REGEX_CHARS = "\\.[]{}()<>*+-=!?^$|'_%";
+
+    public abstract boolean matches(String value);
+
+    public static LikeMatcher of(String likePattern, PatternCache patternCache) {
+        boolean prefix = likePattern.startsWith(LIKE_IDENT);
+        boolean suffix = likePattern.length() > 1 && likePattern.endsWith(LIKE_IDENT);
+        String literal =
+                likePattern.substring(prefix ? 1 : 0, likePattern.length() - (suffix ? 1 : 0));
+        if (isPlainLiteral(literal)) {
+            if (prefix && suffix) {
+                return new Contains(literal);
+            }
+            if (prefix) {
+                return new EndsWith(literal);
+            }
+            if (suffix) {
+                return new StartsWith(literal);
+            }
+            return new EqualsTo(literal);
+        }
+        return new RegexMatcher(patternCache.get(toRegex(likePattern), 0));
+    }
+
+    private static boolean isPlainLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (REGEX_CHARS.indexOf(literal.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The conversion of the LIKE pattern to a regular expression of the SQL transform. */
+    static String toRegex(String likePattern) {
+        String regex = likePattern;
+        if (regex.startsWith(LIKE_IDENT)) {
+            regex = regex.replaceFirst(LIKE_IDENT, ".*");
+        }
+        if (regex.endsWith(LIKE_IDENT)) {
+            regex = regex.substring(0, regex.length() - 1) + ".*";
+        }
+        if (regex.startsWith("_")) {
+            regex = regex.replaceFirst("_", ".");
+        }
+        if (regex.endsWith("_")) {
+            regex = regex.substring(0, regex.length() - 1) + ".";
+        }
+        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
+            regex = regex.substring(0, regex.length() - 3) + "..*";
+        }
+        if (regex.startsWith("'") && regex.endsWith("'")) {
+            regex = regex.substring(0, regex.length() - 1).substring(1);
+        }
+        return regex;
+    }
+
+    private static final class EqualsTo extends LikeMatcher {
+        private final String literal;
+
+        private EqualsTo(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean matches(String value) {
+            return value.equals(literal);
+        }
+    }
+
+    private static final class StartsWith extends LikeMatcher {
+        private final String literal;
+
+        private StartsWith(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean matches(String value) {
+            return value.startsWith(literal);
+        }
+    }
+
+    private static final class EndsWith extends LikeMatcher {
+        private final String literal;
+
+        private EndsWith(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean matches(String value) {
+            return value.endsWith(literal);
+        }
+    }
+
+    private static final class Contains extends LikeMatcher {
+        private final String literal;
+
+        private Contains(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean matches(String value) {
+            return value.contains(literal);
+        }
+    }
+
+    private static final class RegexMatcher extends LikeMatcher {
+        private final Pattern pattern;
+
+        private RegexMatcher(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean matches(String value) {
+            return pattern.matcher(value).matches();
+        }
+    }
+}
@@ -0,0 +1,678 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.transform.exception.TransformException;
+import org.apache.seatunnel.transform.sql.zeta.functions.NumericFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.StringFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.CastExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * Compiles the expressions of a query into a tree of {@link ZetaSQLEvaluator} and {@link
+ * ZetaSQLCondition} once, so the per row evaluation does not walk the AST again: column names are
+ * resolved to field indexes, literals and deterministic sub expressions over literals are folded
+ * into constants, the result types of arithmetic and CASE expressions are computed up front, and
+ * the literal patterns of LIKE and the REGEXP_* functions are compiled once. The expressions which
+ * are not compiled are evaluated by {@link ZetaSQLFunction} and {@link ZetaSQLFilter} as before.
+ */
+public class ZetaSQLCompiler {
+    private static final Logger log = LoggerFactory.getLogger(ZetaSQLCompiler.class);
+
+    private static final Set<String> NON_DETERMINISTIC_FUNCTIONS =
+            new HashSet<>(
+                    Arrays.asList(
+                            ZetaSQLFunction.RAND, ZetaSQLFunction.RANDOM, ZetaSQLFunction.NOW));
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+    private final ZetaSQLType zetaSQLType;
+    private final List<ZetaUDF> udfList;
+
+    public ZetaSQLCompiler(
+            SeaTunnelRowType inputRowType,
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter,
+            ZetaSQLType zetaSQLType,
+            List<ZetaUDF> udfList) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+        this.zetaSQLType = zetaSQLType;
+        this.udfList = udfList;
+    }
+
+    public ZetaSQLEvaluator compileExpression(Expression expression) {
+        try {
+            ZetaSQLEvaluator evaluator = doCompileExpression(expression);
+            if (evaluator != null) {
+                return evaluator;
+            }
+        } catch (Exception e) {
+            log.debug("Compile expression {} failed, fallback to interpreter", expression, e);
+        }
+        return inputFields -> zetaSQLFunction.computeForValue(expression, inputFields);
+    }
+
+    public ZetaSQLCondition compileCondition(Expression expression) {
+        if (expression == null) {
+            return inputFields -> true;
+        }
+        try {
+            ZetaSQLCondition condition = doCompileCondition(expression);
+            if (condition != null) {
+                return condition;
+            }
+        } catch (Exception e) {
+            log.debug("Compile condition {} failed, fallback to interpreter", expression, e);
+        }
+        return inputFields -> zetaSQLFilter.executeFilter(expression, inputFields);
+    }
+
+    private ZetaSQLEvaluator doCompileExpression(Expression expression) {
+        if (expression instanceof NullValue
+                || expression instanceof DoubleValue
+                || expression instanceof LongValue
+                || expression instanceof StringValue) {
+            return new Constant(zetaSQLFunction.computeForValue(expression, null));
+        }
+        if (expression instanceof Column) {
+            int index = resolveColumnIndex((Column) expression);
+            if (index == -1) {
+                // nested row or map fields
+                return null;
+            }
+            return inputFields -> inputFields[index];
+        }
+        if (expression instanceof Parenthesis) {
+            return compileExpression(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof SignedExpression) {
+            SignedExpression signedExpression = (SignedExpression) expression;
+            if (signedExpression.getSign() != '-') {
+                return null;
+            }
+            return fold(
+                    new Negate(compileExpression(signedExpression.getExpression()), expression));
+        }
+        if (expression instanceof Function) {
+            return compileFunction((Function) expression);
+        }
+        if (expression instanceof Concat) {
+            Concat concat = (Concat) expression;
+            return fold(
+                    new FunctionCall(
+                            ZetaSQLFunction.CONCAT,
+                            new ZetaSQLEvaluator[] {
+                                compileExpression(concat.getLeftExpression()),
+                                compileExpression(concat.getRightExpression())
+                            },
+                            true));
+        }
+        if (expression instanceof Addition
+                || expression instanceof Subtraction
+                || expression instanceof Multiplication
+                || expression instanceof Division
+                || expression instanceof Modulo) {
+            return compileArithmetic((BinaryExpression) expression);
+        }
+        if (expression instanceof CastExpression) {
+            CastExpression castExpression = (CastExpression) expression;
+            return fold(
+                    new Cast(
+                            compileExpression(castExpression.getLeftExpression()), castExpression));
+        }
+        if (expression instanceof CaseExpression) {
+            return compileCase((CaseExpression) expression);
+        }
+        return null;
+    }
+
+    private ZetaSQLCondition doCompileCondition(Expression expression) {
+        if (expression instanceof Parenthesis) {
+            return compileCondition(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) expression;
+            ZetaSQLCondition left = compileCondition(andExpression.getLeftExpression());
+            ZetaSQLCondition right = compileCondition(andExpression.getRightExpression());
+            return inputFields -> left.test(inputFields) && right.test(inputFields);
+        }
+        if (expression instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) expression;
+            ZetaSQLCondition left = compileCondition(orExpression.getLeftExpression());
+            ZetaSQLCondition right = compileCondition(orExpression.getRightExpression());
+            return inputFields -> left.test(inputFields) || right.test(inputFields);
+        }
+        if (expression instanceof Function) {
+            ZetaSQLEvaluator function = compileExpression(expression);
+            return inputFields -> {
+                Boolean result = (Boolean) function.evaluate(inputFields);
+                return result != null && result;
+            };
+        }
+        if (expression instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) expression;
+            ZetaSQLEvaluator left = compileExpression(isNullExpression.getLeftExpression());
+            if (isNullExpression.isNot()) {
+                return inputFields -> left.evaluate(inputFields) != null;
+            }
+            return inputFields -> left.evaluate(inputFields) == null;
+        }
+        if (expression instanceof InExpression) {
+            return compileIn((InExpression) expression);
+        }
+        if (expression instanceof LikeExpression) {
+            return compileLike((LikeExpression) expression);
+        }
+        if (expression instanceof EqualsTo) {
+            return compileComparison(
+                    (EqualsTo) expression, (l, r) -> zetaSQLFilter.equalsToExpr(Pair.of(l, r)));
+        }
+        if (expression instanceof NotEqualsTo) {
+            return compileComparison(
+                    (NotEqualsTo) expression,
+                    (l, r) -> zetaSQLFilter.notEqualsToExpr(Pair.of(l, r)));
+        }
+        if (expression instanceof GreaterThan) {
+            return compileComparison(
+                    (GreaterThan) expression,
+                    (l, r) -> zetaSQLFilter.greaterThanExpr(Pair.of(l, r)));
+        }
+        if (expression instanceof GreaterThanEquals) {
+            return compileComparison(
+                    (GreaterThanEquals) expression,
+                    (l, r) -> zetaSQLFilter.greaterThanEqualsExpr(Pair.of(l, r)));
+        }
+        if (expression instanceof MinorThan) {
+            return compileComparison(
+                    (MinorThan) expression, (l, r) -> zetaSQLFilter.minorThanExpr(Pair.of(l, r)));
+        }
+        if (expression instanceof MinorThanEquals) {
+            return compileComparison(
+                    (MinorThanEquals) expression,
+                    (l, r) -> zetaSQLFilter.minorThanEqualsExpr(Pair.of(l, r)));
+        }
+        return null;
+    }
+
+    private int resolveColumnIndex(Column column) {
+        String columnName = column.getColumnName();
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            index = inputRowType.indexOf(columnName.substring(1, columnName.length() - 1), false);
+        }
+        return index;
+    }
+
+    private ZetaSQLEvaluator compileFunction(Function function) {
+        ExpressionList expressionList = function.getParameters();
+        List<ZetaSQLEvaluator> args = new ArrayList<>();
+        if (expressionList != null) {
+            for (Expression argExpression : expressionList.getExpressions()) {
+                args.add(compileExpression(argExpression));
+            }
+        }
+        String functionName = function.getName();
+        precompileRegexp(functionName.toUpperCase(), args);
+        boolean deterministic =
+                !NON_DETERMINISTIC_FUNCTIONS.contains(functionName.toUpperCase())
+                        && udfList.stream()
+                                .noneMatch(
+                                        udf -> udf.functionName().equalsIgnoreCase(functionName));
+        return fold(
+                new FunctionCall(
+                        functionName, args.toArray(new ZetaSQLEvaluator[0]), deterministic));
+    }
+
+    /** Put the literal patterns of the REGEXP_* functions into the pattern cache up front. */
+    private void precompileRegexp(String functionName, List<ZetaSQLEvaluator> args) {
+        int modeIndex;
+        switch (functionName) {
+            case ZetaSQLFunction.REGEXP_LIKE:
+                modeIndex = 2;
+                break;
+            case ZetaSQLFunction.REGEXP_REPLACE:
+                modeIndex = 3;
+                break;
+            case ZetaSQLFunction.REGEXP_SUBSTR:
+                modeIndex = 4;
+                break;
+            default:
+                return;
+        }
+        if (args.size() < 2 || !(args.get(1) instanceof Constant)) {
+            return;
+        }
+        ZetaSQLEvaluator mode = args.size() > modeIndex ? args.get(modeIndex) : new Constant(null);
+        if (!(mode instanceof Constant)) {
+            return;
+        }
+        try {
+            StringFunction.regexpPattern(
+                    (String) ((Constant) args.get(1)).value,
+                    (String) ((Constant) mode).value,
+                    zetaSQLFunction.getPatternCache());
+        } catch (Exception e) {
+            // invalid patterns fail when the function is evaluated
+            log.debug("Precompile regexp of function {} failed", functionName, e);
+        }
+    }
+
+    private ZetaSQLEvaluator compileArithmetic(BinaryExpression expression) {
+        SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(expression);
+        ZetaSQLEvaluator left = compileExpression(expression.getLeftExpression());
+        ZetaSQLEvaluator right = compileExpression(expression.getRightExpression());
+        return fold(new Arithmetic(expression, resultType, left, right));
+    }
+
+    private ZetaSQLEvaluator compileCase(CaseExpression caseExpression) {
+        SeaTunnelDataType<?> type = zetaSQLType.getExpressionType(caseExpression);
+        Expression switchExpression = caseExpression.getSwitchExpression();
+        ZetaSQLEvaluator switchValue =
+                switchExpression == null ? new Constant(null) : compileExpression(switchExpression);
+        List<WhenClause> whenClauses = caseExpression.getWhenClauses();
+        ZetaSQLCondition[] whenConditions = new ZetaSQLCondition[whenClauses.size()];
+        ZetaSQLEvaluator[] whenValues = new ZetaSQLEvaluator[whenClauses.size()];
+        ZetaSQLEvaluator[] thenValues = new ZetaSQLEvaluator[whenClauses.size()];
+        for (int i = 0; i < whenClauses.size(); i++) {
+            Expression whenExpression = whenClauses.get(i).getWhenExpression();
+            if (zetaSQLFilter.isConditionExpr(whenExpression)) {
+                whenConditions[i] = compileCondition(whenExpression);
+            } else {
+                whenValues[i] = compileExpression(whenExpression);
+            }
+            thenValues[i] = compileExpression(whenClauses.get(i).getThenExpression());
+        }
+        Expression elseExpression = caseExpression.getElseExpression();
+        ZetaSQLEvaluator elseValue =
+                elseExpression == null ? new Constant(null) : compileExpression(elseExpression);
+        return inputFields -> {
+            Object switchVal = switchValue.evaluate(inputFields);
+            for (int i = 0; i < thenValues.length; i++) {
+                Object when =
+                        whenConditions[i] != null
+                                ? whenConditions[i].test(inputFields)
+                                : whenValues[i].evaluate(inputFields);
+                // match: case [column] when column1 compare other
+                if (when instanceof Boolean && (boolean) when
+                        || zetaSQLFilter.equalsToExpr(Pair.of(switchVal, when))) {
+                    return SystemFunction.castAs(thenValues[i].evaluate(inputFields), type);
+                }
+            }
+            return SystemFunction.castAs(elseValue.evaluate(inputFields), type);
+        };
+    }
+
+    private ZetaSQLCondition compileIn(InExpression inExpression) {
+        if (!(inExpression.getRightItemsList() instanceof ExpressionList)) {
+            return null;
+        }
+        ZetaSQLEvaluator left = compileExpression(inExpression.getLeftExpression());
+        List<Expression> items =
+                ((ExpressionList) inExpression.getRightItemsList()).getExpressions();
+        ZetaSQLEvaluator[] rights = new ZetaSQLEvaluator[items.size()];
+        for (int i = 0; i < rights.length; i++) {
+            rights[i] = compileExpression(items.get(i));
+        }
+        boolean not = inExpression.isNot();
+        return inputFields -> {
+            Object leftValue = left.evaluate(inputFields);
+            for (ZetaSQLEvaluator item : rights) {
+                Object rightValue = item.evaluate(inputFields);
+                if (leftValue == null) {
+                    return rightValue == null;
+                }
+                if (leftValue instanceof Number && rightValue instanceof Number) {
+                    if (((Number) leftValue).doubleValue() == ((Number) rightValue).doubleValue()) {
+                        return !not;
+                    }
+                } else if (leftValue.equals(rightValue)) {
+                    return !not;
+                }
+            }
+            return not;
+        };
+    }
+
+    private ZetaSQLCondition compileLike(LikeExpression likeExpression) {
+        ZetaSQLEvaluator left = compileExpression(likeExpression.getLeftExpression());
+        ZetaSQLEvaluator right = compileExpression(likeExpression.getRightExpression());
+        boolean not = likeExpression.isNot();
+        if (right instanceof Constant) {
+            Object likePattern = ((Constant) right).value;
+            if (likePattern == null) {
+                return inputFields -> false;
+            }
+            LikeMatcher matcher = zetaSQLFilter.likeMatcher(likePattern.toString());
+            return inputFields -> {
+                Object value = left.evaluate(inputFields);
+                return value != null && matcher.matches(value.toString()) != not;
+            };
+        }
+        return inputFields -> {
+            Object value = left.evaluate(inputFields);
+            if (value == null) {
+                return false;
+            }
+            Object likePattern = right.evaluate(inputFields);
+            return likePattern != null
+                    && zetaSQLFilter.likeMatcher(likePattern.toString()).matches(value.toString())
+                            != not;
+        };
+    }
+
+    private ZetaSQLCondition compileComparison(
+            BinaryExpression comparison, BiPredicate<Object, Object> predicate) {
+        ZetaSQLEvaluator left = compileExpression(comparison.getLeftExpression());
+        ZetaSQLEvaluator right = compileExpression(comparison.getRightExpression());
+        return inputFields ->
+                predicate.test(left.evaluate(inputFields), right.evaluate(inputFields));
+    }
+
+    /** Evaluate a deterministic evaluator over constant inputs once. */
+    private ZetaSQLEvaluator fold(Composite evaluator) {
+        if (!evaluator.isFoldable()) {
+            return evaluator;
+        }
+        try {
+            return new Constant(evaluator.evaluate(null));
+        } catch (Exception e) {
+            // keep the error at runtime, e.g. division by zero
+            return evaluator;
+        }
+    }
+
+    private static final class Constant implements ZetaSQLEvaluator {
+        private final Object value;
+
+        private Constant(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate(Object[] inputFields) {
+            return value;
+        }
+    }
+
+    /** An evaluator over child evaluators, which can be folded if all of them are constant. */
+    private abstract static class Composite implements ZetaSQLEvaluator {
+        private final ZetaSQLEvaluator[] children;
+
+        private Composite(ZetaSQLEvaluator... children) {
+            this.children = children;
+        }
+
+        boolean isDeterministic() {
+            return true;
+        }
+
+        private boolean isFoldable() {
+            if (!isDeterministic()) {
+                return false;
+            }
+            for (ZetaSQLEvaluator child : children) {
+                if (!(child instanceof Constant)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final class Cast extends Composite {
+        private final ZetaSQLEvaluator left;
+        private final CastExpression castExpression;
+
+        private Cast(ZetaSQLEvaluator left, CastExpression castExpression) {
+            super(left);
+            this.left = left;
+            this.castExpression = castExpression;
+        }
+
+        @Override
+        public Object evaluate(Object[] inputFields) {
+            return zetaSQLFunction.executeCastExpr(castExpression, left.evaluate(inputFields));
+        }
+    }
+
+    private static final class Negate extends Composite {
+        private final ZetaSQLEvaluator child;
+        private final Expression expression;
+
+        private Negate(ZetaSQLEvaluator child, Expression expression) {
+            super(child);
+            this.child = child;
+            this.expression = expression;
+        }
+
+        @Override
+        public Object evaluate(Object[] inputFields) {
+            Object value = child.evaluate(inputFields);
+            if (value instanceof Integer) {
+                return -((Integer) value);
+            }
+            if (value instanceof Long) {
+                return -((Long) value);
+            }
+            if (value instanceof Double) {
+                return -((Double) value);
+            }
+            if (value instanceof Number) {
+                return -((Number) value).doubleValue();
+            }
+            throw new TransformException(
+                    CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                    String.format("Unsupported SQL Expression: %s ", expression.toString()));
+        }
+    }
+
+    private final class FunctionCall extends Composite {
+        private final String functionName;
+        private final ZetaSQLEvaluator[] args;
+        private final boolean deterministic;
+
+        private FunctionCall(String functionName, ZetaSQLEvaluator[] args, boolean deterministic) {
+            super(args);
+            this.functionName = functionName;
+            this.args = args;
+            this.deterministic = deterministic;
+        }
+
+        @Override
+        boolean isDeterministic() {
+            return deterministic;
+        }
+
+        @Override
+        public Object evaluate(Object[] inputFields) {
+            List<Object> functionArgs = new ArrayList<>(args.length);
+            for (ZetaSQLEvaluator arg : args) {
+                functionArgs.add(arg.evaluate(inputFields));
+            }
+            return zetaSQLFunction.executeFunctionExpr(functionName, functionArgs);
+        }
+    }
+
+    private static final class Arithmetic extends Composite {
+        private final BinaryExpression expression;
+        private final SqlType resultType;
+        private final int scale;
+        private final ZetaSQLEvaluator left;
+        private final ZetaSQLEvaluator right;
+
+        private Arithmetic(
+                BinaryExpression expression,
+                SeaTunnelDataType<?> resultType,
+                ZetaSQLEvaluator left,
+                ZetaSQLEvaluator right) {
+            super(left, right);
+            this.expression = expression;
+            this.resultType = resultType.getSqlType();
+            this.scale =
+                    resultType instanceof DecimalType ? ((DecimalType) resultType).getScale() : 0;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Object evaluate(Object[] inputFields) {
+            Number leftValue = (Number) left.evaluate(inputFields);
+            Number rightValue = (Number) right.evaluate(inputFields);
+            if (leftValue == null || rightValue == null) {
+                return null;
+            }
+            switch (resultType) {
+                case INT:
+                    return evaluateInt(leftValue.intValue(), rightValue.intValue());
+                case BIGINT:
+                    return evaluateLong(leftValue.longValue(), rightValue.longValue());
+                case DOUBLE:
+                    return evaluateDouble(leftValue.doubleValue(), rightValue.doubleValue());
+                case DECIMAL:
+                    return evaluateDecimal(leftValue, rightValue);
+                default:
+                    throw new TransformException(
+                            CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                            String.format("Unsupported SQL Expression: %s ", expression));
+            }
+        }
+
+        private Object evaluateInt(int leftValue, int rightValue) {
+            if (expression instanceof Addition) {
+                return leftValue + rightValue;
+            }
+            if (expression instanceof Subtraction) {
+                return leftValue - rightValue;
+            }
+            if (expression instanceof Multiplication) {
+                return leftValue * rightValue;
+            }
+            if (expression instanceof Division) {
+                return leftValue / rightValue;
+            }
+            return leftValue % rightValue;
+        }
+
+        private Object evaluateLong(long leftValue, long rightValue) {
+            if (expression instanceof Addition) {
+                return leftValue + rightValue;
+            }
+            if (expression instanceof Subtraction) {
+                return leftValue - rightValue;
+            }
+            if (expression instanceof Multiplication) {
+                return leftValue * rightValue;
+            }
+            if (expression instanceof Division) {
+                return leftValue / rightValue;
+            }
+            return leftValue % rightValue;
+        }
+
+        private Object evaluateDouble(double leftValue, double rightValue) {
+            if (expression instanceof Addition) {
+                return leftValue + rightValue;
+            }
+            if (expression instanceof Subtraction) {
+                return leftValue - rightValue;
+            }
+            if (expression instanceof Multiplication) {
+                return leftValue * rightValue;
+            }
+            if (expression instanceof Division) {
+                return leftValue / rightValue;
+            }
+            return leftValue % rightValue;
+        }
+
+        private Object evaluateDecimal(Number leftValue, Number rightValue) {
+            BigDecimal bigDecimal = BigDecimal.valueOf(leftValue.doubleValue());
+            if (expression instanceof Addition) {
+                return bigDecimal.add(BigDecimal.valueOf(rightValue.doubleValue()));
+            }
+            if (expression instanceof Subtraction) {
+                return bigDecimal.subtract(BigDecimal.valueOf(rightValue.doubleValue()));
+            }
+            if (expression instanceof Multiplication) {
+                return bigDecimal.multiply(BigDecimal.valueOf(rightValue.doubleValue()));
+            }
+            if (expression instanceof Division) {
+                return bigDecimal.divide(
+                        BigDecimal.valueOf(rightValue.doubleValue()), scale, RoundingMode.UP);
+            }
+            List<Object> args = new ArrayList<>();
+            args.add(leftValue);
+            args.add(rightValue);
+            return NumericFunction.mod(args);
+        }
+    }
+}
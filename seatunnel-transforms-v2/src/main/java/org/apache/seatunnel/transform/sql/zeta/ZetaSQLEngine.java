@@ -65,7 +65,22 @@ public class ZetaSQLEngine implements SQLEngine {
 
     private Integer allColumnsCount = null;
 
-    public ZetaSQLEngine() {}
+    private final boolean compileExpression;
+    private ZetaSQLCondition whereCondition;
+    // compiled select items, null for the all columns item
+    private ZetaSQLEvaluator[] selectEvaluators;
+
+    public ZetaSQLEngine() {
+        this(true);
+    }
+
+    /**
+     * @param compileExpression whether to compile the query once or to interpret the expressions of
+     *     the query for each row
+     */
+    public ZetaSQLEngine(boolean compileExpression) {
+        this.compileExpression = compileExpression;
+    }
 
     @Override
     public void init(
@@ -87,6 +102,9 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
 
         parseSQL();
+        if (compileExpression) {
+            compileSQL(udfList);
+        }
     }
 
     private void parseSQL() {
@@ -102,6 +120,23 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    private void compileSQL(List<ZetaUDF> udfList) {
+        ZetaSQLCompiler compiler =
+                new ZetaSQLCompiler(
+                        inputRowType, zetaSQLFunction, zetaSQLFilter, zetaSQLType, udfList);
+        this.whereCondition = compiler.compileCondition(selectBody.getWhere());
+        List<SelectItem> selectItems = selectBody.getSelectItems();
+        this.selectEvaluators = new ZetaSQLEvaluator[selectItems.size()];
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectItem selectItem = selectItems.get(i);
+            if (selectItem instanceof SelectExpressionItem) {
+                selectEvaluators[i] =
+                        compiler.compileExpression(
+                                ((SelectExpressionItem) selectItem).getExpression());
+            }
+        }
+    }
+
     private void validateSQL(Statement statement) {
         try {
             if (!(statement instanceof Select)) {
@@ -232,7 +267,10 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] inputFields = scanTable(inputRow);
 
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain =
+                whereCondition != null
+                        ? whereCondition.test(inputFields)
+                        : zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
         if (!retain) {
             return null;
         }
@@ -259,16 +297,21 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] fields = new Object[columnsSize];
 
         int idx = 0;
-        for (SelectItem selectItem : selectItems) {
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectItem selectItem = selectItems.get(i);
             if (selectItem instanceof AllColumns) {
                 for (Object inputField : inputFields) {
                     fields[idx] = inputField;
                     idx++;
                 }
             } else if (selectItem instanceof SelectExpressionItem) {
-                SelectExpressionItem expressionItem = (SelectExpressionItem) selectItem;
-                Expression expression = expressionItem.getExpression();
-                fields[idx] = zetaSQLFunction.computeForValue(expression, inputFields);
+                if (selectEvaluators != null) {
+                    fields[idx] = selectEvaluators[i].evaluate(inputFields);
+                } else {
+                    SelectExpressionItem expressionItem = (SelectExpressionItem) selectItem;
+                    Expression expression = expressionItem.getExpression();
+                    fields[idx] = zetaSQLFunction.computeForValue(expression, inputFields);
+                }
                 idx++;
             } else {
                 idx++;
@@ -27,6 +27,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.transform.exception.TransformException;
 import org.apache.seatunnel.transform.sql.zeta.functions.DateTimeFunction;
 import org.apache.seatunnel.transform.sql.zeta.functions.NumericFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.PatternCache;
 import org.apache.seatunnel.transform.sql.zeta.functions.StringFunction;
 import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
 
@@ -177,6 +178,8 @@ public class ZetaSQLFunction {
 
     private final List<ZetaUDF> udfList;
 
+    private final PatternCache patternCache = new PatternCache();
+
     public ZetaSQLFunction(
             SeaTunnelRowType inputRowType, ZetaSQLType zetaSQLType, List<ZetaUDF> udfList) {
         this.inputRowType = inputRowType;
@@ -185,6 +188,10 @@ public class ZetaSQLFunction {
         this.udfList = udfList;
     }
 
+    public PatternCache getPatternCache() {
+        return patternCache;
+    }
+
     public Object computeForValue(Expression expression, Object[] inputFields) {
         if (expression instanceof NullValue) {
             return null;
@@ -388,11 +395,11 @@ public class ZetaSQLFunction {
             case TRIM:
                 return StringFunction.trim(args);
             case REGEXP_REPLACE:
-                return StringFunction.regexpReplace(args);
+                return StringFunction.regexpReplace(args, patternCache);
             case REGEXP_LIKE:
-                return StringFunction.regexpLike(args);
+                return StringFunction.regexpLike(args, patternCache);
             case REGEXP_SUBSTR:
-                return StringFunction.regexpSubstr(args);
+                return StringFunction.regexpSubstr(args, patternCache);
             case REPEAT:
                 return StringFunction.repeat(args);
             case REPLACE:
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.sql.zeta.functions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded LRU cache of compiled regular expressions keyed by the expression and the flags. One
+ * cache belongs to one SQL transform instance, which is only called by one task thread, so it is
+ * not thread safe.
+ */
+public class PatternCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final Map<Key, Pattern> patterns;
+
+    public PatternCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public PatternCache(int maxSize) {
+        this.patterns =
+                new LinkedHashMap<Key, Pattern>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+                        return size() > maxSize;
+                    }
+                };
+    }
+
+    public Pattern get(String regexp, int flags) {
+        return patterns.computeIfAbsent(
+                new Key(regexp, flags), key -> Pattern.compile(key.regexp, key.flags));
+    }
+
+    public int size() {
+        return patterns.size();
+    }
+
+    private static final class Key {
+        private final String regexp;
+        private final int flags;
+
+        private Key(String regexp, int flags) {
+            this.regexp = regexp;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return flags == key.flags && regexp.equals(key.regexp);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(regexp, flags);
+        }
+    }
+}
@@ -350,6 +350,10 @@ public class StringFunction {
     }
 
     public static String regexpReplace(List<Object> args) {
+        return regexpReplace(args, null);
+    }
+
+    public static String regexpReplace(List<Object> args, PatternCache patternCache) {
         String input = (String) args.get(0);
         if (input == null) {
             return null;
@@ -360,7 +364,7 @@ public class StringFunction {
         if (args.size() >= 4) {
             regexpMode = (String) args.get(3);
         }
-        return regexpReplace(input, regexp, replacement, 1, 0, regexpMode);
+        return regexpReplace(input, regexp, replacement, 1, 0, regexpMode, patternCache);
     }
 
     private static String regexpReplace(
@@ -369,10 +373,12 @@ public class StringFunction {
             String replacement,
             int position,
             int occurrence,
-            String regexpMode) {
-        int flags = makeRegexpFlags(regexpMode, false);
+            String regexpMode,
+            PatternCache patternCache) {
         Matcher matcher =
-                Pattern.compile(regexp, flags).matcher(input).region(position - 1, input.length());
+                regexpPattern(regexp, regexpMode, patternCache)
+                        .matcher(input)
+                        .region(position - 1, input.length());
         if (occurrence == 0) {
             return matcher.replaceAll(replacement);
         } else {
@@ -391,6 +397,10 @@ public class StringFunction {
     }
 
     public static Boolean regexpLike(List<Object> args) {
+        return regexpLike(args, null);
+    }
+
+    public static Boolean regexpLike(List<Object> args, PatternCache patternCache) {
         String input = (String) args.get(0);
         if (input == null) {
             return null;
@@ -400,8 +410,20 @@ public class StringFunction {
         if (args.size() >= 3) {
             regexpMode = (String) args.get(2);
         }
+        return regexpPattern(regexp, regexpMode, patternCache).matcher(input).find();
+    }
+
+    /**
+     * Compile the regular expression of the REGEXP_* functions, the pattern is taken from the cache
+     * if a cache is given.
+     */
+    public static Pattern regexpPattern(
+            String regexp, String regexpMode, PatternCache patternCache) {
         int flags = makeRegexpFlags(regexpMode, false);
-        return Pattern.compile(regexp, flags).matcher(input).find();
+        if (patternCache == null) {
+            return Pattern.compile(regexp, flags);
+        }
+        return patternCache.get(regexp, flags);
     }
 
     private static int makeRegexpFlags(String stringFlags, boolean ignoreGlobalFlag) {
@@ -439,13 +461,17 @@ public class StringFunction {
     }
 
     public static String regexpSubstr(List<Object> args) {
+        return regexpSubstr(args, null);
+    }
+
+    public static String regexpSubstr(List<Object> args, PatternCache patternCache) {
         String input = (String) args.get(0);
         if (input == null) {
             return null;
         }
         String regexp = (String) args.get(1);
         if (args.size() == 2) {
-            return regexpSubstr(input, regexp, null, null, null, null);
+            return regexpSubstr(input, regexp, null, null, null, null, patternCache);
         }
         if (args.size() >= 6) {
             Integer positionArg = null;
@@ -462,7 +488,13 @@ public class StringFunction {
                 subexpressionArg = ((Number) args.get(5)).intValue();
             }
             return regexpSubstr(
-                    input, regexp, positionArg, occurrenceArg, regexpMode, subexpressionArg);
+                    input,
+                    regexp,
+                    positionArg,
+                    occurrenceArg,
+                    regexpMode,
+                    subexpressionArg,
+                    patternCache);
         }
 
         return null;
@@ -474,12 +506,12 @@ public class StringFunction {
             Integer positionArg,
             Integer occurrenceArg,
             String regexpMode,
-            Integer subexpressionArg) {
+            Integer subexpressionArg,
+            PatternCache patternCache) {
         int position = positionArg != null ? positionArg - 1 : 0;
         int requestedOccurrence = occurrenceArg != null ? occurrenceArg : 1;
         int subexpression = subexpressionArg != null ? subexpressionArg : 0;
-        int flags = makeRegexpFlags(regexpMode, false);
-        Matcher m = Pattern.compile(regexp, flags).matcher(input);
+        Matcher m = regexpPattern(regexp, regexpMode, patternCache).matcher(input);
 
         boolean found = m.find(position);
         for (int occurrence = 1; occurrence < requestedOccurrence && found; occurrence++) {
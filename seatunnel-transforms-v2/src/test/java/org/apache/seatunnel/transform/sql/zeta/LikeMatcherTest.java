@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.transform.sql.zeta.functions.PatternCache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+public class LikeMatcherTest {
+
+    @Test
+    public void testSameResultAsRegex() {
+        String[] patterns = {
+            "abc", "abc%", "%abc", "%abc%", "%", "%%", "", "a_c", "_bc", "ab_", "a%c", "a.c%",
+            "%b_%"
+        };
+        String[] values = {"abc", "abcd", "xabc", "xabcx", "", "a.c", "aXc", "bc", "ab", "a.cd"};
+        PatternCache patternCache = new PatternCache();
+        for (String pattern : patterns) {
+            LikeMatcher matcher = LikeMatcher.of(pattern, patternCache);
+            Pattern regex = Pattern.compile(LikeMatcher.toRegex(pattern));
+            for (String value : values) {
+                Assertions.assertEquals(
+                        regex.matcher(value).matches(),
+                        matcher.matches(value),
+                        String.format("'%s' like '%s'", value, pattern));
+            }
+        }
+    }
+
+    @Test
+    public void testPatternCacheBounded() {
+        PatternCache patternCache = new PatternCache(2);
+        Pattern first = patternCache.get("a+", 0);
+        Assertions.assertSame(first, patternCache.get("a+", 0));
+        Assertions.assertNotSame(first, patternCache.get("a+", Pattern.CASE_INSENSITIVE));
+        patternCache.get("b+", 0);
+        Assertions.assertEquals(2, patternCache.size());
+        Assertions.assertNotSame(first, patternCache.get("a+", 0));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+public class ZetaSQLCompilerTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "price"},
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(10, 2)
+                    });
+
+    private static final List<SeaTunnelRow> ROWS =
+            Arrays.asList(
+                    new SeaTunnelRow(new Object[] {1L, "alice", 18, 90.5, new BigDecimal("1.50")}),
+                    new SeaTunnelRow(new Object[] {2L, "bob", 30, 60.0, new BigDecimal("20.00")}),
+                    new SeaTunnelRow(new Object[] {3L, null, null, null, null}),
+                    new SeaTunnelRow(
+                            new Object[] {4L, "carol", 45, 75.25, new BigDecimal("3.10")}));
+
+    @Test
+    public void testCompiledEqualsInterpreted() {
+        String[] queries = {
+            "select * from test",
+            "select id, name from test where age > 20",
+            "select id, age + 1 as a, age * 2 - 3 as b, -age as c, score / 2 as d from test where age is not null",
+            "select id, 1 + 2 * 3 as a, upper('abc') as b, concat(name, '_', id) as c from test",
+            "select id, name || '-x' as a, cast(age as string) as b from test",
+            "select id, price * 2 as a, price + age as b from test where price is not null",
+            "select id from test where name in ('alice', 'carol') or age is null",
+            "select id from test where id not in (1, 2) and (score >= 75.25 or age <= 18)",
+            "select id, case when age > 20 then 'old' when age is null then 'none' else 'young' end as c from test",
+            "select id, case age when 18 then 1 when 30 then 2 end as c from test",
+            "select id, coalesce(name, 'none') as a, ifnull(age, 0) + 1 as b from test where id <> 2",
+            "select id from test where upper(name) = 'BOB' or name = 'alice'",
+            "select id, `name` from test where `age` < 40",
+            "select id from test where name like 'a%' or name like '%ol' or name like '%o%'",
+            "select id from test where name not like '_ob' and name like '%l_%'",
+            "select id from test where name like name",
+            "select id, regexp_replace(name, '[aeiou]', '*') as a from test",
+            "select id from test where regexp_like(name, '^B', 'i')"
+        };
+        for (String query : queries) {
+            ZetaSQLEngine compiled = new ZetaSQLEngine(true);
+            ZetaSQLEngine interpreted = new ZetaSQLEngine(false);
+            compiled.init("test", null, ROW_TYPE, query);
+            interpreted.init("test", null, ROW_TYPE, query);
+            Assertions.assertEquals(
+                    interpreted.typeMapping(null), compiled.typeMapping(null), query);
+            for (SeaTunnelRow row : ROWS) {
+                SeaTunnelRow expected = interpreted.transformBySQL(row);
+                SeaTunnelRow actual = compiled.transformBySQL(row);
+                Assertions.assertEquals(expected, actual, query + " on " + row);
+            }
+        }
+    }
+
+    @Test
+    public void testNonDeterministicFunctionNotFolded() {
+        ZetaSQLEngine engine = new ZetaSQLEngine();
+        engine.init("test", null, ROW_TYPE, "select rand() as r from test");
+        Object first = engine.transformBySQL(ROWS.get(0)).getField(0);
+        boolean changed = false;
+        for (int i = 0; i < 10 && !changed; i++) {
+            changed = !first.equals(engine.transformBySQL(ROWS.get(0)).getField(0));
+        }
+        Assertions.assertTrue(changed);
+    }
+
+    @Test
+    public void testRuntimeErrorKept() {
+        ZetaSQLEngine engine = new ZetaSQLEngine();
+        engine.init("test", null, ROW_TYPE, "select 1 / 0 as r from test");
+        Assertions.assertThrows(
+                ArithmeticException.class, () -> engine.transformBySQL(ROWS.get(0)));
+    }
+}
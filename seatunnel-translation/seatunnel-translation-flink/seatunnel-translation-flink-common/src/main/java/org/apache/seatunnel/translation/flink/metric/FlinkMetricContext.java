@@ -18,9 +18,11 @@
 package org.apache.seatunnel.translation.flink.metric;
 
 import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Histogram;
 import org.apache.seatunnel.api.common.metrics.Meter;
 import org.apache.seatunnel.api.common.metrics.Metric;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeHistogram;
 
 import org.apache.flink.metrics.MeterView;
 import org.apache.flink.streaming.api.operators.StreamingRuntimeContext;
@@ -74,6 +76,21 @@ public class FlinkMetricContext implements MetricsContext {
         return meter;
     }
 
+    /** Flink reports its own latency and checkpoint histograms, these are kept in the context. */
+    @Override
+    public Histogram histogram(String name) {
+        if (metrics.containsKey(name)) {
+            return (Histogram) metrics.get(name);
+        }
+        return this.histogram(name, new ThreadSafeHistogram(name));
+    }
+
+    @Override
+    public <H extends Histogram> H histogram(String name, H histogram) {
+        this.addMetric(name, histogram);
+        return histogram;
+    }
+
     protected void addMetric(String name, Metric metric) {
         if (metric == null) {
             LOGGER.warn("Ignoring attempted add of a metric due to being null for name {}.", name);
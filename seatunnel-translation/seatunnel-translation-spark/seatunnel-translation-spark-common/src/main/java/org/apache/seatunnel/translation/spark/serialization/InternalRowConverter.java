@@ -19,6 +19,7 @@ package org.apache.seatunnel.translation.spark.serialization;
 
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -39,6 +40,8 @@ import org.apache.spark.sql.catalyst.expressions.MutableLong;
 import org.apache.spark.sql.catalyst.expressions.MutableShort;
 import org.apache.spark.sql.catalyst.expressions.MutableValue;
 import org.apache.spark.sql.catalyst.expressions.SpecificInternalRow;
+import org.apache.spark.sql.catalyst.expressions.UnsafeRow;
+import org.apache.spark.sql.catalyst.expressions.codegen.UnsafeRowWriter;
 import org.apache.spark.sql.catalyst.util.ArrayBasedMapData;
 import org.apache.spark.sql.catalyst.util.ArrayData;
 import org.apache.spark.sql.catalyst.util.MapData;
@@ -53,6 +56,7 @@ import scala.collection.immutable.HashMap.HashTrieMap;
 import scala.collection.mutable.WrappedArray;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.sql.Date;
@@ -70,21 +74,141 @@ import java.util.stream.IntStream;
 public final class InternalRowConverter extends RowConverter<InternalRow> {
     private final int[] indexes;
 
+    /**
+     * Writes the fields of a row with flat types straight into an {@link UnsafeRow}, null when a
+     * field type needs the generic values of a {@link SpecificInternalRow}.
+     */
+    private final FieldWriter[] fieldWriters;
+    /** The fields of the parcel which no field of the row is written to. */
+    private final int[] nullOrdinals;
+
+    private transient ThreadLocal<UnsafeRowWriter> rowWriters;
+
+    @FunctionalInterface
+    private interface FieldWriter extends Serializable {
+        void write(UnsafeRowWriter writer, int ordinal, Object field);
+    }
+
     public InternalRowConverter(SeaTunnelDataType<?> dataType) {
-        super(dataType);
-        indexes = IntStream.range(0, ((SeaTunnelRowType) dataType).getTotalFields()).toArray();
+        this(
+                dataType,
+                IntStream.range(0, ((SeaTunnelRowType) dataType).getTotalFields()).toArray());
     }
 
     public InternalRowConverter(SeaTunnelDataType<?> dataType, int[] indexes) {
         super(dataType);
         this.indexes = indexes;
+        SeaTunnelRowType rowType = (SeaTunnelRowType) dataType;
+        this.fieldWriters = createFieldWriters(rowType, indexes);
+        boolean[] written = new boolean[rowType.getTotalFields()];
+        for (int index : indexes) {
+            written[index] = true;
+        }
+        this.nullOrdinals =
+                IntStream.range(0, written.length)
+                        .filter(i -> !written[i])
+                        .map(i -> i + 2)
+                        .toArray();
     }
 
     @Override
     public InternalRow convert(SeaTunnelRow seaTunnelRow) throws IOException {
+        if (fieldWriters != null) {
+            try {
+                return write(seaTunnelRow);
+            } catch (ClassCastException e) {
+                // values of other classes than the field types declare, e.g. scala.Some, are
+                // converted like the fields of nested types
+            }
+        }
         return parcel(seaTunnelRow, (SeaTunnelRowType) dataType);
     }
 
+    private static FieldWriter[] createFieldWriters(SeaTunnelRowType rowType, int[] indexes) {
+        FieldWriter[] fieldWriters = new FieldWriter[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            fieldWriters[i] = createFieldWriter(rowType.getFieldType(indexes[i]));
+            if (fieldWriters[i] == null) {
+                return null;
+            }
+        }
+        return fieldWriters;
+    }
+
+    private static FieldWriter createFieldWriter(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return (writer, ordinal, field) -> writer.write(ordinal, (boolean) field);
+            case TINYINT:
+                return (writer, ordinal, field) -> writer.write(ordinal, (byte) field);
+            case SMALLINT:
+                return (writer, ordinal, field) -> writer.write(ordinal, (short) field);
+            case INT:
+                return (writer, ordinal, field) -> writer.write(ordinal, (int) field);
+            case BIGINT:
+                return (writer, ordinal, field) -> writer.write(ordinal, (long) field);
+            case FLOAT:
+                return (writer, ordinal, field) -> writer.write(ordinal, (float) field);
+            case DOUBLE:
+                return (writer, ordinal, field) -> writer.write(ordinal, (double) field);
+            case STRING:
+                return (writer, ordinal, field) ->
+                        writer.write(ordinal, UTF8String.fromString((String) field));
+            case BYTES:
+                return (writer, ordinal, field) -> writer.write(ordinal, (byte[]) field);
+            case DATE:
+                return (writer, ordinal, field) ->
+                        writer.write(ordinal, (int) ((LocalDate) field).toEpochDay());
+            case TIME:
+                return (writer, ordinal, field) ->
+                        writer.write(ordinal, ((LocalTime) field).toNanoOfDay());
+            case TIMESTAMP:
+                return (writer, ordinal, field) ->
+                        writer.write(
+                                ordinal,
+                                InstantConverterUtils.toEpochMicro(
+                                        Timestamp.valueOf((LocalDateTime) field).toInstant()));
+            case DECIMAL:
+                int precision = ((DecimalType) dataType).getPrecision();
+                int scale = ((DecimalType) dataType).getScale();
+                return (writer, ordinal, field) ->
+                        writer.write(ordinal, Decimal.apply((BigDecimal) field), precision, scale);
+            default:
+                return null;
+        }
+    }
+
+    /** Writes the parcel of the row, like {@link #parcel}, as an {@link UnsafeRow}. */
+    private InternalRow write(SeaTunnelRow seaTunnelRow) {
+        if (rowWriters == null) {
+            int numFields = ((SeaTunnelRowType) dataType).getTotalFields() + 2;
+            rowWriters = ThreadLocal.withInitial(() -> new UnsafeRowWriter(numFields));
+        }
+        UnsafeRowWriter writer = rowWriters.get();
+        writer.reset();
+        writer.zeroOutNullBytes();
+        writer.write(0, seaTunnelRow.getRowKind().toByteValue());
+        String tableId = seaTunnelRow.getTableId();
+        if (tableId == null) {
+            writer.setNullAt(1);
+        } else {
+            writer.write(1, UTF8String.fromString(tableId));
+        }
+        for (int ordinal : nullOrdinals) {
+            writer.setNullAt(ordinal);
+        }
+        for (int i = 0; i < fieldWriters.length; i++) {
+            Object field = seaTunnelRow.getField(i);
+            if (field == null) {
+                writer.setNullAt(indexes[i] + 2);
+            } else {
+                fieldWriters[i].write(writer, indexes[i] + 2, field);
+            }
+        }
+        // the rows are buffered by the handover, the writer is reused for the next row
+        return writer.getRow().copy();
+    }
+
     private static Object convert(Object field, SeaTunnelDataType<?> dataType) {
         if (field == null) {
             return null;
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.serialization;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.catalyst.expressions.SpecificInternalRow;
+import org.apache.spark.sql.catalyst.expressions.UnsafeRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+public class InternalRowConverterTest {
+
+    private static final SeaTunnelRowType FLAT_ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"int", "string", "decimal", "date", "timestamp", "bytes", "long"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        BasicType.LONG_TYPE
+                    });
+
+    private static SeaTunnelRow flatRow() {
+        SeaTunnelRow seaTunnelRow =
+                new SeaTunnelRow(
+                        new Object[] {
+                            1,
+                            "string",
+                            new BigDecimal("65.55"),
+                            LocalDate.parse("2001-01-01"),
+                            LocalDateTime.parse("2031-01-01T00:00:00"),
+                            new byte[] {1, 2, 3},
+                            null
+                        });
+        seaTunnelRow.setRowKind(RowKind.UPDATE_AFTER);
+        seaTunnelRow.setTableId("test.test.test");
+        return seaTunnelRow;
+    }
+
+    @Test
+    public void testConvertFlatRow() throws IOException {
+        InternalRowConverter converter = new InternalRowConverter(FLAT_ROW_TYPE);
+        SeaTunnelRow seaTunnelRow = flatRow();
+
+        InternalRow internalRow = converter.convert(seaTunnelRow);
+        Assertions.assertTrue(internalRow instanceof UnsafeRow);
+        Assertions.assertEquals(9, internalRow.numFields());
+        Assertions.assertEquals(RowKind.UPDATE_AFTER.toByteValue(), internalRow.getByte(0));
+        Assertions.assertEquals("test.test.test", internalRow.getString(1));
+        Assertions.assertEquals(1, internalRow.getInt(2));
+        Assertions.assertTrue(internalRow.isNullAt(8));
+        Assertions.assertEquals(seaTunnelRow, converter.reconvert(internalRow));
+
+        // the converted rows do not share the buffer of the writer
+        SeaTunnelRow other = flatRow();
+        other.setField(1, "other");
+        converter.convert(other);
+        Assertions.assertEquals(seaTunnelRow, converter.reconvert(internalRow));
+    }
+
+    @Test
+    public void testConvertFlatRowOfMergedTable() throws IOException {
+        InternalRowConverter converter = new InternalRowConverter(FLAT_ROW_TYPE, new int[] {1, 0});
+        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(new Object[] {"string", 1});
+        seaTunnelRow.setTableId("test.test.test");
+
+        InternalRow internalRow = converter.convert(seaTunnelRow);
+        Assertions.assertTrue(internalRow instanceof UnsafeRow);
+        Assertions.assertEquals(1, internalRow.getInt(2));
+        Assertions.assertEquals("string", internalRow.getString(3));
+        for (int i = 4; i < internalRow.numFields(); i++) {
+            Assertions.assertTrue(internalRow.isNullAt(i));
+        }
+    }
+
+    @Test
+    public void testConvertNestedRow() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"int", "map"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.INT_TYPE,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE)
+                        });
+        SeaTunnelRow seaTunnelRow =
+                new SeaTunnelRow(new Object[] {1, Collections.singletonMap("k", "v")});
+        seaTunnelRow.setTableId("test.test.test");
+
+        InternalRow internalRow = new InternalRowConverter(rowType).convert(seaTunnelRow);
+        Assertions.assertTrue(internalRow instanceof SpecificInternalRow);
+        Assertions.assertEquals(1, internalRow.getInt(2));
+    }
+}